@@ -7,6 +7,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.formdev.flatlaf.themes.FlatMacLightLaf;
+import com.team3.client.ClientWarmup;
+import com.team3.diagnostics.EdtWatchdog;
 import com.team3.session.SessionManager;
 import com.team3.ui.MainFrame;
 import com.team3.ui.dialog.LoginDialog;
@@ -56,7 +58,11 @@ public class Main {
         logger.info("HMS 클라이언트 애플리케이션 시작");
         logger.info("연결 대상: {}:{}", host, port);
     
+        // 로그인 창이 떠 있는 동안 연결, JSON 어댑터, 디코딩 경로를 미리 준비한다
+        ClientWarmup.start(host, port);
+        
         FlatMacLightLaf.setup();
+        EdtWatchdog.getInstance().start();
         SwingUtilities.invokeLater(() -> {
 
             // 로그인 다이얼로그 표시
@@ -0,0 +1,173 @@
+package com.team3.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.team3.dto.response.ApiResponse;
+
+/**
+ * 비동기 API 호출 조합 유틸리티
+ * <p>
+ * {@code *Api}의 {@code xxxAsync()} 메서드가 반환하는 future를
+ * 스레드를 점유하지 않고 팬아웃/조인할 수 있도록 돕는다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * // 여러 탭의 데이터를 동시에 조회
+ * ApiFutures.allOf(roomApi.getRoomListAsync(), reservationApi.getReservationsAsync())
+ *     .thenAccept(responses -> ...);
+ *
+ * // 대량 작업: 동시에 최대 4건씩 객실 추가
+ * ApiFutures.mapBounded(requests, roomApi::addRoomAsync, 4)
+ *     .thenAccept(results -> ...);
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public final class ApiFutures {
+
+    private ApiFutures() {}
+
+    /**
+     * 모든 future가 완료되면 결과를 입력 순서대로 담은 리스트로 완료된다
+     *
+     * @param futures 조인할 future 목록
+     * @return 결과 리스트 future
+     */
+    public static <T> CompletableFuture<List<T>> allOf(List<? extends CompletableFuture<? extends T>> futures) {
+        CompletableFuture<?>[] array = futures.toArray(new CompletableFuture<?>[0]);
+        return CompletableFuture.allOf(array).thenApply(ignored -> {
+            List<T> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<? extends T> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    /**
+     * 가변 인자 버전의 {@link #allOf(List)}
+     * <p>
+     * 가변 인자 배열을 다른 메서드로 넘기지 않도록 불변 리스트로 복사한다 (null 요소는 허용하지 않음).
+     * </p>
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> allOf(CompletableFuture<? extends T>... futures) {
+        List<CompletableFuture<? extends T>> list = new ArrayList<>(futures.length);
+        for (CompletableFuture<? extends T> future : futures) {
+            list.add(Objects.requireNonNull(future));
+        }
+        return allOf(list);
+    }
+
+    /**
+     * 파생 future가 취소되면 원본 future도 취소한다
+     * <p>
+     * {@code thenApply}, {@code whenComplete} 등으로 만든 future를 취소해도 원본은 계속 진행되므로,
+     * 원본이 HTTP 교환처럼 중단할 수 있는 작업이면 이 메서드로 취소를 전달한다.
+     * 원본을 여러 호출자가 공유하면(single-flight) 사용하지 않는다.
+     * </p>
+     *
+     * @param derived 호출자에게 돌려줄 파생 future
+     * @param source 함께 취소할 원본 future
+     * @return derived
+     */
+    public static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> derived, CompletableFuture<?> source) {
+        derived.whenComplete((result, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * 제한 시간 안에 완료되지 않으면 에러 응답으로 완료한다
+     *
+     * @param future API 응답 future
+     * @param timeout 제한 시간
+     * @return 제한 시간이 적용된 future
+     */
+    public static CompletableFuture<ApiResponse> withTimeout(CompletableFuture<ApiResponse> future, Duration timeout) {
+        return future.completeOnTimeout(
+            ApiResponse.error("요청 시간 초과"), timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 입력마다 비동기 호출을 수행하되, 동시에 진행 중인 호출 수를 제한한다
+     * <p>
+     * 대량 작업(객실 일괄 등록, 일괄 체크인 등)에서 서버에 요청이 한꺼번에 몰리지 않도록 한다.
+     * 하나가 완료될 때마다 다음 입력을 시작하며, 대기하는 동안 스레드를 점유하지 않는다.
+     * </p>
+     *
+     * @param inputs 입력 목록
+     * @param call 입력을 비동기 호출로 변환하는 함수
+     * @param maxConcurrency 최대 동시 진행 수 (1 이상)
+     * @return 입력 순서대로 결과를 담은 리스트 future
+     */
+    public static <I, O> CompletableFuture<List<O>> mapBounded(List<I> inputs,
+            Function<? super I, CompletableFuture<O>> call, int maxConcurrency) {
+        int size = inputs.size();
+        List<CompletableFuture<O>> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(new CompletableFuture<>());
+        }
+
+        AtomicInteger nextIndex = new AtomicInteger();
+
+        int lanes = Math.max(1, Math.min(maxConcurrency, size));
+        for (int lane = 0; lane < lanes; lane++) {
+            startNext(inputs, call, results, nextIndex);
+        }
+        return allOf(results);
+    }
+
+    private static <I, O> void startNext(List<I> inputs, Function<? super I, CompletableFuture<O>> call,
+            List<CompletableFuture<O>> results, AtomicInteger nextIndex) {
+        int index = nextIndex.getAndIncrement();
+        if (index >= inputs.size()) {
+            return;
+        }
+        CompletableFuture<O> target = results.get(index);
+        CompletableFuture<O> future;
+        try {
+            future = call.apply(inputs.get(index));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        // 즉시 완료되는 future(검증 실패 등)가 연속될 때 재귀가 깊어지지 않도록 다음 작업은 실행기에서 시작한다
+        future.whenCompleteAsync((value, error) -> {
+            if (error != null) {
+                target.completeExceptionally(error);
+            } else {
+                target.complete(value);
+            }
+            startNext(inputs, call, results, nextIndex);
+        }, HttpTransport.getInstance().getExecutor());
+    }
+
+    /**
+     * {@link CompletionException}/{@link ExecutionException} 래핑을 벗겨 실제 원인을 반환한다
+     *
+     * @param error future에서 전달된 예외
+     * @return 실제 원인 예외
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
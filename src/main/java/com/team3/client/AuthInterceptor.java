@@ -0,0 +1,31 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+import com.team3.session.SessionManager;
+
+/**
+ * 현재 세션의 Authorization 헤더를 요청에 추가하는 인터셉터
+ * <p>
+ * 요청에 이미 Authorization 헤더가 있으면 그대로 둔다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class AuthInterceptor implements HttpInterceptor {
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            Chain chain) {
+        if (request.headers().firstValue("Authorization").isPresent()) {
+            return chain.proceed(request, handler);
+        }
+        HttpRequest authorized = HttpRequest.newBuilder(request, (name, value) -> true)
+            .header("Authorization", SessionManager.getInstance().getAuthorizationHeader())
+            .build();
+        return chain.proceed(authorized, handler);
+    }
+}
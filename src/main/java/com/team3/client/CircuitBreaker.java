@@ -0,0 +1,295 @@
+package com.team3.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.client.api.HealthApi;
+
+/**
+ * 서버별 회로 차단기
+ * <p>
+ * 서버가 내려가 있으면 탭마다 연결 타임아웃(10초)을 기다리며 차례로 실패한다.
+ * 연속 실패가 기준({@code hms.breaker.failureThreshold}, 기본 3회)에 도달하면 회로를 열고,
+ * 열려 있는 동안의 요청은 네트워크로 보내지 않고 즉시 {@link CircuitOpenException}으로 실패시킨다.
+ * </p>
+ *
+ * <ul>
+ *   <li>CLOSED: 정상. 요청을 그대로 보낸다</li>
+ *   <li>OPEN: 차단. 요청은 즉시 실패하며, {@code hms.breaker.openMillis}(기본 10초) 후 점검을 시작한다</li>
+ *   <li>HALF_OPEN: 점검 중. {@link HealthApi#checkHealthAsync()} 한 번만 보내고 나머지 요청은 계속 차단한다.
+ *       점검이 성공하면 CLOSED, 실패하면 다시 OPEN</li>
+ * </ul>
+ *
+ * <p>
+ * 실패로 보는 결과는 네트워크 오류와 502/503/504 응답이다. 4xx 등 서버가 정상적으로 답한 응답은 성공으로 본다.
+ * {@code /health} 요청은 차단하지 않으므로, 헬스 체크 탭에서 직접 확인해도 회로가 닫힌다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * CircuitBreaker breaker = CircuitBreaker.forServer("localhost", 8080);
+ * breaker.addListener(state -> SwingUtilities.invokeLater(() -> indicator.setText(state.name())));
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /** 차단하지 않는 헬스 체크 경로 */
+    static final String HEALTH_PATH = "/health";
+
+    /** 서버 URL → 회로 차단기 */
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    /**
+     * 회로 상태
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String serverHost;
+    private final int serverPort;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    /** 점검 회차 (이전 회차의 응답 대기 시간 초과가 새 점검을 실패로 만들지 않도록 구분) */
+    private long probeRound;
+
+    /** 점검용 헬스 체크 클라이언트 (첫 점검 시 생성) */
+    private HealthApi probeApi;
+
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder trips = new LongAdder();
+
+    private CircuitBreaker(String serverHost, int serverPort) {
+        this.serverHost = serverHost;
+        this.serverPort = serverPort;
+        this.failureThreshold = Math.max(1, Integer.getInteger("hms.breaker.failureThreshold", 3));
+        this.openDuration = Duration.ofMillis(Long.getLong("hms.breaker.openMillis", 10_000));
+        logger.info("CircuitBreaker 초기화: {}:{} (threshold={}, open={}ms)",
+            serverHost, serverPort, failureThreshold, openDuration.toMillis());
+    }
+
+    /**
+     * 서버의 회로 차단기를 반환한다 (서버 URL마다 하나)
+     *
+     * @param serverHost 서버 호스트
+     * @param serverPort 서버 포트
+     * @return 공유 회로 차단기
+     */
+    public static CircuitBreaker forServer(String serverHost, int serverPort) {
+        String serverUrl = String.format("http://%s:%d", serverHost, serverPort);
+        return BREAKERS.computeIfAbsent(serverUrl, url -> new CircuitBreaker(serverHost, serverPort));
+    }
+
+    /**
+     * 요청 대상 서버의 회로 차단기를 반환한다
+     *
+     * @param request HTTP 요청
+     * @return 공유 회로 차단기
+     */
+    static CircuitBreaker forRequest(HttpRequest request) {
+        URI uri = request.uri();
+        return forServer(uri.getHost(), uri.getPort() < 0 ? 80 : uri.getPort());
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인한다
+     *
+     * @param path 요청 경로
+     * @throws CircuitOpenException 회로가 열려 있거나 점검 중인 경우
+     */
+    void acquire(String path) throws CircuitOpenException {
+        if (HEALTH_PATH.equals(path)) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return;
+            }
+        }
+        rejected.increment();
+        throw new CircuitOpenException(remainingOpenMillis());
+    }
+
+    /**
+     * 요청 결과를 기록한다
+     *
+     * @param response 응답 (실패 시 null)
+     * @param error 예외 (성공 시 null)
+     */
+    void record(HttpResponse<?> response, Throwable error) {
+        if (error instanceof CircuitOpenException) {
+            return;
+        }
+        if (error != null) {
+            if (error instanceof IOException) {
+                onFailure();
+            }
+            // 취소, 파싱 오류 등은 서버 상태와 무관하므로 기록하지 않는다
+            return;
+        }
+        int status = response.statusCode();
+        if (status == 502 || status == 503 || status == 504) {
+            onFailure();
+        } else {
+            onSuccess();
+        }
+    }
+
+    private void onSuccess() {
+        State previous;
+        synchronized (this) {
+            consecutiveFailures = 0;
+            previous = state;
+            state = State.CLOSED;
+        }
+        if (previous != State.CLOSED) {
+            logger.info("서버 응답 회복, 회로 닫힘: {}:{}", serverHost, serverPort);
+            notifyListeners(State.CLOSED);
+        }
+    }
+
+    private void onFailure() {
+        boolean tripped = false;
+        synchronized (this) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN
+                    || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+                tripped = true;
+            }
+        }
+        if (tripped) {
+            trips.increment();
+            logger.warn("연속 {}회 실패, 회로 열림: {}:{} ({}ms 후 점검)",
+                consecutiveFailures, serverHost, serverPort, openDuration.toMillis());
+            notifyListeners(State.OPEN);
+            scheduleProbe();
+        }
+    }
+
+    /**
+     * 차단 시간이 지나면 헬스 체크로 서버 회복 여부를 확인한다
+     */
+    private void scheduleProbe() {
+        CompletableFuture.delayedExecutor(openDuration.toMillis(), TimeUnit.MILLISECONDS,
+                HttpTransport.getInstance().getExecutor())
+            .execute(this::probe);
+    }
+
+    private void probe() {
+        HealthApi api;
+        long round;
+        synchronized (this) {
+            if (state != State.OPEN) {
+                return;
+            }
+            state = State.HALF_OPEN;
+            if (probeApi == null) {
+                probeApi = new HealthApi(serverHost, serverPort);
+            }
+            api = probeApi;
+            round = ++probeRound;
+        }
+        logger.info("회로 점검 시작: {}:{}", serverHost, serverPort);
+        notifyListeners(State.HALF_OPEN);
+
+        // 결과는 CircuitBreakerInterceptor가 record()로 기록하므로 여기서는 요청만 보낸다
+        api.checkHealthAsync();
+
+        // 서버가 연결만 받고 응답하지 않으면 점검이 끝나지 않으므로, 차단 시간이 지나면 실패로 본다
+        CompletableFuture.delayedExecutor(openDuration.toMillis(), TimeUnit.MILLISECONDS,
+                HttpTransport.getInstance().getExecutor())
+            .execute(() -> {
+                synchronized (this) {
+                    if (state != State.HALF_OPEN || probeRound != round) {
+                        return;
+                    }
+                }
+                logger.warn("회로 점검 응답 없음: {}:{}", serverHost, serverPort);
+                onFailure();
+            });
+    }
+
+    private void notifyListeners(State newState) {
+        for (Consumer<State> listener : listeners) {
+            try {
+                listener.accept(newState);
+            } catch (RuntimeException e) {
+                logger.error("회로 상태 리스너 오류", e);
+            }
+        }
+    }
+
+    private synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openedAt);
+        return Math.max(0, openDuration.toMillis() - elapsed);
+    }
+
+    /**
+     * 상태 변경 리스너를 등록한다
+     * <p>
+     * 리스너는 상태를 바꾼 요청의 응답 스레드에서 호출되므로, UI 갱신은 EDT로 넘겨야 한다.
+     * </p>
+     *
+     * @param listener 새 상태를 받는 리스너
+     */
+    public void addListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<State> listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized State getState() { return state; }
+
+    /** 회로가 열려 즉시 실패한 요청 수 */
+    public long getRejectedCount() { return rejected.sum(); }
+
+    /** 회로가 열린 횟수 */
+    public long getTripCount() { return trips.sum(); }
+
+    /**
+     * 회로가 열려 있어 요청을 보내지 않았음을 나타내는 예외
+     * <p>
+     * 기존 API 메서드의 {@link IOException} 처리 경로를 그대로 타도록 IOException을 상속한다.
+     * </p>
+     */
+    public static class CircuitOpenException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        CircuitOpenException(long remainingMillis) {
+            super(remainingMillis > 0
+                ? String.format("서버 응답 없음 (%d초 후 재확인)", (remainingMillis + 999) / 1000)
+                : "서버 응답 없음 (연결 확인 중)");
+        }
+    }
+}
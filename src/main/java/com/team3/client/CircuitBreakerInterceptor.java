@@ -0,0 +1,33 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 대상 서버의 {@link CircuitBreaker}를 적용하는 인터셉터
+ * <p>
+ * 회로가 열려 있으면 안쪽 인터셉터와 전송 계층을 거치지 않고 즉시 실패하며,
+ * 재시도를 모두 마친 최종 결과를 회로 차단기에 기록한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class CircuitBreakerInterceptor implements HttpInterceptor {
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            Chain chain) {
+        CircuitBreaker breaker = CircuitBreaker.forRequest(request);
+        try {
+            breaker.acquire(request.uri().getPath());
+        } catch (CircuitBreaker.CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<HttpResponse<T>> future = chain.proceed(request, handler);
+        future.whenComplete((response, error) ->
+            breaker.record(response, error != null ? ApiFutures.unwrap(error) : null));
+        return future;
+    }
+}
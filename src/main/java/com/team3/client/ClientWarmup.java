@@ -0,0 +1,206 @@
+package com.team3.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.team3.client.api.HealthApi;
+import com.team3.dto.request.AddCustomerRequest;
+import com.team3.dto.request.AddFnbRequest;
+import com.team3.dto.request.AddReservationRequest;
+import com.team3.dto.request.AddRoomRequest;
+import com.team3.dto.request.AddUserRequest;
+import com.team3.dto.request.CheckIntOutRequest;
+import com.team3.dto.request.DeleteCustomerRequest;
+import com.team3.dto.request.DeleteFnbRequest;
+import com.team3.dto.request.DeleteReservationRequest;
+import com.team3.dto.request.DeleteUserRequest;
+import com.team3.dto.request.LoginRequest;
+import com.team3.dto.request.RoomIdRequest;
+import com.team3.dto.request.UpdateReservationRequest;
+import com.team3.dto.request.UpdateRoomRequest;
+import com.team3.dto.response.Payment;
+import com.team3.model.Customer;
+import com.team3.model.FnbItem;
+import com.team3.model.Reservation;
+import com.team3.model.Room;
+import com.team3.model.User;
+import com.team3.util.JsonStreams;
+import com.team3.util.JsonUtil;
+
+/**
+ * 클라이언트 예열(warm-up)
+ * <p>
+ * 로그인 창이 떠 있는 동안 백그라운드에서 첫 요청과 첫 목록 조회에 필요한 준비를 미리 해 둔다.
+ * </p>
+ *
+ * <ol>
+ *   <li>{@link HealthApi}로 서버에 요청하여 HTTP 클라이언트를 초기화하고 연결을 풀에 남겨 둔다
+ *       (keep-alive 동안 로그인 요청이 이 연결을 재사용)</li>
+ *   <li>모든 DTO/모델의 Gson 타입 어댑터를 공유 인스턴스({@link JsonUtil#getGson()})에 만들어 둔다</li>
+ *   <li>목록 요소 타입별로 합성 목록을 스트리밍 디코딩하고 요청 DTO를 직렬화하여
+ *       디코딩 경로가 JIT 컴파일되게 한다</li>
+ * </ol>
+ *
+ * <p>
+ * 예열은 우선순위가 낮은 데몬 스레드에서 실행되며 실패해도 무시된다 (로그인은 그대로 진행).
+ * {@code -Dhms.warmup.enabled=false}로 끌 수 있고, 디코딩 반복 횟수는 {@code hms.warmup.passes}(기본 30)이다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public final class ClientWarmup {
+    private static final Logger logger = LoggerFactory.getLogger(ClientWarmup.class);
+
+    /** 스트리밍 디코딩으로 받는 목록 요소 타입 */
+    private static final List<Class<?>> LIST_TYPES = List.of(
+        Room.class, Reservation.class, FnbItem.class, Customer.class, User.class, Payment.class
+    );
+
+    /** 요청 본문으로 직렬화되는 DTO 견본 (요청 어댑터는 쓰기 전용이므로 인스턴스로 직렬화한다) */
+    private static final List<Object> REQUEST_SAMPLES = List.of(
+        new LoginRequest("warmup", "warmup"),
+        new AddCustomerRequest("warmup", "010-0000-0000", "101", "warmup"),
+        new AddFnbRequest("101", "warmup", FnbItem.ServiceType.RESTAURANT, FnbItem.MealType.BREAKFAST,
+            "warmup", 10000, 1, FnbItem.PaymentMethod.ROOM_CHARGE),
+        new AddReservationRequest("101", "warmup", "010-0000-0000", "2025-01-01", "2025-01-02", 2),
+        new AddRoomRequest(101, 100000, true, 2),
+        new AddUserRequest("warmup", "warmup", "warmup", "STAFF"),
+        new CheckIntOutRequest("warmup", 101, true),
+        new DeleteCustomerRequest("warmup"),
+        new DeleteFnbRequest("warmup"),
+        new DeleteReservationRequest("warmup"),
+        new DeleteUserRequest("warmup"),
+        new RoomIdRequest(101),
+        new UpdateReservationRequest("warmup", "warmup", "101", "warmup", "010-0000-0000",
+            "2025-01-01", "2025-01-02", 2),
+        new UpdateRoomRequest(101, 100000, true, 2, "warmup")
+    );
+
+    /** 합성 목록 하나의 요소 수 */
+    private static final int SYNTHETIC_ROWS = 200;
+
+    private ClientWarmup() {}
+
+    /**
+     * 백그라운드에서 예열을 시작한다
+     *
+     * @param serverHost 서버 호스트
+     * @param serverPort 서버 포트
+     * @return 예열이 끝나면 완료되는 future (실패해도 정상 완료)
+     */
+    public static CompletableFuture<Void> start(String serverHost, int serverPort) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        if (!Boolean.parseBoolean(System.getProperty("hms.warmup.enabled", "true"))) {
+            done.complete(null);
+            return done;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run(serverHost, serverPort);
+            } catch (RuntimeException e) {
+                logger.warn("클라이언트 예열 실패 (무시)", e);
+            } finally {
+                done.complete(null);
+            }
+        }, "hms-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return done;
+    }
+
+    private static void run(String serverHost, int serverPort) {
+        long start = System.nanoTime();
+
+        // 1. 연결: 응답을 기다리는 동안 나머지 예열을 진행한다
+        CompletableFuture<?> connection = new HealthApi(serverHost, serverPort).checkHealthAsync();
+
+        // 2. 타입 어댑터
+        Gson gson = JsonUtil.getGson();
+        LIST_TYPES.forEach(gson::getAdapter);
+        REQUEST_SAMPLES.forEach(sample -> gson.getAdapter(sample.getClass()));
+        long adaptersDone = System.nanoTime();
+
+        // 3. 합성 디코딩/직렬화 반복
+        int passes = Integer.getInteger("hms.warmup.passes", 30);
+        List<byte[]> bodies = LIST_TYPES.stream().map(type -> syntheticBody(gson, type)).toList();
+        int decoded = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            for (int i = 0; i < LIST_TYPES.size(); i++) {
+                decoded += decode(bodies.get(i), LIST_TYPES.get(i));
+            }
+            for (Object sample : REQUEST_SAMPLES) {
+                JsonBodyEncoder.encode(gson, sample);
+            }
+        }
+        long decodeDone = System.nanoTime();
+
+        connection.join();
+        logger.info("클라이언트 예열 완료: 어댑터 {}ms, 디코딩 {}건 {}ms, 전체 {}ms",
+            (adaptersDone - start) / 1_000_000, decoded, (decodeDone - adaptersDone) / 1_000_000,
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 실제 목록 조회와 같은 경로(바이트 스트림 → UTF-8 Reader → 스트리밍 디코딩)로 읽는다
+     */
+    private static int decode(byte[] body, Class<?> type) {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8)) {
+            return JsonStreams.readList(reader, "items", type).items().size();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@code {"message": ..., "items": [요소 × SYNTHETIC_ROWS]}} 형태의 합성 응답 본문
+     */
+    private static byte[] syntheticBody(Gson gson, Class<?> type) {
+        String element = gson.toJson(syntheticObject(type));
+        StringBuilder sb = new StringBuilder("{\"message\":\"warmup\",\"items\":[");
+        for (int i = 0; i < SYNTHETIC_ROWS; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(element);
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 타입의 필드마다 값을 채운 합성 JSON 객체 (문자열, 숫자, 불리언, 열거형 필드)
+     */
+    private static JsonObject syntheticObject(Class<?> type) {
+        JsonObject object = new JsonObject();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            Class<?> fieldType = field.getType();
+            if (fieldType == String.class) {
+                object.addProperty(field.getName(), "warmup-" + field.getName());
+            } else if (fieldType == int.class || fieldType == long.class || fieldType == Integer.class
+                    || fieldType == Long.class) {
+                object.addProperty(field.getName(), 12345);
+            } else if (fieldType == boolean.class || fieldType == Boolean.class) {
+                object.addProperty(field.getName(), true);
+            } else if (fieldType.isEnum()) {
+                object.addProperty(field.getName(), ((Enum<?>) fieldType.getEnumConstants()[0]).name());
+            }
+        }
+        return object;
+    }
+}
@@ -0,0 +1,107 @@
+package com.team3.client;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 본문 조각의 바이트 수를 세어 통지하고 원래 구독자에게 그대로 넘기는 구독자
+ * <p>
+ * 지표, JFR 인터셉터가 응답 본문 처리기를 감쌀 때 사용한다.
+ * 종료 콜백을 주면 본문을 끝까지 받았을 때, 실패했을 때, 읽는 쪽이 스트림을 닫아 구독을 취소했을 때
+ * 중 먼저 일어난 한 번만 호출한다 (응답 future는 스트림 본문이면 헤더 수신 시점에 완료되므로
+ * 본문 수신 완료 시점을 알려면 이 콜백을 사용한다).
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+final class CountingBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+    private final HttpResponse.BodySubscriber<T> delegate;
+    private final LongConsumer bytesListener;
+    private final Consumer<Throwable> endListener;
+    private final AtomicBoolean ended = new AtomicBoolean();
+
+    CountingBodySubscriber(HttpResponse.BodySubscriber<T> delegate, LongConsumer bytesListener) {
+        this(delegate, bytesListener, null);
+    }
+
+    /**
+     * @param delegate 원래 구독자
+     * @param bytesListener 본문 조각마다 바이트 수를 받을 콜백
+     * @param endListener 본문 수신이 끝나면 한 번 호출할 콜백 (정상 종료와 취소는 null, 실패는 예외. 없으면 null)
+     */
+    CountingBodySubscriber(HttpResponse.BodySubscriber<T> delegate, LongConsumer bytesListener,
+                           Consumer<Throwable> endListener) {
+        this.delegate = delegate;
+        this.bytesListener = bytesListener;
+        this.endListener = endListener;
+    }
+
+    /**
+     * 본문 처리기를 감싸 수신 바이트를 통지하게 한다
+     *
+     * @param handler 원래 본문 처리기
+     * @param bytesListener 본문 조각마다 바이트 수를 받을 콜백
+     * @return 감싼 본문 처리기
+     */
+    static <T> HttpResponse.BodyHandler<T> wrap(HttpResponse.BodyHandler<T> handler, LongConsumer bytesListener) {
+        return responseInfo -> new CountingBodySubscriber<>(handler.apply(responseInfo), bytesListener);
+    }
+
+    @Override
+    public CompletionStage<T> getBody() { return delegate.getBody(); }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (endListener == null) {
+            delegate.onSubscribe(subscription);
+            return;
+        }
+        // 스트림 본문을 끝까지 읽지 않고 닫으면 onComplete 대신 취소가 일어난다.
+        // HttpClient는 취소를 onError로 되돌려 주므로, 읽는 쪽이 닫은 것은 먼저 정상 종료로 기록한다
+        delegate.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) { subscription.request(n); }
+
+            @Override
+            public void cancel() {
+                end(null);
+                subscription.cancel();
+            }
+        });
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        long bytes = 0;
+        for (int i = 0; i < items.size(); i++) {
+            bytes += items.get(i).remaining();
+        }
+        bytesListener.accept(bytes);
+        delegate.onNext(items);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        end(throwable);
+        delegate.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        end(null);
+        delegate.onComplete();
+    }
+
+    private void end(Throwable error) {
+        if (endListener != null && ended.compareAndSet(false, true)) {
+            endListener.accept(error);
+        }
+    }
+}
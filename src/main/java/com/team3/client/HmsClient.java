@@ -1,18 +1,37 @@
 package com.team3.client;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.team3.client.metrics.MetricsRegistry;
+import com.team3.diagnostics.JsonDecodeEvent;
+import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
 import com.team3.session.SessionManager;
+import com.team3.store.EntityStore;
+import com.team3.trace.TraceContext;
+import com.team3.trace.Tracer;
+import com.team3.util.JsonStreams;
+import com.team3.util.JsonUtil;
 
 /**
  * HMS 서버와 HTTP 통신을 담당하는 기본 클라이언트 클래스
@@ -20,6 +39,8 @@ import com.team3.session.SessionManager;
  * Java 11+ HttpClient API를 사용하여 HMS 서버와 통신한다.
  * 모든 API 클래스(HealthApi, UserApi 등)의 부모 클래스로 사용되며,
  * GET, POST 요청을 위한 공통 메서드를 제공한다.
+ * 실제 전송은 프로세스 전역에서 공유하는 {@link HttpTransport}가 담당하므로
+ * API 인스턴스를 여러 개 생성해도 연결 풀은 하나만 유지된다.
  * </p>
  * 
  * <h3>사용 예시:</h3>
@@ -46,17 +67,32 @@ public class HmsClient {
     /** 서버의 기본 URL (예: http://localhost:8080) */
     private final String serverUrl;
 
-    /** Java 11+ HttpClient 인스턴스 */
-    private final HttpClient httpClient;
+    /** 모든 API 인스턴스가 공유하는 HTTP 전송 계층 */
+    private final HttpTransport transport;
 
-    /** JSON 직렬화/역직렬화를 위한 Gson 인스턴스 */
+    /** 진행 중인 문자열 GET 병합기 (전역 공유) */
+    private static final SingleFlight<FlightKey, HttpResponse<String>> GET_FLIGHTS = new SingleFlight<>();
+
+    /** 진행 중인 목록 GET 병합기 (전역 공유) */
+    private static final SingleFlight<ListFlightKey, ListResponse<?>> LIST_FLIGHTS = new SingleFlight<>();
+
+    /** 현재 스레드가 미리 불러오기 중인지 여부 ({@link #prefetching(Callable)}) */
+    private static final ThreadLocal<Boolean> PREFETCHING = ThreadLocal.withInitial(() -> false);
+
+    /** 요청 인터셉터 체인 (전역 공유) */
+    private final InterceptorRegistry interceptors = InterceptorRegistry.getInstance();
+
+    /** 목록 조회 응답의 조건부 GET 캐시 (전역 공유) */
+    private final ResponseCache responseCache = ResponseCache.getInstance();
+
+    /** JSON 직렬화/역직렬화를 위한 Gson 인스턴스 (타입 어댑터 캐시를 공유하도록 공용 인스턴스 사용) */
     private final Gson gson;
     
     /**
      * HMS 클라이언트 생성자
      * <p>
-     * 서버 주소를 설정하고 HTTP 클라이언트를 초기화한다.
-     * 연결 타임아웃은 10초로 설정된다.
+     * 서버 주소를 설정하고 공유 HTTP 전송 계층을 연결한다.
+     * 연결 타임아웃(10초)과 연결 풀 설정은 {@link HttpTransport}에서 관리된다.
      * </p>
      * 
      * @param serverHost 서버 호스트 (예: "localhost", "192.168.1.100")
@@ -64,10 +100,8 @@ public class HmsClient {
      */
     public HmsClient(String serverHost, int serverPort) {
         this.serverUrl = String.format("http://%s:%d", serverHost, serverPort);
-        this.httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
-        this.gson = new Gson();
+        this.transport = HttpTransport.getInstance();
+        this.gson = JsonUtil.getGson();
         
         logger.info("HmsClient 초기화: {}", serverUrl);
     }
@@ -101,18 +135,7 @@ public class HmsClient {
      */
     protected HttpResponse<String> sendGet(String endpoint) 
             throws IOException, InterruptedException {
-        String url = serverUrl + endpoint;
-        logger.debug("GET 요청: {}", url);
-        
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(URI.create(url))
-            .header("Content-Type", "application/json")
-            .header("Authorization", SessionManager.getInstance().getAuthorizationHeader())
-            .GET()
-            .build();
-        
-        return httpClient.send(request, 
-            HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        return await(sendGetAsync(endpoint));
     }
 
     /**
@@ -153,19 +176,22 @@ public class HmsClient {
      */
     protected HttpResponse<String> sendPost(String endpoint, Object requestBody) 
             throws IOException, InterruptedException {
-        String url = serverUrl + endpoint;
-        String jsonBody = gson.toJson(requestBody);
-        logger.debug("POST 요청: {} - Body: {}", url, jsonBody);
-        
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(URI.create(url))
-            .header("Content-Type", "application/json")
-            .header("Authorization", SessionManager.getInstance().getAuthorizationHeader())
-            .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-            .build();
-        
-        return httpClient.send(request,
-            HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        return await(sendPostAsync(endpoint, requestBody));
+    }
+
+    /**
+     * 서버 상태를 바꾸지 않는 조회용 POST 요청을 전송한다 (목록 캐시를 무효화하지 않음)
+     *
+     * @param endpoint API 엔드포인트 경로 (예: "/api/users/login")
+     * @param requestBody JSON으로 변환할 요청 본문 객체
+     * @return HTTP 응답 객체
+     * @throws IOException 네트워크 오류 발생 시
+     * @throws InterruptedException 요청 중 스레드가 인터럽트된 경우
+     * @see #sendQueryPostAsync(String, Object)
+     */
+    protected HttpResponse<String> sendQueryPost(String endpoint, Object requestBody)
+            throws IOException, InterruptedException {
+        return await(sendQueryPostAsync(endpoint, requestBody));
     }
     
     /**
@@ -185,22 +211,521 @@ public class HmsClient {
      */
     protected HttpResponse<String> sendDelete(String endpoint) 
             throws IOException, InterruptedException {
+        return await(sendDeleteAsync(endpoint));
+    }
+
+    /**
+     * HTTP GET 요청을 비동기로 전송한다
+     * <p>
+     * {@link #sendGet(String)}의 비동기 버전으로, 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+     * 네트워크 오류는 반환된 future의 예외 완료로 전달된다.
+     * </p>
+     * 
+     * @param endpoint API 엔드포인트 경로 (예: "/api/rooms/get-rooms")
+     * @return HTTP 응답 future
+     */
+    protected CompletableFuture<HttpResponse<String>> sendGetAsync(String endpoint) {
         String url = serverUrl + endpoint;
-        logger.debug("DELETE 요청: {}", url);
+        String authorization = SessionManager.getInstance().getAuthorizationHeader();
+        long generation = responseCache.generation(serverUrl, endpoint);
+
+        // 같은 URL과 인증으로 진행 중인 GET이 있으면 그 응답을 함께 사용한다 (그 사이 쓰기가 없었던 경우만)
+        return GET_FLIGHTS.execute(new FlightKey(url, authorization, generation), () -> {
+            HttpRequest request = newRequestBuilder(url)
+                .GET()
+                .build();
+            return execute(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        });
+    }
+
+    /**
+     * HTTP POST 요청을 비동기로 전송한다
+     * <p>
+     * {@link #sendPost(String, Object)}의 비동기 버전이다.
+     * 요청 본문 직렬화는 호출 스레드에서 즉시 수행되며, 문자열을 거치지 않고
+     * UTF-8 바이트로 바로 인코딩된다 ({@link JsonBodyEncoder}).
+     * 쓰기 요청으로 보고, 성공하면 같은 리소스와 관련 리소스의 목록 캐시를 무효화한다.
+     * </p>
+     * 
+     * @param endpoint API 엔드포인트 경로 (예: "/api/rooms/add-room")
+     * @param requestBody JSON으로 변환할 요청 본문 객체
+     * @return HTTP 응답 future
+     */
+    protected CompletableFuture<HttpResponse<String>> sendPostAsync(String endpoint, Object requestBody) {
+        return invalidateOnSuccess(endpoint, postAsync(endpoint, requestBody));
+    }
+
+    /**
+     * 서버 상태를 바꾸지 않는 조회용 POST 요청을 비동기로 전송한다
+     * <p>
+     * 로그인, 변경 로그 조회처럼 본문이 필요해 POST를 쓰는 조회는 성공해도 목록 캐시를 무효화하지 않는다.
+     * </p>
+     *
+     * @param endpoint API 엔드포인트 경로 (예: "/api/rooms/get-price-change-logs")
+     * @param requestBody JSON으로 변환할 요청 본문 객체
+     * @return HTTP 응답 future
+     */
+    protected CompletableFuture<HttpResponse<String>> sendQueryPostAsync(String endpoint, Object requestBody) {
+        return postAsync(endpoint, requestBody);
+    }
+
+    private CompletableFuture<HttpResponse<String>> postAsync(String endpoint, Object requestBody) {
+        String url = serverUrl + endpoint;
+        byte[] jsonBody = JsonBodyEncoder.encode(gson, requestBody);
+        if (LoggingInterceptor.isLogBodies()) {
+            logger.debug("POST 요청: {} - Body: {}", url, new String(jsonBody, StandardCharsets.UTF_8));
+        }
         
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(URI.create(url))
-            .header("Content-Type", "application/json")
-            .header("Authorization", SessionManager.getInstance().getAuthorizationHeader())
+        HttpRequest request = newRequestBuilder(url)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBody))
+            .build();
+        
+        return execute(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * HTTP DELETE 요청을 비동기로 전송한다
+     * 
+     * @param endpoint API 엔드포인트 경로 (예: "/api/payments/history")
+     * @return HTTP 응답 future
+     */
+    protected CompletableFuture<HttpResponse<String>> sendDeleteAsync(String endpoint) {
+        String url = serverUrl + endpoint;
+        HttpRequest request = newRequestBuilder(url)
             .DELETE()
             .build();
         
-        return httpClient.send(request, 
-            HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        return invalidateOnSuccess(endpoint,
+            execute(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 쓰기 요청이 성공하면 같은 리소스의 목록 캐시를 무효화한다 (조회용 POST에는 사용하지 않음)
+     */
+    private <T> CompletableFuture<HttpResponse<T>> invalidateOnSuccess(String endpoint,
+            CompletableFuture<HttpResponse<T>> future) {
+        return ApiFutures.propagateCancel(future.whenComplete((response, error) -> {
+            if (response != null && response.statusCode() >= 200 && response.statusCode() < 300) {
+                responseCache.invalidate(serverUrl, endpoint);
+            }
+        }), future);
+    }
+
+    /**
+     * 목록을 반환하는 GET 엔드포인트를 호출하고 응답 스트림에서 바로 목록을 디코딩한다
+     * <p>
+     * 본문을 문자열로 모으지 않고 {@link HttpResponse.BodyHandlers#ofInputStream()}으로 받아
+     * {@link JsonStreams}로 한 번만 파싱한다. 대용량 목록(예약, 결제 내역)에서
+     * 본문 문자열과 JSON 트리가 동시에 메모리에 올라가지 않는다.
+     * </p>
+     *
+     * <h4>사용 예시 (API 클래스 내부):</h4>
+     * <pre>{@code
+     * public ListResponse<Reservation> fetchReservations() {
+     *     return getList("/api/reservation/list", "reservations", Reservation.class);
+     * }
+     * }</pre>
+     *
+     * @param endpoint API 엔드포인트 경로
+     * @param field 목록이 들어 있는 봉투 필드 이름 (null이면 최상위 배열)
+     * @param elementType 목록 요소 타입
+     * @return 디코딩된 목록 응답 (예외를 던지지 않음)
+     */
+    protected <T> ListResponse<T> getList(String endpoint, String field, Class<T> elementType) {
+        return awaitList(getListAsync(endpoint, field, elementType));
+    }
+
+    /**
+     * {@link #getList(String, String, Class)}의 비동기 버전
+     *
+     * @return 항상 정상 완료되는 목록 응답 future
+     */
+    protected <T> CompletableFuture<ListResponse<T>> getListAsync(String endpoint, String field, Class<T> elementType) {
+        String url = serverUrl + endpoint;
+        ResponseCache.Key cacheKey = ResponseCache.key(serverUrl, endpoint,
+            SessionManager.getInstance().getAuthorizationHeader(), elementType);
+        boolean prefetch = PREFETCHING.get();
+        long generation = responseCache.generation(serverUrl, endpoint);
+
+        // 미리 불러온 목록이 있으면 서버 왕복 없이 바로 사용한다 (한 번만)
+        if (!prefetch) {
+            ResponseCache.Prefetched prefetched = responseCache.takePrefetched(cacheKey);
+            if (prefetched != null) {
+                logger.debug("미리 불러온 목록 사용: {} ({}건)", endpoint, prefetched.items().size());
+                @SuppressWarnings("unchecked")
+                List<T> items = (List<T>) prefetched.items();
+                return CompletableFuture.completedFuture(new ListResponse<>(200, items, prefetched.message()));
+            }
+        }
+
+        // 같은 목록을 조회 중인 호출이 있으면 디코딩된 결과를 함께 사용한다.
+        // 쓰기가 성공하면 세대가 바뀌므로, 쓰기 뒤의 조회는 쓰기 전에 시작된 조회에 합쳐지지 않는다
+        CompletableFuture<ListResponse<?>> shared = LIST_FLIGHTS.execute(new ListFlightKey(cacheKey, generation), () -> {
+            HttpRequest.Builder builder = newRequestBuilder(url).GET();
+
+            // 저장된 검증자가 있으면 조건부 요청으로 보낸다
+            ResponseCache.Entry cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                if (cached.etag() != null) {
+                    builder.header("If-None-Match", cached.etag());
+                }
+                if (cached.lastModified() != null) {
+                    builder.header("If-Modified-Since", cached.lastModified());
+                }
+            }
+            return executeList(builder.build(), field, elementType, cacheKey, cached)
+                .thenApply(response -> (ListResponse<?>) response);
+        });
+
+        if (prefetch) {
+            shared = shared.thenApply(response -> {
+                if (response.isSuccess()) {
+                    responseCache.putPrefetched(cacheKey, response.getItems(), response.getMessage(), generation);
+                }
+                return response;
+            });
+        }
+
+        // 키에 요소 타입이 포함되어 있으므로 같은 키의 결과는 항상 같은 요소 타입이다
+        @SuppressWarnings("unchecked")
+        CompletableFuture<ListResponse<T>> typed = (CompletableFuture<ListResponse<T>>) (CompletableFuture<?>) shared;
+        return typed;
+    }
+
+    /**
+     * 성공한 전체 목록 응답을 엔티티 저장소에 넣는다
+     * <p>
+     * 전체 목록 조회 메서드({@code fetch*List})에서 사용하여, 어느 화면이 조회했든
+     * 저장소를 구독한 모든 화면이 같은 결과를 받도록 한다. 실패 응답은 저장소를 건드리지 않는다.
+     * </p>
+     *
+     * @param response 목록 응답
+     * @param store 갱신할 저장소
+     * @return 전달받은 응답 (연쇄 호출용)
+     */
+    protected static <T> ListResponse<T> publish(ListResponse<T> response, EntityStore<?, T> store) {
+        if (response.isSuccess()) {
+            store.replaceAll(response.getItems());
+        }
+        return response;
+    }
+
+    /**
+     * 목록을 반환하는 POST 엔드포인트를 호출하고 응답 스트림에서 바로 목록을 디코딩한다
+     *
+     * @param endpoint API 엔드포인트 경로
+     * @param requestBody JSON으로 변환할 요청 본문 객체
+     * @param field 목록이 들어 있는 봉투 필드 이름 (null이면 최상위 배열)
+     * @param elementType 목록 요소 타입
+     * @return 디코딩된 목록 응답 (예외를 던지지 않음)
+     */
+    protected <T> ListResponse<T> postList(String endpoint, Object requestBody, String field, Class<T> elementType) {
+        return awaitList(postListAsync(endpoint, requestBody, field, elementType));
+    }
+
+    /**
+     * {@link #postList(String, Object, String, Class)}의 비동기 버전
+     *
+     * @return 항상 정상 완료되는 목록 응답 future
+     */
+    protected <T> CompletableFuture<ListResponse<T>> postListAsync(String endpoint, Object requestBody,
+            String field, Class<T> elementType) {
+        String url = serverUrl + endpoint;
+        byte[] jsonBody = JsonBodyEncoder.encode(gson, requestBody);
+        if (LoggingInterceptor.isLogBodies()) {
+            logger.debug("POST 요청 (목록): {} - Body: {}", url, new String(jsonBody, StandardCharsets.UTF_8));
+        }
+
+        HttpRequest request = newRequestBuilder(url)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBody))
+            .build();
+
+        // 조회용 POST는 캐시하지 않는다
+        return executeList(request, field, elementType, null, null);
     }
+
+    private <T> CompletableFuture<ListResponse<T>> executeList(HttpRequest request, String field, Class<T> elementType,
+            ResponseCache.Key cacheKey, ResponseCache.Entry cached) {
+        // 디코딩은 다른 스레드에서 실행되므로 호출 시점의 추적 문맥을 잡아 둔다
+        TraceContext trace = TraceContext.current();
+
+        // 헤더 수신 시점에 완료되므로, 본문 디코딩(블로킹 읽기)은 전송 계층 실행기에서 수행한다
+        CompletableFuture<HttpResponse<InputStream>> exchange =
+            execute(request, HttpResponse.BodyHandlers.ofInputStream());
+        return ApiFutures.propagateCancel(exchange
+            .thenApplyAsync(response -> decodeList(response, field, elementType, cacheKey, cached, trace),
+                transport.getExecutor())
+            .exceptionally(error -> ListResponse.error(describeError(error))), exchange);
+    }
+
+    private <T> ListResponse<T> decodeList(HttpResponse<InputStream> response, String field, Class<T> elementType,
+            ResponseCache.Key cacheKey, ResponseCache.Entry cached, TraceContext trace) {
+        int statusCode = response.statusCode();
+        try (CountingInputStream body = new CountingInputStream(response.body());
+             Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            if (statusCode == 304 && cached != null) {
+                responseCache.recordHit();
+                logger.debug("304 Not Modified - 캐시된 목록 사용: {}건", cached.items().size());
+                @SuppressWarnings("unchecked")
+                List<T> items = (List<T>) cached.items();
+                return new ListResponse<>(statusCode, items, cached.message(), true);
+            }
+            if (cacheKey != null) {
+                responseCache.recordMiss();
+            }
+            if (statusCode < 200 || statusCode >= 300) {
+                // 실패 응답은 크기가 작으므로 문자열로 읽어 message 필드만 꺼낸다
+                String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                String message = JsonUtil.extract(text, "message");
+                logger.warn("목록 조회 실패: statusCode={}", statusCode);
+                return new ListResponse<>(statusCode, null, message != null ? message : text);
+            }
+            JsonDecodeEvent decodeEvent = new JsonDecodeEvent();
+            decodeEvent.begin();
+            JsonStreams.ListEnvelope<T> envelope = JsonStreams.readList(reader, field, elementType);
+            decodeEvent.end();
+            // 첫 본문 바이트 도착부터 측정하여 헤더 이후 본문을 기다린 시간은 제외한다
+            // (본문이 여러 조각으로 오면 조각 사이의 수신 대기는 포함된다)
+            long decodeStart = body.getFirstByteNanos();
+            long decodeNanos = System.nanoTime() - decodeStart;
+            String path = response.request().uri().getPath();
+            MetricsRegistry.getInstance()
+                .endpoint(response.request().method(), path)
+                .recordDecode(decodeNanos);
+            if (decodeEvent.shouldCommit()) {
+                decodeEvent.endpoint = path;
+                decodeEvent.entityType = elementType.getSimpleName();
+                decodeEvent.rows = envelope.items().size();
+                decodeEvent.bytes = body.getCount();
+                decodeEvent.decodeTime = decodeNanos;
+                decodeEvent.commit();
+            }
+            if (trace != null) {
+                Tracer.getInstance().startSpan("decode " + path, "client", trace, decodeStart)
+                    .setAttribute("items", envelope.items().size())
+                    .setAttribute("bytes", body.getCount())
+                    .end();
+            }
+            logger.debug("목록 디코딩 완료: {}건 ({} bytes)", envelope.items().size(), body.getCount());
+            // 병합된 호출자들이 같은 목록을 공유하므로 수정할 수 없도록 감싼다
+            // (304 응답도 같은 인스턴스를 돌려주도록 캐시에도 감싼 목록을 넣는다)
+            List<T> items = Collections.unmodifiableList(envelope.items());
+            if (cacheKey != null) {
+                responseCache.put(cacheKey,
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null),
+                    items, envelope.message(), body.getCount());
+            }
+            return new ListResponse<>(statusCode, items, envelope.message());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 세는 입력 스트림 (캐시 용량 계산, 디코딩 시간 측정용)
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+        private long firstByteNanos;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                onData(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                onData(n);
+            }
+            return n;
+        }
+
+        private void onData(int n) {
+            if (count == 0) {
+                firstByteNanos = System.nanoTime();
+            }
+            count += n;
+        }
+
+        long getCount() { return count; }
+
+        /** 첫 바이트를 읽은 시각 (아직 읽지 않았으면 현재 시각) */
+        long getFirstByteNanos() { return count > 0 ? firstByteNanos : System.nanoTime(); }
+    }
+
+    /**
+     * 목록 응답 future를 기다린다 (인터럽트 시 에러 응답으로 변환)
+     */
+    private static <T> ListResponse<T> awaitList(CompletableFuture<ListResponse<T>> future) {
+        try {
+            return await(future);
+        } catch (InterruptedException e) {
+            logger.error("요청 중단", e);
+            Thread.currentThread().interrupt();
+            return ListResponse.error("요청이 중단되었습니다");
+        } catch (IOException | RuntimeException e) {
+            return ListResponse.error(describeError(e));
+        }
+    }
+
+    /**
+     * 공통 헤더(Content-Type)가 설정된 요청 빌더를 생성한다 (Authorization은 {@link AuthInterceptor}가 추가)
+     */
+    private HttpRequest.Builder newRequestBuilder(String url) {
+        return HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .header("Content-Type", "application/json");
+    }
+
+    /**
+     * 모든 요청이 거쳐가는 전송 지점
+     * <p>
+     * 동기/비동기 메서드 모두 이 메서드를 통해 요청을 보낸다.
+     * 요청은 {@link InterceptorRegistry}에 등록된 인터셉터(로깅, 인증, 회로 차단, 재시도 등)를
+     * 순서대로 거친 뒤 공유 전송 계층으로 전송된다.
+     * </p>
+     */
+    private <T> CompletableFuture<HttpResponse<T>> execute(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        return interceptors.execute(transport, request, handler);
+    }
+
+    /**
+     * 비동기 HTTP 응답을 {@link ApiResponse} future로 변환한다
+     * <p>
+     * 동기 메서드의 try/catch와 동일한 규칙으로 예외를 에러 응답으로 변환하므로,
+     * 반환된 future는 예외로 완료되지 않는다.
+     * </p>
+     * 
+     * <h4>사용 예시 (API 클래스 내부):</h4>
+     * <pre>{@code
+     * public CompletableFuture<ApiResponse> getRoomListAsync() {
+     *     return toApiResponse(sendGetAsync("/api/rooms/get-rooms"));
+     * }
+     * }</pre>
+     * 
+     * @param future HTTP 응답 future
+     * @return 항상 정상 완료되는 API 응답 future
+     */
+    protected CompletableFuture<ApiResponse> toApiResponse(CompletableFuture<HttpResponse<String>> future) {
+        return future
+            .thenApply(response -> new ApiResponse(response.statusCode(), response.body()))
+            .exceptionally(HmsClient::toErrorResponse);
+    }
+
+    private static ApiResponse toErrorResponse(Throwable error) {
+        return ApiResponse.error(describeError(error));
+    }
+
+    /**
+     * 비동기 호출 실패 원인을 동기 메서드와 동일한 형식의 에러 메시지로 변환한다
+     */
+    private static String describeError(Throwable error) {
+        Throwable cause = ApiFutures.unwrap(error);
+        if (cause instanceof UncheckedIOException unchecked) {
+            cause = unchecked.getCause();
+        }
+        if (cause instanceof CancellationException) {
+            return "요청이 중단되었습니다";
+        }
+        if (cause instanceof CircuitBreaker.CircuitOpenException) {
+            // 차단 중에는 요청마다 발생하므로 스택 트레이스를 남기지 않는다
+            logger.debug("회로 차단으로 요청 생략: {}", cause.getMessage());
+            return "서버 연결 실패: " + cause.getMessage();
+        }
+        if (cause instanceof IOException) {
+            logger.error("네트워크 오류", cause);
+            return "서버 연결 실패: " + cause.getMessage();
+        }
+        if (cause instanceof JsonParseException) {
+            logger.error("응답 파싱 실패", cause);
+            return "응답 파싱 실패: " + cause.getMessage();
+        }
+        logger.error("요청 실패", cause);
+        return "요청 실패: " + cause.getMessage();
+    }
+
+    /**
+     * 비동기 응답을 기다려 동기 메서드의 예외 규약(IOException, InterruptedException)으로 변환한다
+     * <p>
+     * 기다리는 중 인터럽트되면 future를 취소하고, 취소는 인터셉터 체인을 거쳐 진행 중인 HTTP 교환까지 전달되어
+     * 연결이 중단된다. 다만 single-flight로 합쳐진 GET은 다른 호출자가 같은 응답을 기다리므로
+     * 이 호출자의 복사본만 취소되고 요청은 끝까지 진행된다.
+     * </p>
+     */
+    private static <T> T await(CompletableFuture<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = ApiFutures.unwrap(e);
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IOException(cause);
+        }
+    }
+
     
     
 
+    /**
+     * 진행 중인 동일 GET에 병합되어 네트워크로 나가지 않은 호출 수를 반환한다
+     *
+     * @return 병합된 호출 수 (문자열 GET + 목록 GET)
+     */
+    public static long getCoalescedRequestCount() {
+        return GET_FLIGHTS.getCoalescedCount() + LIST_FLIGHTS.getCoalescedCount();
+    }
+
+    /**
+     * 미리 불러오기로 작업을 실행한다
+     * <p>
+     * 작업 안에서 호출한 목록 GET의 결과는 일반 캐시와 별도로 보관되어,
+     * 잠시 뒤 같은 목록을 처음 조회할 때 네트워크 왕복 없이 사용된다.
+     * </p>
+     *
+     * @param work 목록 조회 호출 (예: {@code () -> roomApi.fetchRoomList()})
+     * @return 작업 결과
+     * @throws Exception 작업에서 발생한 예외
+     */
+    public static <T> T prefetching(Callable<T> work) throws Exception {
+        PREFETCHING.set(true);
+        try {
+            return work.call();
+        } finally {
+            PREFETCHING.remove();
+        }
+    }
+
+    /**
+     * 문자열 GET 병합 키 (URL + 인증 + 리소스 쓰기 세대)
+     */
+    private record FlightKey(String url, String authorization, long generation) {}
+
+    /**
+     * 목록 GET 병합 키 (캐시 키 + 리소스 쓰기 세대)
+     */
+    private record ListFlightKey(ResponseCache.Key cacheKey, long generation) {}
+
     /**
      * 서버의 기본 URL을 반환한다
      * <p>
@@ -0,0 +1,68 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP 요청 인터셉터
+ * <p>
+ * {@link HmsClient}의 모든 요청은 {@link InterceptorRegistry}에 등록된 인터셉터를
+ * 순서대로 거친 뒤 {@link HttpTransport}로 전송된다.
+ * 인증 헤더, 로깅, 회로 차단, 재시도처럼 모든 요청에 공통으로 필요한 처리를
+ * 각 API 메서드를 수정하지 않고 추가하거나 끌 수 있다.
+ * </p>
+ *
+ * <h3>구현 규칙:</h3>
+ * <ul>
+ *   <li>요청을 바꾸려면 {@code HttpRequest.newBuilder(request, filter)}로 복사한 요청을 넘긴다</li>
+ *   <li>결과를 관찰만 할 때는 {@code whenComplete}를 붙이고 <b>원래 future를 그대로 반환</b>한다.
+ *       새 future를 반환하면 호출자의 취소가 안쪽 인터셉터(재시도 루프 등)에 전달되지 않는다</li>
+ *   <li>{@link Chain#proceed}는 여러 번 호출할 수 있다 (재시도)</li>
+ * </ul>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * public class TimingInterceptor implements HttpInterceptor {
+ *     public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request,
+ *             HttpResponse.BodyHandler<T> handler, Chain chain) {
+ *         long start = System.nanoTime();
+ *         CompletableFuture<HttpResponse<T>> future = chain.proceed(request, handler);
+ *         future.whenComplete((response, error) -> record(System.nanoTime() - start));
+ *         return future;
+ *     }
+ * }
+ * InterceptorRegistry.getInstance().register("timing", 150, new TimingInterceptor());
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public interface HttpInterceptor {
+
+    /**
+     * 요청을 가로채 처리한다
+     *
+     * @param request 전송할 요청
+     * @param handler 응답 본문 처리기
+     * @param chain 다음 인터셉터 (마지막이면 전송 계층)
+     * @return HTTP 응답 future
+     */
+    <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                     Chain chain);
+
+    /**
+     * 다음 인터셉터로 요청을 넘기는 체인
+     */
+    interface Chain {
+
+        /**
+         * 다음 인터셉터(또는 전송 계층)로 요청을 넘긴다
+         *
+         * @param request 전송할 요청
+         * @param handler 응답 본문 처리기
+         * @return HTTP 응답 future
+         */
+        <T> CompletableFuture<HttpResponse<T>> proceed(HttpRequest request, HttpResponse.BodyHandler<T> handler);
+    }
+}
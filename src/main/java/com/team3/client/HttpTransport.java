@@ -0,0 +1,212 @@
+package com.team3.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 프로세스 전역에서 공유하는 HTTP 전송 계층
+ * <p>
+ * 모든 API 클래스(RoomApi, ReservationApi 등)가 하나의 {@link HttpClient}를 공유하도록 한다.
+ * 패널마다 HttpClient를 생성하면 연결 풀, 셀렉터 스레드, 실행기가 탭 수만큼 중복되므로
+ * 싱글톤으로 관리하여 같은 서버에 대한 커넥션을 재사용한다.
+ * </p>
+ *
+ * <h3>설정 방법:</h3>
+ * <pre>{@code
+ * // 첫 요청 이전(예: Main)에 한 번만 호출
+ * HttpTransport.configure(16, Duration.ofSeconds(30), null);
+ *
+ * // 통계 확인
+ * HttpTransport.Stats stats = HttpTransport.getInstance().getStats();
+ * }</pre>
+ *
+ * <p>
+ * 설정하지 않으면 시스템 프로퍼티 {@code hms.http.poolSize}, {@code hms.http.keepAliveSeconds}
+ * 또는 기본값(16개, 30초)을 사용한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class HttpTransport {
+    private static final Logger logger = LoggerFactory.getLogger(HttpTransport.class);
+
+    /** 기본 연결 풀 크기 */
+    private static final int DEFAULT_POOL_SIZE = 16;
+
+    /** 기본 keep-alive 유지 시간 */
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(30);
+
+    /** 연결 타임아웃 (기존 HmsClient와 동일하게 10초) */
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static HttpTransport instance;
+
+    private static int configuredPoolSize = Integer.getInteger("hms.http.poolSize", DEFAULT_POOL_SIZE);
+    private static Duration configuredKeepAlive = Duration.ofSeconds(
+        Long.getLong("hms.http.keepAliveSeconds", DEFAULT_KEEP_ALIVE.getSeconds()));
+    private static ExecutorService configuredExecutor;
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final int poolSize;
+    private final Duration keepAlive;
+
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private HttpTransport(int poolSize, Duration keepAlive, ExecutorService executor) {
+        this.poolSize = poolSize;
+        this.keepAlive = keepAlive;
+        this.executor = executor != null
+            ? executor
+            : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hms-http-", 0).factory());
+
+        // JDK HttpClient의 연결 풀 설정은 내부 클래스 초기화 시점에 시스템 프로퍼티로 읽힌다.
+        // 사용자가 -D 옵션으로 직접 지정한 값은 덮어쓰지 않는다.
+        setPropertyIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(poolSize));
+        setPropertyIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(keepAlive.getSeconds()));
+
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(CONNECT_TIMEOUT)
+            .executor(this.executor)
+            .build();
+
+        logger.info("HttpTransport 초기화: poolSize={}, keepAlive={}s", poolSize, keepAlive.getSeconds());
+    }
+
+    /**
+     * 전송 계층 설정
+     * <p>
+     * 최초 {@link #getInstance()} 호출 이전에만 효과가 있다.
+     * 이미 초기화된 이후 호출하면 경고 로그만 남기고 무시한다.
+     * </p>
+     *
+     * @param connectionPoolSize 서버당 유지할 최대 유휴 커넥션 수 (0 이하이면 기본값)
+     * @param keepAlive 유휴 커넥션 유지 시간 (null이면 기본값)
+     * @param executor 응답 처리 실행기 (null이면 가상 스레드 실행기)
+     */
+    public static synchronized void configure(int connectionPoolSize, Duration keepAlive, ExecutorService executor) {
+        if (instance != null) {
+            logger.warn("HttpTransport가 이미 초기화되어 설정을 무시합니다");
+            return;
+        }
+        configuredPoolSize = connectionPoolSize > 0 ? connectionPoolSize : DEFAULT_POOL_SIZE;
+        configuredKeepAlive = keepAlive != null ? keepAlive : DEFAULT_KEEP_ALIVE;
+        configuredExecutor = executor;
+    }
+
+    /**
+     * HttpTransport 싱글톤 인스턴스 반환
+     *
+     * @return HttpTransport 인스턴스
+     */
+    public static synchronized HttpTransport getInstance() {
+        if (instance == null) {
+            instance = new HttpTransport(configuredPoolSize, configuredKeepAlive, configuredExecutor);
+        }
+        return instance;
+    }
+
+    /**
+     * 공유 HttpClient로 요청을 비동기 전송한다
+     * <p>
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않는다.
+     * 네트워크 오류는 반환된 future의 예외 완료로 전달된다.
+     * 반환된 future를 취소하면 HttpClient의 교환도 취소되어 연결이 중단된다.
+     * </p>
+     *
+     * @param request 전송할 요청
+     * @param handler 응답 본문 처리기
+     * @return HTTP 응답 future
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        onRequestStart();
+        CompletableFuture<HttpResponse<T>> exchange = httpClient.sendAsync(request, handler);
+        return ApiFutures.propagateCancel(
+            exchange.whenComplete((response, error) -> onRequestEnd(error != null)), exchange);
+    }
+
+    private void onRequestStart() {
+        totalRequests.increment();
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+    }
+
+    private void onRequestEnd(boolean failed) {
+        inFlight.decrementAndGet();
+        if (failed) {
+            failedRequests.increment();
+        }
+    }
+
+    private static void setPropertyIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    /**
+     * 현재 전송 계층 통계 스냅샷을 반환한다
+     *
+     * @return 통계 스냅샷
+     */
+    public Stats getStats() {
+        return new Stats(poolSize, keepAlive, totalRequests.sum(), failedRequests.sum(),
+            inFlight.get(), peakInFlight.get());
+    }
+
+    public HttpClient getHttpClient() { return httpClient; }
+    public ExecutorService getExecutor() { return executor; }
+
+    /**
+     * 전송 계층 통계 스냅샷
+     * <p>
+     * JDK HttpClient는 내부 연결 풀 상태를 공개하지 않으므로,
+     * 설정값과 이 계층을 통과한 요청 수를 기준으로 집계한다.
+     * </p>
+     */
+    public static class Stats {
+        private final int poolSize;
+        private final Duration keepAlive;
+        private final long totalRequests;
+        private final long failedRequests;
+        private final int inFlight;
+        private final int peakInFlight;
+
+        Stats(int poolSize, Duration keepAlive, long totalRequests, long failedRequests,
+              int inFlight, int peakInFlight) {
+            this.poolSize = poolSize;
+            this.keepAlive = keepAlive;
+            this.totalRequests = totalRequests;
+            this.failedRequests = failedRequests;
+            this.inFlight = inFlight;
+            this.peakInFlight = peakInFlight;
+        }
+
+        public int getPoolSize() { return poolSize; }
+        public Duration getKeepAlive() { return keepAlive; }
+        public long getTotalRequests() { return totalRequests; }
+        public long getFailedRequests() { return failedRequests; }
+        public int getInFlight() { return inFlight; }
+        public int getPeakInFlight() { return peakInFlight; }
+
+        @Override
+        public String toString() {
+            return String.format("poolSize=%d, keepAlive=%ds, total=%d, failed=%d, inFlight=%d, peak=%d",
+                poolSize, keepAlive.getSeconds(), totalRequests, failedRequests, inFlight, peakInFlight);
+        }
+    }
+}
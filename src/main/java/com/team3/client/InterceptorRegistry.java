@@ -0,0 +1,212 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP 인터셉터 등록소
+ * <p>
+ * 인터셉터를 이름과 순서로 등록하고, 이름으로 켜고 끌 수 있다.
+ * 순서 값이 작은 인터셉터가 바깥쪽(먼저 요청을 받고 마지막에 응답을 받음)에 위치한다.
+ * </p>
+ *
+ * <h3>기본 등록 인터셉터:</h3>
+ * <ul>
+ *   <li>{@code logging} (100): 요청/응답 로그와 소요 시간</li>
+ *   <li>{@code auth} (200): Authorization 헤더 추가</li>
+ *   <li>{@code circuit-breaker} (300): 서버 장애 시 즉시 실패</li>
+ *   <li>{@code retry} (400): 일시적 오류 재시도</li>
+ *   <li>{@code tracing} (420): 시도별 추적 span과 traceparent 헤더</li>
+ *   <li>{@code jfr} (430): 시도별 JFR {@code ApiCall} 이벤트</li>
+ *   <li>{@code metrics} (450): 시도별 지연 시간, 송수신 바이트 기록</li>
+ * </ul>
+ *
+ * <p>
+ * 시스템 프로퍼티 {@code hms.http.disabledInterceptors}에 쉼표로 구분한 이름을 지정하면
+ * 시작할 때부터 꺼진 상태로 등록된다 (예: {@code -Dhms.http.disabledInterceptors=retry,logging}).
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class InterceptorRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(InterceptorRegistry.class);
+
+    private static InterceptorRegistry instance;
+
+    /** 이름 → 등록 정보 */
+    private final Map<String, Registration> registrations = new LinkedHashMap<>();
+
+    /** 켜져 있는 인터셉터를 순서대로 정렬한 스냅샷 (등록/토글 시 다시 만듦) */
+    private volatile List<HttpInterceptor> active = List.of();
+
+    private final List<String> initiallyDisabled;
+
+    private InterceptorRegistry() {
+        String disabled = System.getProperty("hms.http.disabledInterceptors", "");
+        this.initiallyDisabled = disabled.isBlank() ? List.of() : List.of(disabled.split("\\s*,\\s*"));
+
+        register("logging", 100, new LoggingInterceptor());
+        register("auth", 200, new AuthInterceptor());
+        register("circuit-breaker", 300, new CircuitBreakerInterceptor());
+        register("retry", 400, new RetryInterceptor());
+        register("tracing", 420, new TracingInterceptor());
+        register("jfr", 430, new JfrInterceptor());
+        register("metrics", 450, new MetricsInterceptor());
+    }
+
+    /**
+     * InterceptorRegistry 싱글톤 인스턴스 반환
+     *
+     * @return InterceptorRegistry 인스턴스
+     */
+    public static synchronized InterceptorRegistry getInstance() {
+        if (instance == null) {
+            instance = new InterceptorRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * 인터셉터를 등록한다 (같은 이름이 있으면 교체)
+     *
+     * @param name 인터셉터 이름 (켜기/끄기에 사용)
+     * @param order 순서 (작을수록 바깥쪽)
+     * @param interceptor 인터셉터
+     */
+    public synchronized void register(String name, int order, HttpInterceptor interceptor) {
+        boolean enabled = !initiallyDisabled.contains(name);
+        registrations.put(name, new Registration(name, order, interceptor, enabled));
+        rebuild();
+        logger.info("인터셉터 등록: {} (order={}, enabled={})", name, order, enabled);
+    }
+
+    /**
+     * 인터셉터를 켜거나 끈다
+     *
+     * @param name 인터셉터 이름
+     * @param enabled 켜려면 true
+     * @return 해당 이름의 인터셉터가 있으면 true
+     */
+    public synchronized boolean setEnabled(String name, boolean enabled) {
+        Registration registration = registrations.get(name);
+        if (registration == null) {
+            logger.warn("등록되지 않은 인터셉터: {}", name);
+            return false;
+        }
+        registrations.put(name, new Registration(name, registration.order(), registration.interceptor(), enabled));
+        rebuild();
+        logger.info("인터셉터 {}: {}", enabled ? "켜짐" : "꺼짐", name);
+        return true;
+    }
+
+    /**
+     * 등록된 인터셉터 목록 (순서대로)
+     *
+     * @return 등록 정보 스냅샷
+     */
+    public synchronized List<Registration> getRegistrations() {
+        List<Registration> list = new ArrayList<>(registrations.values());
+        list.sort(Comparator.comparingInt(Registration::order));
+        return list;
+    }
+
+    private void rebuild() {
+        active = getRegistrations().stream()
+            .filter(Registration::enabled)
+            .map(Registration::interceptor)
+            .toList();
+    }
+
+    /**
+     * 켜져 있는 인터셉터를 거쳐 전송 계층으로 요청을 보낸다
+     * <p>
+     * 반환된 future를 취소하면 진행 중인 HTTP 교환을 중단하고, 재시도 등으로 아직 보내지 않은 시도는 보내지 않는다.
+     * </p>
+     *
+     * @param transport 마지막에 요청을 보낼 전송 계층
+     * @param request 전송할 요청
+     * @param handler 응답 본문 처리기
+     * @return HTTP 응답 future
+     */
+    public <T> CompletableFuture<HttpResponse<T>> execute(HttpTransport transport, HttpRequest request,
+                                                          HttpResponse.BodyHandler<T> handler) {
+        Cancellation cancellation = new Cancellation();
+        CompletableFuture<HttpResponse<T>> result =
+            new IndexedChain(active, 0, transport, cancellation).proceed(request, handler);
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                cancellation.cancel();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 인터셉터 등록 정보
+     */
+    public record Registration(String name, int order, HttpInterceptor interceptor, boolean enabled) {}
+
+    /**
+     * 목록의 index번째 인터셉터부터 실행하는 체인 (상태가 없어 여러 번 호출 가능)
+     */
+    private record IndexedChain(List<HttpInterceptor> interceptors, int index, HttpTransport transport,
+                                Cancellation cancellation) implements HttpInterceptor.Chain {
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> proceed(HttpRequest request,
+                                                              HttpResponse.BodyHandler<T> handler) {
+            if (index >= interceptors.size()) {
+                return cancellation.send(transport, request, handler);
+            }
+            return interceptors.get(index)
+                .intercept(request, handler, new IndexedChain(interceptors, index + 1, transport, cancellation));
+        }
+    }
+
+    /**
+     * 호출 하나에서 전송 계층으로 보낸 교환들
+     * <p>
+     * 인터셉터가 결과 future를 새로 만들어 돌려주므로(재시도 등) 호출자가 취소해도 교환까지 전달되지 않는다.
+     * 호출 단위로 진행 중인 교환을 모아 두었다가 호출이 취소되면 함께 취소한다.
+     * </p>
+     */
+    private static final class Cancellation {
+        private final Set<CompletableFuture<?>> exchanges = ConcurrentHashMap.newKeySet();
+        private volatile boolean cancelled;
+
+        <T> CompletableFuture<HttpResponse<T>> send(HttpTransport transport, HttpRequest request,
+                                                     HttpResponse.BodyHandler<T> handler) {
+            if (cancelled) {
+                return CompletableFuture.failedFuture(new CancellationException("요청이 취소됨"));
+            }
+            CompletableFuture<HttpResponse<T>> exchange = transport.sendAsync(request, handler);
+            exchanges.add(exchange);
+            exchange.whenComplete((response, error) -> exchanges.remove(exchange));
+            // 등록 직전에 취소되었으면 cancel()이 이 교환을 보지 못했을 수 있다
+            if (cancelled) {
+                exchange.cancel(true);
+            }
+            return exchange;
+        }
+
+        void cancel() {
+            cancelled = true;
+            for (CompletableFuture<?> exchange : exchanges) {
+                exchange.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.team3.diagnostics.ApiCallEvent;
+
+/**
+ * 시도마다 {@link ApiCallEvent} JFR 이벤트를 남기는 인터셉터
+ * <p>
+ * JFR 기록이 꺼져 있으면 {@code isEnabled()} 검사만 하고 그대로 통과시키므로 비용이 거의 없다.
+ * 재시도 인터셉터 안쪽에 등록되어 실제로 네트워크에 나간 시도마다 기록한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class JfrInterceptor implements HttpInterceptor {
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            Chain chain) {
+        ApiCallEvent event = new ApiCallEvent();
+        if (!event.isEnabled()) {
+            return chain.proceed(request, handler);
+        }
+        event.method = request.method();
+        event.endpoint = request.uri().getPath();
+        event.bytesOut = request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+        AtomicLong bytesIn = new AtomicLong();
+        event.begin();
+
+        CompletableFuture<HttpResponse<T>> future =
+            chain.proceed(request, CountingBodySubscriber.wrap(handler, bytesIn::addAndGet));
+        future.whenComplete((response, error) -> {
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.bytesIn = bytesIn.get();
+            if (error != null) {
+                Throwable cause = ApiFutures.unwrap(error);
+                event.error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            } else {
+                event.status = response.statusCode();
+            }
+            event.commit();
+        });
+        return future;
+    }
+}
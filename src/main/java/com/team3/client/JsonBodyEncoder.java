@@ -0,0 +1,115 @@
+package com.team3.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonNull;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 요청 본문 JSON 인코더
+ * <p>
+ * {@code gson.toJson(body)}는 {@code StringWriter} 버퍼를 키워 가며 문자열을 만들고,
+ * {@code BodyPublishers.ofString}이 그 문자열을 다시 UTF-8 바이트로 인코딩한다.
+ * 이 클래스는 JSON을 재사용하는 UTF-8 바이트 버퍼에 바로 쓰고 정확한 크기의 배열 하나만 복사해 내므로,
+ * 요청 하나당 중간 문자열과 버퍼 확장 할당이 없어진다 (대량 객실 등록, 일괄 체크인 등에서 효과가 크다).
+ * </p>
+ *
+ * <p>
+ * 요청은 가상 스레드에서 만들어지므로 스레드 로컬 대신 작은 공유 풀에서 버퍼를 빌려 쓴다.
+ * 풀이 비어 있으면 새 버퍼를 만들고, 반납 시 풀이 가득 찼거나 버퍼가
+ * {@value #MAX_POOLED_BYTES}바이트보다 커졌으면 버린다.
+ * 직렬화 도중 예외가 나면 writer의 내부 버퍼에 쓰다 만 JSON이 남아 있으므로 그 버퍼는 반납하지 않는다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+final class JsonBodyEncoder {
+
+    /** 풀에 보관하는 버퍼 수 */
+    private static final int POOL_SIZE = 8;
+
+    /** 새 버퍼의 초기 크기 */
+    private static final int INITIAL_BYTES = 1024;
+
+    /** 이보다 커진 버퍼는 풀에 돌려놓지 않는다 (큰 요청 하나가 메모리를 계속 붙잡지 않도록) */
+    private static final int MAX_POOLED_BYTES = 256 * 1024;
+
+    private static final BlockingQueue<Scratch> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private JsonBodyEncoder() {}
+
+    /**
+     * 요청 본문 객체를 UTF-8 JSON 바이트로 인코딩한다
+     *
+     * @param gson 직렬화에 사용할 Gson
+     * @param body 요청 본문 객체 (null이면 {@code null} 리터럴)
+     * @return 정확한 길이의 UTF-8 바이트 배열 (호출자가 소유)
+     */
+    static byte[] encode(Gson gson, Object body) {
+        Scratch scratch = POOL.poll();
+        if (scratch == null) {
+            scratch = new Scratch();
+        }
+        // 예외가 나면 반납하지 않는다 (writer의 문자 버퍼가 bytes.reset()으로 비워지지 않음)
+        byte[] encoded = scratch.encode(gson, body);
+        if (scratch.bytes.capacity() <= MAX_POOLED_BYTES) {
+            POOL.offer(scratch);
+        }
+        return encoded;
+    }
+
+    /**
+     * 재사용하는 바이트 버퍼와 그 위의 UTF-8 writer
+     * <p>
+     * writer는 flush만 하고 닫지 않으므로 인코더 상태와 내부 버퍼를 계속 재사용할 수 있다.
+     * </p>
+     */
+    private static final class Scratch {
+        private final ExposedByteArrayOutputStream bytes = new ExposedByteArrayOutputStream(INITIAL_BYTES);
+        private final Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8);
+
+        byte[] encode(Gson gson, Object body) {
+            bytes.reset();
+            try {
+                JsonWriter jsonWriter = gson.newJsonWriter(writer);
+                if (body == null) {
+                    gson.toJson(JsonNull.INSTANCE, jsonWriter);
+                } else {
+                    gson.toJson(body, body.getClass(), jsonWriter);
+                }
+                jsonWriter.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.copy();
+        }
+    }
+
+    /**
+     * 내부 배열에서 바로 복사할 수 있는 {@link ByteArrayOutputStream}
+     * (동기화된 {@code toByteArray()} 대신 사용)
+     */
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        ExposedByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        byte[] copy() {
+            return Arrays.copyOf(buf, count);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
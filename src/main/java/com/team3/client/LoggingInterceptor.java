@@ -0,0 +1,66 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 요청/응답 로그 인터셉터
+ * <p>
+ * 요청 메서드, URL, 상태 코드, 소요 시간을 DEBUG 로그로 남긴다.
+ * 본문 로그는 크고 비용이 크므로 {@code hms.http.logBodies=true}이거나
+ * {@link #setLogBodies(boolean)}로 켠 경우에만 남긴다 (문자열 본문만 대상).
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class LoggingInterceptor implements HttpInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingInterceptor.class);
+
+    private static volatile boolean logBodies = Boolean.getBoolean("hms.http.logBodies");
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            Chain chain) {
+        if (!logger.isDebugEnabled()) {
+            return chain.proceed(request, handler);
+        }
+        logger.debug("{} 요청: {}", request.method(), request.uri());
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> future = chain.proceed(request, handler);
+        future.whenComplete((response, error) -> {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (error != null) {
+                logger.debug("{} 실패: {} ({}ms) - {}", request.method(), request.uri(), elapsedMillis, error.toString());
+            } else if (logBodies && response.body() instanceof String body) {
+                logger.debug("{} 응답: {} {} ({}ms) - Body: {}", request.method(), request.uri(),
+                    response.statusCode(), elapsedMillis, body);
+            } else {
+                logger.debug("{} 응답: {} {} ({}ms)", request.method(), request.uri(),
+                    response.statusCode(), elapsedMillis);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 요청/응답 본문 로그를 켜거나 끈다
+     *
+     * @param enabled 켜려면 true
+     */
+    public static void setLogBodies(boolean enabled) {
+        logBodies = enabled;
+    }
+
+    /**
+     * 본문 로그가 켜져 있는지 확인 (요청 본문은 직렬화하는 {@link HmsClient}에서 남긴다)
+     */
+    public static boolean isLogBodies() {
+        return logBodies && logger.isDebugEnabled();
+    }
+}
@@ -0,0 +1,81 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.team3.client.metrics.EndpointMetrics;
+import com.team3.client.metrics.MetricsRegistry;
+
+/**
+ * 엔드포인트별 요청 수, 오류 수, 송수신 바이트, 응답 시간을 기록하는 인터셉터
+ * <p>
+ * 재시도 인터셉터 안쪽에 등록되어 실제로 네트워크에 나간 시도마다 기록한다.
+ * 수신 바이트는 응답 본문 처리기를 감싸 본문 조각이 도착할 때마다 센다.
+ * </p>
+ *
+ * <p>
+ * 응답 future는 문자열 본문이면 본문을 다 받은 뒤, 스트림 본문({@code ofInputStream})이면 헤더를 받자마자
+ * 완료되므로 future 완료 시점으로 재면 엔드포인트마다 다른 구간을 재게 된다. 그래서 헤더 수신 시간은
+ * 본문 처리기가 만들어질 때, 완료 시간은 본문 구독자가 끝날 때 기록한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class MetricsInterceptor implements HttpInterceptor {
+
+    private final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            Chain chain) {
+        EndpointMetrics metrics = registry.endpoint(request.method(), request.uri().getPath());
+        long requestBytes = request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+        Measurement measurement = new Measurement(metrics, requestBytes);
+
+        HttpResponse.BodyHandler<T> measured = responseInfo -> {
+            measurement.onHeaders(responseInfo.statusCode());
+            return new CountingBodySubscriber<>(handler.apply(responseInfo), metrics::recordBytesIn,
+                measurement::onBodyEnd);
+        };
+        CompletableFuture<HttpResponse<T>> future = chain.proceed(request, measured);
+        future.whenComplete((response, error) -> {
+            if (error != null) {
+                // 헤더를 받기 전의 실패(연결 오류 등)는 본문 구독자가 없으므로 여기서 기록한다
+                measurement.onBodyEnd(error);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 시도 하나의 측정 상태 (본문 종료와 future 실패 중 먼저 온 쪽에서 한 번만 기록)
+     */
+    private static final class Measurement {
+        private final EndpointMetrics metrics;
+        private final long requestBytes;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private volatile long headersNanos = -1;
+        private volatile int statusCode;
+
+        Measurement(EndpointMetrics metrics, long requestBytes) {
+            this.metrics = metrics;
+            this.requestBytes = requestBytes;
+        }
+
+        void onHeaders(int statusCode) {
+            this.statusCode = statusCode;
+            this.headersNanos = System.nanoTime() - start;
+        }
+
+        void onBodyEnd(Throwable error) {
+            if (recorded.compareAndSet(false, true)) {
+                boolean failed = error != null || statusCode >= 400;
+                metrics.recordRequest(headersNanos, System.nanoTime() - start, failed, requestBytes);
+            }
+        }
+    }
+}
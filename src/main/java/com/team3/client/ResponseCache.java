@@ -0,0 +1,347 @@
+package com.team3.client;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 목록 조회 응답의 조건부 GET 캐시
+ * <p>
+ * 목록 엔드포인트의 검증자(ETag, Last-Modified)와 디코딩된 목록을 함께 저장한다.
+ * 다음 요청에 {@code If-None-Match}/{@code If-Modified-Since}를 보내고,
+ * 서버가 {@code 304 Not Modified}로 응답하면 본문 전송과 파싱 없이 저장된 목록을 돌려준다.
+ * </p>
+ *
+ * <ul>
+ *   <li>키: 서버 URL + 엔드포인트 + 인증 헤더 + 요소 타입 (사용자 간 공유되지 않음)</li>
+ *   <li>용량: 응답 본문 바이트 합계 기준 ({@code hms.cache.maxBytes}, 기본 8MB), 초과 시 LRU 제거</li>
+ *   <li>무효화: 쓰기 요청(POST/DELETE)이 성공하면 같은 리소스 경로의 항목을 제거</li>
+ * </ul>
+ *
+ * <p>
+ * 무효화할 때마다 리소스의 쓰기 세대({@link #generation})가 올라간다. 진행 중인 조회는 캐시 항목이 아니므로
+ * 무효화로 지워지지 않는데, 병합 키에 세대를 넣으면 쓰기 뒤의 조회가 쓰기 전에 시작된 조회에 합쳐지지 않는다.
+ * </p>
+ *
+ * <p>
+ * 미리 불러온 목록({@link #putPrefetched})은 검증자와 별도로 보관하며,
+ * {@code hms.prefetch.maxAgeMillis}(기본 30초) 안에 같은 키로 처음 조회할 때
+ * 네트워크 왕복 없이 한 번만 사용된다 ({@link #takePrefetched}).
+ * </p>
+ *
+ * <p>
+ * 저장된 목록은 수정 불가능한 리스트로 여러 호출자가 공유하므로, 요소 객체도 읽기 전용으로 다뤄야 한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class ResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+    /** 기본 캐시 용량 (응답 본문 바이트 기준) */
+    private static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+
+    /**
+     * 다른 리소스의 상태를 함께 바꾸는 쓰기 경로
+     * <p>
+     * 예약 생성/체크인/체크아웃은 객실의 사용 가능 여부를 바꾸므로 객실 목록도 무효화한다.
+     * 결제(체크아웃 정산)와 식음료 주문(객실 청구, 결제 내역 생성)도 예약과 객실 상태를 바꾼다.
+     * </p>
+     */
+    private static final Map<String, List<String>> RELATED_RESOURCES = Map.of(
+        "/api/reservation/", List.of("/api/rooms/"),
+        "/api/payments/", List.of("/api/reservation/", "/api/rooms/", "/api/fnb/"),
+        "/api/fnb/", List.of("/api/reservation/", "/api/rooms/", "/api/payments/")
+    );
+
+    private static ResponseCache instance;
+
+    private final long maxBytes;
+
+    /** 접근 순서 LinkedHashMap (가장 오래 사용되지 않은 항목이 맨 앞) */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /** 미리 불러온 목록 (한 번 사용하면 제거) */
+    private final Map<Key, Prefetched> prefetched = new HashMap<>();
+    private final long prefetchMaxAgeNanos =
+        TimeUnit.MILLISECONDS.toNanos(Long.getLong("hms.prefetch.maxAgeMillis", 30_000));
+    private final LongAdder prefetchHits = new LongAdder();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /** 리소스별 쓰기 세대 (서버 URL + 리소스 경로 → 무효화 횟수) */
+    private final Map<String, Long> generations = new HashMap<>();
+
+    private ResponseCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+        logger.info("ResponseCache 초기화: maxBytes={}", maxBytes);
+    }
+
+    /**
+     * ResponseCache 싱글톤 인스턴스 반환
+     *
+     * @return ResponseCache 인스턴스
+     */
+    public static synchronized ResponseCache getInstance() {
+        if (instance == null) {
+            instance = new ResponseCache(Long.getLong("hms.cache.maxBytes", DEFAULT_MAX_BYTES));
+        }
+        return instance;
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param serverUrl 서버 URL (예: http://localhost:8080)
+     * @param endpoint 엔드포인트 경로 (쿼리 포함)
+     * @param authorization 요청의 Authorization 헤더 값
+     * @param elementType 디코딩된 목록의 요소 타입
+     * @return 캐시 키
+     */
+    public static Key key(String serverUrl, String endpoint, String authorization, Class<?> elementType) {
+        return new Key(serverUrl, endpoint, authorization, elementType);
+    }
+
+    /**
+     * 저장된 항목 조회 (LRU 순서 갱신)
+     *
+     * @param key 캐시 키
+     * @return 저장된 항목 (없으면 null)
+     */
+    public synchronized Entry get(Key key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 검증자와 디코딩된 목록 저장
+     * <p>
+     * 검증자(ETag, Last-Modified)가 모두 없으면 재검증할 수 없으므로 저장하지 않는다.
+     * 단일 항목이 전체 용량보다 크면 저장하지 않는다.
+     * </p>
+     *
+     * @param key 캐시 키
+     * @param etag ETag 헤더 값 (없으면 null)
+     * @param lastModified Last-Modified 헤더 값 (없으면 null)
+     * @param items 디코딩된 목록 (복사하지 않고 보관하므로 수정할 수 없는 목록이어야 함.
+     *              304 응답에 같은 인스턴스를 돌려주어 저장소가 변경 없음을 알아챌 수 있다)
+     * @param message 봉투의 message 필드
+     * @param bodyBytes 응답 본문 크기 (용량 계산용)
+     */
+    public void put(Key key, String etag, String lastModified, List<?> items, String message, long bodyBytes) {
+        if (etag == null && lastModified == null) {
+            return;
+        }
+        if (bodyBytes > maxBytes) {
+            logger.debug("캐시 용량 초과로 저장 생략: {} ({} bytes)", key.endpoint(), bodyBytes);
+            return;
+        }
+        Entry entry = new Entry(etag, lastModified, items, message, bodyBytes);
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.bodyBytes();
+            }
+            totalBytes += bodyBytes;
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * 미리 불러온 목록을 저장한다
+     * <p>
+     * 미리 불러오기를 시작한 뒤 같은 리소스에 쓰기가 성공했으면(세대가 바뀜) 쓰기 전 목록이므로 버린다.
+     * </p>
+     *
+     * @param key 캐시 키
+     * @param items 디코딩된 목록 (수정 불가능한 리스트)
+     * @param message 봉투의 message 필드
+     * @param generation 미리 불러오기를 시작할 때의 {@link #generation} 값
+     */
+    public synchronized void putPrefetched(Key key, List<?> items, String message, long generation) {
+        if (generation != generation(key.serverUrl(), key.endpoint())) {
+            logger.debug("미리 불러오는 동안 쓰기가 있어 결과를 버림: {}", key.endpoint());
+            return;
+        }
+        prefetched.put(key, new Prefetched(items, message, System.nanoTime()));
+    }
+
+    /**
+     * 미리 불러온 목록을 꺼낸다 (꺼낸 항목은 제거되어 다음 조회부터는 다시 서버에 요청)
+     *
+     * @param key 캐시 키
+     * @return 유효 기간 안의 미리 불러온 목록 (없으면 null)
+     */
+    public synchronized Prefetched takePrefetched(Key key) {
+        Prefetched entry = prefetched.remove(key);
+        if (entry == null || System.nanoTime() - entry.storedNanos() > prefetchMaxAgeNanos) {
+            return null;
+        }
+        prefetchHits.increment();
+        return entry;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            totalBytes -= eldest.getValue().bodyBytes();
+            it.remove();
+            evictions.increment();
+            logger.debug("캐시 항목 제거(LRU): {}", eldest.getKey().endpoint());
+        }
+    }
+
+    /**
+     * 쓰기 요청이 성공한 엔드포인트와 같은 리소스의 캐시 항목을 제거한다
+     * <p>
+     * 리소스는 경로의 앞 두 단계로 판단한다.
+     * 예: {@code /api/rooms/add-room} 성공 시 {@code /api/rooms/}로 시작하는 모든 항목 제거.
+     * </p>
+     *
+     * @param serverUrl 서버 URL
+     * @param endpoint 성공한 쓰기 요청의 엔드포인트
+     */
+    public void invalidate(String serverUrl, String endpoint) {
+        String resource = resourceOf(endpoint);
+        invalidatePrefix(serverUrl, resource);
+        for (String related : RELATED_RESOURCES.getOrDefault(resource, List.of())) {
+            invalidatePrefix(serverUrl, related);
+        }
+    }
+
+    /**
+     * 엔드포인트가 속한 리소스의 쓰기 세대를 반환한다
+     * <p>
+     * {@link #invalidate}가 이 리소스를 무효화할 때마다 1씩 올라간다.
+     * 조회를 시작할 때 읽어 두면, 응답을 받은 뒤 그 사이에 쓰기가 있었는지 확인할 수 있다.
+     * </p>
+     *
+     * @param serverUrl 서버 URL
+     * @param endpoint 엔드포인트 경로 (쿼리 포함 가능)
+     * @return 쓰기 세대 (무효화된 적이 없으면 0)
+     */
+    public synchronized long generation(String serverUrl, String endpoint) {
+        return generations.getOrDefault(serverUrl + resourceOf(endpoint), 0L);
+    }
+
+    private synchronized void invalidatePrefix(String serverUrl, String prefix) {
+        generations.merge(serverUrl + prefix, 1L, Long::sum);
+        prefetched.keySet().removeIf(key -> key.serverUrl().equals(serverUrl) && key.endpoint().startsWith(prefix));
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> e = it.next();
+            Key key = e.getKey();
+            if (key.serverUrl().equals(serverUrl) && key.endpoint().startsWith(prefix)) {
+                totalBytes -= e.getValue().bodyBytes();
+                it.remove();
+                invalidations.increment();
+                logger.debug("캐시 무효화: {}", key.endpoint());
+            }
+        }
+    }
+
+    /**
+     * 엔드포인트의 리소스 경로 (앞 두 단계 + '/')
+     */
+    static String resourceOf(String endpoint) {
+        int query = endpoint.indexOf('?');
+        String path = query >= 0 ? endpoint.substring(0, query) : endpoint;
+        int first = path.indexOf('/', 1);
+        if (first < 0) {
+            return path.endsWith("/") ? path : path + "/";
+        }
+        int second = path.indexOf('/', first + 1);
+        return second < 0 ? path + "/" : path.substring(0, second + 1);
+    }
+
+    /**
+     * 모든 항목 제거
+     */
+    public synchronized void clear() {
+        entries.clear();
+        prefetched.clear();
+        totalBytes = 0;
+    }
+
+    void recordHit() { hits.increment(); }
+    void recordMiss() { misses.increment(); }
+
+    /**
+     * 현재 캐시 통계 스냅샷을 반환한다
+     *
+     * @return 통계 스냅샷
+     */
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(), totalBytes, maxBytes, hits.sum(), misses.sum(),
+            evictions.sum(), invalidations.sum(), prefetchHits.sum());
+    }
+
+    /**
+     * 캐시 키
+     */
+    public record Key(String serverUrl, String endpoint, String authorization, Class<?> elementType) {}
+
+    /**
+     * 캐시 항목 (검증자 + 디코딩된 목록)
+     */
+    public record Entry(String etag, String lastModified, List<?> items, String message, long bodyBytes) {}
+
+    /**
+     * 미리 불러온 목록
+     */
+    public record Prefetched(List<?> items, String message, long storedNanos) {}
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public static class Stats {
+        private final int entryCount;
+        private final long totalBytes;
+        private final long maxBytes;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+        private final long prefetchHits;
+
+        Stats(int entryCount, long totalBytes, long maxBytes, long hits, long misses,
+              long evictions, long invalidations, long prefetchHits) {
+            this.entryCount = entryCount;
+            this.totalBytes = totalBytes;
+            this.maxBytes = maxBytes;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+            this.prefetchHits = prefetchHits;
+        }
+
+        public int getEntryCount() { return entryCount; }
+        public long getTotalBytes() { return totalBytes; }
+        public long getMaxBytes() { return maxBytes; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getInvalidations() { return invalidations; }
+        public long getPrefetchHits() { return prefetchHits; }
+
+        @Override
+        public String toString() {
+            return String.format("entries=%d, bytes=%d/%d, hits=%d, misses=%d, evictions=%d, invalidations=%d, "
+                + "prefetchHits=%d", entryCount, totalBytes, maxBytes, hits, misses, evictions, invalidations,
+                prefetchHits);
+        }
+    }
+}
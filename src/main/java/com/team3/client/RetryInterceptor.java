@@ -0,0 +1,143 @@
+package com.team3.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.trace.TraceContext;
+
+/**
+ * {@link RetryPolicies}에 등록된 정책에 따라 일시적 실패를 재시도하는 인터셉터
+ * <p>
+ * 대기는 스레드를 점유하지 않도록 {@link CompletableFuture#delayedExecutor}로 예약한다.
+ * 재시도는 다른 스레드에서 실행되므로 첫 시도의 추적 문맥을 다시 설정하여, 모든 시도가 같은 사용자 동작의
+ * 추적 아래에 기록되고 같은 trace id의 {@code traceparent}를 보낸다.
+ * 호출자가 결과 future를 취소하거나 서버의 회로가 열리면 다음 시도는 시작되지 않는다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class RetryInterceptor implements HttpInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(RetryInterceptor.class);
+
+    private final RetryPolicies retryPolicies = RetryPolicies.getInstance();
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            Chain chain) {
+        String path = request.uri().getPath();
+        RetryPolicy policy = retryPolicies.policyFor(request.method(), path);
+        if (policy.getMaxAttempts() <= 1) {
+            return chain.proceed(request, handler);
+        }
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + policy.getDeadline().toNanos();
+        attempt(new Attempt<>(request, handler, chain, policy, path, deadline, TraceContext.current(), result), 1);
+        return result;
+    }
+
+    /**
+     * 재시도 사이에 유지되는 요청 정보
+     */
+    private record Attempt<T>(HttpRequest request, HttpResponse.BodyHandler<T> handler, Chain chain,
+                              RetryPolicy policy, String path, long deadline, TraceContext trace,
+                              CompletableFuture<HttpResponse<T>> result) {}
+
+    /**
+     * 한 번 전송하고, 재시도 대상이면 백오프 후 다음 시도를 예약한다
+     */
+    private <T> void attempt(Attempt<T> a, int attempt) {
+        if (a.result().isDone()) {
+            return;
+        }
+        a.chain().proceed(a.request(), a.handler()).whenComplete((response, error) -> {
+            Throwable cause = error != null ? ApiFutures.unwrap(error) : null;
+            RetryPolicy policy = a.policy();
+            boolean retryable = cause != null
+                ? policy.isRetryable(cause)
+                : policy.isRetryable(response.statusCode());
+
+            // 다른 요청들로 회로가 열렸으면 더 기다리지 않고 실패를 그대로 전달한다
+            if (retryable && attempt < policy.getMaxAttempts() && !a.result().isDone()
+                    && CircuitBreaker.forRequest(a.request()).getState() == CircuitBreaker.State.CLOSED) {
+                long delayMillis = Math.max(policy.backoffMillis(attempt), retryAfterMillis(response));
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) < a.deadline()) {
+                    discardBody(response);
+                    retryPolicies.recordRetry(a.path());
+                    logger.warn("{} {} 재시도 {}/{} ({}ms 후): {}", a.request().method(), a.path(),
+                        attempt, policy.getMaxAttempts() - 1, delayMillis,
+                        cause != null ? cause.toString() : "HTTP " + response.statusCode());
+                    CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS,
+                            HttpTransport.getInstance().getExecutor())
+                        .execute(() -> retry(a, attempt + 1));
+                    return;
+                }
+            }
+
+            if (attempt > 1) {
+                if (retryable) {
+                    retryPolicies.recordExhausted();
+                    logger.warn("{} {} 재시도 소진 ({}회 시도)", a.request().method(), a.path(), attempt);
+                } else if (cause == null) {
+                    retryPolicies.recordRecovered();
+                }
+            }
+            if (cause != null) {
+                a.result().completeExceptionally(cause);
+            } else if (!a.result().complete(response)) {
+                // 호출자가 이미 취소한 경우 스트림 본문을 닫아 연결을 반환한다
+                discardBody(response);
+            }
+        });
+    }
+
+    /**
+     * 예약된 재시도를 첫 시도의 추적 문맥에서 실행한다
+     */
+    private <T> void retry(Attempt<T> a, int attempt) {
+        TraceContext.Scope scope = TraceContext.makeCurrent(a.trace());
+        try {
+            attempt(a, attempt);
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * 503 응답의 Retry-After(초) 헤더 값 (없거나 날짜 형식이면 0)
+     */
+    private static long retryAfterMillis(HttpResponse<?> response) {
+        if (response == null) {
+            return 0;
+        }
+        return response.headers().firstValue("Retry-After")
+            .map(value -> {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            })
+            .orElse(0L);
+    }
+
+    /**
+     * 버려지는 응답의 스트림 본문을 닫는다 (문자열 본문은 이미 모두 읽혀 있음)
+     */
+    private static void discardBody(HttpResponse<?> response) {
+        if (response != null && response.body() instanceof InputStream body) {
+            try {
+                body.close();
+            } catch (IOException e) {
+                logger.debug("응답 본문 닫기 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.team3.client;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 엔드포인트별 재시도 정책 등록소
+ * <p>
+ * 엔드포인트 경로 접두사로 정책을 등록하고, 요청 시 가장 긴 접두사가 일치하는 정책을 사용한다.
+ * 일치하는 정책이 없으면 기본 정책을 사용한다. 재시도 횟수 통계도 함께 집계한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>기본 정책: 최대 3회 시도, 100ms~2s 백오프, 전체 5초
+ *       ({@code hms.retry.maxAttempts}, {@code hms.retry.deadlineMillis}로 변경 가능)</li>
+ *   <li>{@code /health}: 재시도하지 않음 (서버 상태를 그대로 보여주기 위함)</li>
+ *   <li>{@code /api/rooms/get-price-change-logs}: 조회용 POST이므로 멱등으로 재시도</li>
+ * </ul>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class RetryPolicies {
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicies.class);
+
+    private static RetryPolicies instance;
+
+    /** 경로 접두사 → 정책 (역순 정렬: 긴 접두사가 먼저 검사됨) */
+    private final TreeMap<String, RetryPolicy> policies = new TreeMap<>(Comparator.reverseOrder());
+    private volatile RetryPolicy defaultPolicy;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final Map<String, LongAdder> retriesByEndpoint = new ConcurrentHashMap<>();
+
+    private RetryPolicies() {
+        this.defaultPolicy = RetryPolicy.of(
+            Integer.getInteger("hms.retry.maxAttempts", 3),
+            Duration.ofMillis(100),
+            Duration.ofSeconds(2),
+            Duration.ofMillis(Long.getLong("hms.retry.deadlineMillis", 5000)));
+        register("/health", RetryPolicy.NONE);
+        register("/api/rooms/get-price-change-logs", defaultPolicy.idempotent());
+        logger.info("RetryPolicies 초기화: default=[{}]", defaultPolicy);
+    }
+
+    /**
+     * RetryPolicies 싱글톤 인스턴스 반환
+     *
+     * @return RetryPolicies 인스턴스
+     */
+    public static synchronized RetryPolicies getInstance() {
+        if (instance == null) {
+            instance = new RetryPolicies();
+        }
+        return instance;
+    }
+
+    /**
+     * 엔드포인트 경로 접두사에 정책을 등록한다
+     *
+     * @param pathPrefix 경로 접두사 (예: "/api/rooms/")
+     * @param policy 적용할 정책
+     */
+    public synchronized void register(String pathPrefix, RetryPolicy policy) {
+        policies.put(pathPrefix, policy);
+        logger.debug("재시도 정책 등록: {} -> [{}]", pathPrefix, policy);
+    }
+
+    /**
+     * 접두사가 일치하지 않는 요청에 적용할 기본 정책을 바꾼다
+     *
+     * @param policy 기본 정책
+     */
+    public void setDefaultPolicy(RetryPolicy policy) {
+        this.defaultPolicy = policy;
+    }
+
+    /**
+     * 요청에 적용할 정책을 찾는다
+     *
+     * @param method HTTP 메서드
+     * @param path 요청 경로 (쿼리 제외)
+     * @return 적용할 정책 (해당 메서드에 재시도가 허용되지 않으면 {@link RetryPolicy#NONE})
+     */
+    public RetryPolicy policyFor(String method, String path) {
+        RetryPolicy policy = defaultPolicy;
+        synchronized (this) {
+            for (Map.Entry<String, RetryPolicy> e : policies.entrySet()) {
+                if (path.startsWith(e.getKey())) {
+                    policy = e.getValue();
+                    break;
+                }
+            }
+        }
+        return policy.appliesTo(method) ? policy : RetryPolicy.NONE;
+    }
+
+    void recordRetry(String path) {
+        retries.increment();
+        retriesByEndpoint.computeIfAbsent(path, k -> new LongAdder()).increment();
+    }
+
+    void recordRecovered() { recovered.increment(); }
+    void recordExhausted() { exhausted.increment(); }
+
+    /**
+     * 현재 재시도 통계 스냅샷을 반환한다
+     *
+     * @return 통계 스냅샷
+     */
+    public Stats getStats() {
+        Map<String, Long> byEndpoint = new TreeMap<>();
+        retriesByEndpoint.forEach((path, count) -> byEndpoint.put(path, count.sum()));
+        return new Stats(retries.sum(), recovered.sum(), exhausted.sum(), byEndpoint);
+    }
+
+    /**
+     * 재시도 통계 스냅샷
+     */
+    public static class Stats {
+        private final long retries;
+        private final long recovered;
+        private final long exhausted;
+        private final Map<String, Long> retriesByEndpoint;
+
+        Stats(long retries, long recovered, long exhausted, Map<String, Long> retriesByEndpoint) {
+            this.retries = retries;
+            this.recovered = recovered;
+            this.exhausted = exhausted;
+            this.retriesByEndpoint = retriesByEndpoint;
+        }
+
+        /** 전체 재시도 횟수 (첫 시도 제외) */
+        public long getRetries() { return retries; }
+        /** 재시도 끝에 성공한 요청 수 */
+        public long getRecovered() { return recovered; }
+        /** 재시도를 모두 소진하고 실패한 요청 수 */
+        public long getExhausted() { return exhausted; }
+        /** 엔드포인트 경로별 재시도 횟수 */
+        public Map<String, Long> getRetriesByEndpoint() { return retriesByEndpoint; }
+
+        @Override
+        public String toString() {
+            return String.format("retries=%d, recovered=%d, exhausted=%d", retries, recovered, exhausted);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.team3.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HTTP 요청 재시도 정책
+ * <p>
+ * 끊어진 keep-alive 연결이나 일시적인 5xx 응답처럼 다시 보내면 성공할 가능성이 높은 실패를
+ * 지수 백오프 + 지터로 재시도한다. 재시도 간격은 {@code [0, min(maxBackoff, initialBackoff * 2^n))}
+ * 범위에서 무작위로 고르며(full jitter), 첫 시도부터의 전체 시간이 {@code deadline}을 넘으면 중단한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>GET, DELETE: 기본적으로 재시도</li>
+ *   <li>POST: {@link #isIdempotent()}로 표시된 정책이 등록된 엔드포인트만 재시도</li>
+ *   <li>재시도 대상: 네트워크 오류({@link IOException}), 502/503/504 응답</li>
+ * </ul>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.of(3, Duration.ofMillis(100), Duration.ofSeconds(2), Duration.ofSeconds(5))
+ *     .idempotent();
+ * RetryPolicies.getInstance().register("/api/rooms/get-price-change-logs", policy);
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public final class RetryPolicy {
+
+    /** 재시도하지 않는 정책 */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, Duration.ZERO, false);
+
+    /** 재시도할 응답 상태 코드 (게이트웨이/일시적 과부하) */
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(502, 503, 504);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration deadline;
+    private final boolean idempotent;
+
+    private RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration deadline,
+                        boolean idempotent) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.deadline = deadline;
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * 재시도 정책 생성
+     *
+     * @param maxAttempts 첫 시도를 포함한 최대 시도 횟수 (1이면 재시도하지 않음)
+     * @param initialBackoff 첫 재시도 전 최대 대기 시간
+     * @param maxBackoff 재시도 간 최대 대기 시간 상한
+     * @param deadline 첫 시도부터 마지막 재시도 시작까지 허용하는 전체 시간
+     * @return 재시도 정책 (POST에는 적용되지 않음)
+     * @throws IllegalArgumentException maxAttempts가 1보다 작은 경우
+     */
+    public static RetryPolicy of(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration deadline) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, deadline, false);
+    }
+
+    /**
+     * 같은 설정으로 POST에도 적용되는 정책을 반환한다
+     * <p>
+     * 서버에서 두 번 처리되어도 결과가 같은 엔드포인트(조회용 POST 등)에만 사용해야 한다.
+     * </p>
+     *
+     * @return 멱등으로 표시된 정책
+     */
+    public RetryPolicy idempotent() {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff, deadline, true);
+    }
+
+    /**
+     * 이 정책이 해당 HTTP 메서드에 재시도를 허용하는지 확인
+     *
+     * @param method HTTP 메서드 (GET, POST, DELETE)
+     * @return 재시도 가능하면 true
+     */
+    public boolean appliesTo(String method) {
+        if (maxAttempts <= 1) {
+            return false;
+        }
+        return !"POST".equals(method) || idempotent;
+    }
+
+    /**
+     * 네트워크 오류가 재시도 대상인지 확인
+     * <p>
+     * 연결 실패, 연결 끊김, 응답 타임아웃({@code HttpTimeoutException})은 모두 {@link IOException}이다.
+     * </p>
+     */
+    public boolean isRetryable(Throwable error) {
+        return error instanceof IOException;
+    }
+
+    /**
+     * 응답 상태 코드가 재시도 대상인지 확인
+     */
+    public boolean isRetryable(int statusCode) {
+        return RETRYABLE_STATUS.contains(statusCode);
+    }
+
+    /**
+     * n번째 재시도 전 대기 시간 (지터 적용)
+     *
+     * @param retry 재시도 순번 (1부터)
+     * @return 대기 시간 (밀리초)
+     */
+    public long backoffMillis(int retry) {
+        long base = initialBackoff.toMillis();
+        long cap = maxBackoff.toMillis();
+        long ceiling = base << Math.min(retry - 1, 20);
+        if (ceiling <= 0 || ceiling > cap) {
+            ceiling = cap;
+        }
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public int getMaxAttempts() { return maxAttempts; }
+    public Duration getInitialBackoff() { return initialBackoff; }
+    public Duration getMaxBackoff() { return maxBackoff; }
+    public Duration getDeadline() { return deadline; }
+    public boolean isIdempotent() { return idempotent; }
+
+    @Override
+    public String toString() {
+        return String.format("maxAttempts=%d, backoff=%d~%dms, deadline=%dms, idempotent=%s",
+            maxAttempts, initialBackoff.toMillis(), maxBackoff.toMillis(), deadline.toMillis(), idempotent);
+    }
+}
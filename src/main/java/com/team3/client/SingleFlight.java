@@ -0,0 +1,75 @@
+package com.team3.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 진행 중 요청 병합기 (single-flight)
+ * <p>
+ * 같은 키로 진행 중인 호출이 있으면 새 호출을 시작하지 않고 그 결과를 함께 기다린다.
+ * 시작 시 여러 패널이 동시에 같은 목록을 불러오거나, 새로고침이 진행 중일 때
+ * 다이얼로그가 닫히며 다시 조회하는 경우 네트워크 호출이 한 번만 나간다.
+ * </p>
+ *
+ * <p>
+ * 각 호출자는 공유 future의 사본을 받으므로, 한 호출자가 취소해도 다른 대기자에게는 영향이 없다.
+ * 호출이 완료되면 키가 제거되어 다음 호출은 다시 네트워크로 나간다 (결과를 캐시하지 않음).
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * SingleFlight<String, HttpResponse<String>> flights = new SingleFlight<>();
+ * CompletableFuture<HttpResponse<String>> f = flights.execute(url, () -> transport.sendAsync(req, handler));
+ * }</pre>
+ *
+ * @param <K> 요청 키 타입 (equals/hashCode 필요)
+ * @param <V> 결과 타입 (여러 호출자가 공유하므로 불변이어야 함)
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 같은 키의 호출이 진행 중이면 그 결과를 공유하고, 없으면 새 호출을 시작한다
+     *
+     * @param key 요청 키
+     * @param call 새 호출을 시작하는 함수 (진행 중인 호출이 없을 때만 실행)
+     * @return 호출 결과 future (호출자별 사본)
+     */
+    public CompletableFuture<V> execute(K key, Supplier<? extends CompletableFuture<V>> call) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        try {
+            call.get().whenComplete((value, error) -> {
+                // 완료 콜백보다 먼저 키를 제거해야 콜백 안에서 같은 키로 재호출할 때 완료된 future를 받지 않는다
+                inFlight.remove(key, created);
+                if (error != null) {
+                    created.completeExceptionally(error);
+                } else {
+                    created.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created.copy();
+    }
+
+    /** 지금까지 병합되어 네트워크로 나가지 않은 호출 수 */
+    public long getCoalescedCount() { return coalesced.sum(); }
+
+    /** 현재 진행 중인 고유 호출 수 */
+    public int getInFlightCount() { return inFlight.size(); }
+}
@@ -0,0 +1,99 @@
+package com.team3.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import com.team3.trace.Span;
+import com.team3.trace.TraceContext;
+import com.team3.trace.Tracer;
+
+/**
+ * 요청을 추적 span으로 기록하고 {@code traceparent} 헤더로 trace id를 전달하는 인터셉터
+ * <p>
+ * 재시도 인터셉터 안쪽에 등록되어 시도마다 span을 하나씩 만든다. 각 시도는 두 구간으로 나뉜다.
+ * </p>
+ * <ul>
+ *   <li>{@code wait}: 전송 시작 ~ 응답 헤더 수신 (연결, 요청 쓰기, 서버 처리, 첫 바이트까지)</li>
+ *   <li>{@code body}: 응답 헤더 수신 ~ 본문 수신 완료</li>
+ * </ul>
+ * <p>
+ * JDK HttpClient는 연결 수립과 요청 쓰기 시점을 공개하지 않으므로 {@code wait}를 더 나누지 않는다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class TracingInterceptor implements HttpInterceptor {
+
+    private final Tracer tracer = Tracer.getInstance();
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            Chain chain) {
+        if (!tracer.isEnabled()) {
+            return chain.proceed(request, handler);
+        }
+        long start = System.nanoTime();
+        Span span = tracer.startSpan(request.method() + " " + request.uri().getPath(), "http",
+            TraceContext.current(), start);
+        TraceContext context = span.getContext();
+
+        HttpRequest traced = HttpRequest.newBuilder(request, (name, value) -> true)
+            .header("traceparent", context.traceparent())
+            .build();
+
+        HttpResponse.BodyHandler<T> phased = responseInfo -> {
+            long headersAt = System.nanoTime();
+            tracer.recordSpan("wait", "http", context, start, headersAt);
+            return new PhaseSubscriber<>(handler.apply(responseInfo),
+                () -> tracer.recordSpan("body", "http", context, headersAt, System.nanoTime()));
+        };
+
+        CompletableFuture<HttpResponse<T>> future = chain.proceed(traced, phased);
+        future.whenComplete((response, error) -> {
+            if (response != null) {
+                span.setAttribute("status", response.statusCode());
+            } else {
+                span.setAttribute("error", ApiFutures.unwrap(error).toString());
+            }
+            span.end();
+        });
+        return future;
+    }
+
+    /**
+     * 본문 수신이 끝나면 콜백을 호출하고 나머지는 원래 구독자에게 넘기는 구독자
+     */
+    private static final class PhaseSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final HttpResponse.BodySubscriber<T> delegate;
+        private final Runnable onBodyComplete;
+
+        PhaseSubscriber(HttpResponse.BodySubscriber<T> delegate, Runnable onBodyComplete) {
+            this.delegate = delegate;
+            this.onBodyComplete = onBodyComplete;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() { return delegate.getBody(); }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) { delegate.onSubscribe(subscription); }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) { delegate.onNext(items); }
+
+        @Override
+        public void onError(Throwable throwable) { delegate.onError(throwable); }
+
+        @Override
+        public void onComplete() {
+            onBodyComplete.run();
+            delegate.onComplete();
+        }
+    }
+}
@@ -3,12 +3,16 @@ package com.team3.client.api;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.team3.client.HmsClient;
 import com.team3.dto.request.AddCustomerRequest;
 import com.team3.dto.request.DeleteCustomerRequest;
 import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
+import com.team3.model.Customer;
+import com.team3.store.EntityStores;
 
 /**
  * 고객 관리 API 클라이언트
@@ -65,4 +69,56 @@ public class CustomerApi extends HmsClient {
             return ApiResponse.error("요청 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // ===== 비동기 API =====
+
+    /** 전체 고객 목록 비동기 조회 */
+    public CompletableFuture<ApiResponse> getCustomerListAsync() {
+        return toApiResponse(sendGetAsync("/api/customer/list"));
+    }
+
+    /** 고객 비동기 검색 */
+    public CompletableFuture<ApiResponse> searchCustomersAsync(String type, String keyword) {
+        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        String endpoint = String.format("/api/customer/search?type=%s&keyword=%s", type, encodedKeyword);
+        return toApiResponse(sendGetAsync(endpoint));
+    }
+
+    /** 고객 비동기 추가 */
+    public CompletableFuture<ApiResponse> addCustomerAsync(AddCustomerRequest request) {
+        return toApiResponse(sendPostAsync("/api/customer/add", request));
+    }
+
+    /** 고객 비동기 삭제 */
+    public CompletableFuture<ApiResponse> deleteCustomerAsync(DeleteCustomerRequest request) {
+        return toApiResponse(sendPostAsync("/api/customer/delete", request));
+    }
+
+    // ===== 스트리밍 목록 조회 =====
+
+    /** 전체 고객 목록 조회 (응답 스트림에서 바로 디코딩, 성공 시 고객 저장소 갱신) */
+    public ListResponse<Customer> fetchCustomerList() {
+        return publish(getList("/api/customer/list", "data", Customer.class),
+            EntityStores.getInstance().customers());
+    }
+
+    public CompletableFuture<ListResponse<Customer>> fetchCustomerListAsync() {
+        return getListAsync("/api/customer/list", "data", Customer.class)
+            .thenApply(response -> publish(response, EntityStores.getInstance().customers()));
+    }
+
+    // 검색 결과는 전체 목록이 아니므로 저장소에 넣지 않는다
+
+    /** 고객 검색 (응답 스트림에서 바로 디코딩) */
+    public ListResponse<Customer> fetchCustomerSearch(String type, String keyword) {
+        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        return getList(String.format("/api/customer/search?type=%s&keyword=%s", type, encodedKeyword),
+            "data", Customer.class);
+    }
+
+    public CompletableFuture<ListResponse<Customer>> fetchCustomerSearchAsync(String type, String keyword) {
+        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        return getListAsync(String.format("/api/customer/search?type=%s&keyword=%s", type, encodedKeyword),
+            "data", Customer.class);
+    }
+}
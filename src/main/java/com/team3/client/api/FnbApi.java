@@ -2,12 +2,16 @@ package com.team3.client.api;
 
 import java.io.IOException;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.team3.client.HmsClient;
 import com.team3.dto.request.AddFnbRequest;
 import com.team3.dto.request.DeleteFnbRequest;
 import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
+import com.team3.model.FnbItem;
+import com.team3.store.EntityStores;
 
 public class FnbApi extends HmsClient {
     private static final Logger logger = LoggerFactory.getLogger(FnbApi.class);
@@ -42,4 +46,31 @@ public class FnbApi extends HmsClient {
             return ApiResponse.error("요청 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // ===== 비동기 API =====
+
+    public CompletableFuture<ApiResponse> getFnbListAsync() {
+        return toApiResponse(sendGetAsync("/api/fnb/list"));
+    }
+
+    public CompletableFuture<ApiResponse> addFnbItemAsync(AddFnbRequest request) {
+        return toApiResponse(sendPostAsync("/api/fnb/add", request));
+    }
+
+    public CompletableFuture<ApiResponse> deleteFnbItemAsync(DeleteFnbRequest request) {
+        return toApiResponse(sendPostAsync("/api/fnb/delete", request));
+    }
+
+    // ===== 스트리밍 목록 조회 =====
+
+    // 성공 시 식음료 저장소 갱신
+    public ListResponse<FnbItem> fetchFnbList() {
+        return publish(getList("/api/fnb/list", "data", FnbItem.class),
+            EntityStores.getInstance().fnbItems());
+    }
+
+    public CompletableFuture<ListResponse<FnbItem>> fetchFnbListAsync() {
+        return getListAsync("/api/fnb/list", "data", FnbItem.class)
+            .thenApply(response -> publish(response, EntityStores.getInstance().fnbItems()));
+    }
+}
@@ -2,6 +2,7 @@ package com.team3.client.api;
 
 import java.io.IOException;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -131,4 +132,18 @@ public class HealthApi extends HmsClient {
             return ApiResponse.error("요청이 중단되었습니다");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@link #checkHealth()}의 비동기 버전
+     * <p>
+     * 응답 대기 중 호출 스레드를 점유하지 않는다.
+     * 반환된 future는 예외로 완료되지 않으며, 네트워크 오류는 statusCode 0의 에러 응답으로 전달된다.
+     * </p>
+     * 
+     * @return API 응답 future
+     */
+    public CompletableFuture<ApiResponse> checkHealthAsync() {
+        logger.info("헬스 체크 비동기 요청");
+        return toApiResponse(sendGetAsync("/health"));
+    }
+}
@@ -1,12 +1,17 @@
 package com.team3.client.api;
 
 import java.io.IOException;
+import java.net.URLEncoder;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.team3.client.HmsClient;
 import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
 import com.team3.dto.response.Payment;
+import com.team3.store.EntityStores;
 
 /**
  * 결제 관련 API 호출 클래스
@@ -88,4 +93,51 @@ public class PaymentApi extends HmsClient {
             return ApiResponse.error("삭제 실패");
         }
     }
+
+    // ===== 비동기 API =====
+
+    // 결제 승인 처리 (비동기)
+    public CompletableFuture<ApiResponse> processPaymentAsync(Payment request) {
+        if (request.getGuestName() == null || request.getGuestName().trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ApiResponse.error("고객명을 입력해주세요."));
+        }
+        logger.info("결제 승인 비동기 요청 전송: 고객={}", request.getGuestName());
+        return toApiResponse(sendPostAsync("/api/payments/process", request));
+    }
+
+    // 전체 내역 조회 (비동기)
+    public CompletableFuture<ApiResponse> getPaymentHistoryAsync() {
+        return toApiResponse(sendGetAsync("/api/payments/history"));
+    }
+
+    // 전체 데이터 삭제 (비동기)
+    public CompletableFuture<ApiResponse> deletePaymentHistoryAsync() {
+        return toApiResponse(sendDeleteAsync("/api/payments/history"));
+    }
+
+    // 고객 이름으로 삭제 (비동기)
+    public CompletableFuture<ApiResponse> deletePaymentByGuestNameAsync(String guestName) {
+        String encodedName = URLEncoder.encode(guestName, StandardCharsets.UTF_8);
+        return toApiResponse(sendDeleteAsync("/api/payments/history?guestName=" + encodedName));
+    }
+
+    // 영수증 ID로 삭제 (비동기)
+    public CompletableFuture<ApiResponse> deleteByReceiptIdAsync(String receiptId) {
+        String encodedId = URLEncoder.encode(receiptId, StandardCharsets.UTF_8);
+        logger.info("영수증 개별 비동기 삭제 요청: {}", receiptId);
+        return toApiResponse(sendDeleteAsync("/api/payments/history?receiptId=" + encodedId));
+    }
+
+    // ===== 스트리밍 목록 조회 =====
+
+    // 전체 내역 조회 (최상위 배열을 응답 스트림에서 바로 디코딩, 성공 시 결제 저장소 갱신)
+    public ListResponse<Payment> fetchPaymentHistory() {
+        return publish(getList("/api/payments/history", null, Payment.class),
+            EntityStores.getInstance().payments());
+    }
+
+    public CompletableFuture<ListResponse<Payment>> fetchPaymentHistoryAsync() {
+        return getListAsync("/api/payments/history", null, Payment.class)
+            .thenApply(response -> publish(response, EntityStores.getInstance().payments()));
+    }
 }
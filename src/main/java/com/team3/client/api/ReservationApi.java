@@ -1,7 +1,10 @@
 package com.team3.client.api;
 
 import java.io.IOException;
+import java.net.URLEncoder;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +15,9 @@ import com.team3.dto.request.CheckIntOutRequest;
 import com.team3.dto.request.DeleteReservationRequest;
 import com.team3.dto.request.UpdateReservationRequest;
 import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
+import com.team3.model.Reservation;
+import com.team3.store.EntityStores;
 
 /**
  * 예약 관련 API 호출을 담당하는 클라이언트 클래스
@@ -73,6 +79,36 @@ public class ReservationApi extends HmsClient {
         }
     }
 
+    /**
+     * 지정한 시점 이후 변경된 예약만 조회한다 (GET /api/reservation/list?updatedSince=...)
+     * <p>
+     * 변경분 조회를 지원하는 서버는 {@code "delta": true}와 함께 변경/추가된 예약,
+     * 삭제된 예약 id({@code "deletedIds"}), 다음 조회 기준 시점({@code "watermark"})을 반환한다.
+     * 지원하지 않는 서버는 파라미터를 무시하고 전체 목록을 반환한다.
+     * 응답 해석과 저장소 병합은 {@link com.team3.store.ReservationSync}가 담당한다.
+     * </p>
+     *
+     * @param updatedSince 기준 시점 (마지막으로 받은 updatedAt 또는 서버가 준 watermark)
+     * @return 변경분(또는 전체 목록)이 담긴 API 응답 객체
+     */
+    public ApiResponse fetchReservationChanges(String updatedSince) {
+        try {
+            logger.info("예약 변경분 조회 요청: updatedSince={}", updatedSince);
+            HttpResponse<String> response = sendGet("/api/reservation/list?updatedSince="
+                + URLEncoder.encode(updatedSince, StandardCharsets.UTF_8));
+            logger.info("예약 변경분 조회 응답: statusCode={}", response.statusCode());
+            return new ApiResponse(response.statusCode(), response.body());
+
+        } catch (IOException e) {
+            logger.error("네트워크 오류", e);
+            return ApiResponse.error("서버 연결 실패: " + e.getMessage());
+        } catch (InterruptedException e) {
+            logger.error("요청 중단", e);
+            Thread.currentThread().interrupt();
+            return ApiResponse.error("요청이 중단되었습니다.");
+        }
+    }
+
     /**
      * 예약 생성 (POST /api/reservation/create)
      * <p>
@@ -179,4 +215,87 @@ public class ReservationApi extends HmsClient {
             return ApiResponse.error("요청 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // ===== 비동기 API =====
+
+    /**
+     * {@link #getReservations()}의 비동기 버전
+     *
+     * @return 예약 목록 응답 future (예외로 완료되지 않음)
+     */
+    public CompletableFuture<ApiResponse> getReservationsAsync() {
+        logger.info("예약 목록 비동기 조회 요청");
+        return toApiResponse(sendGetAsync("/api/reservation/list"));
+    }
+
+    /**
+     * {@link #createReservation(AddReservationRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> createReservationAsync(AddReservationRequest request) {
+        if (request == null) {
+            logger.warn("검증 실패: 요청 객체가 null입니다.");
+            return CompletableFuture.completedFuture(ApiResponse.error("잘못된 요청입니다."));
+        }
+        if (request.getRoomId() == null || request.getRoomId().trim().isEmpty()) {
+            logger.warn("검증 실패: 객실 번호 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("객실 번호를 입력해주세요."));
+        }
+        logger.info("예약 생성 비동기 요청: roomId={}, guest={}", request.getRoomId(), request.getGuestName());
+        return toApiResponse(sendPostAsync("/api/reservation/create", request));
+    }
+
+    /**
+     * {@link #cancelReservation(DeleteReservationRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> cancelReservationAsync(DeleteReservationRequest request) {
+        if (request == null || request.getId() == null || request.getId().trim().isEmpty()) {
+            logger.warn("검증 실패: 예약 ID 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("예약 ID가 필요합니다."));
+        }
+        logger.info("예약 취소 비동기 요청: id={}", request.getId());
+        return toApiResponse(sendPostAsync("/api/reservation/delete", request));
+    }
+
+    /**
+     * {@link #updateReservation(UpdateReservationRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> updateReservationAsync(UpdateReservationRequest request) {
+        logger.info("예약 수정 비동기 요청: id={}", request.getId());
+        return toApiResponse(sendPostAsync("/api/reservation/update", request));
+    }
+
+    /**
+     * {@link #checkInOut(CheckIntOutRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> checkInOutAsync(CheckIntOutRequest request) {
+        String endpoint = request.isCheckedIn() ? "/api/reservation/checkout" : "/api/reservation/checkin";
+        logger.info("체크인/아웃 비동기 요청: roomId={}, endpoint={}", request.getRoomId(), endpoint);
+        return toApiResponse(sendPostAsync(endpoint, request));
+    }
+
+    // ===== 스트리밍 목록 조회 =====
+
+    /**
+     * 예약 목록을 응답 스트림에서 바로 디코딩하여 조회한다 (GET /api/reservation/list)
+     * <p>
+     * {@link #getReservations()}와 달리 본문 문자열을 만들지 않고 "reservations" 필드만 한 번에 파싱한다.
+     * 성공하면 예약 저장소({@link EntityStores#reservations()})를 갱신한다.
+     * </p>
+     *
+     * @return 예약 목록 응답
+     */
+    public ListResponse<Reservation> fetchReservations() {
+        logger.info("예약 목록 조회 요청 (스트리밍)");
+        return publish(getList("/api/reservation/list", "reservations", Reservation.class),
+            EntityStores.getInstance().reservations());
+    }
+
+    /**
+     * {@link #fetchReservations()}의 비동기 버전
+     */
+    public CompletableFuture<ListResponse<Reservation>> fetchReservationsAsync() {
+        logger.info("예약 목록 비동기 조회 요청 (스트리밍)");
+        return getListAsync("/api/reservation/list", "reservations", Reservation.class)
+            .thenApply(response -> publish(response, EntityStores.getInstance().reservations()));
+    }
+}
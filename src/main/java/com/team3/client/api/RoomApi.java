@@ -2,6 +2,7 @@ package com.team3.client.api;
 
 import java.io.IOException;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +12,9 @@ import com.team3.dto.request.AddRoomRequest;
 import com.team3.dto.request.RoomIdRequest;
 import com.team3.dto.request.UpdateRoomRequest;
 import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
+import com.team3.model.Room;
+import com.team3.store.EntityStores;
 
 public class RoomApi extends HmsClient {
     private static final Logger logger = LoggerFactory.getLogger(UserApi.class);
@@ -148,7 +152,7 @@ public class RoomApi extends HmsClient {
         try {
             // GET /api/users/get-users 요청 전송
             logger.info("금액변경로그 조회 시도: userId={}", request.getRoomId());
-            HttpResponse<String> response = sendPost("/api/rooms/get-price-change-logs", request);
+            HttpResponse<String> response = sendQueryPost("/api/rooms/get-price-change-logs", request);
             logger.info("금액변경로그 조회 응답: statusCode={}", response.statusCode());
             logger.debug("응답 본문: {}", response.body());
             // 응답을 ApiResponse로 변환
@@ -169,4 +173,97 @@ public class RoomApi extends HmsClient {
             return ApiResponse.error("요청이 중단되었습니다");
         }
     }
+
+    // ===== 비동기 API =====
+
+    /**
+     * {@link #getRoomList()}의 비동기 버전
+     *
+     * @return 객실 목록 응답 future (예외로 완료되지 않음)
+     */
+    public CompletableFuture<ApiResponse> getRoomListAsync() {
+        logger.info("객실 목록 비동기 조회 시도");
+        return toApiResponse(sendGetAsync("/api/rooms/get-rooms"));
+    }
+
+    /**
+     * {@link #addRoom(AddRoomRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> addRoomAsync(AddRoomRequest request) {
+        if (request.getRoomId() <= 0) {
+            logger.warn("검증 실패: 객실 ID 부적절");
+            return CompletableFuture.completedFuture(ApiResponse.error("객실 ID를 적절한 객실 번호를 입력해주세요."));
+        }
+        logger.info("객실 추가 비동기 요청: roomId={}", request.getRoomId());
+        return toApiResponse(sendPostAsync("/api/rooms/add-room", request));
+    }
+
+    /**
+     * {@link #deleteRoom(RoomIdRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> deleteRoomAsync(RoomIdRequest request) {
+        if (request.getRoomId() <= 0) {
+            logger.warn("검증 실패: 객실 ID 부적절");
+            return CompletableFuture.completedFuture(ApiResponse.error("객실 ID를 적절한 객실 번호를 입력해주세요."));
+        }
+        logger.info("객실 삭제 비동기 요청: roomId={}", request.getRoomId());
+        return toApiResponse(sendPostAsync("/api/rooms/delete-room", request));
+    }
+
+    /**
+     * {@link #updateRoom(UpdateRoomRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> updateRoomAsync(UpdateRoomRequest request) {
+        if (request.getRoomId() <= 0) {
+            logger.warn("검증 실패: 객실 ID 부적절");
+            return CompletableFuture.completedFuture(ApiResponse.error("객실 ID를 적절한 객실 번호를 입력해주세요."));
+        }
+        logger.info("객실 수정 비동기 요청: roomId={}", request.getRoomId());
+        return toApiResponse(sendPostAsync("/api/rooms/update-room", request));
+    }
+
+    /**
+     * {@link #getPriceChangeLogs(RoomIdRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> getPriceChangeLogsAsync(RoomIdRequest request) {
+        logger.info("금액변경로그 비동기 조회 시도: roomId={}", request.getRoomId());
+        return toApiResponse(sendQueryPostAsync("/api/rooms/get-price-change-logs", request));
+    }
+
+    // ===== 스트리밍 목록 조회 =====
+
+    /**
+     * 객실 목록을 응답 스트림에서 바로 디코딩하여 조회한다 (GET /api/rooms/get-rooms)
+     * <p>
+     * 성공하면 객실 저장소({@link EntityStores#rooms()})를 갱신한다.
+     * </p>
+     *
+     * @return 객실 목록 응답
+     */
+    public ListResponse<Room> fetchRoomList() {
+        logger.info("객실 목록 조회 시도 (스트리밍)");
+        return publish(getList("/api/rooms/get-rooms", "rooms", Room.class),
+            EntityStores.getInstance().rooms());
+    }
+
+    /**
+     * {@link #fetchRoomList()}의 비동기 버전
+     */
+    public CompletableFuture<ListResponse<Room>> fetchRoomListAsync() {
+        logger.info("객실 목록 비동기 조회 시도 (스트리밍)");
+        return getListAsync("/api/rooms/get-rooms", "rooms", Room.class)
+            .thenApply(response -> publish(response, EntityStores.getInstance().rooms()));
+    }
+
+    /**
+     * 금액변경로그를 응답 스트림에서 바로 디코딩하여 조회한다 (POST /api/rooms/get-price-change-logs)
+     *
+     * @param request 조회할 객실 ID
+     * @param rowType 로그 행 타입 (응답의 "logs" 요소와 필드 이름이 같아야 함)
+     * @return 금액변경로그 목록 응답
+     */
+    public <T> ListResponse<T> fetchPriceChangeLogs(RoomIdRequest request, Class<T> rowType) {
+        logger.info("금액변경로그 조회 시도 (스트리밍): roomId={}", request.getRoomId());
+        return postList("/api/rooms/get-price-change-logs", request, "logs", rowType);
+    }
 }
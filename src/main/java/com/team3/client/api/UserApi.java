@@ -2,6 +2,7 @@ package com.team3.client.api;
 
 import java.io.IOException;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +12,9 @@ import com.team3.dto.request.AddUserRequest;
 import com.team3.dto.request.DeleteUserRequest;
 import com.team3.dto.request.LoginRequest;
 import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
+import com.team3.model.User;
+import com.team3.store.EntityStores;
 
 /**
  * 사용자 관련 API 호출을 담당하는 클라이언트 클래스
@@ -61,7 +65,7 @@ public class UserApi extends HmsClient {
      * @param request 로그인 요청 객체
      * @return API 응답 객체
      * 
-     * @throws NullPointerException request가 null인 경우 (sendPost 내부에서 발생)
+     * @throws NullPointerException request가 null인 경우 (sendQueryPost 내부에서 발생)
      * 
      * @apiNote 
      * <ul>
@@ -72,7 +76,7 @@ public class UserApi extends HmsClient {
      * @see com.team3.dto.request.LoginRequest
      * @see com.team3.dto.response.ApiResponse
      * @see com.team3.util.PasswordUtil#hash(String)
-     * @see com.team3.client.HmsClient#sendPost(String, Object)
+     * @see com.team3.client.HmsClient#sendQueryPost(String, Object)
      */
     public ApiResponse login(LoginRequest request) {
         try {
@@ -89,7 +93,7 @@ public class UserApi extends HmsClient {
      
             // POST /api/users/login 요청 전송
             logger.info("로그인 요청: userId={}", request.getUserId());
-            HttpResponse<String> response = sendPost("/api/users/login", request);
+            HttpResponse<String> response = sendQueryPost("/api/users/login", request);
             logger.info("로그인 응답: statusCode={}", response.statusCode());
 
             
@@ -228,4 +232,94 @@ public class UserApi extends HmsClient {
             return ApiResponse.error("요청이 중단되었습니다");
         }
     }
+
+    // ===== 비동기 API =====
+
+    /**
+     * {@link #login(LoginRequest)}의 비동기 버전
+     *
+     * @param request 로그인 요청 객체
+     * @return 로그인 응답 future (예외로 완료되지 않음)
+     */
+    public CompletableFuture<ApiResponse> loginAsync(LoginRequest request) {
+        if (request.getUserId() == null || request.getUserId().trim().isEmpty()) {
+            logger.warn("검증 실패: 사용자 ID 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("사용자 ID를 입력해주세요"));
+        }
+        if (request.getPassword() == null || request.getPassword().isEmpty()) {
+            logger.warn("검증 실패: 비밀번호 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("비밀번호를 입력해주세요"));
+        }
+        logger.info("로그인 비동기 요청: userId={}", request.getUserId());
+        return toApiResponse(sendQueryPostAsync("/api/users/login", request));
+    }
+
+    /**
+     * {@link #getUserList()}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> getUserListAsync() {
+        logger.info("사용자 목록 비동기 조회 시도");
+        return toApiResponse(sendGetAsync("/api/users/get-users"));
+    }
+
+    /**
+     * {@link #addUser(AddUserRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> addUserAsync(AddUserRequest request) {
+        if (request.getUserId() == null || request.getUserId().trim().isEmpty()) {
+            logger.warn("검증 실패: 사용자 ID 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("사용자 ID를 입력해주세요"));
+        }
+        if (request.getPassword() == null || request.getPassword().isEmpty()) {
+            logger.warn("검증 실패: 비밀번호 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("비밀번호를 입력해주세요"));
+        }
+        if (request.getUserName() == null || request.getUserName().trim().isEmpty()) {
+            logger.warn("검증 실패: 사용자 이름 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("사용자 이름을 입력해주세요"));
+        }
+        if (request.getRole() == null || request.getRole().isEmpty()) {
+            logger.warn("검증 실패: 사용자 권한 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("권한을 설정해주세요"));
+        }
+        logger.info("사용자 추가 비동기 요청: userId={}", request.getUserId());
+        return toApiResponse(sendPostAsync("/api/users/add-user", request));
+    }
+
+    /**
+     * {@link #deleteUser(DeleteUserRequest)}의 비동기 버전
+     */
+    public CompletableFuture<ApiResponse> deleteUserAsync(DeleteUserRequest request) {
+        if (request == null || request.getUserId().trim().isEmpty()) {
+            logger.warn("검증 실패: 사용자 ID 없음");
+            return CompletableFuture.completedFuture(ApiResponse.error("사용자 ID를 입력해주세요"));
+        }
+        logger.info("사용자 삭제 비동기 요청: userId={}", request.getUserId());
+        return toApiResponse(sendPostAsync("/api/users/delete-user", request));
+    }
+
+    // ===== 스트리밍 목록 조회 =====
+
+    /**
+     * 사용자 목록을 응답 스트림에서 바로 디코딩하여 조회한다 (GET /api/users/get-users)
+     * <p>
+     * 성공하면 사용자 저장소({@link EntityStores#users()})를 갱신한다.
+     * </p>
+     *
+     * @return 사용자 목록 응답
+     */
+    public ListResponse<User> fetchUserList() {
+        logger.info("사용자 목록 조회 시도 (스트리밍)");
+        return publish(getList("/api/users/get-users", "users", User.class),
+            EntityStores.getInstance().users());
+    }
+
+    /**
+     * {@link #fetchUserList()}의 비동기 버전
+     */
+    public CompletableFuture<ListResponse<User>> fetchUserListAsync() {
+        logger.info("사용자 목록 비동기 조회 시도 (스트리밍)");
+        return getListAsync("/api/users/get-users", "users", User.class)
+            .thenApply(response -> publish(response, EntityStores.getInstance().users()));
+    }
 }
@@ -0,0 +1,97 @@
+package com.team3.client.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 누적 지표
+ * <p>
+ * 헤더 수신 시간(요청 전송 ~ 응답 헤더, 네트워크 + 서버 처리), 완료 시간(요청 전송 ~ 본문 마지막 바이트),
+ * 디코딩 시간(응답 본문 → 객체, 클라이언트 처리)을 따로 기록하여 느린 원인이 어느 쪽인지 구분할 수 있게 한다.
+ * 완료 시간은 본문 처리 방식과 관계없이 본문을 다 받은 시점까지이므로 엔드포인트끼리 비교할 수 있다.
+ * 단, 스트림으로 디코딩하는 목록 응답은 읽는 속도에 맞춰 본문을 받으므로 완료 시간에 디코딩 시간이 일부 겹친다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class EndpointMetrics {
+    private final String endpoint;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram headers = new LatencyHistogram();
+    private final LatencyHistogram decode = new LatencyHistogram();
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 요청 한 건의 결과 기록
+     *
+     * @param headersNanos 응답 헤더를 받기까지 걸린 시간 (나노초, 헤더를 받기 전에 실패했으면 음수)
+     * @param elapsedNanos 본문 수신이 끝나기까지 걸린 시간 (나노초)
+     * @param failed 네트워크 오류 또는 4xx/5xx 응답이면 true
+     * @param requestBytes 요청 본문 크기 (모르면 0)
+     */
+    public void recordRequest(long headersNanos, long elapsedNanos, boolean failed, long requestBytes) {
+        requests.increment();
+        if (failed) {
+            errors.increment();
+        }
+        if (requestBytes > 0) {
+            bytesOut.add(requestBytes);
+        }
+        if (headersNanos >= 0) {
+            headers.recordNanos(headersNanos);
+        }
+        latency.recordNanos(elapsedNanos);
+    }
+
+    /** 수신한 응답 본문 바이트 기록 (본문을 읽는 동안 여러 번 호출될 수 있음) */
+    public void recordBytesIn(long bytes) {
+        bytesIn.add(bytes);
+    }
+
+    /** 응답 본문 디코딩 시간 기록 */
+    public void recordDecode(long elapsedNanos) {
+        decode.recordNanos(elapsedNanos);
+    }
+
+    void reset() {
+        requests.reset();
+        errors.reset();
+        bytesIn.reset();
+        bytesOut.reset();
+        latency.reset();
+        headers.reset();
+        decode.reset();
+    }
+
+    /**
+     * 현재 지표 스냅샷
+     *
+     * @return 스냅샷
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(endpoint, requests.sum(), errors.sum(), bytesIn.sum(), bytesOut.sum(),
+            latency.percentileMicros(50), latency.percentileMicros(90), latency.percentileMicros(99),
+            latency.getMaxMicros(), headers.percentileMicros(50), headers.percentileMicros(99),
+            decode.getCount(), decode.percentileMicros(50), decode.percentileMicros(99));
+    }
+
+    public String getEndpoint() { return endpoint; }
+
+    /**
+     * 엔드포인트 지표 스냅샷 (시간 단위: 마이크로초)
+     * <p>
+     * {@code p50Micros}~{@code maxMicros}는 본문 수신 완료까지, {@code headersP*}는 응답 헤더 수신까지의 시간이다.
+     * </p>
+     */
+    public record Snapshot(String endpoint, long requests, long errors, long bytesIn, long bytesOut,
+                           long p50Micros, long p90Micros, long p99Micros, long maxMicros,
+                           long headersP50Micros, long headersP99Micros, long decodes, long decodeP50Micros, long decodeP99Micros) {}
+}
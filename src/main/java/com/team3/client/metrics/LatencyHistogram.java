@@ -0,0 +1,139 @@
+package com.team3.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램
+ * <p>
+ * 마이크로초 단위 값을 2의 거듭제곱 구간마다 4개로 나눈 버킷(상대 오차 25% 이내)에 센다.
+ * 기록은 배열 인덱스 계산과 원자적 증가만 수행하므로 객체를 할당하지 않으며,
+ * 여러 응답 스레드에서 동시에 기록해도 잠금이 없다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.recordNanos(System.nanoTime() - start);
+ * long p99 = histogram.percentileMicros(99.0);
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class LatencyHistogram {
+
+    /** 2^40µs(약 12일)까지 표현 */
+    private static final int MAX_EXPONENT = 40;
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKET_COUNT = MAX_EXPONENT * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 나노초 단위 소요 시간 기록
+     *
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    /**
+     * 마이크로초 단위 소요 시간 기록
+     *
+     * @param micros 소요 시간 (마이크로초)
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sumMicros.add(value);
+        maxMicros.accumulate(value);
+    }
+
+    /**
+     * 값이 속한 버킷 인덱스
+     * <p>
+     * 0~3은 그대로, 그 이상은 {@code [2^e, 2^(e+1))} 구간을 4등분한 위치로 계산한다.
+     * </p>
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        int index = (exponent - 1) * SUB_BUCKETS + sub;
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 버킷이 나타내는 구간의 상한 (포함)
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + 1;
+        int sub = index % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - 2);
+        return lower + (1L << (exponent - 2)) - 1;
+    }
+
+    /**
+     * 백분위 값 (마이크로초)
+     * <p>
+     * 해당 백분위가 속한 버킷의 상한을 반환하되 최대값을 넘지 않는다.
+     * </p>
+     *
+     * @param percentile 백분위 (0~100, 예: 99.0)
+     * @return 백분위 값 (기록이 없으면 0)
+     */
+    public long percentileMicros(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        rank = Math.max(1, rank);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    public long getCount() { return count.sum(); }
+    public long getMaxMicros() { return maxMicros.get(); }
+
+    /** 평균 (마이크로초, 기록이 없으면 0) */
+    public long getMeanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0 : sumMicros.sum() / n;
+    }
+
+    /**
+     * 모든 기록 초기화
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sumMicros.reset();
+        maxMicros.reset();
+    }
+}
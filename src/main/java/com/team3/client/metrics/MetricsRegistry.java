@@ -0,0 +1,116 @@
+package com.team3.client.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP 호출 지표 등록소
+ * <p>
+ * {@code "메서드 경로"}(예: {@code GET /api/rooms/get-rooms}) 단위로 요청 수, 오류 수,
+ * 송수신 바이트, 응답 대기 시간과 디코딩 시간 히스토그램을 누적한다.
+ * {@code MetricsInterceptor}와 {@code HmsClient}의 목록 디코딩에서 기록되며,
+ * 서버 상태 탭의 지표 표와 CSV 내보내기에서 조회한다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * MetricsRegistry.getInstance().endpoint("GET", "/api/rooms/get-rooms").recordDecode(nanos);
+ * List<EndpointMetrics.Snapshot> rows = MetricsRegistry.getInstance().snapshot();
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class MetricsRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+
+    private static MetricsRegistry instance;
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {}
+
+    /**
+     * MetricsRegistry 싱글톤 인스턴스 반환
+     *
+     * @return MetricsRegistry 인스턴스
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * 엔드포인트 지표를 반환한다 (없으면 생성)
+     *
+     * @param method HTTP 메서드
+     * @param path 요청 경로 (쿼리 제외)
+     * @return 엔드포인트 지표
+     */
+    public EndpointMetrics endpoint(String method, String path) {
+        String key = method + " " + path;
+        EndpointMetrics metrics = endpoints.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        return endpoints.computeIfAbsent(key, EndpointMetrics::new);
+    }
+
+    /**
+     * 모든 엔드포인트의 지표 스냅샷 (엔드포인트 이름순)
+     *
+     * @return 스냅샷 목록
+     */
+    public List<EndpointMetrics.Snapshot> snapshot() {
+        List<EndpointMetrics.Snapshot> rows = new ArrayList<>();
+        for (EndpointMetrics metrics : endpoints.values()) {
+            rows.add(metrics.snapshot());
+        }
+        rows.sort(Comparator.comparing(EndpointMetrics.Snapshot::endpoint));
+        return rows;
+    }
+
+    /**
+     * 모든 지표 초기화
+     */
+    public void reset() {
+        endpoints.values().forEach(EndpointMetrics::reset);
+        logger.info("지표 초기화");
+    }
+
+    /**
+     * 현재 지표를 CSV 파일로 내보낸다 (시간 단위: 밀리초)
+     *
+     * @param file 저장할 파일 경로
+     * @throws IOException 파일 쓰기 실패 시
+     */
+    public void exportCsv(Path file) throws IOException {
+        List<EndpointMetrics.Snapshot> rows = snapshot();
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("endpoint,requests,errors,bytes_in,bytes_out,p50_ms,p90_ms,p99_ms,max_ms,"
+                + "headers_p50_ms,headers_p99_ms,decodes,decode_p50_ms,decode_p99_ms\n");
+            for (EndpointMetrics.Snapshot row : rows) {
+                writer.write(String.format("\"%s\",%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%.3f,%.3f%n",
+                    row.endpoint(), row.requests(), row.errors(), row.bytesIn(), row.bytesOut(),
+                    row.p50Micros() / 1000.0, row.p90Micros() / 1000.0, row.p99Micros() / 1000.0,
+                    row.maxMicros() / 1000.0, row.headersP50Micros() / 1000.0, row.headersP99Micros() / 1000.0,
+                    row.decodes(),
+                    row.decodeP50Micros() / 1000.0, row.decodeP99Micros() / 1000.0));
+            }
+        }
+        logger.info("지표 내보내기 완료: {} ({}개 엔드포인트)", file, rows.size());
+    }
+}
@@ -0,0 +1,47 @@
+package com.team3.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * HMS API 호출 JFR 이벤트
+ * <p>
+ * 네트워크로 나간 시도마다 하나씩 기록된다 (재시도하면 여러 개).
+ * 기간은 전송 시작부터 응답 완료(문자열 본문은 본문 수신 완료, 스트리밍 본문은 헤더 수신)까지이다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+@Name("com.team3.ApiCall")
+@Label("HMS API Call")
+@Category({"HMS", "HTTP"})
+@Description("HMS 서버로 보낸 HTTP 요청 한 건")
+@StackTrace(false)
+public class ApiCallEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Status")
+    @Description("응답 상태 코드 (네트워크 오류면 0)")
+    public int status;
+
+    @Label("Bytes In")
+    @DataAmount
+    public long bytesIn;
+
+    @Label("Bytes Out")
+    @DataAmount
+    public long bytesOut;
+
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,312 @@
+package com.team3.diagnostics;
+
+import java.awt.EventQueue;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * EDT(Event Dispatch Thread) 멈춤 감시기
+ * <p>
+ * 감시 스레드가 EDT에 주기적으로 heartbeat 작업을 넣고, 그 작업이 실행되기까지 걸린 시간으로
+ * EDT 응답성을 측정한다. heartbeat가 임계값 이상 실행되지 못하면 EDT가 다른 이벤트 처리에
+ * 묶여 있는 것이므로, 멈춘 동안 EDT 스택을 주기적으로 수집하여 멈춤 보고서를 만든다.
+ * 최근 보고서는 정해진 개수만 보관한다.
+ * 보고서는 EDT가 돌아온 뒤에 만들어지므로, 오래 멈춰 있으면 감시 스레드가 진행 중 보고를 따로 로그에 남긴다
+ * (EDT가 영영 돌아오지 않는 교착 상태도 기록됨).
+ * </p>
+ *
+ * <h3>설정 (시스템 프로퍼티):</h3>
+ * <ul>
+ *   <li>{@code hms.edt.stallMillis}: 멈춤으로 판단하는 임계값 (기본 250ms)</li>
+ *   <li>{@code hms.edt.sampleMillis}: heartbeat/스택 수집 주기 (기본 50ms)</li>
+ *   <li>{@code hms.edt.maxReports}: 보관할 최근 보고서 수 (기본 20)</li>
+ *   <li>{@code hms.edt.inProgressMillis}: 멈춤이 끝나기 전에 진행 중 보고를 남기는 시간
+ *       (기본 5000ms, 이후 간격을 두 배씩 늘려 다시 보고)</li>
+ * </ul>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * EdtWatchdog.getInstance().start();
+ * EdtWatchdog.getInstance().addListener(report -> statusBar.showStalls(...));
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class EdtWatchdog {
+    private static final Logger logger = LoggerFactory.getLogger(EdtWatchdog.class);
+
+    /** 멈춤 하나당 수집할 최대 스택 샘플 수 (오래 멈춰도 메모리가 늘지 않도록) */
+    private static final int MAX_SAMPLES = 100;
+
+    /** 로그에 출력할 스택 프레임 수 */
+    private static final int LOGGED_FRAMES = 12;
+
+    private static EdtWatchdog instance;
+
+    private final long stallNanos;
+    private final long sampleMillis;
+    private final int maxReports;
+    private final long inProgressNanos;
+
+    private final Deque<StallReport> reports = new ArrayDeque<>();
+    private final List<Consumer<StallReport>> listeners = new CopyOnWriteArrayList<>();
+
+    /** 실행 대기 중인 heartbeat를 넣은 시각 (없으면 0) */
+    private long pendingSince;
+    /** 현재 멈춤에서 다음 진행 중 보고를 남길 경과 시간 */
+    private long nextInProgressNanos;
+    /** 현재 멈춤에서 수집한 스택 샘플 */
+    private final List<StackTraceElement[]> samples = new ArrayList<>();
+    /** 감시 중인 EDT ({@link #start()}에서 확인하고, 예외 후 다시 만들어지면 heartbeat에서 갱신) */
+    private volatile Thread edtThread;
+
+    private long stallCount;
+    private long longestStallMillis;
+    private Thread watchdogThread;
+
+    private EdtWatchdog() {
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("hms.edt.stallMillis", 250));
+        this.sampleMillis = Long.getLong("hms.edt.sampleMillis", 50);
+        this.maxReports = Integer.getInteger("hms.edt.maxReports", 20);
+        this.inProgressNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("hms.edt.inProgressMillis", 5000));
+    }
+
+    /**
+     * EdtWatchdog 싱글톤 인스턴스 반환
+     *
+     * @return EdtWatchdog 인스턴스
+     */
+    public static synchronized EdtWatchdog getInstance() {
+        if (instance == null) {
+            instance = new EdtWatchdog();
+        }
+        return instance;
+    }
+
+    /**
+     * 감시를 시작한다 (이미 시작했으면 아무것도 하지 않음)
+     * <p>
+     * 첫 heartbeat 전에 멈춰도 스택을 수집할 수 있도록 감시할 EDT를 먼저 확인한다.
+     * </p>
+     */
+    public synchronized void start() {
+        if (watchdogThread != null) {
+            return;
+        }
+        resolveEdt();
+        watchdogThread = new Thread(this::watchLoop, "hms-edt-watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+        logger.info("EDT 감시 시작 (임계값 {}ms, 주기 {}ms)", TimeUnit.NANOSECONDS.toMillis(stallNanos), sampleMillis);
+    }
+
+    private void resolveEdt() {
+        if (EventQueue.isDispatchThread()) {
+            edtThread = Thread.currentThread();
+            return;
+        }
+        try {
+            EventQueue.invokeAndWait(() -> edtThread = Thread.currentThread());
+        } catch (InterruptedException e) {
+            // 첫 heartbeat에서 확인된다
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            logger.warn("EDT 확인 실패", e.getCause());
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                tick();
+                Thread.sleep(sampleMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        long waited;
+        boolean sample;
+        synchronized (this) {
+            if (pendingSince == 0) {
+                pendingSince = now;
+                nextInProgressNanos = inProgressNanos;
+                EventQueue.invokeLater(this::heartbeat);
+                return;
+            }
+            waited = now - pendingSince;
+            if (waited < stallNanos) {
+                return;
+            }
+            sample = samples.size() < MAX_SAMPLES;
+        }
+        Thread edt = edtThread;
+        if (edt != null && sample) {
+            // getStackTrace는 safepoint를 기다리므로 락 밖에서 호출한다
+            StackTraceElement[] stack = edt.getStackTrace();
+            synchronized (this) {
+                if (pendingSince != 0) {
+                    samples.add(stack);
+                }
+            }
+        }
+        reportInProgress(waited);
+    }
+
+    /**
+     * 아직 끝나지 않은 멈춤이 진행 중 보고 시간을 넘었으면 감시 스레드에서 로그를 남긴다
+     * <p>
+     * 보고서 목록과 리스너에는 멈춤이 끝난 뒤 한 번만 전달된다.
+     * </p>
+     */
+    private void reportInProgress(long waited) {
+        StallReport report;
+        synchronized (this) {
+            if (pendingSince == 0 || waited < nextInProgressNanos) {
+                return;
+            }
+            nextInProgressNanos = Math.max(nextInProgressNanos * 2, waited);
+            report = new StallReport(Instant.now().minusNanos(waited), TimeUnit.NANOSECONDS.toMillis(waited),
+                List.copyOf(samples));
+        }
+        Thread edt = edtThread;
+        logger.error("EDT가 {}ms째 응답 없음 (진행 중, 샘플 {}개, 스레드 상태 {})\n{}", report.durationMillis(),
+            report.samples().size(), edt != null ? edt.getState() : "알 수 없음", report.formatStack(LOGGED_FRAMES));
+    }
+
+    /**
+     * EDT에서 실행되는 heartbeat (대기 시간이 임계값을 넘었으면 보고서를 만든다)
+     */
+    private void heartbeat() {
+        edtThread = Thread.currentThread();
+        StallReport report;
+        synchronized (this) {
+            long waited = System.nanoTime() - pendingSince;
+            pendingSince = 0;
+            if (waited < stallNanos) {
+                samples.clear();
+                return;
+            }
+            report = new StallReport(Instant.now().minusNanos(waited), TimeUnit.NANOSECONDS.toMillis(waited),
+                List.copyOf(samples));
+            samples.clear();
+            stallCount++;
+            longestStallMillis = Math.max(longestStallMillis, report.durationMillis());
+            reports.addFirst(report);
+            while (reports.size() > maxReports) {
+                reports.removeLast();
+            }
+        }
+        logger.warn("EDT 멈춤 {}ms (샘플 {}개)\n{}", report.durationMillis(), report.samples().size(),
+            report.formatStack(LOGGED_FRAMES));
+        for (Consumer<StallReport> listener : listeners) {
+            listener.accept(report);
+        }
+    }
+
+    /**
+     * 멈춤 보고서 리스너 등록
+     * <p>
+     * 리스너는 멈춤이 끝난 직후 EDT에서 호출되므로 Swing 컴포넌트를 바로 갱신해도 된다.
+     * </p>
+     *
+     * @param listener 새 보고서를 받을 리스너
+     */
+    public void addListener(Consumer<StallReport> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 최근 멈춤 보고서 (최신순)
+     *
+     * @return 보고서 목록 스냅샷
+     */
+    public synchronized List<StallReport> getRecentReports() {
+        return List.copyOf(reports);
+    }
+
+    /**
+     * 시작 이후 감지한 멈춤 횟수
+     *
+     * @return 멈춤 횟수
+     */
+    public synchronized long getStallCount() {
+        return stallCount;
+    }
+
+    /**
+     * 시작 이후 가장 긴 멈춤 시간
+     *
+     * @return 밀리초
+     */
+    public synchronized long getLongestStallMillis() {
+        return longestStallMillis;
+    }
+
+    /**
+     * EDT 멈춤 보고서
+     *
+     * @param startedAt 멈춤을 감지하기 시작한 시각 (heartbeat를 넣은 시각)
+     * @param durationMillis heartbeat가 실행되기까지 기다린 시간
+     * @param samples 멈춘 동안 수집한 EDT 스택 (시간순)
+     */
+    public record StallReport(Instant startedAt, long durationMillis, List<StackTraceElement[]> samples) {
+
+        /**
+         * 가장 자주 수집된 스택 (멈춤 원인일 가능성이 가장 높음)
+         *
+         * @return 스택 (샘플이 없으면 빈 배열)
+         */
+        public StackTraceElement[] hottestStack() {
+            Map<List<StackTraceElement>, Integer> counts = new HashMap<>();
+            StackTraceElement[] hottest = new StackTraceElement[0];
+            int best = 0;
+            for (StackTraceElement[] sample : samples) {
+                int count = counts.merge(Arrays.asList(sample), 1, Integer::sum);
+                if (count > best) {
+                    best = count;
+                    hottest = sample;
+                }
+            }
+            return hottest;
+        }
+
+        /**
+         * 가장 자주 수집된 스택을 문자열로 만든다
+         *
+         * @param maxFrames 출력할 최대 프레임 수
+         * @return 스택 문자열 (샘플이 없으면 안내 문구)
+         */
+        public String formatStack(int maxFrames) {
+            StackTraceElement[] stack = hottestStack();
+            if (stack.length == 0) {
+                return "    (스택 샘플 없음)";
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < Math.min(stack.length, maxFrames); i++) {
+                sb.append("    at ").append(stack[i]).append('\n');
+            }
+            if (stack.length > maxFrames) {
+                sb.append("    ... ").append(stack.length - maxFrames).append(" more\n");
+            }
+            return sb.toString();
+        }
+    }
+}
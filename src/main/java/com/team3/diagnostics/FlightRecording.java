@@ -0,0 +1,111 @@
+package com.team3.diagnostics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * JDK Flight Recorder 기록 도우미
+ * <p>
+ * JDK 기본 설정("default", 오버헤드 1% 미만)에 HMS 이벤트({@link ApiCallEvent},
+ * {@link JsonDecodeEvent}, {@link TableRefreshEvent})를 더해 지정한 시간 동안 기록하고
+ * {@code .jfr} 파일로 저장한다. 저장된 파일은 JDK Mission Control이나 {@code jfr print}로 분석한다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * FlightRecording.record(Duration.ofSeconds(60))
+ *     .thenAccept(file -> logger.info("저장됨: {}", file));
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public final class FlightRecording {
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecording.class);
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /** 동시에 하나만 기록한다 */
+    private static Recording active;
+
+    private FlightRecording() {}
+
+    /**
+     * 지정한 시간 동안 기록하고 파일로 저장한다
+     * <p>
+     * 기다리는 동안 스레드를 점유하지 않으며, 저장이 끝나면 파일 경로로 완료된다.
+     * 파일 위치는 {@code hms.jfr.dir} (기본 {@code ~/.hms/jfr})이다.
+     * </p>
+     *
+     * @param duration 기록 시간
+     * @return 저장된 파일 경로 future
+     * @throws IllegalStateException 이미 기록 중인 경우
+     */
+    public static synchronized CompletableFuture<Path> record(Duration duration) {
+        if (active != null) {
+            throw new IllegalStateException("이미 성능 기록이 진행 중입니다");
+        }
+        Path file;
+        Recording recording;
+        try {
+            Path dir = Path.of(System.getProperty("hms.jfr.dir",
+                Path.of(System.getProperty("user.home"), ".hms", "jfr").toString()));
+            Files.createDirectories(dir);
+            file = dir.resolve("hms-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+
+            recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("HMS Diagnostics");
+            recording.enable(ApiCallEvent.class);
+            recording.enable(JsonDecodeEvent.class);
+            recording.enable(TableRefreshEvent.class);
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.start();
+        } catch (IOException | ParseException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        active = recording;
+        logger.info("JFR 기록 시작: {}초 -> {}", duration.getSeconds(), file);
+
+        CompletableFuture<Path> result = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(duration.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            try {
+                // destination이 지정된 기록은 stop() 시 파일로 저장된다
+                recording.stop();
+                recording.close();
+                logger.info("JFR 기록 저장: {}", file);
+                result.complete(file);
+            } catch (RuntimeException e) {
+                logger.error("JFR 기록 저장 실패", e);
+                result.completeExceptionally(e);
+            } finally {
+                synchronized (FlightRecording.class) {
+                    active = null;
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 기록이 진행 중인지 확인
+     *
+     * @return 기록 중이면 true
+     */
+    public static synchronized boolean isRecording() {
+        return active != null;
+    }
+}
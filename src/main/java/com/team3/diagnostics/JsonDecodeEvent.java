@@ -0,0 +1,45 @@
+package com.team3.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 목록 응답 JSON 디코딩 JFR 이벤트
+ * <p>
+ * 스트리밍 목록 디코딩({@code HmsClient.getList}) 한 번마다 기록된다.
+ * 이벤트 기간은 디코딩 호출 전체(본문 수신 대기 포함)이고,
+ * {@code decodeTime}은 첫 본문 바이트 도착부터 디코딩 완료까지이다 (지표 탭의 디코딩 시간과 같은 기준).
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+@Name("com.team3.JsonDecode")
+@Label("HMS JSON Decode")
+@Category({"HMS", "JSON"})
+@Description("목록 응답 본문을 객체 목록으로 디코딩")
+@StackTrace(false)
+public class JsonDecodeEvent extends jdk.jfr.Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Decode Time")
+    @Timespan
+    public long decodeTime;
+}
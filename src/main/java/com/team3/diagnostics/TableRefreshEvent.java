@@ -0,0 +1,64 @@
+package com.team3.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 테이블 모델 갱신 JFR 이벤트
+ * <p>
+ * 조회 결과로 테이블 행을 다시 채우는 데 EDT에서 걸린 시간을 기록한다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * TableRefreshEvent event = TableRefreshEvent.start("ReservationPanel");
+ * tableModel.setRowCount(0);
+ * ...
+ * event.finish(tableModel.getRowCount());
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+@Name("com.team3.TableRefresh")
+@Label("HMS Table Refresh")
+@Category({"HMS", "UI"})
+@Description("테이블 모델을 조회 결과로 다시 채움 (EDT)")
+@StackTrace(false)
+public class TableRefreshEvent extends jdk.jfr.Event {
+
+    @Label("Table")
+    public String table;
+
+    @Label("Rows")
+    public int rows;
+
+    /**
+     * 테이블 갱신 측정을 시작한다
+     *
+     * @param table 테이블 이름 (보통 패널 클래스 이름)
+     * @return 시작된 이벤트
+     */
+    public static TableRefreshEvent start(String table) {
+        TableRefreshEvent event = new TableRefreshEvent();
+        event.table = table;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 측정을 끝내고 기록한다 (기록 중이 아니면 아무것도 하지 않음)
+     *
+     * @param rows 갱신 후 행 수
+     */
+    public void finish(int rows) {
+        end();
+        if (shouldCommit()) {
+            this.rows = rows;
+            commit();
+        }
+    }
+}
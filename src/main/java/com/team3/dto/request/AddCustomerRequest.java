@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class AddCustomerRequest {
     private String name;
     private String phoneNumber;
@@ -17,4 +19,16 @@ public class AddCustomerRequest {
     public String getPhoneNumber() { return phoneNumber; }
     public String getRoomNumber() { return roomNumber; }
     public String getFeedback() { return feedback; }
+
+    /**
+     * 고객 추가 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<AddCustomerRequest> JSON_FIELDS = (out, value) -> {
+            out.name("name").value(value.name);
+            out.name("phoneNumber").value(value.phoneNumber);
+            out.name("roomNumber").value(value.roomNumber);
+            out.name("feedback").value(value.feedback);
+    };
 }
@@ -1,6 +1,7 @@
 package com.team3.dto.request;
 
 import com.team3.model.FnbItem.*;
+import com.team3.util.JsonCodecs;
 
 public class AddFnbRequest {
     private final String roomId;
@@ -22,4 +23,20 @@ public class AddFnbRequest {
         this.count = count;
         this.paymentMethod = paymentMethod;
     }
-}
\ No newline at end of file
+
+    /**
+     * 식음료 주문 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<AddFnbRequest> JSON_FIELDS = (out, value) -> {
+            out.name("roomId").value(value.roomId);
+            out.name("customerName").value(value.customerName);
+            JsonCodecs.writeEnum(out.name("serviceType"), value.serviceType);
+            JsonCodecs.writeEnum(out.name("mealType"), value.mealType);
+            out.name("menuName").value(value.menuName);
+            out.name("price").value(value.price);
+            out.name("count").value(value.count);
+            JsonCodecs.writeEnum(out.name("paymentMethod"), value.paymentMethod);
+    };
+}
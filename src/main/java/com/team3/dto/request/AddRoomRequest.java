@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class AddRoomRequest {
     private final int roomId;
     private final int basePrice;
@@ -17,4 +19,16 @@ public class AddRoomRequest {
     public int getBasePrice() { return basePrice; }
     public boolean getIsAvailable() { return isAvailable; }
     public int getMaxOccupancy() { return maxOccupancy; }
+
+    /**
+     * 객실 추가 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<AddRoomRequest> JSON_FIELDS = (out, value) -> {
+            out.name("roomId").value(value.roomId);
+            out.name("basePrice").value(value.basePrice);
+            out.name("isAvailable").value(value.isAvailable);
+            out.name("maxOccupancy").value(value.maxOccupancy);
+    };
 }
@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class AddUserRequest {
     private final String userId;
     private final String password;
@@ -17,4 +19,16 @@ public class AddUserRequest {
     public String getPassword() { return password; }
     public String getUserName() {return userName; }
     public String getRole() {return role;}
+
+    /**
+     * 사용자 추가 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<AddUserRequest> JSON_FIELDS = (out, value) -> {
+            out.name("userId").value(value.userId);
+            out.name("password").value(value.password);
+            out.name("userName").value(value.userName);
+            out.name("role").value(value.role);
+    };
 }
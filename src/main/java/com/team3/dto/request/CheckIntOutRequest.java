@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class CheckIntOutRequest {
     private final String id;
     private final int roomId;
@@ -16,4 +18,15 @@ public class CheckIntOutRequest {
     public int getRoomId() { return roomId; }
 
     public boolean isCheckedIn() { return isCheckedIn; }
-}
\ No newline at end of file
+
+    /**
+     * 체크인/체크아웃 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<CheckIntOutRequest> JSON_FIELDS = (out, value) -> {
+            out.name("id").value(value.id);
+            out.name("roomId").value(value.roomId);
+            out.name("isCheckedIn").value(value.isCheckedIn);
+    };
+}
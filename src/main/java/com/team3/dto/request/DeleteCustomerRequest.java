@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class DeleteCustomerRequest {
     private String id;
 
@@ -8,4 +10,13 @@ public class DeleteCustomerRequest {
     }
 
     public String getId() { return id; }
+
+    /**
+     * 고객 삭제 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<DeleteCustomerRequest> JSON_FIELDS = (out, value) -> {
+            out.name("id").value(value.id);
+    };
 }
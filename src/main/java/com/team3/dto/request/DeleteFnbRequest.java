@@ -1,7 +1,18 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class DeleteFnbRequest {
     private final String id;
     public DeleteFnbRequest(String id) { this.id = id; }
     public String getId() { return id; }
-}
\ No newline at end of file
+
+    /**
+     * 식음료 주문 삭제 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<DeleteFnbRequest> JSON_FIELDS = (out, value) -> {
+            out.name("id").value(value.id);
+    };
+}
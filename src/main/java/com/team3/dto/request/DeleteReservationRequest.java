@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 /**
  * 예약 삭제(취소) 요청 DTO
  * <p>
@@ -16,4 +18,13 @@ public class DeleteReservationRequest {
     }
 
     public String getId() { return id; }
-}
\ No newline at end of file
+
+    /**
+     * 예약 삭제 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<DeleteReservationRequest> JSON_FIELDS = (out, value) -> {
+            out.name("id").value(value.id);
+    };
+}
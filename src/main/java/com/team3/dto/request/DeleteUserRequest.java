@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class DeleteUserRequest {
     private String userId;
 
@@ -8,4 +10,13 @@ public class DeleteUserRequest {
     }
 
     public String getUserId() { return userId; }
+
+    /**
+     * 사용자 삭제 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<DeleteUserRequest> JSON_FIELDS = (out, value) -> {
+            out.name("userId").value(value.userId);
+    };
 }
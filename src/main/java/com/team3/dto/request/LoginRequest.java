@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 /**
  * 로그인 요청 DTO
  * <p>
@@ -19,4 +21,14 @@ public class LoginRequest {
     
     public String getUserId() { return userId; }
     public String getPassword() { return password; }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<LoginRequest> JSON_FIELDS = (out, value) -> {
+            out.name("userId").value(value.userId);
+            out.name("password").value(value.password);
+    };
+}
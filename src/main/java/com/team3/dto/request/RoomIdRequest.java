@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class RoomIdRequest {
     private int roomId;
 
@@ -8,4 +10,13 @@ public class RoomIdRequest {
     }
 
     public int getRoomId() { return roomId; }
+
+    /**
+     * 객실 ID 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<RoomIdRequest> JSON_FIELDS = (out, value) -> {
+            out.name("roomId").value(value.roomId);
+    };
 }
@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class UpdateReservationRequest {
     private final String id; // 수정할 예약의 ID (필수)
     private final String userId;
@@ -30,4 +32,20 @@ public class UpdateReservationRequest {
     public String getCheckInDate() { return checkInDate; }
     public String getCheckOutDate() { return checkOutDate; }
     public int getGuestCount() { return guestCount; }
-}
\ No newline at end of file
+
+    /**
+     * 예약 수정 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<UpdateReservationRequest> JSON_FIELDS = (out, value) -> {
+            out.name("id").value(value.id);
+            out.name("userId").value(value.userId);
+            out.name("roomId").value(value.roomId);
+            out.name("guestName").value(value.guestName);
+            out.name("phone").value(value.phone);
+            out.name("checkInDate").value(value.checkInDate);
+            out.name("checkOutDate").value(value.checkOutDate);
+            out.name("guestCount").value(value.guestCount);
+    };
+}
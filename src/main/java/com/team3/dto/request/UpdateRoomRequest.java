@@ -1,5 +1,7 @@
 package com.team3.dto.request;
 
+import com.team3.util.JsonCodecs;
+
 public class UpdateRoomRequest {
     private final int roomId;
     private final int basePrice;
@@ -20,4 +22,17 @@ public class UpdateRoomRequest {
     public boolean getIsAvailable() { return isAvailable; }
     public int getMaxOccupancy() { return maxOccupancy; }
     public String getReason() { return reason; }
+
+    /**
+     * 객실 수정 요청 본문 필드 쓰기 (읽기는 Gson 기본 어댑터에 맡김)
+     *
+     * @see JsonCodecs#requestAdapter
+     */
+    public static final JsonCodecs.FieldWriter<UpdateRoomRequest> JSON_FIELDS = (out, value) -> {
+            out.name("roomId").value(value.roomId);
+            out.name("basePrice").value(value.basePrice);
+            out.name("isAvailable").value(value.isAvailable);
+            out.name("maxOccupancy").value(value.maxOccupancy);
+            out.name("reason").value(value.reason);
+    };
 }
@@ -1,5 +1,17 @@
 package com.team3.dto.response;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonParseException;
+import com.team3.util.JsonStreams;
 import com.team3.util.JsonUtil;
 
 /**
@@ -8,11 +20,18 @@ import com.team3.util.JsonUtil;
  * HMS 서버로부터 받은 HTTP 응답을 캡슐화하여 클라이언트에게 제공한다.
  * 응답 상태 코드, 본문, 성공 여부를 포함하며, 모든 API 호출의 표준 응답 형식으로 사용된다.
  * </p>
+ * <p>
+ * 본문의 필드는 필요할 때 처음 한 번만 파싱하여 기억해 두므로
+ * {@link #getMessage()}, {@link #getString(String)}, {@link #getList(String, Class)}를
+ * 여러 번 호출해도 본문을 다시 파싱하지 않는다.
+ * </p>
  * 
  * @author bang9634
  * @since 2025-11-22
  */
 public class ApiResponse {
+    private static final Logger logger = LoggerFactory.getLogger(ApiResponse.class);
+
     // HTTP 응답 상태 코드
     private final int statusCode;
 
@@ -21,6 +40,12 @@ public class ApiResponse {
 
     // 요청 성공 여부
     private final boolean success;
+
+    // 최상위 스칼라 필드 (처음 조회할 때 한 번만 읽음, 같은 결과를 다시 계산해도 무해하므로 잠그지 않는다)
+    private volatile Map<String, String> topLevel;
+
+    // 필드별 목록 디코딩 결과
+    private final Map<String, DecodedList> lists = new ConcurrentHashMap<>(2);
     
     /**
      * ApiResponse 생성자
@@ -72,7 +97,84 @@ public class ApiResponse {
     public int getStatusCode() { return statusCode; }
     public String getBody() { return body; }
     public boolean isSuccess() { return success; }
+
+    /**
+     * 응답 본문의 {@code message} 필드
+     *
+     * @return 메시지 (없으면 null)
+     */
     public String getMessage() {
-        return JsonUtil.extract(body, "message");
+        return getString("message");
+    }
+
+    /**
+     * 응답 본문의 최상위 필드 값을 반환한다
+     * <p>
+     * 처음 호출될 때 최상위 스칼라 필드를 한 번만 스트리밍으로 읽어 두고 이후 호출은 그 결과를 사용한다.
+     * 중첩 객체와 배열은 읽지 않고 건너뛰므로 목록이 든 큰 본문에서도 비용이 작다.
+     * </p>
+     *
+     * @param key 최상위 필드 이름 (예: "token", "isCheckedIn")
+     * @return 필드 값 (없거나 객체/배열/null이면 null, 숫자/불리언은 문자열)
+     */
+    public String getString(String key) {
+        Map<String, String> values = topLevel;
+        if (values == null) {
+            values = JsonUtil.readTopLevel(body);
+            topLevel = values;
+        }
+        return values.get(key);
     }
+
+    /**
+     * 응답 본문의 최상위 불리언 필드 값을 반환한다
+     *
+     * @param key 최상위 필드 이름
+     * @return 값이 {@code true}(또는 문자열 "true")이면 true, 그 외에는 false
+     */
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(getString(key));
+    }
+
+    /**
+     * 응답 봉투의 목록 필드를 디코딩한다
+     * <p>
+     * 본문을 {@link JsonStreams}로 한 번 훑으면서 해당 필드의 배열만 객체로 만든다.
+     * 결과는 필드별로 기억되어 같은 필드를 다시 요청하면 다시 파싱하지 않는다.
+     * 처음부터 목록만 필요하다면 {@code ApiResponse} 대신 {@link ListResponse}를 반환하는
+     * {@code getList} 계열 API를 사용하는 편이 본문 문자열도 만들지 않아 더 가볍다.
+     * </p>
+     *
+     * @param field 목록이 들어 있는 봉투 필드 이름 (예: "rooms", "data", "logs")
+     * @param elementType 목록 요소 타입
+     * @return 수정할 수 없는 목록 (필드가 없거나 형식이 잘못되었으면 빈 목록)
+     */
+    public <T> List<T> getList(String field, Class<T> elementType) {
+        DecodedList decoded = lists.get(field);
+        if (decoded == null || decoded.elementType() != elementType) {
+            decoded = new DecodedList(elementType, decodeList(field, elementType));
+            lists.put(field, decoded);
+        }
+        @SuppressWarnings("unchecked")
+        List<T> items = (List<T>) decoded.items();
+        return items;
+    }
+
+    private <T> List<T> decodeList(String field, Class<T> elementType) {
+        if (body == null || body.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return Collections.unmodifiableList(
+                JsonStreams.readList(new StringReader(body), field, elementType).items());
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            logger.warn("응답 목록 파싱 실패: field={}", field, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 필드별로 기억해 둔 목록 디코딩 결과
+     */
+    private record DecodedList(Class<?> elementType, List<?> items) {}
 }
\ No newline at end of file
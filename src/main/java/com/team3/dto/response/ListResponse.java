@@ -0,0 +1,94 @@
+package com.team3.dto.response;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 목록 조회 API의 타입이 지정된 응답 DTO
+ * <p>
+ * {@link ApiResponse}가 본문 문자열을 그대로 담는 것과 달리,
+ * 응답 스트림에서 바로 디코딩한 목록을 담는다.
+ * 패널에서 본문을 다시 파싱할 필요가 없다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * ListResponse<Reservation> response = reservationApi.fetchReservations();
+ * if (response.isSuccess()) {
+ *     updateTable(response.getItems());
+ * } else {
+ *     statusLabel.setText("✗ 조회 실패: " + response.getMessage());
+ * }
+ * }</pre>
+ *
+ * @param <T> 목록 요소 타입
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class ListResponse<T> {
+    // HTTP 응답 상태 코드 (클라이언트 측 오류이면 0)
+    private final int statusCode;
+
+    // 디코딩된 목록 (실패 시 빈 목록)
+    private final List<T> items;
+
+    // 서버 message 필드 또는 오류 메시지
+    private final String message;
+
+    // 요청 성공 여부
+    private final boolean success;
+
+    // 304 Not Modified로 캐시된 목록을 재사용했는지 여부
+    private final boolean notModified;
+
+    /**
+     * ListResponse 생성자
+     *
+     * @param statusCode HTTP 응답 상태 코드
+     * @param items 디코딩된 목록 (null이면 빈 목록)
+     * @param message 서버 message 필드 또는 오류 메시지 (없으면 null)
+     */
+    public ListResponse(int statusCode, List<T> items, String message) {
+        this(statusCode, items, message, false);
+    }
+
+    /**
+     * ListResponse 생성자
+     * <p>
+     * {@code notModified}가 true이면 서버가 304로 응답하여 캐시된 목록을 담은 경우로,
+     * 상태 코드와 관계없이 성공으로 취급한다.
+     * </p>
+     *
+     * @param statusCode HTTP 응답 상태 코드
+     * @param items 디코딩된 목록 (null이면 빈 목록)
+     * @param message 서버 message 필드 또는 오류 메시지 (없으면 null)
+     * @param notModified 캐시된 목록 재사용 여부
+     */
+    public ListResponse(int statusCode, List<T> items, String message, boolean notModified) {
+        this.statusCode = statusCode;
+        this.items = items != null ? items : Collections.emptyList();
+        this.message = message;
+        this.notModified = notModified;
+        this.success = notModified || (statusCode >= 200 && statusCode < 300);
+    }
+
+    /**
+     * 에러 응답 객체를 생성하는 정적 팩토리 메서드
+     * <p>
+     * {@link ApiResponse#error(String)}와 동일하게 statusCode는 0, success는 false로 설정된다.
+     * </p>
+     *
+     * @param message 에러 메시지
+     * @return 빈 목록을 담은 에러 응답 객체
+     */
+    public static <T> ListResponse<T> error(String message) {
+        return new ListResponse<>(0, Collections.emptyList(), message);
+    }
+
+    public int getStatusCode() { return statusCode; }
+    public List<T> getItems() { return items; }
+    public String getMessage() { return message; }
+    public boolean isSuccess() { return success; }
+    public boolean isNotModified() { return notModified; }
+    public int size() { return items.size(); }
+}
@@ -1,5 +1,8 @@
 package com.team3.dto.response;
 
+import com.google.gson.TypeAdapter;
+import com.team3.util.JsonCodecs;
+
 /**
  * [결제 통합 모델]
  * 서버와 데이터를 주고받을 때 사용하는 단일 객체 (DTO)
@@ -56,4 +59,41 @@ public class Payment {
     public String toString() {
         return String.format("[결제] %s님 %d원 (%s)", guestName, totalAmount, paymentTime);
     }
+
+    /**
+     * 결제 JSON 어댑터
+     * <p>
+     * 리플렉션 대신 필드를 직접 읽고 쓴다. 알 수 없는 필드는 건너뛴다.
+     * </p>
+     *
+     * @see JsonCodecs#objectAdapter
+     */
+    public static final TypeAdapter<Payment> JSON_ADAPTER = JsonCodecs.objectAdapter(Payment::new,
+        (out, value) -> {
+            out.name("guestName").value(value.guestName);
+            out.name("roomCharge").value(value.roomCharge);
+            out.name("foodCharge").value(value.foodCharge);
+            out.name("method").value(value.method);
+            out.name("cardNumber").value(value.cardNumber);
+            out.name("reservationId").value(value.reservationId);
+            out.name("receiptId").value(value.receiptId);
+            out.name("totalAmount").value(value.totalAmount);
+            out.name("details").value(value.details);
+            out.name("paymentTime").value(value.paymentTime);
+        },
+        (in, name, value) -> {
+            switch (name) {
+                case "guestName" -> value.guestName = JsonCodecs.readString(in);
+                case "roomCharge" -> value.roomCharge = JsonCodecs.readInt(in);
+                case "foodCharge" -> value.foodCharge = JsonCodecs.readInt(in);
+                case "method" -> value.method = JsonCodecs.readString(in);
+                case "cardNumber" -> value.cardNumber = JsonCodecs.readString(in);
+                case "reservationId" -> value.reservationId = JsonCodecs.readString(in);
+                case "receiptId" -> value.receiptId = JsonCodecs.readString(in);
+                case "totalAmount" -> value.totalAmount = JsonCodecs.readInt(in);
+                case "details" -> value.details = JsonCodecs.readString(in);
+                case "paymentTime" -> value.paymentTime = JsonCodecs.readString(in);
+                default -> in.skipValue();
+            }
+        });
 }
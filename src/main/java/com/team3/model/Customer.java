@@ -1,5 +1,8 @@
 package com.team3.model;
 
+import com.google.gson.TypeAdapter;
+import com.team3.util.JsonCodecs;
+
 public class Customer {
     private String id;
     private String name;
@@ -26,4 +29,33 @@ public class Customer {
     public String getRoomNumber() { return roomNumber; }
     public String getFeedback() { return feedback; }
     public String getCreatedAt() { return createdAt; }
-}
\ No newline at end of file
+
+    /**
+     * 고객 JSON 어댑터
+     * <p>
+     * 리플렉션 대신 필드를 직접 읽고 쓴다. 알 수 없는 필드는 건너뛴다.
+     * </p>
+     *
+     * @see JsonCodecs#objectAdapter
+     */
+    public static final TypeAdapter<Customer> JSON_ADAPTER = JsonCodecs.objectAdapter(Customer::new,
+        (out, value) -> {
+            out.name("id").value(value.id);
+            out.name("name").value(value.name);
+            out.name("phoneNumber").value(value.phoneNumber);
+            out.name("roomNumber").value(value.roomNumber);
+            out.name("feedback").value(value.feedback);
+            out.name("createdAt").value(value.createdAt);
+        },
+        (in, name, value) -> {
+            switch (name) {
+                case "id" -> value.id = JsonCodecs.readString(in);
+                case "name" -> value.name = JsonCodecs.readString(in);
+                case "phoneNumber" -> value.phoneNumber = JsonCodecs.readString(in);
+                case "roomNumber" -> value.roomNumber = JsonCodecs.readString(in);
+                case "feedback" -> value.feedback = JsonCodecs.readString(in);
+                case "createdAt" -> value.createdAt = JsonCodecs.readString(in);
+                default -> in.skipValue();
+            }
+        });
+}
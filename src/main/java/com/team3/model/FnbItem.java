@@ -1,5 +1,8 @@
 package com.team3.model;
 
+import com.google.gson.TypeAdapter;
+import com.team3.util.JsonCodecs;
+
 /**
  * 식음료 모델 (클라이언트용)
  * <p>
@@ -77,4 +80,43 @@ public class FnbItem {
     public int getTotalAmount() { return totalAmount; }
     public PaymentMethod getPaymentMethod() { return paymentMethod; }
     public String getOrderTime() { return orderTime; }
-}
\ No newline at end of file
+
+    /**
+     * 식음료 주문 JSON 어댑터
+     * <p>
+     * 리플렉션 대신 필드를 직접 읽고 쓴다. 알 수 없는 필드는 건너뛴다.
+     * </p>
+     *
+     * @see JsonCodecs#objectAdapter
+     */
+    public static final TypeAdapter<FnbItem> JSON_ADAPTER = JsonCodecs.objectAdapter(FnbItem::new,
+        (out, value) -> {
+            out.name("id").value(value.id);
+            out.name("roomId").value(value.roomId);
+            out.name("customerName").value(value.customerName);
+            JsonCodecs.writeEnum(out.name("serviceType"), value.serviceType);
+            JsonCodecs.writeEnum(out.name("mealType"), value.mealType);
+            out.name("menuName").value(value.menuName);
+            out.name("price").value(value.price);
+            out.name("count").value(value.count);
+            out.name("totalAmount").value(value.totalAmount);
+            JsonCodecs.writeEnum(out.name("paymentMethod"), value.paymentMethod);
+            out.name("orderTime").value(value.orderTime);
+        },
+        (in, name, value) -> {
+            switch (name) {
+                case "id" -> value.id = JsonCodecs.readString(in);
+                case "roomId" -> value.roomId = JsonCodecs.readString(in);
+                case "customerName" -> value.customerName = JsonCodecs.readString(in);
+                case "serviceType" -> value.serviceType = JsonCodecs.readEnum(in, ServiceType.class);
+                case "mealType" -> value.mealType = JsonCodecs.readEnum(in, MealType.class);
+                case "menuName" -> value.menuName = JsonCodecs.readString(in);
+                case "price" -> value.price = JsonCodecs.readInt(in);
+                case "count" -> value.count = JsonCodecs.readInt(in);
+                case "totalAmount" -> value.totalAmount = JsonCodecs.readInt(in);
+                case "paymentMethod" -> value.paymentMethod = JsonCodecs.readEnum(in, PaymentMethod.class);
+                case "orderTime" -> value.orderTime = JsonCodecs.readString(in);
+                default -> in.skipValue();
+            }
+        });
+}
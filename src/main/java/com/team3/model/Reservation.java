@@ -1,5 +1,8 @@
 package com.team3.model;
 
+import com.google.gson.TypeAdapter;
+import com.team3.util.JsonCodecs;
+
 /**
  * 예약 도메인 모델 (클라이언트용)
  * <p>
@@ -63,4 +66,43 @@ public class Reservation {
     public String toString() {
         return guestName + " (" + roomId + ")";
     }
-}
\ No newline at end of file
+
+    /**
+     * 예약 JSON 어댑터
+     * <p>
+     * 리플렉션 대신 필드를 직접 읽고 쓴다. 알 수 없는 필드는 건너뛴다.
+     * </p>
+     *
+     * @see JsonCodecs#objectAdapter
+     */
+    public static final TypeAdapter<Reservation> JSON_ADAPTER = JsonCodecs.objectAdapter(Reservation::new,
+        (out, value) -> {
+            out.name("id").value(value.id);
+            out.name("userId").value(value.userId);
+            out.name("roomId").value(value.roomId);
+            out.name("guestName").value(value.guestName);
+            out.name("phone").value(value.phone);
+            out.name("checkInDate").value(value.checkInDate);
+            out.name("checkOutDate").value(value.checkOutDate);
+            out.name("guestCount").value(value.guestCount);
+            out.name("isCheckedIn").value(value.isCheckedIn);
+            out.name("createdAt").value(value.createdAt);
+            out.name("updatedAt").value(value.updatedAt);
+        },
+        (in, name, value) -> {
+            switch (name) {
+                case "id" -> value.id = JsonCodecs.readString(in);
+                case "userId" -> value.userId = JsonCodecs.readString(in);
+                case "roomId" -> value.roomId = JsonCodecs.readString(in);
+                case "guestName" -> value.guestName = JsonCodecs.readString(in);
+                case "phone" -> value.phone = JsonCodecs.readString(in);
+                case "checkInDate" -> value.checkInDate = JsonCodecs.readString(in);
+                case "checkOutDate" -> value.checkOutDate = JsonCodecs.readString(in);
+                case "guestCount" -> value.guestCount = JsonCodecs.readInt(in);
+                case "isCheckedIn" -> value.isCheckedIn = JsonCodecs.readBoolean(in);
+                case "createdAt" -> value.createdAt = JsonCodecs.readString(in);
+                case "updatedAt" -> value.updatedAt = JsonCodecs.readString(in);
+                default -> in.skipValue();
+            }
+        });
+}
@@ -0,0 +1,55 @@
+package com.team3.model;
+
+import com.google.gson.TypeAdapter;
+import com.team3.util.JsonCodecs;
+
+/**
+ * 객실 모델 (클라이언트용)
+ * <p>
+ * {@code /api/rooms/get-rooms} 목록의 요소이다.
+ * 목록 캐시와 미리 불러오기가 같은 캐시 키를 쓰도록 패널과 API 호출이 이 타입을 공유한다.
+ * </p>
+ */
+public class Room {
+    private int roomId;
+    private int basePrice;
+    private boolean isAvailable;
+    private int maxOccupancy;
+    private String priceChangeReason;
+
+    public Room() {}
+
+    // Getters
+    public int getRoomId() { return roomId; }
+    public int getBasePrice() { return basePrice; }
+    public boolean isAvailable() { return isAvailable; }
+    public int getMaxOccupancy() { return maxOccupancy; }
+    public String getPriceChangeReason() { return priceChangeReason; }
+
+    /**
+     * 객실 JSON 어댑터
+     * <p>
+     * 리플렉션 대신 필드를 직접 읽고 쓴다. 알 수 없는 필드는 건너뛴다.
+     * </p>
+     *
+     * @see JsonCodecs#objectAdapter
+     */
+    public static final TypeAdapter<Room> JSON_ADAPTER = JsonCodecs.objectAdapter(Room::new,
+        (out, value) -> {
+            out.name("roomId").value(value.roomId);
+            out.name("basePrice").value(value.basePrice);
+            out.name("isAvailable").value(value.isAvailable);
+            out.name("maxOccupancy").value(value.maxOccupancy);
+            out.name("priceChangeReason").value(value.priceChangeReason);
+        },
+        (in, name, value) -> {
+            switch (name) {
+                case "roomId" -> value.roomId = JsonCodecs.readInt(in);
+                case "basePrice" -> value.basePrice = JsonCodecs.readInt(in);
+                case "isAvailable" -> value.isAvailable = JsonCodecs.readBoolean(in);
+                case "maxOccupancy" -> value.maxOccupancy = JsonCodecs.readInt(in);
+                case "priceChangeReason" -> value.priceChangeReason = JsonCodecs.readString(in);
+                default -> in.skipValue();
+            }
+        });
+}
@@ -0,0 +1,59 @@
+package com.team3.model;
+
+import com.google.gson.TypeAdapter;
+import com.team3.util.JsonCodecs;
+
+/**
+ * 사용자 모델 (클라이언트용)
+ * <p>
+ * {@code /api/users/get-users} 목록의 요소이다.
+ * 목록 캐시와 미리 불러오기가 같은 캐시 키를 쓰도록 패널과 API 호출이 이 타입을 공유한다.
+ * </p>
+ */
+public class User {
+    private String userId;
+    private String userName;
+    private String password;
+    private String role;
+    private String createdAt;
+    private String updatedAt;
+
+    public User() {}
+
+    // Getters
+    public String getUserId() { return userId; }
+    public String getUserName() { return userName; }
+    public String getPassword() { return password; }
+    public String getRole() { return role; }
+    public String getCreatedAt() { return createdAt; }
+    public String getUpdatedAt() { return updatedAt; }
+
+    /**
+     * 사용자 JSON 어댑터
+     * <p>
+     * 리플렉션 대신 필드를 직접 읽고 쓴다. 알 수 없는 필드는 건너뛴다.
+     * </p>
+     *
+     * @see JsonCodecs#objectAdapter
+     */
+    public static final TypeAdapter<User> JSON_ADAPTER = JsonCodecs.objectAdapter(User::new,
+        (out, value) -> {
+            out.name("userId").value(value.userId);
+            out.name("userName").value(value.userName);
+            out.name("password").value(value.password);
+            out.name("role").value(value.role);
+            out.name("createdAt").value(value.createdAt);
+            out.name("updatedAt").value(value.updatedAt);
+        },
+        (in, name, value) -> {
+            switch (name) {
+                case "userId" -> value.userId = JsonCodecs.readString(in);
+                case "userName" -> value.userName = JsonCodecs.readString(in);
+                case "password" -> value.password = JsonCodecs.readString(in);
+                case "role" -> value.role = JsonCodecs.readString(in);
+                case "createdAt" -> value.createdAt = JsonCodecs.readString(in);
+                case "updatedAt" -> value.updatedAt = JsonCodecs.readString(in);
+                default -> in.skipValue();
+            }
+        });
+}
@@ -0,0 +1,56 @@
+package com.team3.store;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * 변경 피드로 받은 엔티티 변경 이벤트 하나
+ *
+ * <h3>형식:</h3>
+ * <pre>{@code
+ * {"offset": 1234, "entity": "room", "op": "upsert", "id": "101", "data": { 객실 JSON }}
+ * {"offset": 1235, "entity": "reservation", "op": "delete", "id": "R-003"}
+ * {"offset": 1236, "op": "reset"}     // 서버가 요청한 offset부터 이어 줄 수 없음 → 전체 다시 조회
+ * }</pre>
+ *
+ * @param offset 서버가 매긴 순번 (재연결 시 이어 받을 위치, 없으면 -1)
+ * @param entity 엔티티 종류 ({@code room}, {@code reservation}, {@code fnb}, {@code payment}, {@code customer}, {@code user})
+ * @param op {@code upsert}, {@code delete}, {@code reset}
+ * @param id 엔티티 id (문자열)
+ * @param data upsert일 때 엔티티 JSON (아니면 null)
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public record ChangeEvent(long offset, String entity, String op, String id, JsonElement data) {
+
+    public static final String UPSERT = "upsert";
+    public static final String DELETE = "delete";
+    public static final String RESET = "reset";
+
+    /**
+     * 이벤트 JSON 하나를 읽는다
+     *
+     * @param json 이벤트 JSON 객체 문자열
+     * @return 이벤트
+     * @throws com.google.gson.JsonParseException JSON 객체가 아닌 경우
+     */
+    public static ChangeEvent parse(String json) {
+        JsonObject obj = JsonParser.parseString(json).getAsJsonObject();
+        return new ChangeEvent(
+            obj.has("offset") && !obj.get("offset").isJsonNull() ? obj.get("offset").getAsLong() : -1,
+            string(obj, "entity"),
+            string(obj, "op"),
+            string(obj, "id"),
+            obj.has("data") && !obj.get("data").isJsonNull() ? obj.get("data") : null);
+    }
+
+    private static String string(JsonObject obj, String key) {
+        JsonElement value = obj.get(key);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    public boolean isReset() {
+        return RESET.equals(op);
+    }
+}
@@ -0,0 +1,653 @@
+package com.team3.store;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.net.http.WebSocketHandshakeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.team3.client.HttpTransport;
+import com.team3.client.api.CustomerApi;
+import com.team3.client.api.FnbApi;
+import com.team3.client.api.PaymentApi;
+import com.team3.client.api.ReservationApi;
+import com.team3.client.api.RoomApi;
+import com.team3.client.api.UserApi;
+import com.team3.dto.response.ListResponse;
+import com.team3.dto.response.Payment;
+import com.team3.model.Customer;
+import com.team3.model.FnbItem;
+import com.team3.model.Reservation;
+import com.team3.model.Room;
+import com.team3.model.User;
+import com.team3.session.SessionManager;
+import com.team3.util.JsonUtil;
+
+/**
+ * 서버 푸시 변경 피드 구독기
+ * <p>
+ * 서버가 보내는 엔티티 변경 이벤트({@link ChangeEvent})를 받아 {@link EntityStores}에 바로 병합한다.
+ * 저장소를 구독한 패널은 바뀐 행만 다시 그리므로, 여러 프런트 데스크 단말이 새로고침 없이
+ * 같은 화면을 보게 되고 전체 목록을 반복해서 내려받지 않는다.
+ * </p>
+ *
+ * <h3>연결 방식:</h3>
+ * <ul>
+ *   <li>WebSocket: {@code ws://host:port/api/changes?since=<offset>} - 메시지 하나가 이벤트 JSON 하나</li>
+ *   <li>SSE: {@code GET /api/changes/stream?since=<offset>} ({@code Last-Event-ID} 헤더도 보냄) -
+ *       {@code data:} 줄이 이벤트 JSON</li>
+ * </ul>
+ * <p>
+ * 먼저 WebSocket을 시도하고, 핸드셰이크가 거절되면 SSE로 전환한다. 연결이 끊기면 지수 백오프
+ * (1초부터 {@code hms.changeFeed.maxBackoffMillis}, 기본 30초까지, 지터 포함)로 재연결하며
+ * 마지막으로 적용한 offset부터 이어 받는다. 이어 받을 offset이 없거나 서버가 {@code reset}을 보내면
+ * 이미 불러온 저장소만 전체 다시 조회한다.
+ * WebSocket과 SSE가 모두 404이면 서버에 변경 피드가 없는 것으로 보고 한 번만 로그를 남긴 뒤,
+ * {@code hms.changeFeed.unsupportedRetryMillis}(기본 10분)마다만 다시 확인한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>아직 전체 목록을 받지 않은 저장소의 이벤트는 id별로 모아 두었다가, 탭을 처음 열어 전체 목록을
+ *       받으면 그 위에 적용한다 (조회와 이벤트가 엇갈려도 변경을 잃지 않음)</li>
+ *   <li>적용에 실패한 엔티티는 그 저장소를 전체 다시 조회하고, 조회도 실패하면 다음 이벤트 때 다시 시도한다</li>
+ *   <li>짧은 시간에 몰린 이벤트는 엔티티별로 모아 저장소 갱신 한 번으로 적용한다</li>
+ *   <li>{@code -Dhms.changeFeed.enabled=false}로 끌 수 있다</li>
+ * </ul>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * ChangeFeed feed = new ChangeFeed(serverHost, serverPort);
+ * feed.start();    // 로그인 후
+ * ...
+ * feed.stop();
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class ChangeFeed {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeed.class);
+
+    private static final long MIN_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = Long.getLong("hms.changeFeed.maxBackoffMillis", 30_000L);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    /** 서버에 변경 피드 엔드포인트가 없을 때 다시 확인하는 간격 */
+    private final long unsupportedRetryMillis = Long.getLong("hms.changeFeed.unsupportedRetryMillis", 600_000L);
+
+    /** 연결 방식 */
+    public enum Transport { WEBSOCKET, SSE }
+
+    private final String serverHost;
+    private final int serverPort;
+    private final Gson gson = JsonUtil.getGson();
+
+    /** 엔티티 이름 → 적용할 저장소 */
+    private final Map<String, Target<?, ?>> targets = new HashMap<>();
+
+    /** 받았지만 아직 적용하지 않은 이벤트 */
+    private final BlockingQueue<ChangeEvent> pending = new LinkedBlockingQueue<>();
+
+    /** 적용 스레드를 깨우기만 하는 빈 이벤트 (모아 둔 이벤트를 적용할 때 사용) */
+    private static final ChangeEvent WAKE_UP = new ChangeEvent(-1, null, null, null, null);
+
+    /** 적용에 실패했고 다시 조회도 못 한 엔티티 (적용 스레드에서만 접근) */
+    private final Set<String> staleEntities = new LinkedHashSet<>();
+
+    private final LongAdder receivedEvents = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private boolean everConnected;
+
+    /** 두 연결 방식이 모두 404였는지 여부 (연결 스레드에서만 접근) */
+    private boolean unsupported;
+    private volatile Transport transport = Transport.WEBSOCKET;
+
+    /** 마지막으로 적용한 이벤트의 offset (없으면 -1) */
+    private volatile long lastOffset = -1;
+
+    private volatile WebSocket webSocket;
+    private volatile Stream<String> sseLines;
+    private Thread connector;
+    private Thread applier;
+
+    /**
+     * @param serverHost 서버 호스트
+     * @param serverPort 서버 포트
+     */
+    public ChangeFeed(String serverHost, int serverPort) {
+        this.serverHost = serverHost;
+        this.serverPort = serverPort;
+
+        EntityStores stores = EntityStores.getInstance();
+        targets.put("room", new Target<>(stores.rooms(), Room.class, Integer::valueOf,
+            () -> new RoomApi(serverHost, serverPort).fetchRoomList()));
+        targets.put("reservation", new Target<>(stores.reservations(), Reservation.class, Function.identity(),
+            () -> new ReservationApi(serverHost, serverPort).fetchReservations()));
+        targets.put("fnb", new Target<>(stores.fnbItems(), FnbItem.class, Function.identity(),
+            () -> new FnbApi(serverHost, serverPort).fetchFnbList()));
+        targets.put("payment", new Target<>(stores.payments(), Payment.class, Function.identity(),
+            () -> new PaymentApi(serverHost, serverPort).fetchPaymentHistory()));
+        targets.put("customer", new Target<>(stores.customers(), Customer.class, Function.identity(),
+            () -> new CustomerApi(serverHost, serverPort).fetchCustomerList()));
+        targets.put("user", new Target<>(stores.users(), User.class, Function.identity(),
+            () -> new UserApi(serverHost, serverPort).fetchUserList()));
+
+        // 모아 둔 이벤트가 있는 저장소가 전체 목록을 받으면 적용 스레드를 깨운다
+        for (Target<?, ?> target : targets.values()) {
+            target.store.addListener(list -> {
+                if (target.hasBuffered() && target.store.isLoaded()) {
+                    pending.add(WAKE_UP);
+                }
+            });
+        }
+    }
+
+    /**
+     * 구독을 시작한다 (이미 시작했으면 아무것도 하지 않음)
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        if (!Boolean.parseBoolean(System.getProperty("hms.changeFeed.enabled", "true"))) {
+            logger.info("변경 피드 비활성화 (hms.changeFeed.enabled=false)");
+            return;
+        }
+        running = true;
+        applier = Thread.ofVirtual().name("hms-change-apply").start(this::runApplier);
+        connector = Thread.ofVirtual().name("hms-change-feed").start(this::runConnector);
+        logger.info("변경 피드 구독 시작: {}:{}", serverHost, serverPort);
+    }
+
+    /**
+     * 구독을 멈추고 연결을 닫는다
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        WebSocket ws = webSocket;
+        if (ws != null) {
+            ws.abort();
+        }
+        Stream<String> lines = sseLines;
+        if (lines != null) {
+            lines.close();
+        }
+        connector.interrupt();
+        applier.interrupt();
+        connected = false;
+        logger.info("변경 피드 구독 중지 (마지막 offset {})", lastOffset);
+    }
+
+    public boolean isRunning() { return running; }
+    public boolean isConnected() { return connected; }
+    public Transport getTransport() { return transport; }
+    public long getLastOffset() { return lastOffset; }
+    public long getReceivedEvents() { return receivedEvents.sum(); }
+    public long getReconnects() { return reconnects.sum(); }
+
+    // ---------------------------------------------------------------- 연결
+
+    private void runConnector() {
+        long backoff = MIN_BACKOFF_MILLIS;
+        boolean webSocketNotFound = false;
+        while (running) {
+            boolean established = false;
+            boolean notFound = false;
+            Transport attempted = transport;
+            try {
+                established = attempted == Transport.WEBSOCKET ? runWebSocket() : runSse();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (WebSocketHandshakeException e) {
+                // 서버가 WebSocket을 지원하지 않으면 기다리지 않고 바로 SSE를 시도한다
+                int status = e.getResponse().statusCode();
+                if (!unsupported) {
+                    logger.info("WebSocket 변경 피드 거절 (HTTP {}) - SSE로 전환", status);
+                }
+                webSocketNotFound = status == 404;
+                transport = Transport.SSE;
+                continue;
+            } catch (FeedNotFoundException e) {
+                notFound = webSocketNotFound;
+                if (!notFound && running) {
+                    logger.debug("변경 피드 연결 실패 ({}): {}", attempted, e.toString());
+                }
+            } catch (IOException | RuntimeException e) {
+                if (running) {
+                    logger.debug("변경 피드 연결 실패 ({}): {}", attempted, e.toString());
+                }
+            } finally {
+                connected = false;
+                webSocket = null;
+                sseLines = null;
+            }
+            if (!running) {
+                break;
+            }
+            webSocketNotFound = false;
+            if (notFound) {
+                // 엔드포인트가 없는 서버에 모든 단말이 30초마다 요청하지 않도록 오래 기다린다
+                if (!unsupported) {
+                    unsupported = true;
+                    logger.info("서버에 변경 피드가 없음 (WebSocket, SSE 모두 HTTP 404) - {}초마다 다시 확인",
+                        unsupportedRetryMillis / 1000);
+                }
+                transport = Transport.WEBSOCKET;
+                try {
+                    Thread.sleep(unsupportedRetryMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                continue;
+            }
+            if (established) {
+                unsupported = false;
+                backoff = MIN_BACKOFF_MILLIS;
+                logger.info("변경 피드 연결 끊김 - 재연결 (마지막 offset {})", lastOffset);
+            } else if (attempted == Transport.SSE) {
+                // 서버가 나중에 WebSocket을 지원하게 될 수 있으므로 다음에는 다시 WebSocket부터 시도
+                transport = Transport.WEBSOCKET;
+            }
+            reconnects.increment();
+            try {
+                Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff / 5 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!established) {
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * WebSocket으로 연결하여 닫힐 때까지 이벤트를 받는다
+     *
+     * @return 연결이 성립했었는지 여부
+     */
+    private boolean runWebSocket() throws IOException, InterruptedException {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        WebSocket.Builder builder = http().newWebSocketBuilder().connectTimeout(CONNECT_TIMEOUT);
+        addAuthorization(builder::header);
+        try {
+            webSocket = builder.buildAsync(uri("ws", "/api/changes"), new FeedListener(closed)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+        onConnected();
+        try {
+            closed.get();
+        } catch (ExecutionException e) {
+            logger.debug("WebSocket 변경 피드 오류: {}", e.getCause().toString());
+        }
+        return true;
+    }
+
+    /**
+     * SSE로 연결하여 스트림이 끝날 때까지 이벤트를 받는다
+     *
+     * @return 연결이 성립했었는지 여부
+     */
+    private boolean runSse() throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri("http", "/api/changes/stream"))
+            .header("Accept", "text/event-stream")
+            .GET();
+        addAuthorization(builder::header);
+        if (lastOffset >= 0) {
+            builder.header("Last-Event-ID", Long.toString(lastOffset));
+        }
+        HttpResponse<Stream<String>> response = http().send(builder.build(), HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            if (response.statusCode() == 404) {
+                throw new FeedNotFoundException();
+            }
+            throw new IOException("SSE 변경 피드 응답 코드: " + response.statusCode());
+        }
+        try (Stream<String> lines = response.body()) {
+            sseLines = lines;
+            onConnected();
+            StringBuilder data = new StringBuilder();
+            Iterator<String> it = lines.iterator();
+            while (running && it.hasNext()) {
+                String line = it.next();
+                if (line.isEmpty()) {
+                    if (data.length() > 0) {
+                        accept(data.toString());
+                        data.setLength(0);
+                    }
+                } else if (line.startsWith("data:")) {
+                    if (data.length() > 0) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring(line.startsWith("data: ") ? 6 : 5));
+                }
+                // id:, event:, retry:, 주석 줄은 사용하지 않는다 (offset은 이벤트 JSON에 들어 있음)
+            }
+        } catch (RuntimeException e) {
+            // 다른 스레드에서 스트림을 닫으면 반복자가 UncheckedIOException을 던진다
+            if (running) {
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    private void onConnected() {
+        connected = true;
+        logger.info("변경 피드 연결됨: {} (offset {}부터)", transport, lastOffset);
+        if (everConnected && lastOffset < 0) {
+            // 끊긴 동안의 변경을 이어 받을 위치가 없으므로 다시 연결된 뒤 전체 다시 조회
+            pending.add(new ChangeEvent(-1, null, ChangeEvent.RESET, null, null));
+        }
+        everConnected = true;
+    }
+
+    private URI uri(String scheme, String path) {
+        String query = lastOffset >= 0 ? "?since=" + lastOffset : "";
+        return URI.create(String.format("%s://%s:%d%s%s", scheme, serverHost, serverPort, path, query));
+    }
+
+    private static HttpClient http() {
+        return HttpTransport.getInstance().getHttpClient();
+    }
+
+    private static void addAuthorization(BiConsumer<String, String> header) {
+        String authorization = SessionManager.getInstance().getAuthorizationHeader();
+        if (!authorization.isEmpty()) {
+            header.accept("Authorization", authorization);
+        }
+    }
+
+    /** 이벤트 JSON 하나를 적용 대기열에 넣는다 */
+    private void accept(String json) {
+        try {
+            pending.add(ChangeEvent.parse(json));
+            receivedEvents.increment();
+        } catch (JsonParseException | IllegalStateException e) {
+            logger.warn("변경 이벤트 파싱 실패 (무시): {}", json, e);
+        }
+    }
+
+    /**
+     * SSE 변경 피드 엔드포인트가 404로 응답함
+     */
+    private static final class FeedNotFoundException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        FeedNotFoundException() {
+            super("SSE 변경 피드 응답 코드: 404");
+        }
+    }
+
+    /**
+     * WebSocket 수신 리스너 (조각난 텍스트 메시지를 이어 붙인다)
+     */
+    private final class FeedListener implements WebSocket.Listener {
+        private final CompletableFuture<Void> closed;
+        private final StringBuilder message = new StringBuilder();
+
+        FeedListener(CompletableFuture<Void> closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+            message.append(data);
+            if (last) {
+                accept(message.toString());
+                message.setLength(0);
+            }
+            ws.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+            logger.debug("WebSocket 변경 피드 종료: {} {}", statusCode, reason);
+            closed.complete(null);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket ws, Throwable error) {
+            closed.completeExceptionally(error);
+        }
+    }
+
+    // ---------------------------------------------------------------- 적용
+
+    private void runApplier() {
+        List<ChangeEvent> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(pending.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            pending.drainTo(batch);
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                logger.error("변경 이벤트 적용 중 오류", e);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 모인 이벤트를 엔티티별로 묶어 적용한다
+     * <p>
+     * {@code reset}이 있으면 그 앞의 이벤트는 버리고 불러온 저장소를 전체 다시 조회한 뒤 나머지를 적용한다.
+     * 적용에 실패한 엔티티는 전체 다시 조회하고, 조회도 실패하면 다음 적용 때 다시 조회한다.
+     * </p>
+     */
+    private void apply(List<ChangeEvent> batch) {
+        Map<String, List<ChangeEvent>> byEntity = new LinkedHashMap<>();
+        boolean reset = false;
+        long offset = lastOffset;
+        for (ChangeEvent event : batch) {
+            if (event.isReset()) {
+                reset = true;
+                byEntity.clear();
+            } else if (event.entity() != null && event.id() != null) {
+                if (targets.containsKey(event.entity())) {
+                    byEntity.computeIfAbsent(event.entity(), k -> new ArrayList<>()).add(event);
+                } else {
+                    logger.debug("알 수 없는 엔티티의 변경 이벤트 무시: {}", event.entity());
+                }
+            }
+            offset = Math.max(offset, event.offset());
+        }
+        if (reset) {
+            logger.info("변경 피드 reset - 불러온 저장소 전체 다시 조회");
+            reloadLoadedStores();
+        } else {
+            retryStaleEntities();
+        }
+        for (Map.Entry<String, Target<?, ?>> entry : targets.entrySet()) {
+            applyBuffered(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, List<ChangeEvent>> entry : byEntity.entrySet()) {
+            String entity = entry.getKey();
+            Target<?, ?> target = targets.get(entity);
+            try {
+                target.apply(entry.getValue(), gson);
+            } catch (RuntimeException e) {
+                logger.warn("{} 변경 이벤트 적용 실패 ({}건) - 전체 다시 조회", entity, entry.getValue().size(), e);
+                reload(entity, target);
+            }
+        }
+        lastOffset = offset;
+        logger.debug("변경 이벤트 {}건 적용 (offset {})", batch.size(), offset);
+    }
+
+    /** 모아 둔 이벤트가 있고 저장소가 전체 목록을 받았으면 적용한다 */
+    private void applyBuffered(String entity, Target<?, ?> target) {
+        if (!target.hasBuffered() || !target.store.isLoaded()) {
+            return;
+        }
+        try {
+            int count = target.applyBuffered(gson);
+            logger.debug("{} 저장소 조회 전에 받은 변경 이벤트 {}건 적용", entity, count);
+        } catch (RuntimeException e) {
+            logger.warn("{} 모아 둔 변경 이벤트 적용 실패 - 전체 다시 조회", entity, e);
+            reload(entity, target);
+        }
+    }
+
+    private void reloadLoadedStores() {
+        staleEntities.clear();
+        for (Map.Entry<String, Target<?, ?>> entry : targets.entrySet()) {
+            Target<?, ?> target = entry.getValue();
+            // 이어 받지 못한 구간이 있으므로 조회 전에 모아 둔 이벤트는 믿을 수 없다 (처음 조회할 때 전체를 받음)
+            target.clearBuffered();
+            if (target.store.isLoaded()) {
+                reload(entry.getKey(), target);
+            }
+        }
+    }
+
+    private void retryStaleEntities() {
+        if (staleEntities.isEmpty()) {
+            return;
+        }
+        for (String entity : new ArrayList<>(staleEntities)) {
+            staleEntities.remove(entity);
+            reload(entity, targets.get(entity));
+        }
+    }
+
+    /** 저장소를 전체 다시 조회한다 (실패하면 다음 적용 때 다시 시도) */
+    private void reload(String entity, Target<?, ?> target) {
+        ListResponse<?> response;
+        try {
+            response = target.reload.get();
+        } catch (RuntimeException e) {
+            response = ListResponse.error(e.getMessage());
+        }
+        if (!response.isSuccess()) {
+            logger.warn("{} 저장소 다시 조회 실패 - 다음 변경 이벤트 때 재시도: {}", entity, response.getMessage());
+            staleEntities.add(entity);
+        }
+    }
+
+    /**
+     * 엔티티 종류별 적용 대상
+     * <p>
+     * 저장소가 아직 전체 목록을 받지 않았으면 이벤트를 id별로(마지막 것만) 모아 두고,
+     * 목록을 받은 뒤 {@link #applyBuffered(Gson)}로 한 번에 적용한다. 모아 둔 이벤트는 적용 스레드에서만 다룬다.
+     * </p>
+     *
+     * @param <K> 저장소 키 타입
+     * @param <T> 엔티티 타입
+     */
+    private static final class Target<K, T> {
+        /** 대상 저장소 */
+        final EntityStore<K, T> store;
+        /** 엔티티 클래스 ({@code data} 역직렬화용) */
+        final Class<T> type;
+        /** 이벤트의 문자열 id를 저장소 키로 변환하는 함수 */
+        final Function<String, K> parseId;
+        /** 저장소를 서버 목록으로 다시 채우는 조회 */
+        final Supplier<ListResponse<?>> reload;
+
+        /** 저장소를 받기 전에 온 이벤트 (id → 마지막 이벤트, 도착 순서 유지) */
+        private final Map<String, ChangeEvent> buffered = new LinkedHashMap<>();
+        private volatile boolean hasBuffered;
+
+        Target(EntityStore<K, T> store, Class<T> type, Function<String, K> parseId,
+                Supplier<ListResponse<?>> reload) {
+            this.store = store;
+            this.type = type;
+            this.parseId = parseId;
+            this.reload = reload;
+        }
+
+        boolean hasBuffered() {
+            return hasBuffered;
+        }
+
+        void apply(List<ChangeEvent> events, Gson gson) {
+            if (!store.isLoaded()) {
+                for (ChangeEvent event : events) {
+                    // 순서를 도착 순서로 유지하기 위해 지운 뒤 다시 넣는다
+                    buffered.remove(event.id());
+                    buffered.put(event.id(), event);
+                }
+                hasBuffered = !buffered.isEmpty();
+                return;
+            }
+            merge(events, gson);
+        }
+
+        int applyBuffered(Gson gson) {
+            List<ChangeEvent> events = new ArrayList<>(buffered.values());
+            clearBuffered();
+            merge(events, gson);
+            return events.size();
+        }
+
+        void clearBuffered() {
+            buffered.clear();
+            hasBuffered = false;
+        }
+
+        private void merge(List<ChangeEvent> events, Gson gson) {
+            // 같은 id의 이벤트가 여러 번 오면 마지막 것만 남긴다
+            Map<K, T> upserts = new LinkedHashMap<>();
+            Set<K> deleted = new LinkedHashSet<>();
+            for (ChangeEvent event : events) {
+                K id = parseId.apply(event.id());
+                if (ChangeEvent.DELETE.equals(event.op())) {
+                    upserts.remove(id);
+                    deleted.add(id);
+                } else if (ChangeEvent.UPSERT.equals(event.op()) && event.data() != null) {
+                    deleted.remove(id);
+                    upserts.put(id, gson.fromJson(event.data(), type));
+                }
+            }
+            store.applyChanges(upserts.values(), deleted);
+        }
+    }
+}
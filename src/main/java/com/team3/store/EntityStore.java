@@ -0,0 +1,380 @@
+package com.team3.store;
+
+import java.awt.EventQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.dto.response.ListResponse;
+
+/**
+ * 엔티티 한 종류의 클라이언트 측 저장소
+ * <p>
+ * 서버에서 받은 전체 목록을 id 기준 맵과 보조 인덱스로 보관하여,
+ * 어느 화면에서든 네트워크 왕복 없이 O(1)로 조회할 수 있게 한다.
+ * 목록이 바뀔 때마다 인덱스를 포함한 새 스냅샷을 만들어 한 번에 교체하므로
+ * 조회는 잠금 없이 어느 스레드에서든 할 수 있다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * EntityStore<String, Reservation> reservations = EntityStores.getInstance().reservations();
+ *
+ * Reservation r = reservations.get("R-001");
+ * List<Reservation> inRoom = reservations.lookup(EntityStores.RESERVATIONS_BY_ROOM, "101");
+ *
+ * // 패널은 리스너를 등록하여 누가 조회했든 최신 목록을 받는다 (EDT에서 호출됨)
+ * reservations.addListener(this::updateTable);
+ * }</pre>
+ *
+ * <p>
+ * 디스크 스냅샷에서 {@link #restore(List)}한 목록은 화면 표시({@link #all()}, 리스너)에만 쓰인다.
+ * 서버 목록을 받기 전까지 {@link #isLoaded()}는 false이고 {@link #get(Object)}, {@link #lookup}은
+ * 결과를 내주지 않으므로, 클라이언트 검증과 동기화 기준점은 서버가 확인한 데이터만 사용한다.
+ * </p>
+ *
+ * @param <K> id 타입
+ * @param <T> 엔티티 타입
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class EntityStore<K, T> {
+    private static final Logger logger = LoggerFactory.getLogger(EntityStore.class);
+
+    private final String name;
+    private final Function<T, K> idOf;
+    private final List<Index<T, ?>> indexes = new ArrayList<>();
+    private final List<Consumer<List<T>>> listeners = new CopyOnWriteArrayList<>();
+
+    /** 현재 스냅샷 (아직 조회한 적이 없으면 빈 스냅샷, 디스크에서 복원했으면 복원 스냅샷) */
+    private volatile Snapshot<K, T> snapshot = Snapshot.empty();
+
+    /** {@link #replaceAll(List)}로 전체 목록이 교체된 횟수 */
+    private volatile long fullLoadCount;
+
+    /**
+     * @param name 로그용 이름 (예: "reservations")
+     * @param idOf 엔티티의 id 추출 함수
+     */
+    public EntityStore(String name, Function<T, K> idOf) {
+        this.name = name;
+        this.idOf = idOf;
+    }
+
+    /**
+     * 보조 인덱스를 추가한다
+     * <p>
+     * 저장소를 만든 직후(목록을 넣기 전)에만 호출한다. 같은 키를 가진 엔티티가 여러 개일 수 있으므로
+     * 조회 결과는 목록이며, 키가 null인 엔티티는 인덱스에 들어가지 않는다.
+     * </p>
+     *
+     * @param index 인덱스 정의
+     * @return this
+     */
+    public synchronized EntityStore<K, T> withIndex(Index<T, ?> index) {
+        indexes.add(index);
+        return this;
+    }
+
+    /**
+     * 서버에서 받은 전체 목록으로 저장소를 교체한다
+     * <p>
+     * id와 인덱스를 새로 만든 뒤 스냅샷을 교체하고, 리스너에게 EDT에서 새 목록을 알린다.
+     * 조건부 GET(304)으로 이전과 같은 목록 인스턴스를 다시 받으면 아무것도 하지 않는다.
+     * </p>
+     *
+     * @param items 전체 목록 (복사하지 않고 그대로 보관하여 {@link #all()}로 내주므로
+     *              {@link ListResponse#getItems()}처럼 수정할 수 없는 목록이어야 함)
+     */
+    public void replaceAll(List<T> items) {
+        Snapshot<K, T> next;
+        synchronized (this) {
+            if (snapshot.all() == items) {
+                return;
+            }
+            next = build(items, true, false);
+            snapshot = next;
+            fullLoadCount++;
+        }
+        logger.debug("저장소 갱신: {} ({}건, 인덱스 {}개)", name, items.size(), indexes.size());
+        notifyListeners(next.all());
+    }
+
+    /**
+     * 디스크 스냅샷에서 읽은 목록을 표시용으로 채운다
+     * <p>
+     * 서버 목록을 이미 받았으면 아무것도 하지 않는다. 채운 목록은 리스너와 {@link #all()}로 보이지만
+     * 서버가 확인한 데이터가 아니므로 {@link #isLoaded()}는 false로 남고 {@link #isRestored()}가 true가 된다.
+     * 다음 {@link #replaceAll(List)}가 서버 목록으로 교체한다.
+     * </p>
+     *
+     * @param items 복원한 전체 목록 (수정할 수 없는 목록)
+     * @return 채웠으면 true (이미 서버 목록이 있으면 false)
+     */
+    public boolean restore(List<T> items) {
+        Snapshot<K, T> next;
+        synchronized (this) {
+            if (snapshot.loaded()) {
+                return false;
+            }
+            next = build(items, false, true);
+            snapshot = next;
+        }
+        logger.debug("저장소 복원: {} ({}건)", name, items.size());
+        notifyListeners(next.all());
+        return true;
+    }
+
+    /**
+     * 변경분을 현재 목록에 병합한다
+     * <p>
+     * 같은 id의 엔티티는 제자리에서 교체하고, 새 엔티티는 끝에 추가하며, 삭제된 id는 제거한다.
+     * 병합 결과로 새 스냅샷을 만들어 교체하고 리스너에게 알린다. 변경분이 없으면 아무것도 하지 않는다.
+     * 병합은 목록의 상태(서버 목록/복원 목록)를 바꾸지 않는다.
+     * </p>
+     *
+     * @param upserts 추가되거나 변경된 엔티티
+     * @param removedIds 삭제된 엔티티 id (tombstone)
+     * @return 병합 후 전체 목록
+     */
+    public List<T> applyChanges(Collection<T> upserts, Collection<K> removedIds) {
+        Snapshot<K, T> next;
+        synchronized (this) {
+            if (upserts.isEmpty() && removedIds.isEmpty()) {
+                return snapshot.all();
+            }
+            Map<K, T> merged = new LinkedHashMap<>(Math.max(16, snapshot.all().size() * 4 / 3 + 1));
+            List<T> withoutId = new ArrayList<>(0);
+            for (T item : snapshot.all()) {
+                K id = idOf.apply(item);
+                if (id != null) {
+                    merged.put(id, item);
+                } else {
+                    withoutId.add(item);
+                }
+            }
+            for (T item : upserts) {
+                K id = idOf.apply(item);
+                if (id != null) {
+                    merged.put(id, item);
+                }
+            }
+            for (K id : removedIds) {
+                merged.remove(id);
+            }
+            List<T> items = new ArrayList<>(merged.size() + withoutId.size());
+            items.addAll(merged.values());
+            items.addAll(withoutId);
+            next = build(Collections.unmodifiableList(items), snapshot.loaded(), snapshot.restored());
+            snapshot = next;
+        }
+        logger.debug("저장소 병합: {} (변경 {}건, 삭제 {}건 → {}건)", name, upserts.size(), removedIds.size(),
+            next.all().size());
+        notifyListeners(next.all());
+        return next.all();
+    }
+
+    private Snapshot<K, T> build(List<T> items, boolean loaded, boolean restored) {
+        Map<K, T> byId = new HashMap<>(Math.max(16, items.size() * 4 / 3 + 1));
+        Map<Index<T, ?>, Map<Object, List<T>>> byIndex = new IdentityHashMap<>();
+        for (Index<T, ?> index : indexes) {
+            byIndex.put(index, new HashMap<>());
+        }
+        for (T item : items) {
+            K id = idOf.apply(item);
+            if (id != null) {
+                byId.put(id, item);
+            }
+            for (Index<T, ?> index : indexes) {
+                Object key = index.keyOf().apply(item);
+                if (key != null) {
+                    byIndex.get(index).computeIfAbsent(key, k -> new ArrayList<>(1)).add(item);
+                }
+            }
+        }
+        return new Snapshot<>(items, byId, byIndex, loaded, restored);
+    }
+
+    /**
+     * id로 엔티티를 조회한다
+     *
+     * @param id 엔티티 id
+     * @return 엔티티 (없거나 아직 서버 목록을 받기 전이면 null)
+     */
+    public T get(K id) {
+        Snapshot<K, T> current = snapshot;
+        return id == null || !current.loaded() ? null : current.byId().get(id);
+    }
+
+    /**
+     * 보조 인덱스로 엔티티를 조회한다
+     *
+     * @param index {@link #withIndex(Index)}로 등록한 인덱스
+     * @param key 인덱스 키
+     * @return 일치하는 엔티티 목록 (없으면 빈 목록)
+     * @throws IllegalArgumentException 이 저장소에 등록되지 않은 인덱스인 경우
+     */
+    public <V> List<T> lookup(Index<T, V> index, V key) {
+        Snapshot<K, T> current = snapshot;
+        if (!indexes.contains(index)) {
+            throw new IllegalArgumentException(name + " 저장소에 없는 인덱스: " + index.name());
+        }
+        if (key == null || !current.loaded()) {
+            return Collections.emptyList();
+        }
+        List<T> items = current.byIndex().get(index).get(key);
+        return items == null ? Collections.emptyList() : Collections.unmodifiableList(items);
+    }
+
+    /**
+     * 전체 목록 (서버 응답 순서)
+     *
+     * @return 수정할 수 없는 목록 (조회 전이면 빈 목록, 서버 목록을 받기 전이면 복원한 목록)
+     */
+    public List<T> all() {
+        return snapshot.all();
+    }
+
+    /**
+     * 한 번이라도 서버에서 전체 목록을 받았는지 여부
+     * <p>
+     * false이면 "없음"과 "아직 모름"을 구분할 수 없으므로, 검증 용도로 조회할 때 먼저 확인한다.
+     * 디스크 스냅샷에서 복원한 목록만 있으면 false이다.
+     * </p>
+     */
+    public boolean isLoaded() {
+        return snapshot.loaded();
+    }
+
+    /**
+     * 서버의 전체 목록으로 교체된 횟수
+     * <p>
+     * {@link #replaceAll(List)}만 올리고 {@link #applyChanges}의 병합이나 {@link #restore}는 올리지 않으므로,
+     * 값이 바뀌었으면 그 사이 서버가 확인한 전체 목록이 들어온 것이다 (변경분 동기화의 기준점 판별용).
+     * </p>
+     */
+    public long getFullLoadCount() {
+        return fullLoadCount;
+    }
+
+    /**
+     * 서버 목록을 받기 전이고 디스크 스냅샷에서 복원한 목록을 보여주고 있는지 여부
+     */
+    public boolean isRestored() {
+        return snapshot.restored();
+    }
+
+    public String getName() { return name; }
+
+    /**
+     * 목록 변경 리스너를 등록한다
+     * <p>
+     * 리스너는 EDT에서 새 전체 목록과 함께 호출된다.
+     * 패널은 {@link #subscribe(Consumer)}로 등록하면 이미 받아 둔 목록(복원한 목록 포함)을 바로 표시할 수 있다.
+     * </p>
+     *
+     * @param listener 새 목록을 받을 리스너
+     */
+    public void addListener(Consumer<List<T>> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 리스너를 등록하고, 이미 받아 둔 목록이 있으면 바로 한 번 전달한다 (EDT에서 호출)
+     * <p>
+     * 패널 생성 시 사용하면 다른 화면이나 미리 불러오기가 조회해 둔 목록을 네트워크 없이 즉시 표시한다.
+     * </p>
+     *
+     * @param listener 목록을 받을 리스너
+     */
+    public void subscribe(Consumer<List<T>> listener) {
+        addListener(listener);
+        Snapshot<K, T> current = snapshot;
+        if (current.loaded() || current.restored()) {
+            listener.accept(current.all());
+        }
+    }
+
+    public void removeListener(Consumer<List<T>> listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners(List<T> items) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Runnable dispatch = () -> {
+            // 그 사이에 더 새로운 목록이 들어왔으면 오래된 알림은 건너뛴다
+            if (snapshot.all() != items) {
+                return;
+            }
+            for (Consumer<List<T>> listener : listeners) {
+                try {
+                    listener.accept(items);
+                } catch (RuntimeException e) {
+                    logger.error("저장소 리스너 실행 중 오류: {}", name, e);
+                }
+            }
+        };
+        if (EventQueue.isDispatchThread()) {
+            dispatch.run();
+        } else {
+            EventQueue.invokeLater(dispatch);
+        }
+    }
+
+    /**
+     * 보조 인덱스 정의
+     * <p>
+     * 인덱스는 인스턴스 동일성으로 구분되므로 상수로 만들어 두고 공유한다
+     * ({@link EntityStores}의 {@code *_BY_*} 상수 참고).
+     * </p>
+     *
+     * @param <T> 엔티티 타입
+     * @param <V> 인덱스 키 타입
+     */
+    public static final class Index<T, V> {
+        private final String name;
+        private final Function<T, V> keyOf;
+
+        /**
+         * @param name 로그/오류 메시지용 이름
+         * @param keyOf 엔티티에서 인덱스 키를 추출하는 함수
+         */
+        public Index(String name, Function<T, V> keyOf) {
+            this.name = name;
+            this.keyOf = keyOf;
+        }
+
+        public String name() { return name; }
+        Function<T, V> keyOf() { return keyOf; }
+    }
+
+    /**
+     * 불변 스냅샷
+     *
+     * @param all replaceAll에 전달된 목록 (같은 목록 재전달 판별에도 사용)
+     * @param byId id → 엔티티
+     * @param byIndex 인덱스 → (키 → 엔티티 목록)
+     * @param loaded 서버에서 전체 목록을 받은 적이 있는지 여부
+     * @param restored 서버 목록 대신 디스크 스냅샷에서 복원한 목록인지 여부
+     */
+    private record Snapshot<K, T>(List<T> all, Map<K, T> byId,
+            Map<Index<T, ?>, Map<Object, List<T>>> byIndex, boolean loaded, boolean restored) {
+        static <K, T> Snapshot<K, T> empty() {
+            return new Snapshot<>(Collections.emptyList(), Collections.emptyMap(),
+                Collections.emptyMap(), false, false);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.team3.store;
+
+import com.team3.dto.response.Payment;
+import com.team3.model.Customer;
+import com.team3.model.FnbItem;
+import com.team3.model.Reservation;
+import com.team3.model.Room;
+import com.team3.model.User;
+
+/**
+ * 엔티티별 저장소 모음 (전역 공유)
+ * <p>
+ * API 클래스의 전체 목록 조회({@code fetch*List})가 성공하면 결과가 해당 저장소에 들어가고,
+ * 저장소를 구독한 패널과 대화상자가 같은 데이터를 본다.
+ * 한 번의 조회로 모든 화면이 갱신되며, 다른 화면의 데이터도 네트워크 왕복 없이 조회할 수 있다
+ * (예: 결제 화면에서 예약 번호로 고객명 채우기, 식음료 주문 시 객실 번호 확인).
+ * </p>
+ *
+ * <h3>보조 인덱스:</h3>
+ * <ul>
+ *   <li>{@link #RESERVATIONS_BY_ROOM}, {@link #RESERVATIONS_BY_GUEST} - 예약의 객실 번호, 투숙객 이름</li>
+ *   <li>{@link #FNB_BY_ROOM} - 식음료 주문의 객실 번호</li>
+ *   <li>{@link #PAYMENTS_BY_RESERVATION} - 결제의 예약 번호</li>
+ * </ul>
+ *
+ * <p>
+ * 검색 결과처럼 전체 목록이 아닌 응답은 저장소에 넣지 않는다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class EntityStores {
+    private static EntityStores instance;
+
+    public static final EntityStore.Index<Reservation, String> RESERVATIONS_BY_ROOM =
+        new EntityStore.Index<>("reservations.roomId", Reservation::getRoomId);
+    public static final EntityStore.Index<Reservation, String> RESERVATIONS_BY_GUEST =
+        new EntityStore.Index<>("reservations.guestName", Reservation::getGuestName);
+    public static final EntityStore.Index<FnbItem, String> FNB_BY_ROOM =
+        new EntityStore.Index<>("fnb.roomId", FnbItem::getRoomId);
+    public static final EntityStore.Index<Payment, String> PAYMENTS_BY_RESERVATION =
+        new EntityStore.Index<>("payments.reservationId", Payment::getReservationId);
+
+    private final EntityStore<Integer, Room> rooms =
+        new EntityStore<>("rooms", Room::getRoomId);
+    private final EntityStore<String, Reservation> reservations =
+        new EntityStore<String, Reservation>("reservations", Reservation::getId)
+            .withIndex(RESERVATIONS_BY_ROOM)
+            .withIndex(RESERVATIONS_BY_GUEST);
+    private final EntityStore<String, FnbItem> fnbItems =
+        new EntityStore<String, FnbItem>("fnb", FnbItem::getId)
+            .withIndex(FNB_BY_ROOM);
+    private final EntityStore<String, Customer> customers =
+        new EntityStore<>("customers", Customer::getId);
+    private final EntityStore<String, Payment> payments =
+        new EntityStore<String, Payment>("payments", Payment::getReceiptId)
+            .withIndex(PAYMENTS_BY_RESERVATION);
+    private final EntityStore<String, User> users =
+        new EntityStore<>("users", User::getUserId);
+
+    private EntityStores() {}
+
+    /**
+     * 싱글톤 인스턴스 반환
+     *
+     * @return EntityStores 인스턴스
+     */
+    public static synchronized EntityStores getInstance() {
+        if (instance == null) {
+            instance = new EntityStores();
+        }
+        return instance;
+    }
+
+    public EntityStore<Integer, Room> rooms() { return rooms; }
+    public EntityStore<String, Reservation> reservations() { return reservations; }
+    public EntityStore<String, FnbItem> fnbItems() { return fnbItems; }
+    public EntityStore<String, Customer> customers() { return customers; }
+    public EntityStore<String, Payment> payments() { return payments; }
+    public EntityStore<String, User> users() { return users; }
+}
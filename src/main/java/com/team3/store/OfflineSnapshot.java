@@ -0,0 +1,446 @@
+package com.team3.store;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.team3.model.Customer;
+import com.team3.model.FnbItem;
+import com.team3.model.Reservation;
+import com.team3.model.Room;
+import com.team3.session.SessionManager;
+import com.team3.util.JsonUtil;
+
+/**
+ * 저장소의 디스크 스냅샷 (오프라인 시작용)
+ * <p>
+ * 마지막으로 받은 객실, 예약, 식음료, 고객 목록을 서버 주소와 사용자별 파일에 보관해 두었다가,
+ * 다음 실행 때 메모리 매핑으로 읽어 {@link EntityStores}에 먼저 채운다.
+ * 패널은 저장소를 구독하므로 네트워크 왕복 없이 바로 표 내용을 그리고,
+ * 미리 불러오기와 탭 조회가 뒤이어 서버 목록으로 교체한다. 복원한 목록은 표시용일 뿐이므로
+ * ({@link EntityStore#restore(List)}) 클라이언트 검증, 변경 피드 적용, 예약 변경분 조회의 기준점으로는 쓰이지 않는다.
+ * </p>
+ *
+ * <h3>파일:</h3>
+ * <ul>
+ *   <li>위치: {@code hms.snapshot.dir} (기본 {@code ~/.hms/snapshots}), 이름은 서버 URL + 사용자 id의 SHA-256</li>
+ *   <li>형식: 머리글(매직, 형식 버전, 스키마 버전, 세대, 저장 시각, 키) + 저장소별 JSON 배열 구역</li>
+ *   <li>형식/스키마 버전이나 키가 다르면 읽지 않고 지운다 (모델을 바꾸면 {@link #SCHEMA_VERSION}을 올린다)</li>
+ *   <li>매핑된 파일은 실행 중에 덮어쓸 수 없는 OS(Windows)가 있으므로 두 슬롯(a, b)을 번갈아 쓰고,
+ *       세대가 큰 쪽을 읽는다</li>
+ * </ul>
+ *
+ * <p>
+ * 저장소가 바뀌면 {@code hms.snapshot.saveDelayMillis}(기본 5초) 뒤에 한 번 모아서 저장하고,
+ * 종료 시 남은 변경을 저장한다. 고객 연락처가 들어 있으므로 POSIX 파일 시스템에서는 소유자만 읽을 수 있게 만든다.
+ * {@code -Dhms.snapshot.enabled=false}로 끌 수 있다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * OfflineSnapshot snapshot = new OfflineSnapshot(serverHost, serverPort);
+ * snapshot.restore();          // 패널을 만들기 전 (EDT)
+ * snapshot.startAutoSave();
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class OfflineSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(OfflineSnapshot.class);
+
+    /** "HMSS" */
+    private static final int MAGIC = 0x484D5353;
+
+    /** 파일 배치 버전 */
+    private static final int FORMAT_VERSION = 1;
+
+    /** 모델 JSON 스키마 버전 (모델 필드나 JSON_ADAPTER를 바꾸면 올린다) */
+    static final int SCHEMA_VERSION = 1;
+
+    /** 머리글을 확인하기 위해 읽는 최대 바이트 수 */
+    private static final int HEADER_PROBE_BYTES = 4096;
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("hms.snapshot.enabled", "true"));
+    private final long saveDelayMillis = Long.getLong("hms.snapshot.saveDelayMillis", 5_000L);
+
+    private final String key;
+    private final Path[] slots;
+    private final List<Section<?>> sections = new ArrayList<>();
+    private final Gson gson = JsonUtil.getGson();
+
+    /** 다음 저장의 세대 번호와 슬롯 (restore 이후 결정) */
+    private long generation;
+    private int writeSlot;
+
+    private ScheduledExecutorService saver;
+    private ScheduledFuture<?> pendingSave;
+
+    /** 저장 중 잠금 (저장소 리스너가 디스크 쓰기를 기다리지 않도록 this와 분리) */
+    private final Object saveLock = new Object();
+
+    /**
+     * 현재 로그인한 사용자의 스냅샷
+     *
+     * @param serverHost 서버 호스트
+     * @param serverPort 서버 포트
+     */
+    public OfflineSnapshot(String serverHost, int serverPort) {
+        this.key = String.format("http://%s:%d", serverHost, serverPort) + "|" + SessionManager.getInstance().getUserId();
+
+        Path dir = Path.of(System.getProperty("hms.snapshot.dir",
+            Path.of(System.getProperty("user.home"), ".hms", "snapshots").toString()));
+        String name = fileName(key);
+        this.slots = new Path[] { dir.resolve(name + "-a.snap"), dir.resolve(name + "-b.snap") };
+
+        EntityStores stores = EntityStores.getInstance();
+        sections.add(new Section<>("rooms", stores.rooms(), Room.class));
+        sections.add(new Section<>("reservations", stores.reservations(), Reservation.class));
+        sections.add(new Section<>("fnb", stores.fnbItems(), FnbItem.class));
+        sections.add(new Section<>("customers", stores.customers(), Customer.class));
+    }
+
+    /**
+     * 가장 최근 스냅샷을 읽어 저장소를 채운다 (패널을 만들기 전에 호출)
+     * <p>
+     * 이미 서버 목록을 받은 저장소는 건드리지 않는다. 파일이 없거나 손상되었으면 아무것도 하지 않는다.
+     * </p>
+     *
+     * @return 채운 저장소 수
+     */
+    public int restore() {
+        if (!enabled) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        int newest = -1;
+        long newestGeneration = -1;
+        for (int i = 0; i < slots.length; i++) {
+            long g = probeGeneration(slots[i]);
+            if (g > newestGeneration) {
+                newest = i;
+                newestGeneration = g;
+            }
+        }
+        generation = newestGeneration + 1;
+        // 읽은(매핑한) 슬롯은 이번 실행에서 덮어쓰지 않는다
+        writeSlot = newest < 0 ? 0 : 1 - newest;
+        if (newest < 0) {
+            return 0;
+        }
+
+        int restored = 0;
+        try (FileChannel channel = FileChannel.open(slots[newest], StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long savedAt = readHeader(buffer);
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String name = readString(buffer);
+                int length = buffer.getInt();
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                Section<?> section = find(name);
+                if (section != null && section.restore(payload, gson)) {
+                    restored++;
+                }
+            }
+            logger.info("오프라인 스냅샷 복원: {}개 저장소 ({}ms, {}에 저장됨)", restored,
+                (System.nanoTime() - start) / 1_000_000, Instant.ofEpochMilli(savedAt));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("오프라인 스냅샷 읽기 실패 (무시): {} - {}", slots[newest], e.toString());
+        }
+        return restored;
+    }
+
+    /**
+     * 저장소가 바뀔 때마다 모아서 저장하고, 종료 시 남은 변경을 저장한다
+     */
+    public synchronized void startAutoSave() {
+        if (!enabled || saver != null) {
+            return;
+        }
+        saver = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("hms-snapshot-writer").daemon().factory());
+        for (Section<?> section : sections) {
+            section.store().addListener(list -> scheduleSave());
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "hms-snapshot-flush"));
+    }
+
+    private synchronized void scheduleSave() {
+        if (pendingSave == null || pendingSave.isDone()) {
+            pendingSave = saver.schedule(this::save, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** 예약된 저장이 있으면 지금 저장한다 (종료 시) */
+    private void flush() {
+        ScheduledFuture<?> pending;
+        synchronized (this) {
+            pending = pendingSave;
+        }
+        if (pending != null && pending.cancel(false)) {
+            save();
+        }
+    }
+
+    /**
+     * 불러온 저장소를 스냅샷 파일로 저장한다
+     * <p>
+     * 임시 파일에 쓴 뒤 교체하므로 저장 도중 종료되어도 이전 스냅샷이 남는다.
+     * </p>
+     */
+    void save() {
+        synchronized (saveLock) {
+            saveLocked();
+        }
+    }
+
+    private void saveLocked() {
+        long start = System.nanoTime();
+        Path target = slots[writeSlot];
+        try {
+            byte[] bytes = encode();
+            Files.createDirectories(target.getParent());
+            Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.write(tmp, bytes);
+            restrictToOwner(tmp);
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            generation++;
+            logger.debug("오프라인 스냅샷 저장: {} ({}바이트, {}ms)", target.getFileName(), bytes.length,
+                (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("오프라인 스냅샷 저장 실패: {} - {}", target, e.toString());
+        }
+    }
+
+    private byte[] encode() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> names = new ArrayList<>();
+        List<byte[]> payloads = new ArrayList<>();
+        for (Section<?> section : sections) {
+            // 서버 목록을 아직 받지 않은 저장소는 복원한 목록을 그대로 다음 스냅샷에 넘긴다
+            if (section.store().isLoaded() || section.store().isRestored()) {
+                names.add(section.name().getBytes(StandardCharsets.UTF_8));
+                payloads.add(section.encode(gson));
+            }
+        }
+        ByteBuffer header = ByteBuffer.allocate(4 * 4 + 8 * 2 + 2 + keyBytes.length);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(SCHEMA_VERSION)
+            .putLong(generation).putLong(System.currentTimeMillis())
+            .putShort((short) keyBytes.length).put(keyBytes)
+            .putInt(payloads.size());
+        out.write(header.array());
+        for (int i = 0; i < payloads.size(); i++) {
+            ByteBuffer sectionHeader = ByteBuffer.allocate(2 + names.get(i).length + 4);
+            sectionHeader.putShort((short) names.get(i).length).put(names.get(i)).putInt(payloads.get(i).length);
+            out.write(sectionHeader.array());
+            out.write(payloads.get(i));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 슬롯 파일의 머리글만 읽어 세대 번호를 확인한다
+     *
+     * @return 세대 번호 (없거나 다른 버전/키이면 -1, 다른 버전이면 파일을 지운다)
+     */
+    private long probeGeneration(Path slot) {
+        if (!Files.isRegularFile(slot)) {
+            return -1;
+        }
+        try (FileChannel channel = FileChannel.open(slot, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate((int) Math.min(HEADER_PROBE_BYTES, channel.size()));
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // 머리글을 다 읽을 때까지
+            }
+            header.flip();
+            return generationOf(header);
+        } catch (StaleSnapshotException e) {
+            logger.info("오프라인 스냅샷 무효화: {} ({})", slot.getFileName(), e.getMessage());
+            deleteQuietly(slot);
+            return -1;
+        } catch (IOException | RuntimeException e) {
+            logger.debug("오프라인 스냅샷 머리글 읽기 실패: {} - {}", slot, e.toString());
+            return -1;
+        }
+    }
+
+    private long generationOf(ByteBuffer header) {
+        int start = header.position();
+        readHeader(header);
+        return header.getLong(start + 12);
+    }
+
+    /**
+     * 머리글을 읽고 검증한다 (버퍼 위치는 구역 수 앞으로 이동)
+     *
+     * @return 저장 시각 (epoch millis)
+     */
+    private long readHeader(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new StaleSnapshotException("스냅샷 파일이 아님");
+        }
+        int format = buffer.getInt();
+        int schema = buffer.getInt();
+        if (format != FORMAT_VERSION || schema != SCHEMA_VERSION) {
+            throw new StaleSnapshotException("버전 불일치: format=" + format + ", schema=" + schema);
+        }
+        buffer.getLong();
+        long savedAt = buffer.getLong();
+        if (!key.equals(readString(buffer))) {
+            throw new StaleSnapshotException("다른 서버/사용자의 스냅샷");
+        }
+        return savedAt;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Section<?> find(String name) {
+        for (Section<?> section : sections) {
+            if (section.name().equals(name)) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void restrictToOwner(Path file) {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException | IOException e) {
+            // POSIX가 아닌 파일 시스템(Windows)은 사용자 홈 디렉터리 권한에 맡긴다
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("오프라인 스냅샷 삭제 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 저장소 하나에 대응하는 스냅샷 구역
+     *
+     * @param name 구역 이름 (파일에 기록됨)
+     * @param store 대상 저장소
+     * @param type 엔티티 클래스
+     */
+    private record Section<T>(String name, EntityStore<?, T> store, Class<T> type) {
+
+        byte[] encode(Gson gson) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * 1024);
+            try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8);
+                 JsonWriter json = gson.newJsonWriter(writer)) {
+                gson.toJson(store.all(), listType(), json);
+            }
+            return bytes.toByteArray();
+        }
+
+        boolean restore(ByteBuffer payload, Gson gson) throws IOException {
+            if (store.isLoaded()) {
+                return false;
+            }
+            List<T> items;
+            try (JsonReader json = gson.newJsonReader(
+                    new InputStreamReader(new ByteBufferInputStream(payload), StandardCharsets.UTF_8))) {
+                items = gson.fromJson(json, listType());
+            } catch (JsonParseException e) {
+                throw new IOException(name + " 구역 파싱 실패", e);
+            }
+            if (items == null) {
+                return false;
+            }
+            // 서버가 확인한 목록이 아니므로 표시용으로만 채운다 (isLoaded는 false로 남음)
+            return store.restore(Collections.unmodifiableList(items));
+        }
+
+        private Type listType() {
+            return TypeToken.getParameterized(List.class, type).getType();
+        }
+    }
+
+    /** 매핑된 버퍼를 복사하지 않고 읽는 입력 스트림 */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+
+    /** 현재 클라이언트가 읽을 수 없는 스냅샷 */
+    private static final class StaleSnapshotException extends RuntimeException {
+        StaleSnapshotException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.team3.store;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.client.api.ReservationApi;
+import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
+import com.team3.model.Reservation;
+
+/**
+ * 예약 변경분 동기화
+ * <p>
+ * 새로고침할 때마다 전체 예약 목록을 받는 대신, 마지막으로 받은 시점(watermark) 이후 변경된 예약만 받아
+ * {@link EntityStores#reservations()}에 병합한다. 1년치 예약이 쌓여도 새로고침 비용은 변경 건수에 비례한다.
+ * </p>
+ *
+ * <h3>변경분 조회 규약:</h3>
+ * <pre>{@code
+ * GET /api/reservation/list?updatedSince=2025-12-06T10:15:00
+ *
+ * {"message": "...", "delta": true,
+ *  "reservations": [ 추가/변경된 예약 ],
+ *  "deletedIds": [ "R-003", ... ],
+ *  "watermark": "2025-12-06T10:20:00"}
+ * }</pre>
+ *
+ * <ul>
+ *   <li>서버가 {@code watermark}를 주지 않으면 받은 예약의 {@code updatedAt}(없으면 {@code createdAt}) 최댓값을 쓴다</li>
+ *   <li>{@code "delta": true}가 없으면 서버가 파라미터를 무시하고 전체 목록을 보낸 것으로 보고
+ *       그 목록으로 저장소를 교체한 뒤, 한동안 전체 조회(조건부 GET)로 되돌아간다</li>
+ *   <li>요청이 실패하거나 저장소가 비어 있으면 전체 조회로 대체한다</li>
+ *   <li>서버 시계 오차나 tombstone 누락으로 생긴 차이를 바로잡기 위해
+ *       {@code hms.sync.fullResyncMillis}(기본 10분)마다 전체 조회를 한다</li>
+ * </ul>
+ *
+ * <p>
+ * 미리 불러오기처럼 다른 경로에서 전체 목록을 받아 저장소가 교체되면({@link EntityStore#getFullLoadCount()}),
+ * 다음 동기화 때 그 목록 기준으로 watermark를 다시 잡는다. 변경 피드가 병합한 일부 변경은 전체 목록이 아니므로
+ * 기준점이나 전체 조회 주기에 반영하지 않는다. 동기화는 한 번에 하나씩만 실행된다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class ReservationSync {
+    private static final Logger logger = LoggerFactory.getLogger(ReservationSync.class);
+    private static ReservationSync instance;
+
+    /** 주기적 전체 조회 간격 */
+    private static final long FULL_RESYNC_NANOS =
+        TimeUnit.MILLISECONDS.toNanos(Long.getLong("hms.sync.fullResyncMillis", 600_000L));
+
+    /** 마지막으로 기준점을 잡은 시점의 저장소 전체 교체 횟수 (다른 경로로 교체되었는지 판별용) */
+    private long seenFullLoads;
+
+    /** 다음 변경분 조회 기준 시점 (null이면 전체 조회 필요) */
+    private String watermark;
+
+    /** 마지막 전체 조회 시각 */
+    private long lastFullSyncNanos;
+
+    /** 서버가 변경분 조회를 지원하지 않는 것으로 확인된 경우, 다시 시도할 시각 */
+    private long deltaRetryNanos;
+    private boolean deltaUnsupported;
+
+    private ReservationSync() {}
+
+    /**
+     * 싱글톤 인스턴스 반환
+     *
+     * @return ReservationSync 인스턴스
+     */
+    public static synchronized ReservationSync getInstance() {
+        if (instance == null) {
+            instance = new ReservationSync();
+        }
+        return instance;
+    }
+
+    /**
+     * 예약 저장소를 서버와 동기화한다 (백그라운드 스레드에서 호출)
+     *
+     * @param api 요청에 사용할 예약 API
+     * @return 동기화 후 전체 예약 목록 응답 (실패 시 오류 응답)
+     */
+    public synchronized ListResponse<Reservation> sync(ReservationApi api) {
+        EntityStore<String, Reservation> store = EntityStores.getInstance().reservations();
+        long now = System.nanoTime();
+        long fullLoads = store.getFullLoadCount();
+        if (fullLoads != seenFullLoads) {
+            // 다른 경로에서 받은 전체 목록이 들어와 있으면 그 목록을 기준으로 삼는다
+            // (변경 피드의 병합과 디스크에서 복원한 목록은 교체 횟수를 올리지 않으므로 기준점이 되지 않는다)
+            seenFullLoads = fullLoads;
+            watermark = latest(null, store.all());
+            lastFullSyncNanos = now;
+        }
+        if (deltaUnsupported && now - deltaRetryNanos >= 0) {
+            deltaUnsupported = false;
+        }
+        if (watermark == null || deltaUnsupported || now - lastFullSyncNanos > FULL_RESYNC_NANOS) {
+            return fullSync(api);
+        }
+
+        ApiResponse response = api.fetchReservationChanges(watermark);
+        if (!response.isSuccess()) {
+            logger.warn("예약 변경분 조회 실패 (전체 조회로 대체): statusCode={}", response.getStatusCode());
+            return fullSync(api);
+        }
+        List<Reservation> changed = response.getList("reservations", Reservation.class);
+        if (!response.getBoolean("delta")) {
+            // 서버가 updatedSince를 무시하고 전체 목록을 보냈다
+            logger.info("서버가 예약 변경분 조회를 지원하지 않음 - {}초 동안 전체 조회 사용",
+                TimeUnit.NANOSECONDS.toSeconds(FULL_RESYNC_NANOS));
+            deltaUnsupported = true;
+            deltaRetryNanos = now + FULL_RESYNC_NANOS;
+            store.replaceAll(changed);
+            markFullSync(changed, now);
+            return new ListResponse<>(response.getStatusCode(), changed, response.getMessage());
+        }
+
+        List<String> deletedIds = response.getList("deletedIds", String.class);
+        List<Reservation> merged = store.applyChanges(changed, deletedIds);
+        String serverWatermark = response.getString("watermark");
+        watermark = serverWatermark != null ? serverWatermark : latest(watermark, changed);
+        logger.info("예약 변경분 동기화: 변경 {}건, 삭제 {}건 (전체 {}건, 기준 {})",
+            changed.size(), deletedIds.size(), merged.size(), watermark);
+        return new ListResponse<>(response.getStatusCode(), merged, response.getMessage());
+    }
+
+    private ListResponse<Reservation> fullSync(ReservationApi api) {
+        // fetchReservations가 성공하면 저장소도 함께 교체된다
+        ListResponse<Reservation> response = api.fetchReservations();
+        if (response.isSuccess()) {
+            markFullSync(response.getItems(), System.nanoTime());
+            logger.debug("예약 전체 동기화: {}건 (기준 {})", response.getItems().size(), watermark);
+        }
+        return response;
+    }
+
+    private void markFullSync(List<Reservation> items, long now) {
+        seenFullLoads = EntityStores.getInstance().reservations().getFullLoadCount();
+        watermark = latest(null, items);
+        lastFullSyncNanos = now;
+    }
+
+    /**
+     * 기준 시점과 예약들의 수정 시각 중 가장 늦은 값
+     * <p>
+     * 서버가 ISO-8601 형식 문자열을 주므로 문자열 비교로 시각 순서를 판단한다.
+     * </p>
+     */
+    private static String latest(String watermark, List<Reservation> reservations) {
+        String latest = watermark;
+        for (Reservation r : reservations) {
+            String changedAt = r.getUpdatedAt() != null ? r.getUpdatedAt() : r.getCreatedAt();
+            if (changedAt != null && (latest == null || changedAt.compareTo(latest) > 0)) {
+                latest = changedAt;
+            }
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,108 @@
+package com.team3.trace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 추적 구간 (span)
+ * <p>
+ * 시작 시각부터 {@link #end()}가 호출될 때까지의 구간을 나타내며, 끝나면 {@link Tracer}가 파일에 기록한다.
+ * try-with-resources로 사용하면 블록을 벗어날 때 자동으로 끝난다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * try (Span span = Tracer.getInstance().startSpan("updateTable", "ui")) {
+ *     span.setAttribute("rows", rows.size());
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class Span implements AutoCloseable {
+
+    /** 추적이 꺼져 있을 때 사용하는 빈 span */
+    static final Span NOOP = new Span(null, null, null, null, null, 0);
+
+    private final Tracer tracer;
+    private final String name;
+    private final String category;
+    private final TraceContext context;
+    private final String parentId;
+    private final long startNanos;
+    private final long threadId;
+    private Map<String, Object> attributes;
+    private boolean ended;
+
+    Span(Tracer tracer, String name, String category, TraceContext context, String parentId, long startNanos) {
+        this.tracer = tracer;
+        this.name = name;
+        this.category = category;
+        this.context = context;
+        this.parentId = parentId;
+        this.startNanos = startNanos;
+        this.threadId = Thread.currentThread().threadId();
+    }
+
+    /**
+     * 속성 추가 (추적 파일의 args에 기록됨)
+     *
+     * @param key 속성 이름
+     * @param value 속성 값 (문자열, 숫자, boolean)
+     * @return this
+     */
+    public synchronized Span setAttribute(String key, Object value) {
+        if (tracer == null) {
+            return this;
+        }
+        if (attributes == null) {
+            attributes = new LinkedHashMap<>();
+        }
+        attributes.put(key, value);
+        return this;
+    }
+
+    /**
+     * 이 span을 현재 스레드의 문맥으로 설정한다 (하위 span의 부모가 됨)
+     *
+     * @return 닫으면 이전 문맥으로 되돌리는 범위 객체
+     */
+    public TraceContext.Scope makeCurrent() {
+        return context == null ? () -> {} : context.makeCurrent();
+    }
+
+    /**
+     * 구간을 끝내고 기록한다 (두 번째 호출부터는 무시)
+     */
+    public void end() {
+        end(System.nanoTime());
+    }
+
+    void end(long endNanos) {
+        Map<String, Object> snapshot;
+        synchronized (this) {
+            if (tracer == null || ended) {
+                return;
+            }
+            ended = true;
+            snapshot = attributes;
+        }
+        tracer.record(this, endNanos, snapshot);
+    }
+
+    @Override
+    public void close() {
+        end();
+    }
+
+    /** 이 span의 문맥 (추적이 꺼져 있으면 null) */
+    public TraceContext getContext() { return context; }
+
+    String getName() { return name; }
+    String getCategory() { return category; }
+    String getParentId() { return parentId; }
+    long getStartNanos() { return startNanos; }
+    long getThreadId() { return threadId; }
+}
@@ -0,0 +1,92 @@
+package com.team3.trace;
+
+/**
+ * 추적 문맥 (trace id + 현재 span id)
+ * <p>
+ * 스레드별로 현재 문맥을 보관하며, 가상 스레드나 EDT로 작업을 넘길 때는
+ * 제출 시점의 문맥을 잡아 두었다가 {@link #makeCurrent()}로 다시 설정한다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * TraceContext captured = TraceContext.current();
+ * executor.execute(() -> {
+ *     TraceContext.Scope scope = captured.makeCurrent();
+ *     try {
+ *         // 이 안에서 시작한 span은 captured의 하위 span이 된다
+ *     } finally {
+ *         scope.close();
+ *     }
+ * });
+ * }</pre>
+ *
+ * @param traceId 추적 id (32자리 16진수)
+ * @param spanId 현재 span id (16자리 16진수)
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public record TraceContext(String traceId, String spanId) {
+
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드의 추적 문맥
+     *
+     * @return 현재 문맥 (없으면 null)
+     */
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 이 문맥을 현재 스레드의 문맥으로 설정한다
+     *
+     * @return 닫으면 이전 문맥으로 되돌리는 범위 객체
+     */
+    public Scope makeCurrent() {
+        TraceContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> restore(previous);
+    }
+
+    /**
+     * null일 수 있는 문맥을 현재 문맥으로 설정한다 (null이면 문맥을 비움)
+     *
+     * @param context 설정할 문맥
+     * @return 닫으면 이전 문맥으로 되돌리는 범위 객체
+     */
+    public static Scope makeCurrent(TraceContext context) {
+        if (context != null) {
+            return context.makeCurrent();
+        }
+        TraceContext previous = CURRENT.get();
+        CURRENT.remove();
+        return () -> restore(previous);
+    }
+
+    private static void restore(TraceContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * W3C Trace Context {@code traceparent} 헤더 값
+     *
+     * @return 예: {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}
+     */
+    public String traceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    /**
+     * 문맥 설정 범위 (닫으면 이전 문맥으로 복원)
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
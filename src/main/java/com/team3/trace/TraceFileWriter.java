@@ -0,0 +1,145 @@
+package com.team3.trace;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 추적 JSONL 파일 기록기
+ * <p>
+ * span을 끝낸 스레드(EDT, 응답 스레드)가 디스크 I/O를 기다리지 않도록
+ * 줄을 대기열에 넣기만 하고, 전용 데몬 스레드가 모아서 쓴다.
+ * 대기열이 가득 차면 줄을 버리고 개수만 센다.
+ * 파일이 {@code maxBytes}를 넘으면 새 파일로 바꾸고, 오래된 파일은 {@code maxFiles}개만 남긴다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class TraceFileWriter {
+    private static final Logger logger = LoggerFactory.getLogger(TraceFileWriter.class);
+
+    private static final String PREFIX = "trace-";
+    private static final String SUFFIX = ".jsonl";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path dir;
+    private final long maxBytes;
+    private final int maxFiles;
+
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(8192);
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile Path currentFile;
+    private BufferedWriter out;
+    private long written;
+
+    TraceFileWriter(Path dir, long maxBytes, int maxFiles) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+
+        Thread thread = new Thread(this::run, "hms-trace-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 한 줄을 기록 대기열에 넣는다 (가득 차면 버림)
+     */
+    void write(String line) {
+        if (!queue.offer(line)) {
+            dropped.increment();
+        }
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(256);
+        while (true) {
+            try {
+                String first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, 255);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                logger.warn("추적 파일 기록 실패: {}", e.getMessage());
+                closeQuietly();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<String> batch) throws IOException {
+        if (out == null || written >= maxBytes) {
+            roll();
+        }
+        for (String line : batch) {
+            out.write(line);
+            out.write('\n');
+            // 한글 등 멀티바이트 문자는 적게 세어지지만 교체 기준으로는 충분하다
+            written += line.length() + 1;
+        }
+        out.flush();
+    }
+
+    private void roll() throws IOException {
+        closeQuietly();
+        Files.createDirectories(dir);
+        currentFile = dir.resolve(PREFIX + LocalDateTime.now().format(FILE_TIME) + SUFFIX);
+        out = Files.newBufferedWriter(currentFile, StandardCharsets.UTF_8);
+        written = 0;
+        logger.info("추적 파일: {}", currentFile);
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream
+                .filter(p -> {
+                    String name = p.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private void closeQuietly() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                logger.debug("추적 파일 닫기 실패", e);
+            }
+            out = null;
+        }
+    }
+
+    Path getCurrentFile() { return currentFile; }
+    long getDroppedCount() { return dropped.sum(); }
+}
@@ -0,0 +1,219 @@
+package com.team3.trace;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 사용자 동작 단위 추적기
+ * <p>
+ * 사용자 동작(예: 예약 목록 새로고침)마다 trace id를 부여하고, 그 안에서 일어나는
+ * 큐 대기, HTTP 요청, 응답 대기, 본문 수신, JSON 디코딩, EDT 렌더링을 span으로 기록한다.
+ * 끝난 span은 {@link TraceFileWriter}가 JSONL 파일에 한 줄씩 비동기로 쓴다.
+ * </p>
+ *
+ * <p>
+ * 각 줄은 Chrome Trace Event 형식의 완료 이벤트({@code "ph":"X"})이므로,
+ * {@code jq -s . trace.jsonl > trace.json}으로 배열로 묶으면
+ * {@code chrome://tracing} 또는 Perfetto에서 플레임 차트로 볼 수 있다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code hms.trace.enabled}: 추적 여부 (기본 true)</li>
+ *   <li>{@code hms.trace.dir}: 파일 위치 (기본 {@code ~/.hms/traces})</li>
+ *   <li>{@code hms.trace.maxBytes}, {@code hms.trace.maxFiles}: 파일 교체 기준 (기본 10MB, 5개)</li>
+ * </ul>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class Tracer {
+    private static final Logger logger = LoggerFactory.getLogger(Tracer.class);
+
+    private static Tracer instance;
+
+    private final boolean enabled;
+
+    /** 나노초 시계를 벽시계(epoch 마이크로초)로 바꾸기 위한 기준점 */
+    private final long baseEpochMicros;
+    private final long baseNanos;
+
+    private final TraceFileWriter writer;
+
+    private Tracer() {
+        this.enabled = Boolean.parseBoolean(System.getProperty("hms.trace.enabled", "true"));
+        this.baseEpochMicros = System.currentTimeMillis() * 1_000;
+        this.baseNanos = System.nanoTime();
+
+        Path dir = Path.of(System.getProperty("hms.trace.dir",
+            Path.of(System.getProperty("user.home"), ".hms", "traces").toString()));
+        this.writer = enabled
+            ? new TraceFileWriter(dir,
+                Long.getLong("hms.trace.maxBytes", 10L * 1024 * 1024),
+                Integer.getInteger("hms.trace.maxFiles", 5))
+            : null;
+        logger.info("Tracer 초기화: enabled={}, dir={}", enabled, dir);
+    }
+
+    /**
+     * Tracer 싱글톤 인스턴스 반환
+     *
+     * @return Tracer 인스턴스
+     */
+    public static synchronized Tracer getInstance() {
+        if (instance == null) {
+            instance = new Tracer();
+        }
+        return instance;
+    }
+
+    /**
+     * 새 추적(사용자 동작)을 시작한다
+     *
+     * @param name span 이름 (예: "ReservationPanel.load")
+     * @param category 분류 (예: "ui", "http")
+     * @return 최상위 span
+     */
+    public Span startTrace(String name, String category) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        TraceContext context = new TraceContext(randomHex(32), randomHex(16));
+        return new Span(this, name, category, context, null, System.nanoTime());
+    }
+
+    /**
+     * 현재 스레드 문맥의 하위 span을 시작한다 (문맥이 없으면 새 추적을 시작)
+     *
+     * @param name span 이름
+     * @param category 분류
+     * @return 시작된 span
+     */
+    public Span startSpan(String name, String category) {
+        return startSpan(name, category, TraceContext.current(), System.nanoTime());
+    }
+
+    /**
+     * 지정한 부모의 하위 span을 지정한 시각부터 시작한다
+     * <p>
+     * 응답 대기처럼 시작 시각을 나중에 알게 되는 구간이나, 다른 스레드에서 잡아 둔 문맥을 이어갈 때 사용한다.
+     * </p>
+     *
+     * @param name span 이름
+     * @param category 분류
+     * @param parent 부모 문맥 (null이면 새 추적)
+     * @param startNanos 시작 시각 ({@link System#nanoTime()})
+     * @return 시작된 span
+     */
+    public Span startSpan(String name, String category, TraceContext parent, long startNanos) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        if (parent == null) {
+            TraceContext context = new TraceContext(randomHex(32), randomHex(16));
+            return new Span(this, name, category, context, null, startNanos);
+        }
+        TraceContext context = new TraceContext(parent.traceId(), randomHex(16));
+        return new Span(this, name, category, context, parent.spanId(), startNanos);
+    }
+
+    /**
+     * 이미 끝난 구간을 한 번에 기록한다
+     *
+     * @param name span 이름
+     * @param category 분류
+     * @param parent 부모 문맥
+     * @param startNanos 시작 시각
+     * @param endNanos 종료 시각
+     */
+    public void recordSpan(String name, String category, TraceContext parent, long startNanos, long endNanos) {
+        if (!enabled || parent == null) {
+            return;
+        }
+        startSpan(name, category, parent, startNanos).end(endNanos);
+    }
+
+    /**
+     * 끝난 span을 Chrome Trace Event 한 줄로 만들어 파일 기록 대기열에 넣는다
+     */
+    void record(Span span, long endNanos, Map<String, Object> attributes) {
+        long ts = baseEpochMicros + (span.getStartNanos() - baseNanos) / 1_000;
+        long dur = Math.max(0, (endNanos - span.getStartNanos()) / 1_000);
+
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"name\":");
+        appendString(sb, span.getName());
+        sb.append(",\"cat\":");
+        appendString(sb, span.getCategory());
+        sb.append(",\"ph\":\"X\",\"ts\":").append(ts)
+          .append(",\"dur\":").append(dur)
+          .append(",\"pid\":1,\"tid\":").append(span.getThreadId())
+          .append(",\"args\":{\"traceId\":\"").append(span.getContext().traceId())
+          .append("\",\"spanId\":\"").append(span.getContext().spanId()).append('"');
+        if (span.getParentId() != null) {
+            sb.append(",\"parentId\":\"").append(span.getParentId()).append('"');
+        }
+        if (attributes != null) {
+            for (Map.Entry<String, Object> e : attributes.entrySet()) {
+                sb.append(',');
+                appendString(sb, e.getKey());
+                sb.append(':');
+                Object value = e.getValue();
+                if (value instanceof Number || value instanceof Boolean) {
+                    sb.append(value);
+                } else {
+                    appendString(sb, String.valueOf(value));
+                }
+            }
+        }
+        sb.append("}}");
+        writer.write(sb.toString());
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static String randomHex(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            String chunk = Long.toHexString(random.nextLong());
+            for (int i = chunk.length(); i < 16; i++) {
+                sb.append('0');
+            }
+            sb.append(chunk);
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /** 현재 기록 중인 파일 (추적이 꺼져 있으면 null) */
+    public Path getCurrentFile() { return writer != null ? writer.getCurrentFile() : null; }
+
+    /** 기록 대기열이 가득 차 버려진 span 수 */
+    public long getDroppedCount() { return writer != null ? writer.getDroppedCount() : 0; }
+}
@@ -3,16 +3,32 @@ package com.team3.ui;
 import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Font;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 import javax.swing.JFrame;
 import javax.swing.JTabbedPane;
+import javax.swing.SwingUtilities;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.team3.client.api.CustomerApi;
+import com.team3.client.api.FnbApi;
+import com.team3.client.api.ReservationApi;
+import com.team3.client.api.RoomApi;
+import com.team3.client.api.UserApi;
 import com.team3.session.SessionManager;
+import com.team3.store.ChangeFeed;
+import com.team3.store.OfflineSnapshot;
 import com.team3.ui.component.AppMenuBar;
 import com.team3.ui.component.HeaderPanel;
+import com.team3.ui.component.LazyTabPanel;
 import com.team3.ui.component.StatusBar;
 import com.team3.ui.panel.CustomerManagePanel; // FnbManagePanel import
 import com.team3.ui.panel.FnbManagePanel;
@@ -21,6 +37,8 @@ import com.team3.ui.panel.PaymentPanel;
 import com.team3.ui.panel.ReservationPanel; // ReservationPanel import
 import com.team3.ui.panel.RoomManagePanel;
 import com.team3.ui.panel.UserManagePanel;
+import com.team3.ui.task.AutoRefreshScheduler;
+import com.team3.ui.task.PrefetchScheduler;
 import com.team3.ui.util.IconUtil;
 
 /**
@@ -39,17 +57,46 @@ public class MainFrame extends JFrame {
     private final String serverHost;
     private final int serverPort;
     
+    /** 로그인 직후 미리 불러올 탭 */
+    private static final List<String> PREFETCH_AFTER_LOGIN = List.of("객실 관리", "예약 관리", "식음료 관리");
+    
     private JTabbedPane tabbedPane;
     private StatusBar statusBar;
     
+    /** 탭 제목 → 탭을 열 때 패널이 하는 목록 조회 (미리 불러오기용) */
+    private final Map<String, Callable<?>> prefetchers = new HashMap<>();
+    private int hoveredTab = -1;
+    
+    /** 서버 푸시 변경 피드 (다른 단말의 변경을 저장소에 바로 반영) */
+    private final ChangeFeed changeFeed;
+    
+    /** 보이는 탭 자동 새로고침 */
+    private final AutoRefreshScheduler autoRefresh;
+    
     public MainFrame(String serverHost, int serverPort) {
         this.serverHost = serverHost;
         this.serverPort = serverPort;
         
         logger.info("MainFrame 초기화: {}:{}", serverHost, serverPort);
         
+        // 패널이 저장소를 구독하기 전에 지난 실행의 목록을 채워 두면 탭을 열자마자 표가 그려지고,
+        // 미리 불러오기와 탭 조회가 뒤이어 서버 목록으로 맞춘다
+        OfflineSnapshot offlineSnapshot = new OfflineSnapshot(serverHost, serverPort);
+        offlineSnapshot.restore();
+        offlineSnapshot.startAutoSave();
+        
         initComponents();
         setupLayout();
+        
+        // 첫 화면을 그린 뒤, 다음에 열 가능성이 높은 탭을 낮은 우선순위로 미리 불러온다
+        SwingUtilities.invokeLater(() -> PREFETCH_AFTER_LOGIN.forEach(this::prefetchTab));
+        
+        changeFeed = new ChangeFeed(serverHost, serverPort);
+        changeFeed.start();
+        
+        // 변경 피드가 끊겨 있는 동안에는 보이는 탭만 적응형 간격으로 다시 조회한다
+        autoRefresh = new AutoRefreshScheduler(this, tabbedPane, changeFeed);
+        autoRefresh.start();
     }
     
     /**
@@ -65,17 +112,39 @@ public class MainFrame extends JFrame {
         tabbedPane = new JTabbedPane();
         tabbedPane.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
         
-        // 탭 추가
+        // 탭 추가 (패널은 탭을 처음 선택할 때 생성되고, 그때 목록 조회를 시작한다)
         // 관리자 권한일 경우만
         if (SessionManager.getInstance().getRole().equals("ADMIN")) {
-            addTab("서버 상태", "🏥", new HealthCheckPanel(serverHost, serverPort), "서버 상태 확인");
-            addTab("사용자 관리", "👤", new UserManagePanel(serverHost, serverPort), "로그인 및 회원가입");
+            addTab("서버 상태", "🏥", () -> new HealthCheckPanel(serverHost, serverPort), "서버 상태 확인");
+            addTab("사용자 관리", "👤", () -> new UserManagePanel(serverHost, serverPort), "로그인 및 회원가입");
+            prefetchers.put("사용자 관리", () -> new UserApi(serverHost, serverPort).fetchUserList());
         }
-        addTab("객실 관리", "🏨", new RoomManagePanel(serverHost, serverPort), "객실 조회 및 관리");
-        addTab("예약 관리", "📅", new ReservationPanel(serverHost, serverPort), "예약 조회 및 관리");
-        addTab("식음료 관리", "🍽️", new FnbManagePanel(serverHost, serverPort), "식음료 조회 및 관리");        
-        addTab("고객 관리", "👥", new CustomerManagePanel(serverHost, serverPort), "고객 조회 및 관리");    
-        addTab("결제 관리", "💳", new PaymentPanel(serverHost, serverPort), "결제 및 체크아웃");
+        addTab("객실 관리", "🏨", () -> new RoomManagePanel(serverHost, serverPort), "객실 조회 및 관리");
+        addTab("예약 관리", "📅", () -> new ReservationPanel(serverHost, serverPort), "예약 조회 및 관리");
+        addTab("식음료 관리", "🍽️", () -> new FnbManagePanel(serverHost, serverPort), "식음료 조회 및 관리");        
+        addTab("고객 관리", "👥", () -> new CustomerManagePanel(serverHost, serverPort), "고객 조회 및 관리");    
+        addTab("결제 관리", "💳", () -> new PaymentPanel(serverHost, serverPort), "결제 및 체크아웃");
+        prefetchers.put("객실 관리", () -> new RoomApi(serverHost, serverPort).fetchRoomList());
+        prefetchers.put("예약 관리", () -> new ReservationApi(serverHost, serverPort).fetchReservations());
+        prefetchers.put("식음료 관리", () -> new FnbApi(serverHost, serverPort).fetchFnbList());
+        prefetchers.put("고객 관리", () -> new CustomerApi(serverHost, serverPort).fetchCustomerList());
+        
+        tabbedPane.addChangeListener(e -> createSelectedTab());
+        createSelectedTab();
+        
+        // 탭 머리글에 마우스를 올리면 그 탭의 목록을 미리 불러온다
+        tabbedPane.addMouseMotionListener(new MouseAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                int index = tabbedPane.indexAtLocation(e.getX(), e.getY());
+                if (index != hoveredTab) {
+                    hoveredTab = index;
+                    if (index >= 0) {
+                        prefetchTab(tabbedPane.getTitleAt(index));
+                    }
+                }
+            }
+        });
         
         // 메뉴바 생성
         AppMenuBar menuBar = new AppMenuBar(this, tabbedPane, serverHost, serverPort);
@@ -106,11 +175,36 @@ public class MainFrame extends JFrame {
      * 
      * @param title 탭 제목 
      * @param emoji 제목에 들어갈 아이콘(이모지 기반)
-     * @param component 탭을 누르면 출력할 패널 객체
+     * @param factory 탭을 처음 누를 때 출력할 패널 객체를 만드는 생성기
      * @param tooltip 탭 설명
      */
-    private void addTab(String title, String emoji, Component component, String tooltip) {
-        tabbedPane.addTab(title, IconUtil.createEmojiIcon(emoji), component, tooltip);
+    private void addTab(String title, String emoji, Supplier<? extends Component> factory, String tooltip) {
+        tabbedPane.addTab(title, IconUtil.createEmojiIcon(emoji), new LazyTabPanel(title, factory), tooltip);
+    }
+    
+    /**
+     * 아직 열지 않은 탭이면 그 탭의 목록을 미리 불러온다
+     * 
+     * @param title 탭 제목
+     */
+    private void prefetchTab(String title) {
+        int index = tabbedPane.indexOfTab(title);
+        Callable<?> loader = prefetchers.get(title);
+        if (index < 0 || loader == null) {
+            return;
+        }
+        if (tabbedPane.getComponentAt(index) instanceof LazyTabPanel lazy && !lazy.isCreated()) {
+            PrefetchScheduler.getInstance().prefetch(title, loader);
+        }
+    }
+    
+    /**
+     * 선택된 탭의 패널을 아직 만들지 않았으면 만든다
+     */
+    private void createSelectedTab() {
+        if (tabbedPane.getSelectedComponent() instanceof LazyTabPanel lazy) {
+            lazy.ensureCreated();
+        }
     }
     
     /**
@@ -124,4 +218,6 @@ public class MainFrame extends JFrame {
     public void updateStatusBar(String message) {
         statusBar.updateMessage(message);
     }
+    
+    public ChangeFeed getChangeFeed() { return changeFeed; }
 }
\ No newline at end of file
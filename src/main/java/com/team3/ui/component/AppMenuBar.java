@@ -1,5 +1,10 @@
 package com.team3.ui.component;
 
+import java.awt.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.swing.JFrame;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
@@ -7,10 +12,16 @@ import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
 import javax.swing.JTabbedPane;
 import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.team3.client.ApiFutures;
+import com.team3.diagnostics.FlightRecording;
+import com.team3.ui.dialog.RefreshAllDialog;
+import com.team3.ui.panel.Refreshable;
+
 /**
  * 애플리케이션 메뉴바
  */
@@ -18,11 +29,17 @@ public class AppMenuBar extends JMenuBar {
     
     private static final Logger logger = LoggerFactory.getLogger(AppMenuBar.class);
     
+    /** 진단 메뉴의 성능 기록 시간 */
+    private static final Duration RECORDING_DURATION = Duration.ofSeconds(60);
+    
     private final JFrame parentFrame;
     private final JTabbedPane tabbedPane;
     private final String serverHost;
     private final int serverPort;
     
+    /** 진행 중인 모든 탭 새로고침 (없으면 null) */
+    private RefreshAllDialog refreshAllDialog;
+    
     public AppMenuBar(JFrame parentFrame, JTabbedPane tabbedPane, String serverHost, int serverPort) {
         this.parentFrame = parentFrame;
         this.tabbedPane = tabbedPane;
@@ -35,6 +52,7 @@ public class AppMenuBar extends JMenuBar {
     private void initMenus() {
         add(createFileMenu());
         add(createViewMenu());
+        add(createDiagnosticsMenu());
         add(createHelpMenu());
     }
     
@@ -46,11 +64,16 @@ public class AppMenuBar extends JMenuBar {
         refreshItem.setAccelerator(KeyStroke.getKeyStroke("F5"));
         refreshItem.addActionListener(e -> refreshCurrentTab());
         
+        JMenuItem refreshAllItem = new JMenuItem("모든 탭 새로고침");
+        refreshAllItem.setAccelerator(KeyStroke.getKeyStroke("ctrl F5"));
+        refreshAllItem.addActionListener(e -> refreshAllTabs());
+        
         JMenuItem exitItem = new JMenuItem("종료");
         exitItem.setAccelerator(KeyStroke.getKeyStroke("alt Q"));
         exitItem.addActionListener(e -> exitApplication());
         
         fileMenu.add(refreshItem);
+        fileMenu.add(refreshAllItem);
         fileMenu.addSeparator();
         fileMenu.add(exitItem);
         
@@ -72,6 +95,18 @@ public class AppMenuBar extends JMenuBar {
         return viewMenu;
     }
     
+    private JMenu createDiagnosticsMenu() {
+        JMenu diagnosticsMenu = new JMenu("진단");
+        diagnosticsMenu.setMnemonic('D');
+        
+        JMenuItem recordItem = new JMenuItem("성능 기록 60초 (JFR)");
+        recordItem.addActionListener(e -> startRecording(recordItem));
+        
+        diagnosticsMenu.add(recordItem);
+        
+        return diagnosticsMenu;
+    }
+    
     private JMenu createHelpMenu() {
         JMenu helpMenu = new JMenu("도움말");
         helpMenu.setMnemonic('H');
@@ -90,10 +125,62 @@ public class AppMenuBar extends JMenuBar {
         
         logger.info("탭 새로고침: {}", tabTitle);
         
+        if (tabbedPane.getSelectedComponent() instanceof Refreshable refreshable) {
+            refreshable.refresh();
+        }
+    }
+    
+    /**
+     * 모든 탭을 제한된 동시 실행 수로 다시 조회한다 (열지 않은 탭도 이때 만들어진다)
+     */
+    private void refreshAllTabs() {
+        if (refreshAllDialog != null && refreshAllDialog.isDisplayable()) {
+            refreshAllDialog.toFront();
+            return;
+        }
+        List<RefreshAllDialog.Target> targets = new ArrayList<>();
+        for (int i = 0; i < tabbedPane.getTabCount(); i++) {
+            Component tab = tabbedPane.getComponentAt(i);
+            if (tab instanceof Refreshable refreshable) {
+                targets.add(new RefreshAllDialog.Target(tabbedPane.getTitleAt(i), refreshable));
+            }
+        }
+        refreshAllDialog = new RefreshAllDialog(parentFrame, targets);
+        refreshAllDialog.setVisible(true);
+        refreshAllDialog.start();
+    }
+    
+    /**
+     * JFR 성능 기록을 시작하고, 끝나면 저장된 파일 경로를 알려준다
+     */
+    private void startRecording(JMenuItem recordItem) {
+        recordItem.setEnabled(false);
+        try {
+            FlightRecording.record(RECORDING_DURATION).whenComplete((file, error) ->
+                SwingUtilities.invokeLater(() -> {
+                    recordItem.setEnabled(true);
+                    if (error != null) {
+                        Throwable cause = ApiFutures.unwrap(error);
+                        logger.error("성능 기록 실패", cause);
+                        JOptionPane.showMessageDialog(parentFrame, "성능 기록 실패: " + cause.getMessage(),
+                            "성능 기록", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(parentFrame,
+                        "성능 기록을 저장했습니다:\n" + file.toAbsolutePath()
+                            + "\n\nJDK Mission Control 또는 'jfr print'로 열 수 있습니다.",
+                        "성능 기록", JOptionPane.INFORMATION_MESSAGE);
+                }));
+        } catch (IllegalStateException ex) {
+            recordItem.setEnabled(true);
+            JOptionPane.showMessageDialog(parentFrame, ex.getMessage(), "성능 기록", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        
         JOptionPane.showMessageDialog(
             parentFrame,
-            tabTitle + " 탭을 새로고침했습니다.",
-            "새로고침",
+            RECORDING_DURATION.getSeconds() + "초 동안 성능을 기록합니다.\n평소처럼 사용하면 끝날 때 파일 위치를 알려드립니다.",
+            "성능 기록",
             JOptionPane.INFORMATION_MESSAGE
         );
     }
@@ -0,0 +1,149 @@
+package com.team3.ui.component;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.util.function.Supplier;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.trace.Span;
+import com.team3.trace.TraceContext;
+import com.team3.trace.Tracer;
+import com.team3.ui.panel.Refreshable;
+import com.team3.ui.task.UiTask;
+
+/**
+ * 처음 선택될 때 실제 패널을 만드는 탭 내용
+ * <p>
+ * 관리 패널은 생성자에서 바로 목록을 조회하므로, 모든 탭을 미리 만들면 로그인 직후
+ * 열지도 않을 탭의 전체 목록을 한꺼번에 내려받게 된다.
+ * 이 패널은 만들어지기 전까지 안내 문구만 보여주고, {@link #ensureCreated()}가 처음 호출될 때
+ * 패널을 만들어 자리를 바꾼 뒤 첫 조회를 요청한다 ({@link Refreshable#loadsOnOpen()}).
+ * </p>
+ * <p>
+ * {@link #refresh()}는 아직 만들지 않은 탭이면 패널을 만들고 한 번만 조회하므로,
+ * 모든 탭 새로고침에서 열지 않은 탭도 중복 조회 없이 불러올 수 있다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * tabbedPane.addTab("예약 관리", new LazyTabPanel("예약 관리", () -> new ReservationPanel(host, port)));
+ * tabbedPane.addChangeListener(e -> {
+ *     if (tabbedPane.getSelectedComponent() instanceof LazyTabPanel lazy) {
+ *         lazy.ensureCreated();
+ *     }
+ * });
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class LazyTabPanel extends JPanel implements Refreshable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyTabPanel.class);
+
+    private final String title;
+    private Supplier<? extends Component> factory;
+    private Component content;
+
+    /**
+     * @param title 탭 제목 (로그, 추적용)
+     * @param factory 실제 패널 생성기 (EDT에서 한 번만 호출됨)
+     */
+    public LazyTabPanel(String title, Supplier<? extends Component> factory) {
+        super(new BorderLayout());
+        this.title = title;
+        this.factory = factory;
+
+        setBackground(Color.WHITE);
+        JLabel placeholder = new JLabel("불러오는 중...", SwingConstants.CENTER);
+        placeholder.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+        placeholder.setForeground(Color.GRAY);
+        add(placeholder, BorderLayout.CENTER);
+    }
+
+    /**
+     * 실제 패널을 아직 만들지 않았으면 만들어 표시하고 첫 조회를 요청한다 (EDT에서 호출)
+     *
+     * @return 실제 패널
+     */
+    public Component ensureCreated() {
+        if (content == null) {
+            create(true);
+        }
+        return content;
+    }
+
+    /**
+     * 실제 패널을 다시 조회한다 (아직 만들지 않았으면 만든 뒤 한 번만 조회)
+     *
+     * @return 제출된 조회 작업 (다시 조회할 수 없는 패널이면 null)
+     */
+    @Override
+    public UiTask<?> refresh() {
+        if (content == null) {
+            return create(false);
+        }
+        return content instanceof Refreshable refreshable ? refreshable.refresh() : null;
+    }
+
+    /**
+     * 실제 패널을 조용히 다시 조회한다 (아직 만들지 않았으면 아무것도 하지 않음)
+     *
+     * @return 제출된 조회 작업 (조회하지 않았으면 null)
+     */
+    @Override
+    public UiTask<?> poll() {
+        return content instanceof Refreshable refreshable ? refreshable.poll() : null;
+    }
+
+    private UiTask<?> create(boolean openedByUser) {
+        long start = System.nanoTime();
+        UiTask<?> load = null;
+        // 첫 조회 작업이 이 span의 하위로 기록된다
+        try (Span span = Tracer.getInstance().startSpan("createTab " + title, "ui")) {
+            TraceContext.Scope scope = span.makeCurrent();
+            try {
+                content = factory.get();
+                if (content instanceof Refreshable refreshable && (!openedByUser || refreshable.loadsOnOpen())) {
+                    load = refreshable.refresh();
+                }
+            } finally {
+                scope.close();
+            }
+        }
+        factory = null;
+
+        removeAll();
+        add(content, BorderLayout.CENTER);
+        revalidate();
+        repaint();
+        logger.info("탭 생성: {} ({}ms)", title, (System.nanoTime() - start) / 1_000_000);
+        return load;
+    }
+
+    /**
+     * 실제 패널을 이미 만들었는지 확인
+     *
+     * @return 만들었으면 true
+     */
+    public boolean isCreated() {
+        return content != null;
+    }
+
+    /**
+     * 실제 패널 반환
+     *
+     * @return 실제 패널 (아직 만들지 않았으면 null)
+     */
+    public Component getContent() {
+        return content;
+    }
+}
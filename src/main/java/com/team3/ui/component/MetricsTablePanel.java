@@ -0,0 +1,176 @@
+package com.team3.ui.component;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.DefaultTableModel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.client.metrics.EndpointMetrics;
+import com.team3.client.metrics.MetricsRegistry;
+
+/**
+ * 엔드포인트별 HTTP 지표 표
+ * <p>
+ * {@link MetricsRegistry}의 스냅샷을 1초마다 갱신하여 보여준다.
+ * 화면에 보이지 않는 동안에는 갱신하지 않는다.
+ * 헤더 수신 시간(네트워크 + 서버), 본문 수신 완료 시간, 디코딩 시간(클라이언트)을 나란히 보여주어
+ * 느린 원인이 어느 쪽인지 구분할 수 있다.
+ * </p>
+ */
+public class MetricsTablePanel extends JPanel {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsTablePanel.class);
+
+    private static final String[] COLUMNS = {
+        "엔드포인트", "요청", "오류", "수신(KB)", "송신(KB)",
+        "헤더 p50(ms)", "헤더 p99(ms)", "완료 p50(ms)", "완료 p90(ms)", "완료 p99(ms)", "완료 최대(ms)",
+        "디코딩 p50(ms)", "디코딩 p99(ms)"
+    };
+
+    /** 갱신 주기 */
+    private static final int REFRESH_MILLIS = 1000;
+
+    private final MetricsRegistry registry = MetricsRegistry.getInstance();
+
+    private DefaultTableModel tableModel;
+    private JTable table;
+    private JButton exportButton;
+    private JButton resetButton;
+    private Timer refreshTimer;
+
+    public MetricsTablePanel() {
+        initComponents();
+        setupLayout();
+    }
+
+    private void initComponents() {
+        tableModel = new DefaultTableModel(COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        table = new JTable(tableModel);
+        table.setRowHeight(24);
+        table.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        table.getTableHeader().setFont(new Font("맑은 고딕", Font.BOLD, 12));
+        table.getColumnModel().getColumn(0).setPreferredWidth(240);
+
+        exportButton = new JButton("CSV 내보내기");
+        exportButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        exportButton.addActionListener(e -> handleExport());
+
+        resetButton = new JButton("초기화");
+        resetButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        resetButton.addActionListener(e -> {
+            registry.reset();
+            refresh();
+        });
+
+        refreshTimer = new Timer(REFRESH_MILLIS, e -> {
+            if (isShowing()) {
+                refresh();
+            }
+        });
+    }
+
+    private void setupLayout() {
+        setLayout(new BorderLayout(5, 5));
+        setBackground(Color.WHITE);
+        setBorder(BorderFactory.createTitledBorder(
+            BorderFactory.createLineBorder(Color.LIGHT_GRAY),
+            "엔드포인트 지표",
+            0,
+            0,
+            new Font("맑은 고딕", Font.BOLD, 12)
+        ));
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.setBackground(Color.WHITE);
+        buttonPanel.add(resetButton);
+        buttonPanel.add(exportButton);
+
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        refresh();
+        refreshTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        refreshTimer.stop();
+        super.removeNotify();
+    }
+
+    /**
+     * 현재 지표로 표를 다시 채운다 (선택 행 유지)
+     */
+    private void refresh() {
+        List<EndpointMetrics.Snapshot> rows = registry.snapshot();
+        int selected = table.getSelectedRow();
+
+        tableModel.setRowCount(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            EndpointMetrics.Snapshot row = rows.get(i);
+            tableModel.setValueAt(row.endpoint(), i, 0);
+            tableModel.setValueAt(row.requests(), i, 1);
+            tableModel.setValueAt(row.errors(), i, 2);
+            tableModel.setValueAt(String.format("%.1f", row.bytesIn() / 1024.0), i, 3);
+            tableModel.setValueAt(String.format("%.1f", row.bytesOut() / 1024.0), i, 4);
+            tableModel.setValueAt(millis(row.headersP50Micros()), i, 5);
+            tableModel.setValueAt(millis(row.headersP99Micros()), i, 6);
+            tableModel.setValueAt(millis(row.p50Micros()), i, 7);
+            tableModel.setValueAt(millis(row.p90Micros()), i, 8);
+            tableModel.setValueAt(millis(row.p99Micros()), i, 9);
+            tableModel.setValueAt(millis(row.maxMicros()), i, 10);
+            tableModel.setValueAt(row.decodes() > 0 ? millis(row.decodeP50Micros()) : "-", i, 11);
+            tableModel.setValueAt(row.decodes() > 0 ? millis(row.decodeP99Micros()) : "-", i, 12);
+        }
+        if (selected >= 0 && selected < rows.size()) {
+            table.setRowSelectionInterval(selected, selected);
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    private void handleExport() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("hms-metrics-" + System.currentTimeMillis() + ".csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        try {
+            registry.exportCsv(file.toPath());
+            JOptionPane.showMessageDialog(this, "지표를 저장했습니다:\n" + file.getAbsolutePath(),
+                "내보내기 완료", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IOException e) {
+            logger.error("지표 내보내기 실패", e);
+            JOptionPane.showMessageDialog(this, "지표 저장 실패: " + e.getMessage(),
+                "내보내기 오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+}
@@ -1,36 +1,151 @@
 package com.team3.ui.component;
 
+import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
 import java.awt.Font;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.team3.client.CircuitBreaker;
+import com.team3.diagnostics.EdtWatchdog;
+
 /**
  * 상태바 컴포넌트
+ * <p>
+ * 왼쪽에는 상태 메시지, 오른쪽에는 UI 멈춤 횟수와 서버 연결(회로 차단기) 상태를 표시한다.
+ * UI 멈춤 표시를 클릭하면 최근 멈춤 보고서(EDT 스택)를 보여준다.
+ * </p>
  */
-public class StatusBar extends JLabel {
-    
+public class StatusBar extends JPanel {
+
     private static final Logger logger = LoggerFactory.getLogger(StatusBar.class);
-    
+
+    private final JLabel messageLabel;
+    private final JLabel connectionLabel;
+    private final JLabel stallLabel;
+
     public StatusBar(String serverHost, int serverPort) {
-        super(" 서버: " + serverHost + ":" + serverPort);
-        
-        setFont(new Font("맑은 고딕", Font.PLAIN, 11));
+        super(new BorderLayout());
+
+        Font font = new Font("맑은 고딕", Font.PLAIN, 11);
+        messageLabel = new JLabel(" 서버: " + serverHost + ":" + serverPort);
+        messageLabel.setFont(font);
+        connectionLabel = new JLabel();
+        connectionLabel.setFont(font);
+        stallLabel = new JLabel();
+        stallLabel.setFont(font);
+        stallLabel.setForeground(new Color(230, 126, 34));
+        stallLabel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        stallLabel.setVisible(false);
+        stallLabel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                showStallReports();
+            }
+        });
+
+        JPanel eastPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 15, 0));
+        eastPanel.setOpaque(false);
+        eastPanel.add(stallLabel);
+        eastPanel.add(connectionLabel);
+
+        add(messageLabel, BorderLayout.WEST);
+        add(eastPanel, BorderLayout.EAST);
         setBorder(BorderFactory.createCompoundBorder(
             BorderFactory.createMatteBorder(1, 0, 0, 0, Color.LIGHT_GRAY),
             BorderFactory.createEmptyBorder(5, 10, 5, 10)
         ));
+
+        CircuitBreaker breaker = CircuitBreaker.forServer(serverHost, serverPort);
+        showConnectionState(breaker.getState());
+        // 상태 변경은 응답 스레드에서 통지되므로 EDT로 넘긴다
+        breaker.addListener(state -> SwingUtilities.invokeLater(() -> showConnectionState(state)));
+
+        // 멈춤 보고서는 EDT에서 통지된다
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        showStallCount(watchdog.getStallCount(), watchdog.getLongestStallMillis());
+        watchdog.addListener(report -> showStallCount(watchdog.getStallCount(), watchdog.getLongestStallMillis()));
     }
-    
+
     /**
      * 상태 메시지 업데이트
      */
     public void updateMessage(String message) {
-        setText(" " + message);
+        messageLabel.setText(" " + message);
         logger.debug("상태바 업데이트: {}", message);
     }
-}
\ No newline at end of file
+
+    /**
+     * UI 멈춤 횟수 표시 (한 번도 없으면 숨김)
+     */
+    private void showStallCount(long count, long longestMillis) {
+        stallLabel.setVisible(count > 0);
+        stallLabel.setText("⚠ UI 멈춤 " + count + "회");
+        stallLabel.setToolTipText("최장 " + longestMillis + "ms - 클릭하면 최근 멈춤 위치를 보여줍니다.");
+    }
+
+    /**
+     * 최근 멈춤 보고서 표시
+     */
+    private void showStallReports() {
+        List<EdtWatchdog.StallReport> reports = EdtWatchdog.getInstance().getRecentReports();
+        StringBuilder sb = new StringBuilder();
+        for (EdtWatchdog.StallReport report : reports) {
+            LocalTime time = LocalTime.ofInstant(report.startedAt(), ZoneId.systemDefault())
+                .truncatedTo(ChronoUnit.SECONDS);
+            sb.append(time).append("  ").append(report.durationMillis()).append("ms")
+              .append(" (샘플 ").append(report.samples().size()).append("개)\n");
+            sb.append(report.formatStack(20)).append('\n');
+        }
+
+        JTextArea textArea = new JTextArea(sb.toString());
+        textArea.setEditable(false);
+        textArea.setFont(new Font("Consolas", Font.PLAIN, 12));
+        textArea.setCaretPosition(0);
+        JScrollPane scrollPane = new JScrollPane(textArea);
+        scrollPane.setPreferredSize(new Dimension(700, 400));
+        JOptionPane.showMessageDialog(SwingUtilities.getWindowAncestor(this), scrollPane,
+            "최근 UI 멈춤 " + reports.size() + "건", JOptionPane.PLAIN_MESSAGE);
+    }
+
+    /**
+     * 서버 연결 상태 표시
+     */
+    private void showConnectionState(CircuitBreaker.State state) {
+        switch (state) {
+            case CLOSED -> {
+                connectionLabel.setText("● 서버 연결 정상");
+                connectionLabel.setForeground(new Color(39, 174, 96));
+                connectionLabel.setToolTipText(null);
+            }
+            case OPEN -> {
+                connectionLabel.setText("● 서버 응답 없음");
+                connectionLabel.setForeground(new Color(231, 76, 60));
+                connectionLabel.setToolTipText("연속 실패로 요청을 잠시 차단하고 있습니다. 잠시 후 자동으로 재확인합니다.");
+            }
+            case HALF_OPEN -> {
+                connectionLabel.setText("● 서버 연결 확인 중");
+                connectionLabel.setForeground(new Color(230, 126, 34));
+                connectionLabel.setToolTipText(null);
+            }
+        }
+    }
+}
@@ -7,7 +7,8 @@ import javax.swing.*;
 
 import com.team3.client.api.CustomerApi;
 import com.team3.dto.request.AddCustomerRequest;
-import com.team3.dto.response.ApiResponse;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 /**
  * 고객 추가 다이얼로그
@@ -187,23 +188,19 @@ public class AddCustomerDialog extends JDialog {
         okButton.setEnabled(false);
         AddCustomerRequest req = new AddCustomerRequest(name, phone, room, feedback);
 
-        new SwingWorker<ApiResponse, Void>() {
-            @Override protected ApiResponse doInBackground() {
-                return customerApi.addCustomer(req);
-            }
-            @Override protected void done() {
-                okButton.setEnabled(true);
-                try {
-                    ApiResponse res = get();
-                    if (res.isSuccess()) {
-                        JOptionPane.showMessageDialog(null, "등록되었습니다.");
-                        dispose();
-                    } else {
-                        statusLabel.setText("실패: " + res.getBody());
-                        statusLabel.setForeground(Color.RED);
-                    }
-                } catch (Exception e) { e.printStackTrace(); }
-            }
-        }.execute();
+        UiTask.of(() -> customerApi.addCustomer(req))
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(res -> {
+                if (res.isSuccess()) {
+                    JOptionPane.showMessageDialog(null, "등록되었습니다.");
+                    dispose();
+                } else {
+                    statusLabel.setText("실패: " + res.getBody());
+                    statusLabel.setForeground(Color.RED);
+                }
+            })
+            .onFailure(e -> e.printStackTrace())
+            .onFinally(() -> okButton.setEnabled(true))
+            .submit();
     }
 }
\ No newline at end of file
@@ -1,16 +1,24 @@
 package com.team3.ui.dialog;
 
 import java.awt.*;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import javax.swing.*;
 
 import com.team3.client.api.FnbApi;
 import com.team3.dto.request.AddFnbRequest;
-import com.team3.dto.response.ApiResponse;
 import com.team3.model.FnbItem.*; 
+import com.team3.model.Reservation;
+import com.team3.model.Room;
+import com.team3.store.EntityStore;
+import com.team3.store.EntityStores;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 public class AddFnbDialog extends JDialog {
 
@@ -79,6 +87,12 @@ public class AddFnbDialog extends JDialog {
         gbc.gridx = 0; gbc.gridy = 2; topPanel.add(new JLabel("고객명:"), gbc);
         gbc.gridx = 1; topPanel.add(customerNameField, gbc);
 
+        // 객실 번호를 입력하면 조회해 둔 예약에서 투숙객 이름을 채운다 (네트워크 요청 없음)
+        roomIdField.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) { fillCustomerFromRoom(); }
+        });
+
         add(topPanel, BorderLayout.NORTH);
 
         // [중앙 패널]
@@ -133,6 +147,32 @@ public class AddFnbDialog extends JDialog {
         changeView();
     }
 
+    /** 객실의 예약 중 체크인된 예약(없으면 유일한 예약)의 투숙객 이름을 채운다 */
+    private void fillCustomerFromRoom() {
+        if (!customerNameField.getText().trim().isEmpty()) return;
+        List<Reservation> reservations = EntityStores.getInstance().reservations()
+            .lookup(EntityStores.RESERVATIONS_BY_ROOM, roomIdField.getText().trim());
+        Reservation guest = reservations.stream().filter(Reservation::isCheckedIn).findFirst()
+            .orElse(reservations.size() == 1 ? reservations.get(0) : null);
+        if (guest != null) {
+            customerNameField.setText(guest.getGuestName());
+        }
+    }
+
+    /**
+     * 조회해 둔 객실 목록이 있으면 객실 번호가 실제로 있는지 확인한다
+     * (아직 객실 목록을 받지 않았으면 서버 검증에 맡긴다)
+     */
+    private boolean isKnownRoom(String room) {
+        EntityStore<Integer, Room> rooms = EntityStores.getInstance().rooms();
+        if (!rooms.isLoaded()) return true;
+        try {
+            return rooms.get(Integer.valueOf(room)) != null;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     private void changeView() {
         ServiceType selected = (ServiceType) serviceTypeCombo.getSelectedItem();
         if (selected == ServiceType.ROOM_SERVICE) {
@@ -215,6 +255,12 @@ public class AddFnbDialog extends JDialog {
             return;
         }
 
+        if (!room.isEmpty() && !isKnownRoom(room)) {
+            statusLabel.setText("존재하지 않는 객실 번호입니다: " + room);
+            statusLabel.setForeground(new Color(192, 57, 43));
+            return;
+        }
+
         AddFnbRequest request = null;
 
         if (sType == ServiceType.ROOM_SERVICE) {
@@ -267,23 +313,19 @@ public class AddFnbDialog extends JDialog {
         statusLabel.setText("처리 중...");
         
         final AddFnbRequest finalReq = request;
-        new SwingWorker<ApiResponse, Void>() {
-            @Override protected ApiResponse doInBackground() {
-                return fnbApi.addFnbItem(finalReq);
-            }
-            @Override protected void done() {
-                okButton.setEnabled(true);
-                try {
-                    ApiResponse res = get();
-                    if (res.isSuccess()) {
-                        JOptionPane.showMessageDialog(null, "완료되었습니다.");
-                        dispose();
-                    } else {
-                        statusLabel.setText("실패: " + res.getBody());
-                        statusLabel.setForeground(new Color(192, 57, 43));
-                    }
-                } catch (Exception e) { e.printStackTrace(); }
-            }
-        }.execute();
+        UiTask.of(() -> fnbApi.addFnbItem(finalReq))
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(res -> {
+                if (res.isSuccess()) {
+                    JOptionPane.showMessageDialog(null, "완료되었습니다.");
+                    dispose();
+                } else {
+                    statusLabel.setText("실패: " + res.getBody());
+                    statusLabel.setForeground(new Color(192, 57, 43));
+                }
+            })
+            .onFailure(e -> e.printStackTrace())
+            .onFinally(() -> okButton.setEnabled(true))
+            .submit();
     }
 }
\ No newline at end of file
@@ -25,13 +25,13 @@ import javax.swing.JPanel;
 import javax.swing.JSpinner;
 import javax.swing.JTextField;
 import javax.swing.SpinnerDateModel;
-import javax.swing.SwingWorker;
 
 import com.team3.client.api.ReservationApi;
 import com.team3.dto.request.AddReservationRequest;
 import com.team3.dto.request.UpdateReservationRequest;
-import com.team3.dto.response.ApiResponse;
 import com.team3.model.Reservation;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 public class AddReservationDialog extends JDialog {
 
@@ -242,38 +242,35 @@ public class AddReservationDialog extends JDialog {
         okButton.setEnabled(false);
         statusLabel.setText("처리 중...");
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override protected ApiResponse doInBackground() {
-                if (isEditMode) {
-                    UpdateReservationRequest req = new UpdateReservationRequest(
-                        existingReservation.getId(), existingReservation.getUserId(),
-                        roomId, guestName, phone, checkIn.toString(), checkOut.toString(), guestCount
-                    );
-                    return reservationApi.updateReservation(req);
-                } else {
-                    AddReservationRequest req = new AddReservationRequest(
-                        roomId, guestName, phone, checkIn.toString(), checkOut.toString(), guestCount
-                    );
-                    return reservationApi.createReservation(req);
-                }
+        UiTask.of(() -> {
+            if (isEditMode) {
+                UpdateReservationRequest req = new UpdateReservationRequest(
+                    existingReservation.getId(), existingReservation.getUserId(),
+                    roomId, guestName, phone, checkIn.toString(), checkOut.toString(), guestCount
+                );
+                return reservationApi.updateReservation(req);
+            } else {
+                AddReservationRequest req = new AddReservationRequest(
+                    roomId, guestName, phone, checkIn.toString(), checkOut.toString(), guestCount
+                );
+                return reservationApi.createReservation(req);
             }
-            @Override protected void done() {
-                okButton.setEnabled(true);
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        JOptionPane.showMessageDialog(AddReservationDialog.this, isEditMode ? "수정되었습니다." : "예약되었습니다.");
-                        dispose();
-                    } else {
-                        statusLabel.setText("실패: " + response.getMessage());
-                        statusLabel.setForeground(new Color(192, 57, 43));
-                    }
-                } catch (Exception e) {
-                    statusLabel.setText("오류: " + e.getMessage());
+        })
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    JOptionPane.showMessageDialog(AddReservationDialog.this, isEditMode ? "수정되었습니다." : "예약되었습니다.");
+                    dispose();
+                } else {
+                    statusLabel.setText("실패: " + response.getMessage());
                     statusLabel.setForeground(new Color(192, 57, 43));
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(e -> {
+                statusLabel.setText("오류: " + e.getMessage());
+                statusLabel.setForeground(new Color(192, 57, 43));
+            })
+            .onFinally(() -> okButton.setEnabled(true))
+            .submit();
     }
 }
\ No newline at end of file
@@ -10,7 +10,6 @@ import java.awt.Insets;
 import java.awt.Window;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -22,15 +21,14 @@ import javax.swing.JPanel;
 import javax.swing.JSeparator;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
-import javax.swing.SwingWorker;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.team3.client.api.RoomApi;
 import com.team3.dto.request.AddRoomRequest;
-import com.team3.dto.response.ApiResponse;
-import com.team3.util.JsonUtil;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 /**
  * 객실 추가 다이얼로그
@@ -187,30 +185,22 @@ public class AddRoomDialog extends JDialog {
 
         addButton.setEnabled(false);
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                AddRoomRequest req = new AddRoomRequest(roomId, basePrice, isAvailable, maxOccupancy);
-                return roomApi.addRoom(req);
-            }
-
-            @Override
-            protected void done() {
-                addButton.setEnabled(true);
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        JOptionPane.showMessageDialog(AddRoomDialog.this, "객실 추가 성공!", "알림", JOptionPane.INFORMATION_MESSAGE);
-                        dispose();
-                    } else {
-                        showError("추가 실패: " + JsonUtil.extract(response.getBody(), "message"));
-                    }
-                } catch (InterruptedException | ExecutionException e) {
-                    showError("오류: " + e.getMessage());
+        UiTask.of(() -> {
+            AddRoomRequest req = new AddRoomRequest(roomId, basePrice, isAvailable, maxOccupancy);
+            return roomApi.addRoom(req);
+        })
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    JOptionPane.showMessageDialog(AddRoomDialog.this, "객실 추가 성공!", "알림", JOptionPane.INFORMATION_MESSAGE);
+                    dispose();
+                } else {
+                    showError("추가 실패: " + response.getMessage());
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(e -> showError("오류: " + e.getMessage()))
+            .onFinally(() -> addButton.setEnabled(true))
+            .submit();
     }
 
     /**
@@ -6,10 +6,8 @@ import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
-import java.awt.HeadlessException;
 import java.awt.Insets;
 import java.awt.Window;
-import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -20,11 +18,11 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JPasswordField;
 import javax.swing.JTextField;
-import javax.swing.SwingWorker;
 
 import com.team3.client.api.UserApi;
 import com.team3.dto.request.AddUserRequest;
-import com.team3.dto.response.ApiResponse;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 /**
  * 사용자 추가 다이얼로그
@@ -132,33 +130,27 @@ public class AddUserDialog extends JDialog {
         statusLabel.setText("사용자 추가 중...");
         statusLabel.setForeground(new Color(52, 73, 94));
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                AddUserRequest req = new AddUserRequest(userId, password, userName, role);
-                return userApi.addUser(req);
-            }
-
-            @Override
-            protected void done() {
-                addButton.setEnabled(true);
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        statusLabel.setText("사용자 추가 성공!");
-                        statusLabel.setForeground(new Color(39, 174, 96));
-                        JOptionPane.showMessageDialog(AddUserDialog.this, "사용자 추가 성공!", "알림", JOptionPane.INFORMATION_MESSAGE);
-                        dispose();
-                    } else {
-                        statusLabel.setText("추가 실패: " + response.getMessage());
-                        statusLabel.setForeground(new Color(192, 57, 43));
-                    }
-                } catch (HeadlessException | InterruptedException | ExecutionException e) {
-                    statusLabel.setText("오류: " + e.getMessage());
+        UiTask.of(() -> {
+            AddUserRequest req = new AddUserRequest(userId, password, userName, role);
+            return userApi.addUser(req);
+        })
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    statusLabel.setText("사용자 추가 성공!");
+                    statusLabel.setForeground(new Color(39, 174, 96));
+                    JOptionPane.showMessageDialog(AddUserDialog.this, "사용자 추가 성공!", "알림", JOptionPane.INFORMATION_MESSAGE);
+                    dispose();
+                } else {
+                    statusLabel.setText("추가 실패: " + response.getMessage());
                     statusLabel.setForeground(new Color(192, 57, 43));
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(e -> {
+                statusLabel.setText("오류: " + e.getMessage());
+                statusLabel.setForeground(new Color(192, 57, 43));
+            })
+            .onFinally(() -> addButton.setEnabled(true))
+            .submit();
     }
 }
\ No newline at end of file
@@ -10,7 +10,6 @@ import java.awt.Insets;
 import java.awt.Window;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -22,15 +21,14 @@ import javax.swing.JPanel;
 import javax.swing.JSeparator;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
-import javax.swing.SwingWorker;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.team3.client.api.RoomApi;
 import com.team3.dto.request.UpdateRoomRequest;
-import com.team3.dto.response.ApiResponse;
-import com.team3.util.JsonUtil;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 /**
  * 객실 수정 다이얼로그
@@ -199,30 +197,22 @@ public class EditRoomDialog extends JDialog {
 
         editButton.setEnabled(false);
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                UpdateRoomRequest request = new UpdateRoomRequest(roomId, basePrice, isAvailable, maxOccupancy, priceChangeReason);
-                return roomApi.updateRoom(request);
-            }
-
-            @Override
-            protected void done() {
-                editButton.setEnabled(true);
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        JOptionPane.showMessageDialog(EditRoomDialog.this, "객실 정보 수정 성공", "알림", JOptionPane.INFORMATION_MESSAGE);
-                        dispose();
-                    } else {
-                        showError("수정 실패: " + JsonUtil.extract(response.getBody(), "message"));
-                    }
-                } catch (InterruptedException | ExecutionException e) {
-                    showError("오류: " + e.getMessage());
+        UiTask.of(() -> {
+            UpdateRoomRequest request = new UpdateRoomRequest(roomId, basePrice, isAvailable, maxOccupancy, priceChangeReason);
+            return roomApi.updateRoom(request);
+        })
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    JOptionPane.showMessageDialog(EditRoomDialog.this, "객실 정보 수정 성공", "알림", JOptionPane.INFORMATION_MESSAGE);
+                    dispose();
+                } else {
+                    showError("수정 실패: " + response.getMessage());
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(e -> showError("오류: " + e.getMessage()))
+            .onFinally(() -> editButton.setEnabled(true))
+            .submit();
     }
 
     /**
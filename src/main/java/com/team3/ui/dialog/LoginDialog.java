@@ -7,11 +7,9 @@ import java.awt.Font;
 import java.awt.Frame;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
-import java.awt.HeadlessException;
 import java.awt.Insets;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -23,16 +21,15 @@ import javax.swing.JPasswordField;
 import javax.swing.JSeparator;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
-import javax.swing.SwingWorker;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.team3.client.api.UserApi;
 import com.team3.dto.request.LoginRequest;
-import com.team3.dto.response.ApiResponse;
 import com.team3.session.SessionManager;
-import com.team3.util.JsonUtil;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 /**
  * 로그인 다이얼로그
@@ -165,53 +162,42 @@ public class LoginDialog extends JDialog {
         setButtonsEnabled(false);
         
         // 백그라운드에서 로그인 처리
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                LoginRequest request = new LoginRequest(userId, password);
-                return userApi.login(request);
-            }
-            
-            @Override
-            protected void done() {
-                try {
-                    ApiResponse response = get();
-                    
-                    if (response.isSuccess()) {
-                        logger.info("로그인 성공: {}", userId);
-                        String responseBody = response.getBody();
-                        SessionManager.getInstance().login(
-                            JsonUtil.extract(responseBody, "token"),
-                            JsonUtil.extract(responseBody, "userId"),
-                            JsonUtil.extract(responseBody, "userName"),
-                            JsonUtil.extract(responseBody, "role")
-                        );
-                        JOptionPane.showMessageDialog(
-                            LoginDialog.this,
-                            "로그인 성공!\n환영합니다, " + SessionManager.getInstance().getUserName() + "님",
-                            "로그인 성공",
-                            JOptionPane.INFORMATION_MESSAGE
-                        );
-                        
-                        dispose(); // 다이얼로그 닫기
-                        
-                    } else {
-                        logger.warn("로그인 실패: {}", response.getBody());
-                        showError("로그인 실패\n" + response.getMessage());
-                        passwordField.setText("");
-                        passwordField.requestFocus();
-                    }
-                    
-                } catch (HeadlessException | InterruptedException | ExecutionException e) {
-                    logger.error("로그인 중 오류", e);
-                    showError("로그인 중 오류가 발생했습니다\n" + e.getMessage());
-                } finally {
-                    setButtonsEnabled(true);
+        UiTask.of(() -> {
+            LoginRequest request = new LoginRequest(userId, password);
+            return userApi.login(request);
+        })
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    logger.info("로그인 성공: {}", userId);
+                    SessionManager.getInstance().login(
+                        response.getString("token"),
+                        response.getString("userId"),
+                        response.getString("userName"),
+                        response.getString("role")
+                    );
+                    JOptionPane.showMessageDialog(
+                        LoginDialog.this,
+                        "로그인 성공!\n환영합니다, " + SessionManager.getInstance().getUserName() + "님",
+                        "로그인 성공",
+                        JOptionPane.INFORMATION_MESSAGE
+                    );
+
+                    dispose(); // 다이얼로그 닫기
+
+                } else {
+                    logger.warn("로그인 실패: {}", response.getBody());
+                    showError("로그인 실패\n" + response.getMessage());
+                    passwordField.setText("");
+                    passwordField.requestFocus();
                 }
-            }
-        };
-        
-        worker.execute();
+            })
+            .onFailure(e -> {
+                logger.error("로그인 중 오류", e);
+                showError("로그인 중 오류가 발생했습니다\n" + e.getMessage());
+            })
+            .onFinally(() -> setButtonsEnabled(true))
+            .submit();
     }
 
     /**
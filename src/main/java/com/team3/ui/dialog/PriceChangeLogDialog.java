@@ -12,18 +12,15 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
-import javax.swing.SwingWorker;
 import javax.swing.table.DefaultTableModel;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 import com.team3.client.api.RoomApi;
+import com.team3.diagnostics.TableRefreshEvent;
 import com.team3.dto.request.RoomIdRequest;
-import com.team3.dto.response.ApiResponse;
+import com.team3.ui.task.UiTask;
 
 
 /**
@@ -90,56 +87,34 @@ public class PriceChangeLogDialog extends JDialog {
         statusLabel.setText("금액변경로그 조회 중...");
         logTableModel.setRowCount(0);
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                return roomApi.getPriceChangeLogs(new RoomIdRequest(roomId));
-            }
-
-            @Override
-            protected void done() {
-                try {
-                    ApiResponse response = get();
-                    logger.debug("ApiResponse boy: {}", response.getBody());
-                    if (response.isSuccess()) {
-                        List<PriceChangeLogRow> logs = parseLogList(response.getBody());
-                        for (PriceChangeLogRow log : logs) {
-                            logTableModel.addRow(new Object[]{
-                                log.changedAt,
-                                log.oldPrice,
-                                log.newPrice,
-                                log.reason
-                            });
-                        }
-                        logger.debug("로그 개수: {}", logs.size());
-                        statusLabel.setText("✓ 로그 " + logs.size() + "건");
-                        statusLabel.setForeground(new Color(39, 174, 96));
-                    } else {
-                        statusLabel.setText("✗ 로그 조회 실패");
-                        statusLabel.setForeground(new Color(231, 76, 60));
+        UiTask.of(() -> roomApi.fetchPriceChangeLogs(new RoomIdRequest(roomId), PriceChangeLogRow.class))
+            .key(this, "load")
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    List<PriceChangeLogRow> logs = response.getItems();
+                    TableRefreshEvent refresh = TableRefreshEvent.start("PriceChangeLogDialog");
+                    for (PriceChangeLogRow log : logs) {
+                        logTableModel.addRow(new Object[]{
+                            log.changedAt,
+                            log.oldPrice,
+                            log.newPrice,
+                            log.reason
+                        });
                     }
-                } catch (Exception e) {
-                    statusLabel.setText("✗ 오류: " + e.getMessage());
+                    refresh.finish(logTableModel.getRowCount());
+                    logger.debug("로그 개수: {}", logs.size());
+                    statusLabel.setText("✓ 로그 " + logs.size() + "건");
+                    statusLabel.setForeground(new Color(39, 174, 96));
+                } else {
+                    statusLabel.setText("✗ 로그 조회 실패");
                     statusLabel.setForeground(new Color(231, 76, 60));
                 }
-            }
-        };
-        worker.execute();
-    }
-
-    private List<PriceChangeLogRow> parseLogList(String json) {
-        Gson gson = new Gson();
-        try {
-            com.google.gson.JsonObject obj = gson.fromJson(json, com.google.gson.JsonObject.class);
-            if (obj.has("logs")) {
-                com.google.gson.JsonElement logsElem = obj.get("logs");
-                java.lang.reflect.Type listType = new TypeToken<List<PriceChangeLogRow>>(){}.getType();
-                return gson.fromJson(logsElem, listType);
-            }
-        } catch (JsonSyntaxException e) {
-            logger.error("금액변경로그 파싱 실패", e);
-        }
-        return java.util.Collections.emptyList();
+            })
+            .onFailure(e -> {
+                statusLabel.setText("✗ 오류: " + e.getMessage());
+                statusLabel.setForeground(new Color(231, 76, 60));
+            })
+            .submit();
     }
 
     private static class PriceChangeLogRow {
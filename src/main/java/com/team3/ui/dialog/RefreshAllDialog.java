@@ -0,0 +1,237 @@
+package com.team3.ui.dialog;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.GridLayout;
+import java.awt.Window;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.ui.panel.Refreshable;
+import com.team3.ui.task.UiTask;
+
+/**
+ * 모든 탭 새로고침 다이얼로그
+ * <p>
+ * 여러 탭을 동시에 다시 조회하되, 한 번에 진행하는 조회 수를 제한하여
+ * 서버에 요청이 한꺼번에 몰리지 않도록 한다 ({@code hms.ui.refreshParallelism}, 기본 3).
+ * 탭별 진행 상태와 전체 진행률을 보여주며, 서버가 실패 응답을 주면 그 탭은 실패로 센다.
+ * 중지하면 아직 시작하지 않은 탭은 건너뛰고 진행 중인 조회는 취소한다
+ * (취소된 패널도 {@code onFinally}로 진행 표시를 정리함).
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class RefreshAllDialog extends JDialog {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshAllDialog.class);
+
+    private static final Color RUNNING = new Color(230, 126, 34);
+    private static final Color SUCCESS = new Color(39, 174, 96);
+    private static final Color FAILURE = new Color(231, 76, 60);
+
+    /** 새로고침 대상 탭 */
+    public record Target(String title, Refreshable refreshable) {}
+
+    private final List<Target> targets;
+    private final int parallelism = Integer.getInteger("hms.ui.refreshParallelism", 3);
+
+    private final Deque<Integer> pending = new ArrayDeque<>();
+    private final List<JLabel> statusLabels = new ArrayList<>();
+    /** 진행 중인 조회 (탭 인덱스 → 작업, 중지 시 취소용) */
+    private final Map<Integer, UiTask<?>> runningTasks = new LinkedHashMap<>();
+    private int running;
+    private int succeeded;
+    private int failed;
+    private int skipped;
+    private boolean stopped;
+    private long startNanos;
+
+    private JProgressBar progressBar;
+    private JLabel summaryLabel;
+    private JButton actionButton;
+
+    public RefreshAllDialog(Window parent, List<Target> targets) {
+        super(parent, "모든 탭 새로고침", ModalityType.MODELESS);
+        this.targets = List.copyOf(targets);
+        initComponents();
+        setupLayout();
+        pack();
+        setLocationRelativeTo(parent);
+    }
+
+    private void initComponents() {
+        for (int i = 0; i < targets.size(); i++) {
+            JLabel label = new JLabel("대기");
+            label.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+            label.setForeground(Color.GRAY);
+            statusLabels.add(label);
+        }
+        progressBar = new JProgressBar(0, targets.size());
+        progressBar.setStringPainted(true);
+        summaryLabel = new JLabel(" ");
+        summaryLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        actionButton = new JButton("중지");
+        actionButton.addActionListener(e -> {
+            if (isFinished()) {
+                dispose();
+            } else {
+                stop();
+            }
+        });
+    }
+
+    private void setupLayout() {
+        setLayout(new BorderLayout(10, 10));
+
+        JPanel listPanel = new JPanel(new GridLayout(targets.size(), 2, 20, 6));
+        listPanel.setBorder(BorderFactory.createEmptyBorder(15, 20, 5, 20));
+        for (int i = 0; i < targets.size(); i++) {
+            JLabel titleLabel = new JLabel(targets.get(i).title());
+            titleLabel.setFont(new Font("맑은 고딕", Font.BOLD, 12));
+            listPanel.add(titleLabel);
+            listPanel.add(statusLabels.get(i));
+        }
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(actionButton);
+
+        JPanel bottomPanel = new JPanel(new BorderLayout(5, 5));
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(0, 20, 10, 20));
+        bottomPanel.add(progressBar, BorderLayout.NORTH);
+        bottomPanel.add(summaryLabel, BorderLayout.CENTER);
+        bottomPanel.add(buttonPanel, BorderLayout.SOUTH);
+
+        add(listPanel, BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * 새로고침을 시작한다 (EDT에서 호출)
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        for (int i = 0; i < targets.size(); i++) {
+            pending.add(i);
+        }
+        logger.info("모든 탭 새로고침 시작: {}개 탭 (동시 {}개)", targets.size(), parallelism);
+        updateProgress();
+        startNext();
+    }
+
+    /**
+     * 동시 진행 한도까지 다음 탭의 조회를 시작한다
+     */
+    private void startNext() {
+        while (!stopped && running < parallelism && !pending.isEmpty()) {
+            int index = pending.poll();
+            UiTask<?> task;
+            try {
+                task = targets.get(index).refreshable().refresh();
+            } catch (RuntimeException e) {
+                logger.error("탭 새로고침 시작 실패: {}", targets.get(index).title(), e);
+                markDone(index, null, e);
+                continue;
+            }
+            if (task == null) {
+                // 다시 조회할 수 없는 패널은 성공으로 세지 않는다
+                skipped++;
+                setStatus(index, "건너뜀", Color.GRAY);
+                updateProgress();
+                continue;
+            }
+            running++;
+            runningTasks.put(index, task);
+            setStatus(index, "조회 중...", RUNNING);
+            task.completion().whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+                running--;
+                runningTasks.remove(index);
+                markDone(index, result, error);
+                startNext();
+            }));
+        }
+        if (isFinished()) {
+            finish();
+        }
+    }
+
+    private void markDone(int index, Object result, Throwable error) {
+        if (error == null && Refreshable.isSuccess(result)) {
+            succeeded++;
+            setStatus(index, "✓ 완료", SUCCESS);
+        } else if (error == null) {
+            failed++;
+            String message = Refreshable.messageOf(result);
+            setStatus(index, "✗ 실패" + (message != null ? ": " + message : ""), FAILURE);
+        } else if (error instanceof CancellationException) {
+            // 중지했거나, 사용자가 같은 탭을 다시 조회하여 이전 작업이 취소되었다
+            skipped++;
+            setStatus(index, "취소됨", Color.GRAY);
+        } else {
+            failed++;
+            setStatus(index, "✗ 실패: " + error.getMessage(), FAILURE);
+        }
+        updateProgress();
+    }
+
+    private void stop() {
+        stopped = true;
+        while (!pending.isEmpty()) {
+            skipped++;
+            setStatus(pending.poll(), "건너뜀", Color.GRAY);
+        }
+        actionButton.setEnabled(false);
+        updateProgress();
+        logger.info("모든 탭 새로고침 중지 (진행 중 {}개 취소)", running);
+        // 완료 처리(취소됨 표시, running 감소)는 각 작업의 완료 콜백에서 한다
+        for (UiTask<?> task : List.copyOf(runningTasks.values())) {
+            task.cancel();
+        }
+        if (isFinished()) {
+            finish();
+        }
+    }
+
+    private boolean isFinished() {
+        return running == 0 && (stopped || pending.isEmpty());
+    }
+
+    private void finish() {
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        summaryLabel.setText(String.format("완료 %d, 실패 %d, 건너뜀 %d (%.1f초)",
+            succeeded, failed, skipped, elapsedMillis / 1000.0));
+        actionButton.setText("닫기");
+        actionButton.setEnabled(true);
+        logger.info("모든 탭 새로고침 종료: 완료 {}, 실패 {}, 건너뜀 {} ({}ms)", succeeded, failed, skipped, elapsedMillis);
+    }
+
+    private void setStatus(int index, String text, Color color) {
+        JLabel label = statusLabels.get(index);
+        label.setText(text);
+        label.setForeground(color);
+    }
+
+    private void updateProgress() {
+        int done = succeeded + failed + skipped;
+        progressBar.setValue(done);
+        progressBar.setString(done + " / " + targets.size());
+    }
+}
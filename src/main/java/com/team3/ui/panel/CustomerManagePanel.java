@@ -5,21 +5,26 @@ import java.util.List;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.team3.client.api.CustomerApi;
+import com.team3.diagnostics.TableRefreshEvent;
 import com.team3.dto.request.DeleteCustomerRequest;
-import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
 import com.team3.model.Customer;
+import com.team3.store.EntityStores;
 import com.team3.ui.dialog.AddCustomerDialog;
-import java.util.concurrent.ExecutionException;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
+import com.team3.ui.task.UiTaskExecutor;
 
-public class CustomerManagePanel extends JPanel {
+public class CustomerManagePanel extends JPanel implements Refreshable {
 
     private final CustomerApi api;
     private JTable table;
     private DefaultTableModel model;
     
+    /** 표에 마지막으로 그린 고객 목록 (같은 목록을 두 번 그리지 않기 위함) */
+    private List<Customer> shownCustomers;
+
     // 검색 컴포넌트
     private JComboBox<String> searchTypeCombo;
     private JTextField searchField;
@@ -86,7 +91,12 @@ public class CustomerManagePanel extends JPanel {
             loadData(); // 창 닫히면 갱신
         });
 
-        loadData(); // 초기 로드
+        // 전체 목록이 갱신되면 다시 그린다 (검색 결과를 보고 있는 동안에는 덮어쓰지 않음)
+        EntityStores.getInstance().customers().subscribe(customers -> {
+            if (searchField.getText().trim().isEmpty()) {
+                showCustomers(customers);
+            }
+        });
     }
 
     private void searchData() {
@@ -99,69 +109,74 @@ public class CustomerManagePanel extends JPanel {
         // 콤보박스 선택값: "이름 (Name)" -> "NAME", "객실 번호 (Room)" -> "ROOM"
         String type = searchTypeCombo.getSelectedIndex() == 0 ? "NAME" : "ROOM";
 
-        new SwingWorker<ApiResponse, Void>() {
-            @Override protected ApiResponse doInBackground() {
-                return api.searchCustomers(type, keyword);
-            }
-            @Override protected void done() {
-                try {
-                    processResponse(get());
-                } catch (InterruptedException ex) {
-                    System.getLogger(CustomerManagePanel.class.getName()).log(System.Logger.Level.ERROR, (String) null, ex);
-                } catch (ExecutionException ex) {
-                    System.getLogger(CustomerManagePanel.class.getName()).log(System.Logger.Level.ERROR, (String) null, ex);
-                }
-            }
-        }.execute();
+        UiTask.of(() -> api.fetchCustomerSearch(type, keyword))
+            .key(this, "load")
+            .onSuccess(this::processResponse)
+            .onFailure(ex -> System.getLogger(CustomerManagePanel.class.getName()).log(System.Logger.Level.ERROR, (String) null, ex))
+            .submit();
     }
 
-    private void loadData() {
-        new SwingWorker<ApiResponse, Void>() {
-            @Override protected ApiResponse doInBackground() {
-                return api.getCustomerList();
-            }
-            @Override protected void done() {
-                try {
-                    processResponse(get());
-                } catch (InterruptedException ex) {
-                    System.getLogger(CustomerManagePanel.class.getName()).log(System.Logger.Level.ERROR, (String) null, ex);
-                } catch (ExecutionException ex) {
-                    System.getLogger(CustomerManagePanel.class.getName()).log(System.Logger.Level.ERROR, (String) null, ex);
-                }
-            }
-        }.execute();
+    @Override
+    public UiTask<?> refresh() {
+        searchField.setText("");
+        return loadData();
+    }
+
+    @Override
+    public UiTask<?> poll() {
+        // 사용자가 요청한 조회를 취소하지 않도록, 진행 중이면 이번 자동 새로고침은 건너뛴다
+        if (UiTaskExecutor.getInstance().isActive(this, "load")) {
+            return null;
+        }
+        // 표는 저장소 알림으로 갱신되므로 상태 표시 없이 조회만 한다
+        return UiTask.of(api::fetchCustomerList)
+            .key(this, "load")
+            .priority(TaskPriority.BACKGROUND)
+            .submit();
+    }
+
+    private UiTask<?> loadData() {
+        return UiTask.of(api::fetchCustomerList)
+            .key(this, "load")
+            .onSuccess(this::processResponse)
+            .onFailure(ex -> System.getLogger(CustomerManagePanel.class.getName()).log(System.Logger.Level.ERROR, (String) null, ex))
+            .submit();
     }
 
     // 응답 처리 공통 메서드
-    private void processResponse(ApiResponse res) {
-        try {
-            if (res != null && res.isSuccess()) {
-                com.google.gson.JsonObject json = new Gson().fromJson(res.getBody(), com.google.gson.JsonObject.class);
-                if (json.has("data")) {
-                    List<Customer> list = new Gson().fromJson(json.get("data"), new TypeToken<List<Customer>>(){}.getType());
-                    model.setRowCount(0);
-                    for (Customer c : list) {
-                        model.addRow(new Object[]{
-                            c.getId(), c.getName(), c.getPhoneNumber(), c.getRoomNumber(), 
-                            c.getFeedback(), c.getCreatedAt(), "삭제"
-                        });
-                    }
-                }
-            } else {
-                JOptionPane.showMessageDialog(this, "데이터 로드 실패");
-            }
-        } catch (Exception e) { e.printStackTrace(); }
+    private void processResponse(ListResponse<Customer> res) {
+        if (res != null && res.isSuccess()) {
+            showCustomers(res.getItems());
+        } else {
+            JOptionPane.showMessageDialog(this, "데이터 로드 실패");
+        }
+    }
+
+    private void showCustomers(List<Customer> customers) {
+        // 저장소 알림으로 이미 그린 목록이면 다시 그리지 않는다
+        if (customers == shownCustomers) {
+            return;
+        }
+        shownCustomers = customers;
+        TableRefreshEvent refresh = TableRefreshEvent.start("CustomerManagePanel");
+        model.setRowCount(0);
+        for (Customer c : customers) {
+            model.addRow(new Object[]{
+                c.getId(), c.getName(), c.getPhoneNumber(), c.getRoomNumber(), 
+                c.getFeedback(), c.getCreatedAt(), "삭제"
+            });
+        }
+        refresh.finish(model.getRowCount());
     }
 
     private void deleteItem(int row) {
         String id = (String) model.getValueAt(row, 0);
         if (JOptionPane.showConfirmDialog(this, "삭제하시겠습니까?", "확인", JOptionPane.YES_NO_OPTION) == 0) {
-            new SwingWorker<ApiResponse, Void>() {
-                @Override protected ApiResponse doInBackground() {
-                    return api.deleteCustomer(new DeleteCustomerRequest(id));
-                }
-                @Override protected void done() { loadData(); }
-            }.execute();
+            UiTask.of(() -> api.deleteCustomer(new DeleteCustomerRequest(id)))
+                .priority(TaskPriority.INTERACTIVE)
+                .onFailure(ex -> System.getLogger(CustomerManagePanel.class.getName()).log(System.Logger.Level.ERROR, (String) null, ex))
+                .onFinally(this::loadData)
+                .submit();
         }
     }
 
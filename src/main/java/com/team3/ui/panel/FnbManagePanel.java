@@ -9,8 +9,8 @@ import java.awt.Font;
 import java.awt.Insets;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Vector;
 
 import javax.swing.BorderFactory;
 import javax.swing.DefaultCellEditor;
@@ -25,22 +25,24 @@ import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
-import javax.swing.SwingWorker;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableModel;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.team3.client.api.FnbApi;
+import com.team3.diagnostics.TableRefreshEvent;
 import com.team3.dto.request.DeleteFnbRequest;
-import com.team3.dto.response.ApiResponse;
 import com.team3.model.FnbItem;
+import com.team3.store.EntityStores;
 import com.team3.ui.dialog.AddFnbDialog;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
+import com.team3.ui.task.UiTaskExecutor;
+import com.team3.ui.util.TableUtil;
 
-public class FnbManagePanel extends JPanel {
+public class FnbManagePanel extends JPanel implements Refreshable {
 
     private static final Logger logger = LoggerFactory.getLogger(FnbManagePanel.class);
 
@@ -50,6 +52,9 @@ public class FnbManagePanel extends JPanel {
     private JTable fnbTable;
     private DefaultTableModel tableModel;
     private JLabel statusLabel;
+
+    /** 표에 마지막으로 그린 주문 목록 (같은 목록을 두 번 그리지 않기 위함) */
+    private List<FnbItem> shownItems;
     private JProgressBar progressBar;
 
     // 컬럼 정의 (9:결제원본, 8:메뉴원본 은 숨김)
@@ -61,7 +66,8 @@ public class FnbManagePanel extends JPanel {
         this.fnbApi = new FnbApi(serverHost, serverPort);
         initComponents();
         setupLayout();
-        loadFnbList();
+        // 어느 화면에서 조회했든 식음료 저장소가 갱신되면 표를 다시 그린다
+        EntityStores.getInstance().fnbItems().subscribe(this::updateTable);
         logger.info("FnbManagePanel 초기화 완료");
     }
 
@@ -183,52 +189,78 @@ public class FnbManagePanel extends JPanel {
         JOptionPane.showMessageDialog(this, scrollPane, "주문 상세 정보", JOptionPane.PLAIN_MESSAGE);
     }
 
-    private void loadFnbList() {
+    @Override
+    public UiTask<?> refresh() {
+        return loadFnbList();
+    }
+
+    @Override
+    public UiTask<?> poll() {
+        // 사용자가 요청한 조회를 취소하지 않도록, 진행 중이면 이번 자동 새로고침은 건너뛴다
+        if (UiTaskExecutor.getInstance().isActive(this, "load")) {
+            return null;
+        }
+        // 표는 저장소 알림으로 갱신되므로 상태 표시 없이 조회만 한다
+        return UiTask.of(fnbApi::fetchFnbList)
+            .key(this, "load")
+            .priority(TaskPriority.BACKGROUND)
+            .submit();
+    }
+
+    private UiTask<?> loadFnbList() {
         statusLabel.setText("조회 중...");
         progressBar.setVisible(true);
         progressBar.setIndeterminate(true);
-        tableModel.setRowCount(0);
-
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override protected ApiResponse doInBackground() { return fnbApi.getFnbList(); }
-            @Override protected void done() {
-                try {
-                    ApiResponse res = get();
-                    if (res.isSuccess()) {
-                        com.google.gson.JsonObject json = new Gson().fromJson(res.getBody(), com.google.gson.JsonObject.class);
-                        if (json.has("data")) {
-                            List<FnbItem> list = new Gson().fromJson(json.get("data"), new TypeToken<List<FnbItem>>(){}.getType());
-                            for (FnbItem i : list) {
-                                String timeStr = i.getOrderTime();
-                                if(timeStr != null) {
-                                    timeStr = timeStr.replace("T", " ");
-                                    if(timeStr.contains(".")) timeStr = timeStr.substring(0, timeStr.indexOf("."));
-                                } else { timeStr = "-"; }
-
-                                String combined = i.getMenuName() + " / " + i.getPaymentMethod();
-                                tableModel.addRow(new Object[]{
-                                    i.getId(), timeStr, i.getServiceType(), i.getRoomId(), i.getCustomerName(),
-                                    combined, String.format("%,d원", i.getTotalAmount()), "삭제",
-                                    i.getMenuName(), i.getPaymentMethod().toString()
-                                });
-                            }
-                            statusLabel.setText("✓ 조회 성공 (" + list.size() + "건)");
-                            statusLabel.setForeground(new Color(39, 174, 96));
-                        }
-                    } else {
-                        statusLabel.setText("✗ 조회 실패: " + res.getBody());
-                        statusLabel.setForeground(new Color(231, 76, 60));
-                    }
-                } catch (Exception e) {
-                    statusLabel.setText("✗ 오류: " + e.getMessage());
+
+        return UiTask.of(fnbApi::fetchFnbList)
+            .key(this, "load")
+            .onSuccess(res -> {
+                if (res.isSuccess()) {
+                    List<FnbItem> list = res.getItems();
+                    updateTable(list);
+                    statusLabel.setText("✓ 조회 성공 (" + list.size() + "건)");
+                    statusLabel.setForeground(new Color(39, 174, 96));
+                } else {
+                    statusLabel.setText("✗ 조회 실패: " + res.getMessage());
                     statusLabel.setForeground(new Color(231, 76, 60));
-                } finally {
-                    progressBar.setVisible(false);
-                    progressBar.setIndeterminate(false);
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(e -> {
+                statusLabel.setText("✗ 오류: " + e.getMessage());
+                statusLabel.setForeground(new Color(231, 76, 60));
+            })
+            .onFinally(() -> {
+                progressBar.setVisible(false);
+                progressBar.setIndeterminate(false);
+            })
+            .submit();
+    }
+
+    private void updateTable(List<FnbItem> list) {
+        // 저장소 알림으로 이미 그린 목록이면 다시 그리지 않는다
+        if (list == shownItems) {
+            return;
+        }
+        shownItems = list;
+        TableRefreshEvent refresh = TableRefreshEvent.start("FnbManagePanel");
+        // 변경 피드로 일부만 바뀐 경우 그 행만 다시 그리고, 선택한 행은 id로 유지한다
+        List<Object[]> rows = new ArrayList<>(list.size());
+        for (FnbItem i : list) {
+            String timeStr = i.getOrderTime();
+            if(timeStr != null) {
+                timeStr = timeStr.replace("T", " ");
+                if(timeStr.contains(".")) timeStr = timeStr.substring(0, timeStr.indexOf("."));
+            } else { timeStr = "-"; }
+
+            String combined = i.getMenuName() + " / " + i.getPaymentMethod();
+            rows.add(new Object[]{
+                i.getId(), timeStr, i.getServiceType(), i.getRoomId(), i.getCustomerName(),
+                combined, String.format("%,d원", i.getTotalAmount()), "삭제",
+                i.getMenuName(), i.getPaymentMethod().toString()
+            });
+        }
+        TableUtil.updateRows(fnbTable, rows, 0);
+        refresh.finish(tableModel.getRowCount());
     }
 
     private void handleAddFnb() {
@@ -240,13 +272,11 @@ public class FnbManagePanel extends JPanel {
     private void handleDeleteFnb(int row) {
         String id = (String) tableModel.getValueAt(row, 0);
         if (JOptionPane.showConfirmDialog(this, "주문을 취소하시겠습니까?", "확인", JOptionPane.YES_NO_OPTION) == 0) {
-            SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-                @Override protected ApiResponse doInBackground() {
-                    return fnbApi.deleteFnbItem(new DeleteFnbRequest(id));
-                }
-                @Override protected void done() { loadFnbList(); }
-            };
-            worker.execute();
+            UiTask.of(() -> fnbApi.deleteFnbItem(new DeleteFnbRequest(id)))
+                .priority(TaskPriority.INTERACTIVE)
+                .onFailure(e -> logger.error("주문 취소 실패", e))
+                .onFinally(this::loadFnbList)
+                .submit();
         }
     }
 
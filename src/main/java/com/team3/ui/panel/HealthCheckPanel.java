@@ -6,7 +6,6 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.Insets;
-import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -14,23 +13,34 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
+import javax.swing.JSplitPane;
 import javax.swing.JTextArea;
-import javax.swing.SwingWorker;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.team3.client.CircuitBreaker;
+import com.team3.client.HmsClient;
+import com.team3.client.HttpTransport;
+import com.team3.client.InterceptorRegistry;
+import com.team3.client.ResponseCache;
+import com.team3.client.RetryPolicies;
 import com.team3.client.api.HealthApi;
+import com.team3.diagnostics.EdtWatchdog;
 import com.team3.dto.response.ApiResponse;
+import com.team3.ui.component.MetricsTablePanel;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 /**
  * Health Check 패널
  */
-public class HealthCheckPanel extends JPanel {
+public class HealthCheckPanel extends JPanel implements Refreshable {
     
     private static final Logger logger = LoggerFactory.getLogger(HealthCheckPanel.class);
     
     private final HealthApi healthApi;
+    private final CircuitBreaker circuitBreaker;
     
     private JButton checkButton;
     private JTextArea resultArea;
@@ -39,6 +49,7 @@ public class HealthCheckPanel extends JPanel {
     
     public HealthCheckPanel(String serverHost, int serverPort) {
         this.healthApi = new HealthApi(serverHost, serverPort);
+        this.circuitBreaker = CircuitBreaker.forServer(serverHost, serverPort);
         
         initComponents();
         setupLayout();
@@ -101,7 +112,11 @@ public class HealthCheckPanel extends JPanel {
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         centerPanel.add(scrollPane, BorderLayout.CENTER);
         
-        add(centerPanel, BorderLayout.CENTER);
+        // 응답 결과 아래에 엔드포인트 지표 표
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, centerPanel, new MetricsTablePanel());
+        splitPane.setResizeWeight(0.5);
+        splitPane.setBorder(BorderFactory.createEmptyBorder());
+        add(splitPane, BorderLayout.CENTER);
         
         // 하단 패널 (상태 + 프로그레스)
         JPanel bottomPanel = new JPanel(new BorderLayout(5, 5));
@@ -112,7 +127,17 @@ public class HealthCheckPanel extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
     }
     
-    private void handleHealthCheck() {
+    @Override
+    public UiTask<?> refresh() {
+        return handleHealthCheck();
+    }
+
+    @Override
+    public boolean loadsOnOpen() {
+        return false;
+    }
+    
+    private UiTask<?> handleHealthCheck() {
         logger.info("Health Check 버튼 클릭");
         
         checkButton.setEnabled(false);
@@ -121,29 +146,20 @@ public class HealthCheckPanel extends JPanel {
         progressBar.setIndeterminate(true);
         resultArea.setText("요청 중...\n");
         
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                return healthApi.checkHealth();
-            }
-            
-            @Override
-            protected void done() {
-                try {
-                    ApiResponse response = get();
-                    displayResult(response);
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.error("Health Check 실패", e);
-                    displayError(e);
-                } finally {
-                    checkButton.setEnabled(true);
-                    progressBar.setVisible(false);
-                    progressBar.setIndeterminate(false);
-                }
-            }
-        };
-        
-        worker.execute();
+        return UiTask.of(healthApi::checkHealth)
+            .key(this, "check")
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(this::displayResult)
+            .onFailure(e -> {
+                logger.error("Health Check 실패", e);
+                displayError(e);
+            })
+            .onFinally(() -> {
+                checkButton.setEnabled(true);
+                progressBar.setVisible(false);
+                progressBar.setIndeterminate(false);
+            })
+            .submit();
     }
     
     private void displayResult(ApiResponse response) {
@@ -158,7 +174,9 @@ public class HealthCheckPanel extends JPanel {
         sb.append("응답 본문:\n");
         sb.append("───────────────────────────────────────\n");
         sb.append(response.getBody()).append("\n");
-        sb.append("───────────────────────────────────────\n");
+        sb.append("───────────────────────────────────────\n\n");
+        
+        appendTransportStats(sb);
         
         resultArea.setText(sb.toString());
         
@@ -173,7 +191,62 @@ public class HealthCheckPanel extends JPanel {
         }
     }
     
-    private void displayError(Exception e) {
+    /**
+     * 공유 HTTP 전송 계층의 연결 풀 통계, 재시도 통계, UI 멈춤 통계, 목록 캐시 통계를 결과에 추가한다
+     */
+    private void appendTransportStats(StringBuilder sb) {
+        HttpTransport.Stats stats = HttpTransport.getInstance().getStats();
+        sb.append("전송 계층 통계:\n");
+        sb.append("───────────────────────────────────────\n");
+        sb.append("연결 풀 크기  : ").append(stats.getPoolSize()).append("\n");
+        sb.append("Keep-Alive    : ").append(stats.getKeepAlive().getSeconds()).append("초\n");
+        sb.append("전체 요청 수  : ").append(stats.getTotalRequests()).append("\n");
+        sb.append("실패 요청 수  : ").append(stats.getFailedRequests()).append("\n");
+        sb.append("진행 중 요청  : ").append(stats.getInFlight())
+          .append(" (최대 ").append(stats.getPeakInFlight()).append(")\n");
+        sb.append("병합된 요청   : ").append(HmsClient.getCoalescedRequestCount()).append("\n");
+        sb.append("인터셉터      : ");
+        for (InterceptorRegistry.Registration r : InterceptorRegistry.getInstance().getRegistrations()) {
+            sb.append(r.name()).append(r.enabled() ? "" : "(꺼짐)").append(" ");
+        }
+        sb.append("\n\n");
+
+        sb.append("회로 차단기:\n");
+        sb.append("───────────────────────────────────────\n");
+        sb.append("현재 상태     : ").append(circuitBreaker.getState()).append("\n");
+        sb.append("차단 횟수     : ").append(circuitBreaker.getTripCount())
+          .append(" (즉시 실패 요청 ").append(circuitBreaker.getRejectedCount()).append(")\n\n");
+
+        RetryPolicies.Stats retry = RetryPolicies.getInstance().getStats();
+        sb.append("재시도 통계:\n");
+        sb.append("───────────────────────────────────────\n");
+        sb.append("재시도 횟수   : ").append(retry.getRetries()).append("\n");
+        sb.append("재시도 후 성공: ").append(retry.getRecovered())
+          .append(" (소진 ").append(retry.getExhausted()).append(")\n");
+        retry.getRetriesByEndpoint().forEach((path, count) ->
+            sb.append("  ").append(path).append(" : ").append(count).append("\n"));
+        sb.append("\n");
+
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        sb.append("UI 응답성:\n");
+        sb.append("───────────────────────────────────────\n");
+        sb.append("UI 멈춤 횟수  : ").append(watchdog.getStallCount())
+          .append(" (최장 ").append(watchdog.getLongestStallMillis()).append("ms)\n\n");
+
+        ResponseCache.Stats cache = ResponseCache.getInstance().getStats();
+        sb.append("목록 캐시 통계:\n");
+        sb.append("───────────────────────────────────────\n");
+        sb.append("저장 항목 수  : ").append(cache.getEntryCount()).append("\n");
+        sb.append("사용 용량     : ").append(cache.getTotalBytes() / 1024)
+          .append("KB / ").append(cache.getMaxBytes() / 1024).append("KB\n");
+        sb.append("304 재사용    : ").append(cache.getHits())
+          .append(" (재다운로드 ").append(cache.getMisses()).append(")\n");
+        sb.append("제거/무효화   : ").append(cache.getEvictions())
+          .append(" / ").append(cache.getInvalidations()).append("\n");
+        sb.append("미리 불러오기 : ").append(cache.getPrefetchHits()).append("회 사용\n");
+    }
+    
+    private void displayError(Throwable e) {
         StringBuilder sb = new StringBuilder();
         sb.append("═══════════════════════════════════════\n");
         sb.append("  오류 발생\n");
@@ -2,7 +2,8 @@ package com.team3.ui.panel;
 
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.lang.reflect.Type;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
 import java.text.DecimalFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,26 +23,26 @@ import javax.swing.text.DocumentFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.team3.client.api.PaymentApi;
-import com.team3.dto.response.ApiResponse;
 import com.team3.dto.response.Payment;
+import com.team3.model.Reservation;
+import com.team3.store.EntityStores;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
 
 /**
  * 결제 관리 UI 패널
  * <p>
  * 결제 정보 입력, 승인 요청, 내역 조회 및 영수증 출력을 담당하는 화면이다.
- * 백그라운드 작업은 SwingWorker를 사용하여 UI 멈춤을 방지한다.
+ * 백그라운드 작업은 UiTask를 사용하여 UI 멈춤을 방지한다.
  * </p>
  * @author 김현준
  */
-public class PaymentPanel extends JPanel {
+public class PaymentPanel extends JPanel implements Refreshable {
     
     private static final Logger logger = LoggerFactory.getLogger(PaymentPanel.class);
     
     private final PaymentApi paymentApi;
-    private final Gson gson = new Gson();
     private final DecimalFormat formatter = new DecimalFormat("###,###"); 
     
     // UI 컴포넌트
@@ -91,6 +92,16 @@ public class PaymentPanel extends JPanel {
         reservationIdField = new JTextField(15);
         addFormField(formPanel, gbc, 1, "예약 번호:", reservationIdField);
 
+        // 입력을 마치면 이미 조회해 둔 예약에서 빈 칸을 채운다 (네트워크 요청 없음)
+        guestNameField.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) { fillReservationIdFromGuest(); }
+        });
+        reservationIdField.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) { fillGuestFromReservation(); }
+        });
+
         roomChargeField = new JTextField("0", 15);
         foodChargeField = new JTextField("0", 15);
         addFormField(formPanel, gbc, 2, "객실료(원):", roomChargeField);
@@ -117,7 +128,7 @@ public class PaymentPanel extends JPanel {
         deleteButton = createStyledButton("전체 초기화", new Color(231, 76, 60)); // 빨간색
 
         payButton.addActionListener(this::handlePayment);
-        historyButton.addActionListener(this::handleHistory);
+        historyButton.addActionListener(e -> handleHistory());
         deleteButton.addActionListener(this::handleDelete);
         selectDeleteButton.addActionListener(this::handleSelectDelete);
 
@@ -182,6 +193,24 @@ public class PaymentPanel extends JPanel {
 
     // --- 로직 처리 ---
 
+    /** 예약 번호에 해당하는 예약이 저장소에 있으면 고객명을 채운다 */
+    private void fillGuestFromReservation() {
+        Reservation reservation = EntityStores.getInstance().reservations().get(reservationIdField.getText().trim());
+        if (reservation != null && guestNameField.getText().trim().isEmpty()) {
+            guestNameField.setText(reservation.getGuestName());
+        }
+    }
+
+    /** 고객명으로 찾은 예약이 하나뿐이면 예약 번호를 채운다 */
+    private void fillReservationIdFromGuest() {
+        if (!reservationIdField.getText().trim().isEmpty()) return;
+        List<Reservation> reservations = EntityStores.getInstance().reservations()
+            .lookup(EntityStores.RESERVATIONS_BY_GUEST, guestNameField.getText().trim());
+        if (reservations.size() == 1) {
+            reservationIdField.setText(reservations.get(0).getId());
+        }
+    }
+
     /** 1. 결제 승인 처리 */
     private void handlePayment(ActionEvent e) {
         String name = guestNameField.getText().trim();
@@ -193,6 +222,15 @@ public class PaymentPanel extends JPanel {
 
         if (name.isEmpty()) { JOptionPane.showMessageDialog(this, "고객명을 입력해주세요."); return; }
 
+        // 조회해 둔 결제 내역에 같은 예약이 있으면 중복 결제인지 확인한다
+        if (!resId.isEmpty()
+                && !EntityStores.getInstance().payments().lookup(EntityStores.PAYMENTS_BY_RESERVATION, resId).isEmpty()) {
+            int confirm = JOptionPane.showConfirmDialog(this,
+                "예약 [" + resId + "]은(는) 이미 결제 내역이 있습니다.\n그래도 결제하시겠습니까?",
+                "중복 결제 확인", JOptionPane.YES_NO_OPTION);
+            if (confirm != JOptionPane.YES_OPTION) return;
+        }
+
         int tempRoom = 0, tempFood = 0;
         try { 
             tempRoom = Integer.parseInt(sRoom); 
@@ -218,113 +256,103 @@ public class PaymentPanel extends JPanel {
         resultArea.setText(""); 
         resultArea.append(">> 결제 승인 요청 중...\n");
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                return paymentApi.processPayment(request);
-            }
-            
-            @Override
-            protected void done(){
-                try{
-                    ApiResponse response = get();
-                    if(response.isSuccess()) { 
-                        JOptionPane.showMessageDialog(PaymentPanel.this, "결제 성공!");
-                        
-                        resultArea.setText(""); 
-                        // roomPrice와 foodPrice를 각각 전달하여 상세 영수증 생성
-                        String receipt = makeCurrentReceipt(name, roomPrice, foodPrice, method, cardNum, details, resId);
-                        resultArea.append(receipt);
-                        
-                        // 입력창 초기화
-                        guestNameField.setText("");
-                        reservationIdField.setText("");
-                        cardNumField.setText("");
-                        roomChargeField.setText("0");
-                        foodChargeField.setText("0");
-                    } else {
-                        resultArea.append("[결제 실패] " + response.getBody() + "\n");
-                        JOptionPane.showMessageDialog(PaymentPanel.this, "결제 실패: " + response.getBody());
-                    }
-                } catch (Exception ex) {
-                    logger.error("결제 처리 중 오류", ex);
-                    resultArea.append("[오류] " + ex.getMessage() + "\n\n");
-                } finally {
-                    setButtonsEnabled(true);
+        UiTask.of(() -> paymentApi.processPayment(request))
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if(response.isSuccess()) { 
+                    JOptionPane.showMessageDialog(PaymentPanel.this, "결제 성공!");
+
+                    resultArea.setText(""); 
+                    // roomPrice와 foodPrice를 각각 전달하여 상세 영수증 생성
+                    String receipt = makeCurrentReceipt(name, roomPrice, foodPrice, method, cardNum, details, resId);
+                    resultArea.append(receipt);
+
+                    // 입력창 초기화
+                    guestNameField.setText("");
+                    reservationIdField.setText("");
+                    cardNumField.setText("");
+                    roomChargeField.setText("0");
+                    foodChargeField.setText("0");
+                } else {
+                    resultArea.append("[결제 실패] " + response.getBody() + "\n");
+                    JOptionPane.showMessageDialog(PaymentPanel.this, "결제 실패: " + response.getBody());
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(ex -> {
+                logger.error("결제 처리 중 오류", ex);
+                resultArea.append("[오류] " + ex.getMessage() + "\n\n");
+            })
+            .onFinally(() -> setButtonsEnabled(true))
+            .submit();
+    }
+
+    @Override
+    public UiTask<?> refresh() {
+        return handleHistory();
+    }
+
+    @Override
+    public boolean loadsOnOpen() {
+        return false;
     }
 
     /** 2. 내역 조회 및 매출 분석 처리 */
-    private void handleHistory(ActionEvent e) {
+    private UiTask<?> handleHistory() {
         setButtonsEnabled(false);
         resultArea.setText(""); 
         resultArea.append(">> 전체 매출 데이터를 불러오는 중...\n");
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                return paymentApi.getPaymentHistory();
-            }
+        return UiTask.of(paymentApi::fetchPaymentHistory)
+            .key(this, "history")
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    List<Payment> paymentList = response.getItems();
 
-            @Override
-            protected void done() {
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        String jsonBody = response.getBody();
-                        Type listType = new TypeToken<List<Payment>>(){}.getType();
-                        List<Payment> paymentList = gson.fromJson(jsonBody, listType);
-
-                        resultArea.setText(""); 
-
-                        if (paymentList == null || paymentList.isEmpty()) {
-                            resultArea.append(">> 저장된 결제 내역이 없습니다.\n");
-                        } else {
-                            long grandTotal = 0; 
-                            long totalRoomRevenue = 0; 
-                            long totalFoodRevenue = 0; 
-
-                            for (Payment p : paymentList) {
-                                resultArea.append(formatReceipt(p));
-                                resultArea.append("\n"); 
-                                
-                                // 누적 계산
-                                grandTotal += p.getTotalAmount();
-                                totalRoomRevenue += p.getRoomCharge();
-                                totalFoodRevenue += p.getFoodCharge();
-                            }
-                            
-                            // 상세 매출 요약표 출력
-                            resultArea.append("\n");
-                            resultArea.append("##########################################\n");
-                            resultArea.append("           [ 매  출  분  석  표 ]          \n");
-                            resultArea.append("##########################################\n");
-                            resultArea.append(String.format("   총 결제 건수 : %d 건\n", paymentList.size()));
-                            resultArea.append("------------------------------------------\n");
-                            resultArea.append(String.format("   객 실  매 출 : %15s 원\n", formatter.format(totalRoomRevenue)));
-                            resultArea.append(String.format("   식음료 매 출 : %15s 원\n", formatter.format(totalFoodRevenue)));
-                            resultArea.append("------------------------------------------\n");
-                            resultArea.append(String.format("   총   합   계 : %15s 원\n", formatter.format(grandTotal)));
-                            resultArea.append("##########################################\n");
-                            
-                            resultArea.setCaretPosition(resultArea.getDocument().getLength());
-                        }
+                    resultArea.setText(""); 
 
+                    if (paymentList == null || paymentList.isEmpty()) {
+                        resultArea.append(">> 저장된 결제 내역이 없습니다.\n");
                     } else {
-                        resultArea.append("[조회 실패] " + response.getBody() + "\n");
+                        long grandTotal = 0; 
+                        long totalRoomRevenue = 0; 
+                        long totalFoodRevenue = 0; 
+
+                        for (Payment p : paymentList) {
+                            resultArea.append(formatReceipt(p));
+                            resultArea.append("\n"); 
+
+                            // 누적 계산
+                            grandTotal += p.getTotalAmount();
+                            totalRoomRevenue += p.getRoomCharge();
+                            totalFoodRevenue += p.getFoodCharge();
+                        }
+
+                        // 상세 매출 요약표 출력
+                        resultArea.append("\n");
+                        resultArea.append("##########################################\n");
+                        resultArea.append("           [ 매  출  분  석  표 ]          \n");
+                        resultArea.append("##########################################\n");
+                        resultArea.append(String.format("   총 결제 건수 : %d 건\n", paymentList.size()));
+                        resultArea.append("------------------------------------------\n");
+                        resultArea.append(String.format("   객 실  매 출 : %15s 원\n", formatter.format(totalRoomRevenue)));
+                        resultArea.append(String.format("   식음료 매 출 : %15s 원\n", formatter.format(totalFoodRevenue)));
+                        resultArea.append("------------------------------------------\n");
+                        resultArea.append(String.format("   총   합   계 : %15s 원\n", formatter.format(grandTotal)));
+                        resultArea.append("##########################################\n");
+
+                        resultArea.setCaretPosition(resultArea.getDocument().getLength());
                     }
-                } catch (Exception ex) {
-                    logger.error("내역 조회 중 오류", ex);
-                    resultArea.append("[오류] 데이터 변환 실패: " + ex.getMessage() + "\n");
-                } finally {
-                    setButtonsEnabled(true);
+
+                } else {
+                    resultArea.append("[조회 실패] " + response.getMessage() + "\n");
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(ex -> {
+                logger.error("내역 조회 중 오류", ex);
+                resultArea.append("[오류] " + ex.getMessage() + "\n");
+            })
+            .onFinally(() -> setButtonsEnabled(true))
+            .submit();
     }
 
     /** 3. 내역 삭제(전체 초기화) 처리 */
@@ -339,31 +367,22 @@ public class PaymentPanel extends JPanel {
         resultArea.setText("");
         resultArea.append(">> 내역 초기화 중...\n");
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                return paymentApi.deletePaymentHistory();
-            }
-
-            @Override
-            protected void done() {
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        JOptionPane.showMessageDialog(PaymentPanel.this, "모든 내역이 삭제되었습니다.");
-                        resultArea.append("[완료] 결제 내역이 초기화되었습니다.\n");
-                    } else {
-                        resultArea.append("[실패] " + response.getBody() + "\n");
-                    }
-                } catch (Exception ex) {
-                    logger.error("초기화 중 오류", ex);
-                    resultArea.append("[오류] " + ex.getMessage() + "\n");
-                } finally {
-                    setButtonsEnabled(true);
+        UiTask.of(paymentApi::deletePaymentHistory)
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    JOptionPane.showMessageDialog(PaymentPanel.this, "모든 내역이 삭제되었습니다.");
+                    resultArea.append("[완료] 결제 내역이 초기화되었습니다.\n");
+                } else {
+                    resultArea.append("[실패] " + response.getBody() + "\n");
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(ex -> {
+                logger.error("초기화 중 오류", ex);
+                resultArea.append("[오류] " + ex.getMessage() + "\n");
+            })
+            .onFinally(() -> setButtonsEnabled(true))
+            .submit();
     }
     
     /** 4. 선택 삭제 처리 (영수증 ID 기반) */
@@ -379,31 +398,20 @@ public class PaymentPanel extends JPanel {
         resultArea.setText("");
         resultArea.append(">> 영수증 번호: '" + idToDelete + "' 삭제 요청 중...\n");
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                return paymentApi.deleteByReceiptId(idToDelete.trim());
-            }
-
-            @Override
-            protected void done() {
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        JOptionPane.showMessageDialog(PaymentPanel.this, "삭제 완료되었습니다.");
-                        resultArea.append("[완료] " + response.getBody() + "\n");
-                        handleHistory(null); // 목록 갱신
-                    } else {
-                        resultArea.append("[실패] " + response.getBody() + "\n");
-                    }
-                } catch (Exception ex) {
-                    resultArea.append("[오류] " + ex.getMessage() + "\n");
-                } finally {
-                    setButtonsEnabled(true);
+        UiTask.of(() -> paymentApi.deleteByReceiptId(idToDelete.trim()))
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    JOptionPane.showMessageDialog(PaymentPanel.this, "삭제 완료되었습니다.");
+                    resultArea.append("[완료] " + response.getBody() + "\n");
+                    handleHistory(); // 목록 갱신
+                } else {
+                    resultArea.append("[실패] " + response.getBody() + "\n");
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(ex -> resultArea.append("[오류] " + ex.getMessage() + "\n"))
+            .onFinally(() -> setButtonsEnabled(true))
+            .submit();
     }
 
     // 영수증 포맷팅 (과거 내역용)
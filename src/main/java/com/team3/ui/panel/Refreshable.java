@@ -0,0 +1,81 @@
+package com.team3.ui.panel;
+
+import com.team3.dto.response.ApiResponse;
+import com.team3.dto.response.ListResponse;
+import com.team3.ui.task.UiTask;
+
+/**
+ * 다시 조회할 수 있는 패널
+ * <p>
+ * F5(현재 탭 새로고침)와 "모든 탭 새로고침"이 이 계약으로 패널을 다시 조회한다.
+ * 패널 생성자는 조회를 시작하지 않으며, 탭을 처음 열 때
+ * {@link com.team3.ui.component.LazyTabPanel}이 {@link #loadsOnOpen()}에 따라 첫 조회를 요청한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public interface Refreshable {
+
+    /**
+     * 패널 내용을 서버에서 다시 조회한다 (EDT에서 호출)
+     * <p>
+     * 작업 결과는 서버 응답({@link ListResponse} 또는 {@link ApiResponse})이어야 하며,
+     * 호출자는 {@link #isSuccess(Object)}로 조회 성공 여부를 판단한다.
+     * </p>
+     *
+     * @return 제출된 조회 작업 (완료, 취소 관찰용, 다시 조회할 수 없으면 null)
+     */
+    UiTask<?> refresh();
+
+    /**
+     * 자동 새로고침용으로 조용히 다시 조회한다 (EDT에서 호출)
+     * <p>
+     * 상태 표시줄과 진행 표시를 건드리지 않고 {@link com.team3.ui.task.TaskPriority#BACKGROUND}로 조회하며,
+     * 화면은 저장소 알림으로 갱신된다. 사용자가 요청한 조회가 진행 중이면 취소하지 않고 건너뛴다.
+     * </p>
+     *
+     * @return 제출된 조회 작업 (조용히 조회할 수 없거나 이미 조회 중이면 null)
+     */
+    default UiTask<?> poll() {
+        return null;
+    }
+
+    /**
+     * 탭을 처음 열 때 바로 조회할지 여부
+     * <p>
+     * 버튼을 눌러야 조회하던 패널(결제 내역, 서버 상태)은 false를 반환한다.
+     * </p>
+     *
+     * @return 처음 열 때 조회하려면 true
+     */
+    default boolean loadsOnOpen() {
+        return true;
+    }
+
+    /**
+     * 조회 작업 결과가 성공 응답인지 확인
+     *
+     * @param result {@link #refresh()}나 {@link #poll()} 작업의 결과
+     * @return 실패 응답({@code isSuccess()}가 false)이 아니면 true
+     */
+    static boolean isSuccess(Object result) {
+        if (result instanceof ListResponse<?> list) {
+            return list.isSuccess();
+        }
+        return !(result instanceof ApiResponse response) || response.isSuccess();
+    }
+
+    /**
+     * 실패 응답의 메시지
+     *
+     * @param result 조회 작업의 결과
+     * @return 응답 메시지 (없으면 null)
+     */
+    static String messageOf(Object result) {
+        if (result instanceof ListResponse<?> list) {
+            return list.getMessage();
+        }
+        return result instanceof ApiResponse response ? response.getMessage() : null;
+    }
+}
@@ -6,9 +6,8 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
-import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Vector;
 
 import javax.swing.BorderFactory;
 import javax.swing.DefaultCellEditor;
@@ -22,25 +21,28 @@ import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
-import javax.swing.SwingWorker;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableModel;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 import com.team3.client.api.ReservationApi;
+import com.team3.diagnostics.TableRefreshEvent;
 import com.team3.dto.request.CheckIntOutRequest;
 import com.team3.dto.request.DeleteReservationRequest;
-import com.team3.dto.response.ApiResponse;
 import com.team3.model.Reservation;
+import com.team3.store.EntityStores;
+import com.team3.store.ReservationSync;
+import com.team3.trace.Span;
+import com.team3.trace.Tracer;
 import com.team3.ui.dialog.AddReservationDialog;
-import com.team3.util.JsonUtil;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
+import com.team3.ui.task.UiTaskExecutor;
+import com.team3.ui.util.TableUtil;
 
-public class ReservationPanel extends JPanel {
+public class ReservationPanel extends JPanel implements Refreshable {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservationPanel.class);
 
@@ -50,6 +52,9 @@ public class ReservationPanel extends JPanel {
     private JTable reservationTable;
     private DefaultTableModel tableModel;
     private JLabel statusLabel;
+
+    /** 표에 마지막으로 그린 예약 목록 (같은 목록을 두 번 그리지 않기 위함) */
+    private List<Reservation> shownReservations;
     private JProgressBar progressBar;
 
     private static final String[] COLUMN_NAMES = {
@@ -60,7 +65,8 @@ public class ReservationPanel extends JPanel {
         this.reservationApi = new ReservationApi(serverHost, serverPort);
         initComponents();
         setupLayout();
-        loadReservationList();
+        // 어느 화면에서 조회했든 예약 저장소가 갱신되면 표를 다시 그린다
+        EntityStores.getInstance().reservations().subscribe(this::updateTable);
         logger.info("ReservationPanel 초기화 완료");
     }
 
@@ -155,70 +161,86 @@ public class ReservationPanel extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
     }
 
-    private void loadReservationList() {
+    @Override
+    public UiTask<?> refresh() {
+        return loadReservationList();
+    }
+
+    @Override
+    public UiTask<?> poll() {
+        // 사용자가 요청한 조회를 취소하지 않도록, 진행 중이면 이번 자동 새로고침은 건너뛴다
+        if (UiTaskExecutor.getInstance().isActive(this, "load")) {
+            return null;
+        }
+        // 표는 저장소 알림으로 갱신되므로 상태 표시 없이 조회만 한다
+        return UiTask.of(() -> ReservationSync.getInstance().sync(reservationApi))
+            .key(this, "load")
+            .priority(TaskPriority.BACKGROUND)
+            .submit();
+    }
+
+    private UiTask<?> loadReservationList() {
         statusLabel.setText("예약 목록 조회 중...");
         progressBar.setVisible(true);
         progressBar.setIndeterminate(true);
-        tableModel.setRowCount(0);
 
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override protected ApiResponse doInBackground() {
-                return reservationApi.getReservations();
-            }
-            @Override protected void done() {
-                try {
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        List<Reservation> list = parseReservationList(response.getBody());
-                        updateTable(list);
-                        statusLabel.setText("✓ 예약 목록 조회 성공 (" + list.size() + "건)");
-                        statusLabel.setForeground(new Color(39, 174, 96));
-                    } else {
-                        statusLabel.setText("✗ 조회 실패: " + response.getBody());
-                        statusLabel.setForeground(new Color(231, 76, 60));
-                    }
-                } catch (Exception e) {
-                    statusLabel.setText("✗ 오류: " + e.getMessage());
+        // 마지막 조회 이후 변경된 예약만 받아 저장소에 병합한다 (표는 저장소 알림으로 갱신됨)
+        return UiTask.of(() -> ReservationSync.getInstance().sync(reservationApi))
+            .key(this, "load")
+            .onSuccess(response -> {
+                if (response.isSuccess()) {
+                    List<Reservation> list = response.getItems();
+                    updateTable(list);
+                    statusLabel.setText("✓ 예약 목록 조회 성공 (" + list.size() + "건)");
+                    statusLabel.setForeground(new Color(39, 174, 96));
+                } else {
+                    statusLabel.setText("✗ 조회 실패: " + response.getMessage());
                     statusLabel.setForeground(new Color(231, 76, 60));
-                } finally {
-                    progressBar.setVisible(false);
-                    progressBar.setIndeterminate(false);
                 }
-            }
-        };
-        worker.execute();
+            })
+            .onFailure(e -> {
+                statusLabel.setText("✗ 오류: " + e.getMessage());
+                statusLabel.setForeground(new Color(231, 76, 60));
+            })
+            .onFinally(() -> {
+                progressBar.setVisible(false);
+                progressBar.setIndeterminate(false);
+            })
+            .submit();
     }
 
-    private List<Reservation> parseReservationList(String jsonBody) {
-        Gson gson = new Gson();
-        try {
-            com.google.gson.JsonObject jsonObject = gson.fromJson(jsonBody, com.google.gson.JsonObject.class);
-            if (jsonObject.has("reservations")) {
-                Type listType = new TypeToken<List<Reservation>>(){}.getType();
-                return gson.fromJson(jsonObject.get("reservations"), listType);
-            }
-        } catch (JsonSyntaxException e) {
-            logger.error("JSON 파싱 실패", e);
+    private void updateTable(List<Reservation> list) {
+        // 저장소 알림으로 이미 그린 목록이면 다시 그리지 않는다
+        if (list == shownReservations) {
+            return;
+        }
+        shownReservations = list;
+        try (Span span = Tracer.getInstance().startSpan("updateTable", "ui")) {
+            span.setAttribute("rows", list.size());
+            TableRefreshEvent refresh = TableRefreshEvent.start("ReservationPanel");
+            fillTable(list);
+            refresh.finish(tableModel.getRowCount());
         }
-        return java.util.Collections.emptyList();
     }
 
-    private void updateTable(List<Reservation> list) {
-        tableModel.setRowCount(0);
+    private void fillTable(List<Reservation> list) {
+        // 변경 피드로 일부만 바뀐 경우 그 행만 다시 그리고, 선택한 행은 id로 유지한다
+        List<Object[]> rows = new ArrayList<>(list.size());
         for (Reservation r : list) {
-            Vector<Object> row = new Vector<>();
-            row.add(r.getId());
-            row.add(r.getRoomId());
-            row.add(r.getGuestName());
-            row.add(r.getPhone());
-            row.add(r.getCheckInDate());
-            row.add(r.getCheckOutDate());
-            row.add(r.getGuestCount());
-            row.add(r.isCheckedIn() ? "체크아웃" : "체크인");
-            row.add("수정");
-            row.add("취소");
-            tableModel.addRow(row);
+            rows.add(new Object[] {
+                r.getId(),
+                r.getRoomId(),
+                r.getGuestName(),
+                r.getPhone(),
+                r.getCheckInDate(),
+                r.getCheckOutDate(),
+                r.getGuestCount(),
+                r.isCheckedIn() ? "체크아웃" : "체크인",
+                "수정",
+                "취소"
+            });
         }
+        TableUtil.updateRows(reservationTable, rows, 0);
     }
 
     private void handleCheckInOut(int row) {
@@ -231,21 +253,23 @@ public class ReservationPanel extends JPanel {
         boolean checkedIn = "체크아웃".equals(currentState);
 
         // 서버에 체크인/체크아웃 상태 변경 요청
-        ApiResponse response = reservationApi.checkInOut(new CheckIntOutRequest(id, roomId, checkedIn));
-        checkedIn = "true".equals(JsonUtil.extract(response.getBody(), "isCheckedIn"));
-
-        if (response.getStatusCode() != 200) {
-            JOptionPane.showConfirmDialog(this, response.getBody(), "체크인/아웃 실패", JOptionPane.CLOSED_OPTION);
-            if (reservationTable.isEditing()) reservationTable.getCellEditor().stopCellEditing();
-            return;
-        }
-        if (checkedIn) {
-            JOptionPane.showConfirmDialog(this, response.getMessage(), "체크인 성공", JOptionPane.CLOSED_OPTION);
-        } else {
-            JOptionPane.showConfirmDialog(this, response.getMessage(), "체크아웃 성공", JOptionPane.CLOSED_OPTION);
-        }
         if (reservationTable.isEditing()) reservationTable.getCellEditor().stopCellEditing();
-        loadReservationList();
+        UiTask.of(() -> reservationApi.checkInOut(new CheckIntOutRequest(id, roomId, checkedIn)))
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.getStatusCode() != 200) {
+                    JOptionPane.showConfirmDialog(this, response.getBody(), "체크인/아웃 실패", JOptionPane.CLOSED_OPTION);
+                    return;
+                }
+                if (response.getBoolean("isCheckedIn")) {
+                    JOptionPane.showConfirmDialog(this, response.getMessage(), "체크인 성공", JOptionPane.CLOSED_OPTION);
+                } else {
+                    JOptionPane.showConfirmDialog(this, response.getMessage(), "체크아웃 성공", JOptionPane.CLOSED_OPTION);
+                }
+                loadReservationList();
+            })
+            .onFailure(e -> logger.error("체크인/아웃 실패", e))
+            .submit();
     }
 
     private void handleAddReservation() {
@@ -276,13 +300,11 @@ public class ReservationPanel extends JPanel {
     private void handleCancelReservation(int row) {
         String id = (String) tableModel.getValueAt(row, 0);
         if (JOptionPane.showConfirmDialog(this, "취소하시겠습니까?", "확인", JOptionPane.YES_NO_OPTION) == 0) {
-            SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-                @Override protected ApiResponse doInBackground() {
-                    return reservationApi.cancelReservation(new DeleteReservationRequest(id));
-                }
-                @Override protected void done() { loadReservationList(); }
-            };
-            worker.execute();
+            UiTask.of(() -> reservationApi.cancelReservation(new DeleteReservationRequest(id)))
+                .priority(TaskPriority.INTERACTIVE)
+                .onFailure(e -> logger.error("예약 취소 실패", e))
+                .onFinally(this::loadReservationList)
+                .submit();
         }
     }
 
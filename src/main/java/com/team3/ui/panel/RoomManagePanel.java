@@ -6,10 +6,8 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
-import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Vector;
-import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.DefaultCellEditor;
@@ -23,22 +21,24 @@ import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
-import javax.swing.SwingWorker;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableModel;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 import com.team3.client.api.RoomApi;
+import com.team3.diagnostics.TableRefreshEvent;
 import com.team3.dto.request.RoomIdRequest;
-import com.team3.dto.response.ApiResponse;
+import com.team3.model.Room;
+import com.team3.store.EntityStores;
 import com.team3.ui.dialog.AddRoomDialog;
 import com.team3.ui.dialog.EditRoomDialog;
 import com.team3.ui.dialog.PriceChangeLogDialog;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
+import com.team3.ui.task.UiTaskExecutor;
+import com.team3.ui.util.TableUtil;
 
 /**
  * 객실 관리 패널
@@ -49,7 +49,7 @@ import com.team3.ui.dialog.PriceChangeLogDialog;
  * @author bang9634
  * @since 2025-11-27
  */
-public class RoomManagePanel extends JPanel {
+public class RoomManagePanel extends JPanel implements Refreshable {
 
 	private static final Logger logger = LoggerFactory.getLogger(RoomManagePanel.class);
 
@@ -61,6 +61,9 @@ public class RoomManagePanel extends JPanel {
 	private JLabel statusLabel;
 	private JProgressBar progressBar;
 
+	/** 표에 마지막으로 그린 객실 목록 (같은 목록을 두 번 그리지 않기 위함) */
+	private List<Room> shownRooms;
+
 	private static final String[] COLUMN_NAMES = {
 		"객실번호", "기본금액", "점유상태", "최대인원", "금액변경로그", "수정", "삭제"
 	};
@@ -69,7 +72,8 @@ public class RoomManagePanel extends JPanel {
 		this.roomApi = new RoomApi(serverHost, serverPort);
 		initComponents();
 		setupLayout();
-		loadRoomList();
+		// 어느 화면에서 조회했든 객실 저장소가 갱신되면 표를 다시 그린다
+		EntityStores.getInstance().rooms().subscribe(this::updateTable);
 		logger.info("RoomManagePanel 초기화 완료");
 	}
 
@@ -151,78 +155,79 @@ public class RoomManagePanel extends JPanel {
 	/**
 	 * 객실 목록 조회 및 테이블 갱신
 	 */
-	private void loadRoomList() {
+	@Override
+	public UiTask<?> refresh() {
+		return loadRoomList();
+	}
+
+	@Override
+	public UiTask<?> poll() {
+		// 사용자가 요청한 조회를 취소하지 않도록, 진행 중이면 이번 자동 새로고침은 건너뛴다
+		if (UiTaskExecutor.getInstance().isActive(this, "load")) {
+			return null;
+		}
+		// 표는 저장소 알림으로 갱신되므로 상태 표시 없이 조회만 한다
+		return UiTask.of(roomApi::fetchRoomList)
+			.key(this, "load")
+			.priority(TaskPriority.BACKGROUND)
+			.submit();
+	}
+
+	private UiTask<?> loadRoomList() {
 		statusLabel.setText("객실 목록 조회 중...");
 		progressBar.setVisible(true);
 		progressBar.setIndeterminate(true);
-		tableModel.setRowCount(0);
 
-		SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-			@Override
-			protected ApiResponse doInBackground() {
-				return roomApi.getRoomList();
-			}
-
-			@Override
-			protected void done() {
-				try {
-					ApiResponse response = get();
-					if (response.isSuccess()) {
-						List<RoomRow> rooms = parseRoomList(response.getBody());
-						updateTable(rooms);
-						statusLabel.setText("✓ 객실 목록 조회 성공 (" + rooms.size() + "개)");
-						statusLabel.setForeground(new Color(39, 174, 96));
-					} else {
-						statusLabel.setText("✗ 객실 목록 조회 실패");
-						statusLabel.setForeground(new Color(231, 76, 60));
-					}
-				} catch (InterruptedException | ExecutionException e) {
-					logger.error("객실 목록 조회 실패", e);
-					statusLabel.setText("✗ 오류 발생: " + e.getMessage());
+		return UiTask.of(roomApi::fetchRoomList)
+			.key(this, "load")
+			.onSuccess(response -> {
+				if (response.isSuccess()) {
+					List<Room> rooms = response.getItems();
+					updateTable(rooms);
+					statusLabel.setText("✓ 객실 목록 조회 성공 (" + rooms.size() + "개)");
+					statusLabel.setForeground(new Color(39, 174, 96));
+				} else {
+					statusLabel.setText("✗ 객실 목록 조회 실패");
 					statusLabel.setForeground(new Color(231, 76, 60));
-				} finally {
-					progressBar.setVisible(false);
-					progressBar.setIndeterminate(false);
 				}
-			}
-		};
-		worker.execute();
-	}
-
-	/**
-	 * 객실 목록 JSON 파싱
-	 */
-	private List<RoomRow> parseRoomList(String json) {
-		Gson gson = new Gson();
-		try {
-			com.google.gson.JsonObject obj = gson.fromJson(json, com.google.gson.JsonObject.class);
-			if (obj.has("rooms")) {
-				com.google.gson.JsonElement roomsElem = obj.get("rooms");
-				Type listType = new TypeToken<List<RoomRow>>(){}.getType();
-				return gson.fromJson(roomsElem, listType);
-			}
-		} catch (JsonSyntaxException e) {
-			logger.error("객실 목록 파싱 실패", e);
-		}
-		return java.util.Collections.emptyList();
+			})
+			.onFailure(e -> {
+				logger.error("객실 목록 조회 실패", e);
+				statusLabel.setText("✗ 오류 발생: " + e.getMessage());
+				statusLabel.setForeground(new Color(231, 76, 60));
+			})
+			.onFinally(() -> {
+				progressBar.setVisible(false);
+				progressBar.setIndeterminate(false);
+			})
+			.submit();
 	}
 
 	/**
 	 * 테이블에 객실 목록 표시
 	 */
-	private void updateTable(List<RoomRow> rooms) {
-		tableModel.setRowCount(0);
-		for (RoomRow room : rooms) {
-			Vector<Object> row = new Vector<>();
-			row.add(room.roomId);
-			row.add(room.basePrice);
-			row.add(room.isAvailable ? "비어있음" : "점유중");
-			row.add(room.maxOccupancy);
-			row.add("금액변경로그");
-			row.add("수정");
-			row.add("삭제");
-			tableModel.addRow(row);
+	private void updateTable(List<Room> rooms) {
+		// 저장소 알림으로 이미 그린 목록이면 다시 그리지 않는다
+		if (rooms == shownRooms) {
+			return;
+		}
+		shownRooms = rooms;
+		TableRefreshEvent refresh = TableRefreshEvent.start("RoomManagePanel");
+		// 변경 피드로 일부만 바뀐 경우 그 행만 다시 그리고, 선택한 행은 id로 유지한다
+		List<Object[]> rows = new ArrayList<>(rooms.size());
+		for (Room room : rooms) {
+			rows.add(new Object[] {
+				room.getRoomId(),
+				room.getBasePrice(),
+				room.isAvailable() ? "비어있음" : "점유중",
+				room.getMaxOccupancy(),
+				"금액변경로그",
+				"수정",
+				"삭제"
+			});
 		}
+		TableUtil.updateRows(roomTable, rows, 0);
+		refresh.finish(tableModel.getRowCount());
 	}
 
 	/**
@@ -276,24 +281,20 @@ public class RoomManagePanel extends JPanel {
 	private void handleDeleteRoom(int row) {
 		int roomId = (int) tableModel.getValueAt(row, 0);
 		int confirm = JOptionPane.showConfirmDialog(this, "정말로 객실 [" + roomId + "]를 삭제하시겠습니까?", "삭제 확인", JOptionPane.YES_NO_OPTION);
-		if (confirm == JOptionPane.YES_OPTION) {
-			ApiResponse response = roomApi.deleteRoom(new RoomIdRequest(roomId));
-			if (response.getStatusCode() != 200) {
-				JOptionPane.showConfirmDialog(this, response.getBody(), "삭제 실패", JOptionPane.CLOSED_OPTION);
-			}
+		if (confirm != JOptionPane.YES_OPTION) {
+			loadRoomList();
+			return;
 		}
-		loadRoomList();
-	}
-
-	/**
-	 * 객실 정보 DTO (테이블 표시용)
-	 */
-	private static class RoomRow {
-		int roomId;
-		int basePrice;
-		boolean isAvailable;
-		int maxOccupancy;
-		String priceChangeReason;
+		UiTask.of(() -> roomApi.deleteRoom(new RoomIdRequest(roomId)))
+			.priority(TaskPriority.INTERACTIVE)
+			.onSuccess(response -> {
+				if (response.getStatusCode() != 200) {
+					JOptionPane.showConfirmDialog(this, response.getBody(), "삭제 실패", JOptionPane.CLOSED_OPTION);
+				}
+			})
+			.onFailure(e -> logger.error("객실 삭제 실패", e))
+			.onFinally(this::loadRoomList)
+			.submit();
 	}
 
 	/**
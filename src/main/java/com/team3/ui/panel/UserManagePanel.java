@@ -6,10 +6,8 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
-import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Vector;
-import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.DefaultCellEditor;
@@ -23,21 +21,21 @@ import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
-import javax.swing.SwingWorker;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableModel;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 import com.team3.client.api.UserApi;
+import com.team3.diagnostics.TableRefreshEvent;
 import com.team3.dto.request.DeleteUserRequest;
-import com.team3.dto.response.ApiResponse;
+import com.team3.model.User;
+import com.team3.store.EntityStores;
 import com.team3.ui.dialog.AddUserDialog;
-import com.team3.util.JsonUtil;
+import com.team3.ui.task.TaskPriority;
+import com.team3.ui.task.UiTask;
+import com.team3.ui.task.UiTaskExecutor;
 
 /**
  * 사용자 관리 패널
@@ -48,7 +46,7 @@ import com.team3.util.JsonUtil;
  * @author bang9634
  * @since 2025-11-27
  */
-public class UserManagePanel extends JPanel {
+public class UserManagePanel extends JPanel implements Refreshable {
 
     private static final Logger logger = LoggerFactory.getLogger(UserManagePanel.class);
 
@@ -58,6 +56,9 @@ public class UserManagePanel extends JPanel {
     private JTable userTable;
     private DefaultTableModel tableModel;
     private JLabel statusLabel;
+
+    /** 표에 마지막으로 그린 사용자 목록 (같은 목록을 두 번 그리지 않기 위함) */
+    private List<User> shownUsers;
     private JProgressBar progressBar;
 
     private static final String[] COLUMN_NAMES = {
@@ -68,7 +69,8 @@ public class UserManagePanel extends JPanel {
         this.userApi = new UserApi(serverHost, serverPort);
         initComponents();
         setupLayout();
-        loadUserList();
+        // 어느 화면에서 조회했든 사용자 저장소가 갱신되면 표를 다시 그린다
+        EntityStores.getInstance().users().subscribe(this::updateTable);
         logger.info("UserManagePanel 초기화 완료");
     }
 
@@ -156,86 +158,82 @@ public class UserManagePanel extends JPanel {
     /**
      * 사용자 목록 조회 및 테이블 갱신
      */
-    private void loadUserList() {
+    @Override
+    public UiTask<?> refresh() {
+        return loadUserList();
+    }
+
+    @Override
+    public UiTask<?> poll() {
+        // 사용자가 요청한 조회를 취소하지 않도록, 진행 중이면 이번 자동 새로고침은 건너뛴다
+        if (UiTaskExecutor.getInstance().isActive(this, "load")) {
+            return null;
+        }
+        // 표는 저장소 알림으로 갱신되므로 상태 표시 없이 조회만 한다
+        return UiTask.of(userApi::fetchUserList)
+            .key(this, "load")
+            .priority(TaskPriority.BACKGROUND)
+            .submit();
+    }
+
+    private UiTask<?> loadUserList() {
         statusLabel.setText("사용자 목록 조회 중...");
         progressBar.setVisible(true);
         progressBar.setIndeterminate(true);
-        tableModel.setRowCount(0);
-
-        SwingWorker<ApiResponse, Void> worker = new SwingWorker<>() {
-            @Override
-            protected ApiResponse doInBackground() {
-                logger.debug("getUserList 호출");
-                return userApi.getUserList();
-            }
 
-            @Override
-            protected void done() {
-                try {
-                    logger.debug("getUserList 성공");
-                    ApiResponse response = get();
-                    if (response.isSuccess()) {
-                        List<UserRow> users = parseUserList(response.getBody());
-                        updateTable(users);
-                        statusLabel.setText("✓ 사용자 목록 조회 성공 (" + users.size() + "명)");
-                        statusLabel.setForeground(new Color(39, 174, 96));
-                    } else {
-                        statusLabel.setText("✗ 사용자 목록 조회 실패");
-                        statusLabel.setForeground(new Color(231, 76, 60));
-                    }
-                } catch (InterruptedException | ExecutionException e) {
-                    logger.error("사용자 목록 조회 실패", e);
-                    statusLabel.setText("✗ 오류 발생: " + e.getMessage());
+        return UiTask.of(() -> {
+            logger.debug("fetchUserList 호출");
+            return userApi.fetchUserList();
+        })
+            .key(this, "load")
+            .onSuccess(response -> {
+                logger.debug("fetchUserList 성공");
+                if (response.isSuccess()) {
+                    List<User> users = response.getItems();
+                    updateTable(users);
+                    statusLabel.setText("✓ 사용자 목록 조회 성공 (" + users.size() + "명)");
+                    statusLabel.setForeground(new Color(39, 174, 96));
+                } else {
+                    statusLabel.setText("✗ 사용자 목록 조회 실패");
                     statusLabel.setForeground(new Color(231, 76, 60));
-                } finally {
-                    progressBar.setVisible(false);
-                    progressBar.setIndeterminate(false);
                 }
-            }
-        };
-        worker.execute();
-    }
-
-    /**
-     * 사용자 목록 JSON 파싱
-     */
-    private List<UserRow> parseUserList(String json) {
-        logger.debug("사용자 목록 JSON 파싱 시작");
-        Gson gson = new Gson();
-        try {
-            // 서버 응답이 객체라면 data 필드만 추출
-            com.google.gson.JsonObject obj = gson.fromJson(json, com.google.gson.JsonObject.class);
-            if (obj.has("users")) {
-                com.google.gson.JsonElement usersElem = obj.get("users");
-                Type listType = new TypeToken<List<UserRow>>(){}.getType();
-                logger.debug("사용자 목록 JSON 파싱 성공");
-                return gson.fromJson(usersElem, listType);
-            }
-        } catch (JsonSyntaxException e) {
-            logger.error("사용자 목록 파싱 실패", e);
-        }
-        // 실패 시 빈 리스트 반환
-        logger.debug("빈 리스트 반환");
-        return java.util.Collections.emptyList();
+            })
+            .onFailure(e -> {
+                logger.error("사용자 목록 조회 실패", e);
+                statusLabel.setText("✗ 오류 발생: " + e.getMessage());
+                statusLabel.setForeground(new Color(231, 76, 60));
+            })
+            .onFinally(() -> {
+                progressBar.setVisible(false);
+                progressBar.setIndeterminate(false);
+            })
+            .submit();
     }
 
     /**
      * 테이블에 사용자 목록 표시
      */
-    private void updateTable(List<UserRow> users) {
+    private void updateTable(List<User> users) {
+        // 저장소 알림으로 이미 그린 목록이면 다시 그리지 않는다
+        if (users == shownUsers) {
+            return;
+        }
+        shownUsers = users;
+        TableRefreshEvent refresh = TableRefreshEvent.start("UserManagePanel");
         tableModel.setRowCount(0);
-        for (UserRow user : users) {
+        for (User user : users) {
             Vector<Object> row = new Vector<>();
-            row.add(user.userId);
-            row.add(user.userName);
-            row.add(user.password);
-            row.add(user.role);
-            row.add(user.createdAt);
-            row.add(user.updatedAt);
+            row.add(user.getUserId());
+            row.add(user.getUserName());
+            row.add(user.getPassword());
+            row.add(user.getRole());
+            row.add(user.getCreatedAt());
+            row.add(user.getUpdatedAt());
             row.add("수정");
             row.add("삭제");
             tableModel.addRow(row);
         }
+        refresh.finish(tableModel.getRowCount());
     }
 
     /**
@@ -253,25 +251,20 @@ public class UserManagePanel extends JPanel {
     private void handleDeleteUser(int row) {
         String userId = (String) tableModel.getValueAt(row, 0);
         int confirm = JOptionPane.showConfirmDialog(this, "정말로 사용자 [" + userId + "]를 삭제하시겠습니까?", "삭제 확인", JOptionPane.YES_NO_OPTION);
-        if (confirm == JOptionPane.YES_OPTION) {
-            ApiResponse response = userApi.deleteUser(new DeleteUserRequest(userId));
-            if (response.getStatusCode() != 200) {
-                JOptionPane.showConfirmDialog(this, JsonUtil.extract(response.getBody(),"message"), "삭제 실패", JOptionPane.CLOSED_OPTION);
-            }
+        if (confirm != JOptionPane.YES_OPTION) {
+            loadUserList();
+            return;
         }
-        loadUserList();
-    }
-
-    /**
-     * 사용자 정보 DTO (테이블 표시용)
-     */
-    private static class UserRow {
-        String userId;
-        String userName;
-        String password;
-        String role;
-        String createdAt;
-        String updatedAt;
+        UiTask.of(() -> userApi.deleteUser(new DeleteUserRequest(userId)))
+            .priority(TaskPriority.INTERACTIVE)
+            .onSuccess(response -> {
+                if (response.getStatusCode() != 200) {
+                    JOptionPane.showConfirmDialog(this, response.getMessage(), "삭제 실패", JOptionPane.CLOSED_OPTION);
+                }
+            })
+            .onFailure(e -> logger.error("사용자 삭제 실패", e))
+            .onFinally(this::loadUserList)
+            .submit();
     }
 
     /**
@@ -0,0 +1,246 @@
+package com.team3.ui.task;
+
+import java.awt.AWTEvent;
+import java.awt.Frame;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.JTabbedPane;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.client.ResponseCache;
+import com.team3.store.ChangeFeed;
+import com.team3.store.EntityStores;
+import com.team3.ui.component.LazyTabPanel;
+import com.team3.ui.panel.Refreshable;
+
+/**
+ * 보이는 탭만 다시 조회하는 적응형 자동 새로고침
+ * <p>
+ * 패널마다 타이머를 두는 대신, {@link JTabbedPane}에서 선택된 탭 하나만 주기적으로
+ * {@link Refreshable#poll()}한다. 자동 조회는 {@link TaskPriority#BACKGROUND}로 실행되고 상태 표시줄을
+ * 바꾸지 않으며, 사용자가 요청한 조회가 진행 중이면 건너뛴다. 조회 간격은 결과에 따라 조절된다.
+ * </p>
+ *
+ * <ul>
+ *   <li>데이터가 바뀌었으면 최소 간격({@code hms.poll.minMillis}, 기본 10초)으로 돌아간다</li>
+ *   <li>바뀌지 않았으면(조건부 GET 304 등) 간격을 1.5배씩 늘려 최대 간격({@code hms.poll.maxMillis}, 기본 2분)까지 늦춘다</li>
+ *   <li>조회가 실패하거나 {@code hms.poll.slowMillis}(기본 2초)보다 오래 걸리면 간격을 2배로 늘린다</li>
+ *   <li>이 단말에서 쓰기 요청이 성공하면(캐시 무효화) 최소 간격 안에 다시 조회한다</li>
+ *   <li>창이 최소화되었거나 {@code hms.poll.idleMillis}(기본 5분) 동안 입력이 없으면 멈추고,
+ *       돌아오면 바로 조회한다</li>
+ *   <li>변경 피드({@link ChangeFeed})가 연결되어 있으면 서버가 변경을 밀어 주므로 조회하지 않는다</li>
+ *   <li>여러 단말이 같은 순간에 조회하지 않도록 간격에 ±20% 지터를 준다</li>
+ * </ul>
+ *
+ * <p>
+ * 아직 만들지 않은 탭, 처음 열 때 조회하지 않는 탭(결제, 서버 상태), 사용자 조작이 진행 중일 때는 건너뛴다.
+ * {@code -Dhms.poll.enabled=false}로 끌 수 있다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * new AutoRefreshScheduler(frame, tabbedPane, changeFeed).start();
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class AutoRefreshScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(AutoRefreshScheduler.class);
+
+    /** 조건을 확인하는 주기 (실제 조회 간격과는 별개) */
+    private static final int HEARTBEAT_MILLIS = 1_000;
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("hms.poll.enabled", "true"));
+    private final long minIntervalMillis = Long.getLong("hms.poll.minMillis", 10_000L);
+    private final long maxIntervalMillis = Long.getLong("hms.poll.maxMillis", 120_000L);
+    private final long slowNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("hms.poll.slowMillis", 2_000L));
+    private final long idleNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("hms.poll.idleMillis", 300_000L));
+
+    private final Frame frame;
+    private final JTabbedPane tabbedPane;
+    private final ChangeFeed changeFeed;
+    private final Timer heartbeat;
+
+    /** 저장소 목록이 바뀐 횟수 (조회 결과가 달라졌는지 판별용) */
+    private final AtomicLong storeChanges = new AtomicLong();
+
+    /** 마지막 사용자 입력 시각 (AWT 이벤트 스레드에서 갱신) */
+    private volatile long lastInputNanos = System.nanoTime();
+
+    // 아래 필드는 모두 EDT에서만 접근한다
+    private long intervalMillis;
+    private long nextPollNanos;
+    private long seenInvalidations;
+    private boolean paused;
+    private UiTask<?> inFlight;
+    private long polls;
+
+    /**
+     * @param frame 최소화 여부를 확인할 메인 프레임
+     * @param tabbedPane 선택된 탭을 조회할 탭 패널
+     * @param changeFeed 연결되어 있으면 조회를 멈출 변경 피드 (없으면 null)
+     */
+    public AutoRefreshScheduler(Frame frame, JTabbedPane tabbedPane, ChangeFeed changeFeed) {
+        this.frame = frame;
+        this.tabbedPane = tabbedPane;
+        this.changeFeed = changeFeed;
+        this.heartbeat = new Timer(HEARTBEAT_MILLIS, e -> tick());
+        this.intervalMillis = minIntervalMillis;
+    }
+
+    /**
+     * 자동 새로고침을 시작한다 (EDT에서 호출)
+     */
+    public void start() {
+        if (!enabled) {
+            logger.info("자동 새로고침 비활성화 (hms.poll.enabled=false)");
+            return;
+        }
+        EntityStores stores = EntityStores.getInstance();
+        stores.rooms().addListener(list -> storeChanges.incrementAndGet());
+        stores.reservations().addListener(list -> storeChanges.incrementAndGet());
+        stores.fnbItems().addListener(list -> storeChanges.incrementAndGet());
+        stores.customers().addListener(list -> storeChanges.incrementAndGet());
+        stores.users().addListener(list -> storeChanges.incrementAndGet());
+        stores.payments().addListener(list -> storeChanges.incrementAndGet());
+
+        AWTEventListener inputListener = e -> lastInputNanos = System.nanoTime();
+        Toolkit.getDefaultToolkit().addAWTEventListener(inputListener,
+            AWTEvent.KEY_EVENT_MASK | AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK);
+
+        // 다른 탭으로 옮기면 그 탭 기준으로 간격을 다시 잡는다 (탭을 연 직후에는 패널이 직접 조회함)
+        tabbedPane.addChangeListener(e -> {
+            intervalMillis = minIntervalMillis;
+            schedule();
+        });
+
+        seenInvalidations = ResponseCache.getInstance().getStats().getInvalidations();
+        schedule();
+        heartbeat.start();
+        logger.info("자동 새로고침 시작: {}~{}ms", minIntervalMillis, maxIntervalMillis);
+    }
+
+    /**
+     * 자동 새로고침을 멈춘다 (EDT에서 호출)
+     */
+    public void stop() {
+        heartbeat.stop();
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        if (isPaused(now)) {
+            if (!paused) {
+                paused = true;
+                logger.debug("자동 새로고침 일시 정지");
+            }
+            return;
+        }
+        if (paused) {
+            // 창을 다시 열었거나 입력이 돌아왔으면 바로 최신 상태로 맞춘다
+            paused = false;
+            intervalMillis = minIntervalMillis;
+            nextPollNanos = now;
+        }
+
+        long invalidations = ResponseCache.getInstance().getStats().getInvalidations();
+        if (invalidations != seenInvalidations) {
+            // 이 단말의 쓰기가 다른 목록(객실 상태 등)도 바꿨을 수 있으므로 곧 다시 조회한다
+            seenInvalidations = invalidations;
+            intervalMillis = minIntervalMillis;
+            pollSoon(TimeUnit.MILLISECONDS.toNanos(minIntervalMillis));
+        }
+
+        if (now - nextPollNanos < 0 || (inFlight != null && !inFlight.isDone())) {
+            return;
+        }
+        if (UiTaskExecutor.getInstance().hasPendingInteractive()) {
+            schedule();
+            return;
+        }
+        poll(now);
+    }
+
+    private boolean isPaused(long now) {
+        if ((frame.getExtendedState() & Frame.ICONIFIED) != 0) {
+            return true;
+        }
+        if (now - lastInputNanos > idleNanos) {
+            return true;
+        }
+        return changeFeed != null && changeFeed.isConnected();
+    }
+
+    private void poll(long now) {
+        Refreshable target = visibleTarget();
+        if (target == null) {
+            schedule();
+            return;
+        }
+        UiTask<?> task = target.poll();
+        if (task == null) {
+            schedule();
+            return;
+        }
+        polls++;
+        inFlight = task;
+        long changesBefore = storeChanges.get();
+        // 저장소 알림은 조회 작업 안에서 EDT로 전달되므로, 완료 처리도 EDT에 넣으면 알림 뒤에 실행된다
+        task.completion().whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            if (task.isCancelled()) {
+                // 사용자가 직접 새로고침하여 대체된 조회는 간격 조절에 반영하지 않는다
+                schedule();
+                return;
+            }
+            boolean failed = error != null || !Refreshable.isSuccess(result);
+            afterPoll(System.nanoTime() - now, failed, storeChanges.get() != changesBefore);
+        }));
+    }
+
+    private void afterPoll(long elapsedNanos, boolean failed, boolean changed) {
+        if (failed || elapsedNanos > slowNanos) {
+            intervalMillis = Math.min(intervalMillis * 2, maxIntervalMillis);
+        } else if (changed) {
+            intervalMillis = minIntervalMillis;
+        } else {
+            intervalMillis = Math.min(intervalMillis * 3 / 2, maxIntervalMillis);
+        }
+        schedule();
+        logger.debug("자동 새로고침 #{}: {}ms, {} → 다음 간격 {}ms", polls,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            failed ? "실패" : changed ? "변경됨" : "변경 없음", intervalMillis);
+    }
+
+    /** 선택된 탭이 이미 만들어졌고 자동으로 조회할 수 있는 패널이면 반환 */
+    private Refreshable visibleTarget() {
+        if (!(tabbedPane.getSelectedComponent() instanceof LazyTabPanel lazy) || !lazy.isCreated()) {
+            return null;
+        }
+        if (lazy.getContent() instanceof Refreshable refreshable && refreshable.loadsOnOpen()) {
+            return lazy;
+        }
+        return null;
+    }
+
+    /** 현재 간격에 지터를 더해 다음 조회 시각을 정한다 */
+    private void schedule() {
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        nextPollNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos((long) (intervalMillis * jitter));
+    }
+
+    private void pollSoon(long delayNanos) {
+        long soon = System.nanoTime() + delayNanos;
+        if (soon - nextPollNanos < 0) {
+            nextPollNanos = soon;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.team3.ui.task;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.client.HmsClient;
+
+/**
+ * 다음에 열 가능성이 높은 탭의 목록을 미리 불러오는 스케줄러
+ * <p>
+ * 로그인 직후나 탭 머리글에 마우스를 올렸을 때 {@link TaskPriority#BACKGROUND} 작업으로
+ * 목록을 조회해 둔다. 결과는 {@link HmsClient#prefetching(Callable)}로 보관되어
+ * 탭을 처음 열 때 네트워크 왕복 없이 표시된다.
+ * </p>
+ *
+ * <ul>
+ *   <li>사용자 조작({@link TaskPriority#INTERACTIVE})이 진행 중이면 미리 불러오지 않는다
+ *       (대기열에서 기다리다 시작할 때도 다시 확인)</li>
+ *   <li>같은 이름은 {@code hms.prefetch.maxAgeMillis}(기본 30초) 안에 다시 불러오지 않는다</li>
+ *   <li>{@code -Dhms.prefetch.enabled=false}로 끌 수 있다</li>
+ * </ul>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * PrefetchScheduler.getInstance().prefetch("객실 관리", () -> roomApi.fetchRoomList());
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class PrefetchScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(PrefetchScheduler.class);
+
+    private static PrefetchScheduler instance;
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("hms.prefetch.enabled", "true"));
+    private final long intervalNanos =
+        TimeUnit.MILLISECONDS.toNanos(Long.getLong("hms.prefetch.maxAgeMillis", 30_000));
+
+    /** 이름 → 마지막으로 미리 불러오기를 시작한 시각 */
+    private final Map<String, Long> lastStarted = new ConcurrentHashMap<>();
+
+    private PrefetchScheduler() {}
+
+    /**
+     * PrefetchScheduler 싱글톤 인스턴스 반환
+     *
+     * @return PrefetchScheduler 인스턴스
+     */
+    public static synchronized PrefetchScheduler getInstance() {
+        if (instance == null) {
+            instance = new PrefetchScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * 목록을 미리 불러온다
+     *
+     * @param name 미리 불러올 대상 이름 (보통 탭 제목, 중복 방지 키)
+     * @param loader 목록 조회 호출 (탭을 열 때 패널이 하는 조회와 같아야 결과가 재사용된다)
+     */
+    public void prefetch(String name, Callable<?> loader) {
+        if (!enabled || isUserBusy()) {
+            return;
+        }
+        long now = System.nanoTime();
+        Long last = lastStarted.get(name);
+        if (last != null && now - last < intervalNanos) {
+            return;
+        }
+        lastStarted.put(name, now);
+
+        UiTask.of(() -> {
+                if (isUserBusy()) {
+                    logger.debug("사용자 조작 진행 중 - 미리 불러오기 생략: {}", name);
+                    return null;
+                }
+                return HmsClient.prefetching(loader);
+            })
+            .key(this, name)
+            .trace("prefetch " + name)
+            .priority(TaskPriority.BACKGROUND)
+            .onFailure(e -> logger.debug("미리 불러오기 실패: {}", name, e))
+            .submit();
+        logger.debug("미리 불러오기 예약: {}", name);
+    }
+
+    private static boolean isUserBusy() {
+        return UiTaskExecutor.getInstance().hasPendingInteractive();
+    }
+}
@@ -0,0 +1,23 @@
+package com.team3.ui.task;
+
+/**
+ * UI 백그라운드 작업 우선순위
+ * <p>
+ * {@link UiTaskExecutor}는 우선순위가 높은 작업을 먼저 시작한다.
+ * {@link #INTERACTIVE} 작업은 별도 레인에서 즉시 시작되어
+ * 진행 중인 목록 새로고침 뒤에 줄 서지 않는다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public enum TaskPriority {
+    /** 사용자 조작에 대한 즉시 응답 (추가, 삭제, 결제, 로그인 등) */
+    INTERACTIVE,
+
+    /** 화면에 보이는 목록 조회/새로고침 */
+    NORMAL,
+
+    /** 사용자가 기다리지 않는 작업 (자동 새로고침, 미리 불러오기 등) */
+    BACKGROUND
+}
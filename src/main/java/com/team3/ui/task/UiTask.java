@@ -0,0 +1,311 @@
+package com.team3.ui.task;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.team3.trace.Span;
+import com.team3.trace.TraceContext;
+import com.team3.trace.Tracer;
+
+/**
+ * UI 백그라운드 작업
+ * <p>
+ * 작업 본문은 {@link UiTaskExecutor}의 가상 스레드에서 실행되고,
+ * 결과 콜백({@code onSuccess}, {@code onFailure}, {@code onFinally})은 EDT에서 실행된다.
+ * 제출 후 반환된 객체는 작업 핸들로 사용되어 취소와 완료 관찰이 가능하다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * UiTask.of(roomApi::getRoomList)
+ *     .key(this, "load")                 // 같은 키의 이전 작업은 자동 취소
+ *     .priority(TaskPriority.NORMAL)
+ *     .onSuccess(response -> updateTable(response))
+ *     .onFailure(e -> statusLabel.setText("✗ 오류: " + e.getMessage()))
+ *     .onFinally(() -> progressBar.setVisible(false))
+ *     .submit();
+ * }</pre>
+ *
+ * @param <T> 작업 결과 타입
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class UiTask<T> {
+    private static final Logger logger = LoggerFactory.getLogger(UiTask.class);
+
+    private final Callable<T> work;
+    private Object key;
+    private TaskPriority priority = TaskPriority.NORMAL;
+    private Consumer<? super T> onSuccess = result -> {};
+    private Consumer<Throwable> onFailure = error -> logger.error("UI 작업 실패", error);
+    private Runnable onFinally = () -> {};
+
+    /** 추적 이름 (null이면 추적하지 않음, 키를 지정하면 "소유자클래스.이름"으로 자동 설정) */
+    private String traceName;
+
+    /** 제출부터 EDT 콜백 완료까지의 최상위 span */
+    private Span traceSpan;
+    private long submittedNanos;
+
+    /** 제출 순서 (같은 우선순위 안에서 먼저 제출된 작업이 먼저 시작됨) */
+    long sequence;
+
+    /** 실행 중인 가상 스레드의 future (취소 시 인터럽트용) */
+    private Future<?> running;
+
+    private volatile boolean cancelled;
+
+    /** EDT 콜백까지 끝난 뒤 완료되는 future */
+    private final CompletableFuture<T> completion = new CompletableFuture<>();
+
+    private UiTask(Callable<T> work) {
+        this.work = work;
+    }
+
+    /**
+     * 백그라운드에서 실행할 작업으로 UiTask를 생성한다
+     *
+     * @param work 가상 스레드에서 실행할 작업 (네트워크 호출 등)
+     * @return 설정 가능한 UiTask
+     */
+    public static <T> UiTask<T> of(Callable<T> work) {
+        return new UiTask<>(work);
+    }
+
+    /**
+     * 작업 키를 설정한다
+     * <p>
+     * 같은 소유자와 이름으로 새 작업이 제출되면 이전 작업은 취소되고 결과도 버려진다.
+     * 새로고침을 연속으로 눌렀을 때 오래된 조회 결과가 화면을 덮어쓰지 않도록 한다.
+     * </p>
+     *
+     * @param owner 작업 소유자 (보통 패널 인스턴스)
+     * @param name 소유자 안에서의 작업 이름 (예: "load")
+     * @return this
+     */
+    public UiTask<T> key(Object owner, String name) {
+        this.key = new TaskKey(owner, name);
+        if (traceName == null) {
+            this.traceName = owner.getClass().getSimpleName() + "." + name;
+        }
+        return this;
+    }
+
+    /**
+     * 추적 이름을 지정한다
+     * <p>
+     * 추적되는 작업은 큐 대기, 작업 본문, EDT 대기, 콜백 실행이 span으로 기록되고,
+     * 작업 본문에서 보낸 HTTP 요청과 콜백에서 시작한 span이 같은 trace id 아래에 묶인다.
+     * </p>
+     *
+     * @param name 추적 이름 (예: "ReservationPanel.refresh")
+     * @return this
+     */
+    public UiTask<T> trace(String name) {
+        this.traceName = name;
+        return this;
+    }
+
+    public UiTask<T> priority(TaskPriority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    /** 성공 시 EDT에서 실행할 콜백 */
+    public UiTask<T> onSuccess(Consumer<? super T> onSuccess) {
+        this.onSuccess = onSuccess;
+        return this;
+    }
+
+    /** 작업 본문에서 예외가 발생했을 때 EDT에서 실행할 콜백 */
+    public UiTask<T> onFailure(Consumer<Throwable> onFailure) {
+        this.onFailure = onFailure;
+        return this;
+    }
+
+    /**
+     * 성공/실패와 관계없이 마지막에 EDT에서 실행할 콜백
+     * <p>
+     * {@link #cancel()}로 취소해도 실행되지만(진행 표시 정리용), 같은 키의 새 작업에 밀려 취소된 경우에는
+     * 새 작업이 화면을 이어받으므로 실행되지 않는다.
+     * </p>
+     */
+    public UiTask<T> onFinally(Runnable onFinally) {
+        this.onFinally = onFinally;
+        return this;
+    }
+
+    /**
+     * 공유 {@link UiTaskExecutor}에 작업을 제출한다
+     *
+     * @return 작업 핸들 (this)
+     */
+    public UiTask<T> submit() {
+        submittedNanos = System.nanoTime();
+        if (traceName != null) {
+            traceSpan = Tracer.getInstance().startSpan(traceName, "ui", TraceContext.current(), submittedNanos)
+                .setAttribute("priority", priority.name());
+        }
+        UiTaskExecutor.getInstance().submit(this);
+        return this;
+    }
+
+    /**
+     * 작업을 취소한다
+     * <p>
+     * 대기 중이면 실행되지 않으며, 실행 중이면 스레드를 인터럽트한다.
+     * 어느 경우든 성공/실패 콜백은 호출되지 않고, 진행 표시를 정리하도록 {@code onFinally}만 EDT에서 실행된다.
+     * </p>
+     */
+    public void cancel() {
+        cancel(true);
+    }
+
+    /**
+     * 작업을 취소한다
+     *
+     * @param runFinally {@code onFinally}를 실행할지 여부 (같은 키의 새 작업에 밀린 경우 false)
+     */
+    void cancel(boolean runFinally) {
+        Future<?> current;
+        synchronized (this) {
+            if (cancelled || completion.isDone()) {
+                return;
+            }
+            cancelled = true;
+            current = running;
+        }
+        if (current != null) {
+            current.cancel(true);
+        }
+        UiTaskExecutor.getInstance().onCancelled(this);
+        if (traceSpan != null) {
+            traceSpan.setAttribute("cancelled", true).end();
+        }
+        if (!runFinally) {
+            completion.cancel(false);
+            return;
+        }
+        Runnable finish = () -> {
+            // 취소 직전에 EDT 콜백이 이미 끝났으면 다시 실행하지 않는다
+            if (completion.isDone()) {
+                return;
+            }
+            try {
+                onFinally.run();
+            } catch (RuntimeException e) {
+                logger.error("UI 작업 콜백 실행 중 오류", e);
+            } finally {
+                completion.cancel(false);
+            }
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            finish.run();
+        } else {
+            SwingUtilities.invokeLater(finish);
+        }
+    }
+
+    public boolean isCancelled() { return cancelled; }
+    public boolean isDone() { return completion.isDone(); }
+    public TaskPriority getPriority() { return priority; }
+
+    /**
+     * EDT 콜백까지 모두 끝났을 때 완료되는 future
+     *
+     * @return 완료 future (취소되면 취소 상태로 완료)
+     */
+    public CompletableFuture<T> completion() { return completion; }
+
+    Object getKey() { return key; }
+
+    synchronized boolean attach(Future<?> future) {
+        if (cancelled) {
+            return false;
+        }
+        this.running = future;
+        return true;
+    }
+
+    /**
+     * 가상 스레드에서 호출되는 실행 본문
+     */
+    void run() {
+        if (cancelled) {
+            return;
+        }
+        TraceContext trace = traceSpan != null ? traceSpan.getContext() : null;
+        Tracer tracer = Tracer.getInstance();
+        tracer.recordSpan("queue", "ui", trace, submittedNanos, System.nanoTime());
+
+        T result = null;
+        Throwable error = null;
+        Span workSpan = trace != null ? tracer.startSpan("work", "ui", trace, System.nanoTime()) : null;
+        TraceContext.Scope scope = TraceContext.makeCurrent(workSpan != null ? workSpan.getContext() : null);
+        try {
+            result = work.call();
+        } catch (Throwable t) {
+            error = t;
+        } finally {
+            scope.close();
+            if (workSpan != null) {
+                workSpan.end();
+            }
+        }
+        final T finalResult = result;
+        final Throwable finalError = error;
+        final long postedNanos = System.nanoTime();
+        SwingUtilities.invokeLater(() -> deliver(finalResult, finalError, postedNanos));
+    }
+
+    private void deliver(T result, Throwable error, long postedNanos) {
+        if (cancelled) {
+            return;
+        }
+        TraceContext trace = traceSpan != null ? traceSpan.getContext() : null;
+        Tracer tracer = Tracer.getInstance();
+        tracer.recordSpan("edt-wait", "ui", trace, postedNanos, System.nanoTime());
+
+        // 콜백에서 시작한 span(예: updateTable)이 이 작업의 추적 아래에 묶이도록 문맥을 설정한다
+        Span renderSpan = trace != null ? tracer.startSpan("render", "ui", trace, System.nanoTime()) : null;
+        TraceContext.Scope scope = TraceContext.makeCurrent(renderSpan != null ? renderSpan.getContext() : null);
+        try {
+            if (error == null) {
+                onSuccess.accept(result);
+            } else {
+                onFailure.accept(error);
+            }
+        } catch (RuntimeException e) {
+            logger.error("UI 작업 콜백 실행 중 오류", e);
+        } finally {
+            scope.close();
+            try {
+                onFinally.run();
+            } finally {
+                if (renderSpan != null) {
+                    renderSpan.end();
+                }
+                if (traceSpan != null) {
+                    traceSpan.setAttribute("success", error == null).end();
+                }
+                if (error == null) {
+                    completion.complete(result);
+                } else {
+                    completion.completeExceptionally(error);
+                }
+            }
+        }
+    }
+
+    /**
+     * 작업 키 (소유자 인스턴스 + 작업 이름)
+     */
+    record TaskKey(Object owner, String name) {}
+}
@@ -0,0 +1,176 @@
+package com.team3.ui.task;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * UI 백그라운드 작업 실행기
+ * <p>
+ * 패널과 다이얼로그의 네트워크 호출을 가상 스레드에서 실행하고 결과를 EDT로 넘긴다.
+ * {@code SwingWorker}는 JDK 내부의 최대 10개 스레드 풀을 공유하므로
+ * 새로고침이 몰리면 서로의 뒤에 줄을 서고, 취소나 우선순위 지정도 불가능하다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link TaskPriority#INTERACTIVE}: 대기열을 거치지 않고 즉시 시작</li>
+ *   <li>{@link TaskPriority#NORMAL}, {@link TaskPriority#BACKGROUND}: 우선순위 대기열에서
+ *       동시 실행 수 제한({@code hms.ui.maxConcurrentLoads}, 기본 6) 안에서 시작</li>
+ *   <li>같은 키로 새 작업이 제출되면 이전 작업은 취소되고 결과는 버려진다</li>
+ * </ul>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class UiTaskExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(UiTaskExecutor.class);
+
+    /** 대기열 작업의 기본 최대 동시 실행 수 */
+    private static final int DEFAULT_MAX_CONCURRENT = 6;
+
+    private static UiTaskExecutor instance;
+
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hms-ui-task-", 0).factory());
+
+    /** 우선순위 → 제출 순서로 정렬되는 대기열 */
+    private final PriorityBlockingQueue<UiTask<?>> queue = new PriorityBlockingQueue<>(16,
+        Comparator.<UiTask<?>, TaskPriority>comparing(UiTask::getPriority)
+            .thenComparingLong(task -> task.sequence));
+
+    /** 키별 최근 작업 (이전 작업 취소용) */
+    private final Map<Object, UiTask<?>> tasksByKey = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger runningQueued = new AtomicInteger();
+    private final AtomicInteger pendingInteractive = new AtomicInteger();
+    private final int maxConcurrent;
+
+    private UiTaskExecutor() {
+        this.maxConcurrent = Math.max(1, Integer.getInteger("hms.ui.maxConcurrentLoads", DEFAULT_MAX_CONCURRENT));
+        logger.info("UiTaskExecutor 초기화: maxConcurrent={}", maxConcurrent);
+    }
+
+    /**
+     * UiTaskExecutor 싱글톤 인스턴스 반환
+     *
+     * @return UiTaskExecutor 인스턴스
+     */
+    public static synchronized UiTaskExecutor getInstance() {
+        if (instance == null) {
+            instance = new UiTaskExecutor();
+        }
+        return instance;
+    }
+
+    /**
+     * 작업 제출
+     *
+     * @param task 제출할 작업
+     */
+    void submit(UiTask<?> task) {
+        task.sequence = sequence.incrementAndGet();
+
+        Object key = task.getKey();
+        if (key != null) {
+            UiTask<?> previous = tasksByKey.put(key, task);
+            if (previous != null && previous != task) {
+                logger.debug("이전 작업 취소: {}", key);
+                previous.cancel(false);
+            }
+            task.completion().whenComplete((result, error) -> tasksByKey.remove(key, task));
+        }
+
+        if (task.getPriority() == TaskPriority.INTERACTIVE) {
+            pendingInteractive.incrementAndGet();
+            task.completion().whenComplete((result, error) -> pendingInteractive.decrementAndGet());
+            start(task, false);
+        } else {
+            queue.add(task);
+            drain();
+        }
+    }
+
+    /**
+     * 동시 실행 수 제한 안에서 대기열의 작업을 시작한다
+     */
+    private void drain() {
+        while (true) {
+            int running = runningQueued.get();
+            if (running >= maxConcurrent) {
+                return;
+            }
+            if (!runningQueued.compareAndSet(running, running + 1)) {
+                continue;
+            }
+            UiTask<?> next = queue.poll();
+            if (next == null) {
+                runningQueued.decrementAndGet();
+                // 감소와 추가 사이에 들어온 작업을 놓치지 않도록 다시 확인
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            start(next, true);
+        }
+    }
+
+    private void start(UiTask<?> task, boolean queued) {
+        // 시작 전에 취소되어 본문이 실행되지 않아도 done()은 호출되므로 슬롯이 새지 않는다
+        FutureTask<Void> future = new FutureTask<>(task::run, null) {
+            @Override
+            protected void done() {
+                if (queued) {
+                    runningQueued.decrementAndGet();
+                    drain();
+                }
+            }
+        };
+        if (!task.attach(future)) {
+            future.cancel(false);
+        }
+        executor.execute(future);
+    }
+
+    /**
+     * 취소된 작업을 대기열에서 제거한다 ({@link UiTask#cancel()}에서 호출)
+     */
+    void onCancelled(UiTask<?> task) {
+        queue.remove(task);
+    }
+
+    /** 시작을 기다리는 작업 수 */
+    public int getQueuedCount() { return queue.size(); }
+
+    /** 실행 중인 대기열 작업 수 (INTERACTIVE 제외) */
+    public int getRunningCount() { return runningQueued.get(); }
+
+    /**
+     * 완료되지 않은 INTERACTIVE 작업이 있는지 확인
+     *
+     * @return 진행 중인 사용자 조작이 있으면 true
+     */
+    public boolean hasPendingInteractive() { return pendingInteractive.get() > 0; }
+
+    /**
+     * 같은 키의 작업이 대기 중이거나 실행 중인지 확인
+     *
+     * @param owner 작업 소유자 ({@link UiTask#key(Object, String)}에 넘긴 값)
+     * @param name 작업 이름
+     * @return 완료되지 않은 작업이 있으면 true
+     */
+    public boolean isActive(Object owner, String name) {
+        UiTask<?> task = tasksByKey.get(new UiTask.TaskKey(owner, name));
+        return task != null && !task.isDone();
+    }
+}
@@ -0,0 +1,146 @@
+package com.team3.ui.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.table.DefaultTableModel;
+
+/**
+ * 테이블 모델 유틸리티
+ *
+ * <p>
+ * 목록이 바뀔 때 테이블을 비우고 다시 채우면 JTable 전체가 다시 그려지고 선택과 스크롤 위치가 사라진다.
+ * {@link #updateRows(JTable, List, int)}는 id 열로 기존 행과 새 행을 짝지어 달라진 셀만 바꾸고,
+ * 사라진 행은 지우고 새 행은 제자리에 끼워 넣으므로, 변경 피드로 한두 행이 바뀌면 그 행만 다시 그려지고
+ * 선택된 엔티티도 그대로 선택되어 있다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public class TableUtil {
+
+    /**
+     * 테이블의 행을 주어진 행 목록과 같게 만든다 (id 기준으로 바뀐 행만 갱신)
+     * <p>
+     * 새 목록에 없는 id의 행은 지우고, 같은 id의 행은 달라진 셀만 {@code setValueAt}으로 바꾸며,
+     * 처음 보는 id는 새 목록의 위치에 끼워 넣는다. 순서가 바뀐 행만 옮긴다.
+     * 갱신 전에 선택되어 있던 id는 갱신 후에도 선택된다.
+     * 새 목록이나 기존 행에 같은 id가 두 번 이상 있으면 행을 짝지을 수 없으므로 전체를 다시 채운다.
+     * </p>
+     *
+     * @param table 대상 테이블 (모델은 {@link DefaultTableModel}이어야 함)
+     * @param rows 새 행 목록 (각 행의 길이는 모델의 열 수와 같아야 함)
+     * @param idColumn 엔티티 id가 들어 있는 열 (모델 기준)
+     */
+    public static void updateRows(JTable table, List<Object[]> rows, int idColumn) {
+        DefaultTableModel model = (DefaultTableModel) table.getModel();
+        Set<Object> selectedIds = selectedIds(table, idColumn);
+
+        Set<Object> newIds = new HashSet<>(rows.size() * 4 / 3 + 1);
+        for (Object[] row : rows) {
+            newIds.add(row[idColumn]);
+        }
+        if (newIds.size() != rows.size() || hasDuplicateIds(model, idColumn)) {
+            replaceRows(model, rows);
+            restoreSelection(table, idColumn, selectedIds);
+            return;
+        }
+
+        // 사라진 행을 뒤에서부터 지운다
+        for (int r = model.getRowCount() - 1; r >= 0; r--) {
+            if (!newIds.contains(model.getValueAt(r, idColumn))) {
+                model.removeRow(r);
+            }
+        }
+
+        List<Object> modelIds = new ArrayList<>(model.getRowCount());
+        for (int r = 0; r < model.getRowCount(); r++) {
+            modelIds.add(model.getValueAt(r, idColumn));
+        }
+        Set<Object> present = new HashSet<>(modelIds);
+        for (int r = 0; r < rows.size(); r++) {
+            Object[] row = rows.get(r);
+            Object id = row[idColumn];
+            if (r < modelIds.size() && Objects.equals(modelIds.get(r), id)) {
+                updateCells(model, r, row);
+            } else if (present.contains(id)) {
+                // 순서가 바뀐 경우에만 발생하므로 선형 탐색으로 충분하다
+                int from = modelIds.indexOf(id);
+                model.moveRow(from, from, r);
+                modelIds.remove(from);
+                modelIds.add(r, id);
+                updateCells(model, r, row);
+            } else {
+                model.insertRow(r, row);
+                modelIds.add(r, id);
+            }
+        }
+
+        restoreSelection(table, idColumn, selectedIds);
+    }
+
+    private static boolean hasDuplicateIds(DefaultTableModel model, int idColumn) {
+        Set<Object> seen = new HashSet<>(model.getRowCount() * 4 / 3 + 1);
+        for (int r = 0; r < model.getRowCount(); r++) {
+            if (!seen.add(model.getValueAt(r, idColumn))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void replaceRows(DefaultTableModel model, List<Object[]> rows) {
+        model.setRowCount(0);
+        for (Object[] row : rows) {
+            model.addRow(row);
+        }
+    }
+
+    private static void updateCells(DefaultTableModel model, int r, Object[] row) {
+        for (int c = 0; c < row.length; c++) {
+            if (!Objects.equals(model.getValueAt(r, c), row[c])) {
+                model.setValueAt(row[c], r, c);
+            }
+        }
+    }
+
+    private static Set<Object> selectedIds(JTable table, int idColumn) {
+        Set<Object> ids = new HashSet<>();
+        for (int viewRow : table.getSelectedRows()) {
+            ids.add(table.getModel().getValueAt(table.convertRowIndexToModel(viewRow), idColumn));
+        }
+        return ids;
+    }
+
+    /** 선택이 다른 엔티티로 옮겨졌으면 갱신 전에 선택했던 id의 행을 다시 선택한다 */
+    private static void restoreSelection(JTable table, int idColumn, Set<Object> ids) {
+        if (ids.equals(selectedIds(table, idColumn))) {
+            return;
+        }
+        Map<Object, Integer> viewRowById = new HashMap<>();
+        for (int r = 0; r < table.getModel().getRowCount(); r++) {
+            viewRowById.put(table.getModel().getValueAt(r, idColumn), table.convertRowIndexToView(r));
+        }
+        ListSelectionModel selection = table.getSelectionModel();
+        selection.setValueIsAdjusting(true);
+        try {
+            selection.clearSelection();
+            for (Object id : ids) {
+                Integer viewRow = viewRowById.get(id);
+                if (viewRow != null && viewRow >= 0) {
+                    selection.addSelectionInterval(viewRow, viewRow);
+                }
+            }
+        } finally {
+            selection.setValueIsAdjusting(false);
+        }
+    }
+}
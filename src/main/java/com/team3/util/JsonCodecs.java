@@ -0,0 +1,289 @@
+package com.team3.util;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.team3.dto.request.AddCustomerRequest;
+import com.team3.dto.request.AddFnbRequest;
+import com.team3.dto.request.AddReservationRequest;
+import com.team3.dto.request.AddRoomRequest;
+import com.team3.dto.request.AddUserRequest;
+import com.team3.dto.request.CheckIntOutRequest;
+import com.team3.dto.request.DeleteCustomerRequest;
+import com.team3.dto.request.DeleteFnbRequest;
+import com.team3.dto.request.DeleteReservationRequest;
+import com.team3.dto.request.DeleteUserRequest;
+import com.team3.dto.request.LoginRequest;
+import com.team3.dto.request.RoomIdRequest;
+import com.team3.dto.request.UpdateReservationRequest;
+import com.team3.dto.request.UpdateRoomRequest;
+import com.team3.dto.response.Payment;
+import com.team3.model.Customer;
+import com.team3.model.FnbItem;
+import com.team3.model.Reservation;
+import com.team3.model.Room;
+import com.team3.model.User;
+
+/**
+ * 모델/DTO 코덱 레지스트리
+ * <p>
+ * 각 모델은 필드를 직접 읽고 쓰는 {@code JSON_ADAPTER}({@link #objectAdapter}),
+ * 요청 DTO는 필드를 직접 쓰는 {@code JSON_FIELDS}({@link #requestAdapter})를 상수로 가지고 있고,
+ * 이 클래스가 그것들을 한 곳에서 {@link GsonBuilder}에 등록한다.
+ * Gson이 리플렉션 어댑터를 만들지 않으므로 첫 사용 시 필드 탐색 비용이 없고,
+ * 직렬화/역직렬화도 {@code Field.get/set} 없이 스트림을 한 번만 훑는다.
+ * </p>
+ *
+ * <h3>읽기 규칙 (Gson 기본 동작과 동일):</h3>
+ * <ul>
+ *   <li>알 수 없는 필드는 건너뛴다</li>
+ *   <li>{@code null}이면 문자열/enum은 null, 숫자/불리언은 기본값이 된다</li>
+ *   <li>문자열 필드에 숫자나 불리언이 오면 문자열로, 숫자/불리언 필드에 문자열이 오면 변환해서 읽는다</li>
+ *   <li>enum은 {@code name()}으로 찾고, 없으면 {@code toString()}으로 찾으며, 둘 다 없으면 null이다</li>
+ * </ul>
+ *
+ * <p>
+ * 요청 DTO는 보내기만 하므로 읽기는 처음 읽을 때 만들어지는 Gson 기본 리플렉션 어댑터에 맡긴다
+ * (로그, 테스트 등에서 {@code fromJson}으로 읽어도 동작한다).
+ * </p>
+ *
+ * <p>
+ * 새 모델이나 요청 DTO를 추가하면 위 상수를 만들고 {@link #register(GsonBuilder)}에 등록한다.
+ * 등록하지 않은 타입은 Gson 기본 리플렉션 어댑터로 처리된다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public final class JsonCodecs {
+
+    private JsonCodecs() {}
+
+    /**
+     * 모든 모델/DTO 어댑터를 등록한다
+     *
+     * @param builder 대상 빌더
+     * @return 같은 빌더 (연쇄 호출용)
+     */
+    public static GsonBuilder register(GsonBuilder builder) {
+        // 응답 모델 (읽기/쓰기)
+        builder.registerTypeAdapter(Customer.class, Customer.JSON_ADAPTER);
+        builder.registerTypeAdapter(FnbItem.class, FnbItem.JSON_ADAPTER);
+        builder.registerTypeAdapter(Reservation.class, Reservation.JSON_ADAPTER);
+        builder.registerTypeAdapter(Room.class, Room.JSON_ADAPTER);
+        builder.registerTypeAdapter(User.class, User.JSON_ADAPTER);
+        builder.registerTypeAdapter(Payment.class, Payment.JSON_ADAPTER);
+
+        // 요청 DTO (쓰기는 직접, 읽기는 리플렉션)
+        builder.registerTypeAdapterFactory(requestAdapter(LoginRequest.class, LoginRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(AddCustomerRequest.class, AddCustomerRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(AddFnbRequest.class, AddFnbRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(AddReservationRequest.class, AddReservationRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(AddRoomRequest.class, AddRoomRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(AddUserRequest.class, AddUserRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(CheckIntOutRequest.class, CheckIntOutRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(DeleteCustomerRequest.class, DeleteCustomerRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(DeleteFnbRequest.class, DeleteFnbRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(DeleteReservationRequest.class, DeleteReservationRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(DeleteUserRequest.class, DeleteUserRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(RoomIdRequest.class, RoomIdRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(UpdateReservationRequest.class, UpdateReservationRequest.JSON_FIELDS));
+        builder.registerTypeAdapterFactory(requestAdapter(UpdateRoomRequest.class, UpdateRoomRequest.JSON_FIELDS));
+        return builder;
+    }
+
+    /**
+     * 모든 어댑터가 등록된 Gson을 생성한다
+     * <p>
+     * 보통은 직접 만들지 않고 {@link JsonUtil#getGson()}의 공유 인스턴스를 사용한다.
+     * </p>
+     *
+     * @return 새 Gson 인스턴스
+     */
+    public static Gson createGson() {
+        return register(new GsonBuilder()).create();
+    }
+
+    /**
+     * 객체 필드를 쓰는 함수 ({@code beginObject}/{@code endObject}와 null 처리는 호출자가 한다)
+     *
+     * @param <T> 객체 타입
+     */
+    @FunctionalInterface
+    public interface FieldWriter<T> {
+        void write(JsonWriter out, T value) throws IOException;
+    }
+
+    /**
+     * 객체 필드 하나를 읽는 함수 (모르는 이름이면 {@code in.skipValue()}를 호출해야 한다)
+     *
+     * @param <T> 객체 타입
+     */
+    @FunctionalInterface
+    public interface FieldReader<T> {
+        void read(JsonReader in, String name, T value) throws IOException;
+    }
+
+    /**
+     * 필드 단위 함수로 객체 어댑터를 만든다
+     * <p>
+     * null 처리, {@code beginObject}/{@code endObject}, 필드 이름 순회를 대신하므로
+     * 모델은 필드를 쓰고 읽는 부분만 작성한다.
+     * </p>
+     *
+     * @param factory 빈 객체 생성자
+     * @param writer 필드 쓰기
+     * @param reader 필드 하나 읽기
+     * @return 어댑터
+     */
+    public static <T> TypeAdapter<T> objectAdapter(Supplier<T> factory, FieldWriter<T> writer, FieldReader<T> reader) {
+        return new TypeAdapter<T>() {
+            @Override
+            public void write(JsonWriter out, T value) throws IOException {
+                writeObject(out, value, writer);
+            }
+
+            @Override
+            public T read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                T value = factory.get();
+                in.beginObject();
+                while (in.hasNext()) {
+                    reader.read(in, in.nextName(), value);
+                }
+                in.endObject();
+                return value;
+            }
+        };
+    }
+
+    /**
+     * 요청 DTO 어댑터 팩토리를 만든다
+     * <p>
+     * 쓰기는 {@code writer}로 직접 하고, 읽기는 처음 읽을 때 Gson 기본 리플렉션 어댑터를 만들어 위임한다.
+     * 요청 본문은 보내기만 하므로 워밍업과 평소 요청에서는 리플렉션 어댑터가 만들어지지 않는다.
+     * </p>
+     *
+     * @param type 요청 DTO 클래스
+     * @param writer 필드 쓰기
+     * @return {@link GsonBuilder#registerTypeAdapterFactory}에 등록할 팩토리
+     */
+    public static <T> TypeAdapterFactory requestAdapter(Class<T> type, FieldWriter<T> writer) {
+        return new TypeAdapterFactory() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> token) {
+                if (token.getRawType() != type) {
+                    return null;
+                }
+                TypeAdapterFactory self = this;
+                TypeAdapter<T> adapter = new TypeAdapter<T>() {
+                    private volatile TypeAdapter<T> reflective;
+
+                    @Override
+                    public void write(JsonWriter out, T value) throws IOException {
+                        writeObject(out, value, writer);
+                    }
+
+                    @Override
+                    public T read(JsonReader in) throws IOException {
+                        TypeAdapter<T> delegate = reflective;
+                        if (delegate == null) {
+                            delegate = gson.getDelegateAdapter(self, TypeToken.get(type));
+                            reflective = delegate;
+                        }
+                        return delegate.read(in);
+                    }
+                };
+                return (TypeAdapter<R>) adapter;
+            }
+        };
+    }
+
+    private static <T> void writeObject(JsonWriter out, T value, FieldWriter<T> writer) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        writer.write(out, value);
+        out.endObject();
+    }
+
+    /** 문자열 값을 읽는다 (null이면 null, 숫자/불리언이면 문자열로 변환) */
+    public static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    /** 정수 값을 읽는다 (null이면 0, 숫자 문자열도 허용) */
+    public static int readInt(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0;
+        }
+        return in.nextInt();
+    }
+
+    /** 불리언 값을 읽는다 (null이면 false, "true"/"false" 문자열도 허용) */
+    public static boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return false;
+        }
+        if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    /**
+     * enum 값을 읽는다
+     * <p>
+     * {@code name()}이 일치하는 상수를 먼저 찾고, 없으면 {@code toString()}(화면 표시 문자열)이
+     * 일치하는 상수를 찾는다. 알 수 없는 값이면 null을 반환한다.
+     * </p>
+     */
+    public static <E extends Enum<E>> E readEnum(JsonReader in, Class<E> type) throws IOException {
+        String value = readString(in);
+        if (value == null) {
+            return null;
+        }
+        E[] constants = type.getEnumConstants();
+        for (E constant : constants) {
+            if (constant.name().equals(value)) {
+                return constant;
+            }
+        }
+        for (E constant : constants) {
+            if (constant.toString().equals(value)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    /** enum 값을 {@code name()}으로 쓴다 (null이면 필드 생략) */
+    public static void writeEnum(JsonWriter out, Enum<?> value) throws IOException {
+        out.value(value == null ? null : value.name());
+    }
+}
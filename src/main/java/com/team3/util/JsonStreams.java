@@ -0,0 +1,140 @@
+package com.team3.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * 스트리밍 JSON 디코딩 유틸리티
+ * <p>
+ * 응답 본문을 문자열로 모두 읽은 뒤 {@code JsonObject} 트리로 한 번,
+ * 다시 {@code List<T>}로 한 번 파싱하는 대신, {@link JsonReader}로 스트림을 한 번만 훑으면서
+ * 봉투(envelope)의 목록 필드에 도달하면 요소를 바로 객체로 만든다.
+ * 본문 문자열과 중간 트리가 메모리에 동시에 올라가지 않으므로 큰 목록에서 힙 사용량이 줄어든다.
+ * </p>
+ *
+ * <h3>지원하는 응답 형식:</h3>
+ * <pre>{@code
+ * // 봉투 형식 (field = "rooms")
+ * {"message": "...", "rooms": [ {...}, {...} ]}
+ *
+ * // 최상위 배열 (field = null)
+ * [ {...}, {...} ]
+ * }</pre>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+public final class JsonStreams {
+
+    private JsonStreams() {}
+
+    /**
+     * 스트림에서 목록을 한 번에 디코딩한다
+     *
+     * @param reader 응답 본문 Reader (호출자가 닫는다)
+     * @param field 목록이 들어 있는 봉투 필드 이름 (null이면 최상위 배열)
+     * @param elementType 목록 요소 타입
+     * @return 디코딩된 목록과 봉투의 message 필드
+     * @throws IOException 스트림 읽기 실패 시
+     * @throws com.google.gson.JsonParseException JSON 형식이 올바르지 않은 경우
+     */
+    public static <T> ListEnvelope<T> readList(Reader reader, String field, Class<T> elementType) throws IOException {
+        TypeAdapter<T> adapter = JsonUtil.getGson().getAdapter(elementType);
+
+        JsonReader in = new JsonReader(reader);
+        // Gson.fromJson(String)과 동일하게 관대한 모드로 읽는다
+        in.setLenient(true);
+
+        if (field == null) {
+            return new ListEnvelope<>(readArray(in, adapter), null);
+        }
+
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return new ListEnvelope<>(Collections.emptyList(), null);
+        }
+
+        List<T> items = Collections.emptyList();
+        String message = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (name.equals(field) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                items = readArray(in, adapter);
+            } else if ("message".equals(name) && in.peek() == JsonToken.STRING) {
+                message = in.nextString();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return new ListEnvelope<>(items, message);
+    }
+
+    /**
+     * 최상위 객체의 스칼라 필드(문자열, 숫자, 불리언)만 한 번에 읽는다
+     * <p>
+     * 중첩 객체와 배열은 트리를 만들지 않고 건너뛰므로, 목록이 들어 있는 큰 본문에서도
+     * {@code message}나 {@code token} 같은 봉투 필드만 싸게 꺼낼 수 있다.
+     * 숫자와 불리언은 문자열로 저장된다 (예: {@code "true"}, {@code "3"}).
+     * </p>
+     *
+     * @param reader 응답 본문 Reader (호출자가 닫는다)
+     * @return 필드 이름 → 값 (최상위가 객체가 아니면 빈 맵)
+     * @throws IOException 스트림 읽기 실패 또는 JSON 형식 오류 시
+     */
+    public static Map<String, String> readTopLevel(Reader reader) throws IOException {
+        JsonReader in = new JsonReader(reader);
+        in.setLenient(true);
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> values = new HashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            switch (in.peek()) {
+                case STRING, NUMBER -> values.put(name, in.nextString());
+                case BOOLEAN -> values.put(name, Boolean.toString(in.nextBoolean()));
+                default -> {
+                    // null은 없는 필드와 같게 취급한다
+                    values.remove(name);
+                    in.skipValue();
+                }
+            }
+        }
+        in.endObject();
+        return values;
+    }
+
+    private static <T> List<T> readArray(JsonReader in, TypeAdapter<T> adapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return Collections.emptyList();
+        }
+        List<T> items = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            items.add(adapter.read(in));
+        }
+        in.endArray();
+        return items;
+    }
+
+    /**
+     * 디코딩 결과 (목록 + 봉투의 message 필드)
+     *
+     * @param items 디코딩된 목록 (필드가 없으면 빈 목록)
+     * @param message 봉투의 message 필드 (없으면 null)
+     */
+    public record ListEnvelope<T>(List<T> items, String message) {}
+}
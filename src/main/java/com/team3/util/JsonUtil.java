@@ -1,37 +1,72 @@
 package com.team3.util;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSyntaxException;
 
 /**
  * JSON 관련 유틸리티
  */
 public class JsonUtil {
     private static final Logger logger = LoggerFactory.getLogger(JsonUtil.class);
-    private static final Gson gson = new Gson();
+    private static final Gson gson = JsonCodecs.createGson();
 
-     /**
-     * 응답 본문에서 토큰 추출
+    /**
+     * 공유 Gson 인스턴스 반환
+     * <p>
+     * Gson은 스레드 안전하며 타입 어댑터를 내부에 캐시하므로,
+     * 호출마다 {@code new Gson()}을 만들지 않고 이 인스턴스를 재사용한다.
+     * 모델과 요청 DTO는 {@link JsonCodecs}에 등록된 전용 어댑터로 처리된다.
+     * </p>
+     *
+     * @return 공유 Gson 인스턴스
+     */
+    public static Gson getGson() {
+        return gson;
+    }
+
+    /**
+     * 응답 본문에서 최상위 필드 값 추출
+     * <p>
+     * 본문 전체를 {@code JsonObject} 트리로 만들지 않고 최상위 필드만 스트리밍으로 훑는다.
+     * 같은 본문에서 여러 필드를 꺼낸다면 {@link com.team3.dto.response.ApiResponse#getString(String)}처럼
+     * 한 번 읽은 결과를 재사용하는 편이 낫다.
+     * </p>
      * 
      * @param jsonBody 서버 응답 JSON 문자열
-     * @return 토큰 값 (없으면 null)
+     * @param key 꺼낼 최상위 필드 이름
+     * @return 필드 값 (없거나 객체/배열/null이면 null, 숫자/불리언은 문자열)
      */
     public static String extract(String jsonBody, String key) {
+        String value = readTopLevel(jsonBody).get(key);
+        if (value != null) {
+            logger.debug("응답 본문 추출 시도: {}={}", key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 응답 본문의 최상위 스칼라 필드를 모두 읽는다
+     *
+     * @param jsonBody 서버 응답 JSON 문자열 (null 허용)
+     * @return 필드 이름 → 값 (JSON 객체가 아니거나 형식 오류면 빈 맵)
+     * @see JsonStreams#readTopLevel(java.io.Reader)
+     */
+    public static Map<String, String> readTopLevel(String jsonBody) {
+        if (jsonBody == null || jsonBody.isEmpty()) {
+            return Collections.emptyMap();
+        }
         try {
-            JsonObject obj = gson.fromJson(jsonBody, JsonObject.class);
-            
-            if (obj.has(key)) {
-                String value = obj.get(key).getAsString();
-                logger.debug("응답 본문 추출 시도: {}={}", key, value);
-                return value;
-            }
-        } catch (JsonSyntaxException e) {
+            return JsonStreams.readTopLevel(new StringReader(jsonBody));
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
             logger.warn("Json 파싱 예외 발생");
+            return Collections.emptyMap();
         }
-        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package com.team3.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.team3.dto.response.ListResponse;
+import com.team3.model.Room;
+
+/**
+ * 진행 중인 GET 병합과 쓰기 요청의 순서 테스트
+ * <p>
+ * 첫 번째 GET은 서버에서 붙잡아 두고, 그 사이 쓰기 요청을 완료한 뒤 두 번째 GET을 보낸다.
+ * 두 번째 GET은 첫 번째 GET에 합쳐지지 않고 새 요청으로 나가 쓰기 이후의 응답을 받아야 한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class HmsClientSingleFlightTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HmsClient client;
+
+    /** 서버가 받은 GET 수 (응답 본문의 버전으로 사용) */
+    private final AtomicInteger gets = new AtomicInteger();
+    private final CountDownLatch firstArrived = new CountDownLatch(1);
+    private final CountDownLatch releaseFirst = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/rooms/get-rooms", exchange -> {
+            int version = gets.incrementAndGet();
+            if (version == 1) {
+                firstArrived.countDown();
+                await(releaseFirst);
+            }
+            respond(exchange, "{\"rooms\":[{\"roomId\":" + version + "}]}");
+        });
+        server.createContext("/api/rooms/add-room", exchange -> respond(exchange, "{\"success\":true}"));
+        server.start();
+        client = new HmsClient("localhost", server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirst.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("쓰기 없이 같은 GET을 보내면 진행 중인 요청에 합쳐진다")
+    void coalescesWithoutWrite() throws Exception {
+        CompletableFuture<HttpResponse<String>> first = client.sendGetAsync("/api/rooms/get-rooms");
+        assertThat(firstArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<HttpResponse<String>> second = client.sendGetAsync("/api/rooms/get-rooms");
+        releaseFirst.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).body()).contains("\"roomId\":1");
+        assertThat(second.get(5, TimeUnit.SECONDS).body()).contains("\"roomId\":1");
+        assertThat(gets.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기가 성공한 뒤의 GET은 쓰기 전에 시작된 GET에 합쳐지지 않는다")
+    void getAfterWriteStartsNewRequest() throws Exception {
+        CompletableFuture<HttpResponse<String>> first = client.sendGetAsync("/api/rooms/get-rooms");
+        assertThat(firstArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(client.sendPostAsync("/api/rooms/add-room", Map.of()).get(5, TimeUnit.SECONDS).statusCode())
+            .isEqualTo(200);
+
+        // 첫 번째 GET이 아직 붙잡혀 있는 동안 완료되어야 한다
+        HttpResponse<String> second = client.sendGetAsync("/api/rooms/get-rooms").get(5, TimeUnit.SECONDS);
+        assertThat(second.body()).contains("\"roomId\":2");
+
+        releaseFirst.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).body()).contains("\"roomId\":1");
+    }
+
+    @Test
+    @DisplayName("쓰기가 성공한 뒤의 목록 GET은 쓰기 전에 시작된 목록 GET에 합쳐지지 않는다")
+    void listAfterWriteStartsNewRequest() throws Exception {
+        CompletableFuture<ListResponse<Room>> first = client.getListAsync("/api/rooms/get-rooms", "rooms", Room.class);
+        assertThat(firstArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(client.sendPostAsync("/api/rooms/add-room", Map.of()).get(5, TimeUnit.SECONDS).statusCode())
+            .isEqualTo(200);
+
+        ListResponse<Room> second = client.getListAsync("/api/rooms/get-rooms", "rooms", Room.class)
+            .get(5, TimeUnit.SECONDS);
+        assertThat(second.isSuccess()).isTrue();
+        assertThat(second.getItems()).extracting(Room::getRoomId).containsExactly(2);
+
+        releaseFirst.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getItems()).extracting(Room::getRoomId).containsExactly(1);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.team3.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 요청 본문 JSON 인코더 테스트
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class JsonBodyEncoderTest {
+
+    /** 일부를 쓴 뒤 실패하는 본문 */
+    private static final class Broken {}
+
+    private final Gson gson = new GsonBuilder()
+        .registerTypeAdapter(Broken.class, new TypeAdapter<Broken>() {
+            @Override
+            public void write(JsonWriter out, Broken value) throws IOException {
+                out.beginObject().name("partial").value("x".repeat(100));
+                throw new JsonIOException("직렬화 실패");
+            }
+
+            @Override
+            public Broken read(JsonReader in) {
+                throw new UnsupportedOperationException();
+            }
+        })
+        .create();
+
+    @Test
+    @DisplayName("UTF-8 JSON 바이트로 인코딩한다")
+    void encodesUtf8() {
+        byte[] encoded = JsonBodyEncoder.encode(gson, Map.of("name", "객실"));
+
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"객실\"}");
+    }
+
+    @Test
+    @DisplayName("직렬화가 실패해도 다음 요청 본문에 쓰다 만 JSON이 섞이지 않는다")
+    void failedEncodeDoesNotLeakIntoNextBody() {
+        assertThatThrownBy(() -> JsonBodyEncoder.encode(gson, new Broken()))
+            .isInstanceOf(JsonIOException.class);
+
+        // 풀의 버퍼를 모두 한 번씩 거치도록 풀 크기보다 많이 인코딩한다
+        for (int i = 0; i < 16; i++) {
+            byte[] encoded = JsonBodyEncoder.encode(gson, Map.of("n", i));
+            assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("{\"n\":" + i + "}");
+        }
+    }
+}
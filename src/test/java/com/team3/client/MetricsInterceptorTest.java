@@ -0,0 +1,101 @@
+package com.team3.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.team3.client.metrics.EndpointMetrics;
+import com.team3.client.metrics.MetricsRegistry;
+import com.team3.model.Room;
+
+/**
+ * 지표 인터셉터의 응답 시간 측정 구간 테스트 (스텁 서버)
+ * <p>
+ * 스텁 서버는 헤더를 바로 보내고 본문 나머지를 {@value #BODY_DELAY_MILLIS}ms 뒤에 보낸다.
+ * 문자열 본문과 스트림 본문 모두 완료 시간에는 본문 지연이 포함되고 헤더 시간에는 포함되지 않아야 한다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class MetricsInterceptorTest {
+
+    private static final long BODY_DELAY_MILLIS = 300;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HmsClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/metrics-test/", MetricsInterceptorTest::respondSlowly);
+        server.start();
+        client = new HmsClient("localhost", server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("문자열 본문 응답의 완료 시간은 본문 수신까지 포함한다")
+    void stringBodyLatencyIncludesBody() throws Exception {
+        client.sendGetAsync("/api/metrics-test/string").get(5, TimeUnit.SECONDS);
+
+        assertBodyTimed(snapshot("GET /api/metrics-test/string"));
+    }
+
+    @Test
+    @DisplayName("스트림 본문 응답의 완료 시간도 본문 수신까지 포함한다")
+    void streamBodyLatencyIncludesBody() throws Exception {
+        assertThat(client.getListAsync("/api/metrics-test/list", "rooms", Room.class)
+            .get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+        assertBodyTimed(snapshot("GET /api/metrics-test/list"));
+    }
+
+    private static void assertBodyTimed(EndpointMetrics.Snapshot row) {
+        assertThat(row.requests()).isEqualTo(1);
+        assertThat(row.errors()).isZero();
+        assertThat(row.p50Micros()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(BODY_DELAY_MILLIS) * 2 / 3);
+        assertThat(row.headersP50Micros()).isLessThan(TimeUnit.MILLISECONDS.toMicros(BODY_DELAY_MILLIS) / 3);
+    }
+
+    private static EndpointMetrics.Snapshot snapshot(String endpoint) {
+        return MetricsRegistry.getInstance().snapshot().stream()
+            .filter(row -> row.endpoint().equals(endpoint))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static void respondSlowly(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write("{\"rooms\":[".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            Thread.sleep(BODY_DELAY_MILLIS);
+            out.write("{\"roomId\":101}]}".getBytes(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.team3.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 응답 캐시의 쓰기 세대와 미리 불러온 목록 테스트
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class ResponseCacheTest {
+
+    /** 싱글톤을 공유하므로 테스트마다 다른 서버 URL을 사용한다 */
+    private static String serverUrl(String name) {
+        return "http://" + name + ".test:8080";
+    }
+
+    @Test
+    @DisplayName("쓰기가 성공하면 같은 리소스와 관련 리소스의 세대가 올라간다")
+    void invalidateBumpsGeneration() {
+        ResponseCache cache = ResponseCache.getInstance();
+        String url = serverUrl("generation");
+
+        long rooms = cache.generation(url, "/api/rooms/get-rooms");
+        long reservations = cache.generation(url, "/api/reservation/list?page=1");
+        long users = cache.generation(url, "/api/user/list");
+
+        cache.invalidate(url, "/api/reservation/create");
+
+        assertThat(cache.generation(url, "/api/reservation/list?page=1")).isEqualTo(reservations + 1);
+        assertThat(cache.generation(url, "/api/rooms/get-rooms")).isEqualTo(rooms + 1);
+        assertThat(cache.generation(url, "/api/user/list")).isEqualTo(users);
+    }
+
+    @Test
+    @DisplayName("미리 불러오는 동안 쓰기가 있었으면 결과를 저장하지 않는다")
+    void prefetchStartedBeforeWriteIsDropped() {
+        ResponseCache cache = ResponseCache.getInstance();
+        String url = serverUrl("prefetch-stale");
+        ResponseCache.Key key = ResponseCache.key(url, "/api/rooms/get-rooms", "Bearer t", Object.class);
+
+        long generation = cache.generation(url, "/api/rooms/get-rooms");
+        cache.invalidate(url, "/api/rooms/add-room");
+        cache.putPrefetched(key, List.of("before-write"), null, generation);
+
+        assertThat(cache.takePrefetched(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("쓰기가 없었으면 미리 불러온 목록을 한 번 사용한다")
+    void prefetchWithoutWriteIsUsedOnce() {
+        ResponseCache cache = ResponseCache.getInstance();
+        String url = serverUrl("prefetch-fresh");
+        ResponseCache.Key key = ResponseCache.key(url, "/api/rooms/get-rooms", "Bearer t", Object.class);
+
+        cache.putPrefetched(key, List.of("fresh"), null, cache.generation(url, "/api/rooms/get-rooms"));
+
+        assertThat(cache.takePrefetched(key).items()).isEqualTo(List.of("fresh"));
+        assertThat(cache.takePrefetched(key)).isNull();
+    }
+}
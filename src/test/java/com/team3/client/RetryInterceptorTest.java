@@ -0,0 +1,81 @@
+package com.team3.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+import com.team3.trace.TraceContext;
+
+/**
+ * 재시도 인터셉터 테스트 (스텁 서버)
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class RetryInterceptorTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HmsClient client;
+
+    /** 서버가 받은 요청의 traceparent 헤더 */
+    private final List<String> traceparents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        // 첫 요청은 503, 이후는 200
+        server.createContext("/api/rooms/get-rooms", exchange -> {
+            traceparents.add(exchange.getRequestHeaders().getFirst("traceparent"));
+            byte[] body = "{\"rooms\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(traceparents.size() == 1 ? 503 : 200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        client = new HmsClient("localhost", server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("재시도한 요청도 첫 시도와 같은 추적에 속한다")
+    void retryKeepsTraceContext() throws Exception {
+        CompletableFuture<HttpResponse<String>> future;
+        TraceContext.Scope scope = new TraceContext(TRACE_ID, "00f067aa0ba902b7").makeCurrent();
+        try {
+            future = client.sendGetAsync("/api/rooms/get-rooms");
+        } finally {
+            scope.close();
+        }
+
+        assertThat(future.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        assertThat(traceparents).hasSize(2);
+        assertThat(traceparents).allSatisfy(traceparent -> assertThat(traceparent).startsWith("00-" + TRACE_ID + "-"));
+        // 시도마다 별도의 span이므로 span id는 다르다
+        assertThat(traceparents.get(0)).isNotEqualTo(traceparents.get(1));
+    }
+}
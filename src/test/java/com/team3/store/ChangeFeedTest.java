@@ -0,0 +1,158 @@
+package com.team3.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+import com.team3.model.Customer;
+import com.team3.model.Room;
+import com.team3.util.JsonUtil;
+
+/**
+ * 변경 피드 구독 테스트 (스텁 서버)
+ * <p>
+ * 스텁 서버는 WebSocket 핸드셰이크를 404로 거절하고 SSE 스트림으로 이벤트를 보낸다.
+ * </p>
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class ChangeFeedTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ChangeFeed feed;
+
+    /** SSE 스트림으로 보낼 이벤트 JSON (null이면 스트림 종료) */
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+    /** false면 SSE 엔드포인트도 404로 응답한다 (변경 피드가 없는 서버) */
+    private volatile boolean sseAvailable = true;
+    private final AtomicInteger webSocketRequests = new AtomicInteger();
+    private final AtomicInteger sseRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/changes", exchange -> {
+            webSocketRequests.incrementAndGet();
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/api/changes/stream", exchange -> {
+            sseRequests.incrementAndGet();
+            if (!sseAvailable) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                while (true) {
+                    String event = events.poll(10, TimeUnit.SECONDS);
+                    if (event == null) {
+                        break;
+                    }
+                    out.write(("data: " + event + "\n\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+            } catch (InterruptedException | IOException e) {
+                // 테스트 종료로 연결이 닫힘
+            }
+        });
+        server.start();
+        feed = new ChangeFeed("localhost", server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.stop();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("WebSocket이 거절되면 SSE로 받아 불러온 저장소에 변경을 병합한다")
+    void mergesSseEventsIntoLoadedStore() throws Exception {
+        EntityStore<Integer, Room> rooms = EntityStores.getInstance().rooms();
+        rooms.replaceAll(List.of(room(101), room(102)));
+
+        feed.start();
+        events.add("{\"offset\":1,\"entity\":\"room\",\"op\":\"upsert\",\"id\":\"103\",\"data\":{\"roomId\":103}}");
+        events.add("{\"offset\":2,\"entity\":\"room\",\"op\":\"delete\",\"id\":\"101\"}");
+
+        waitUntil(() -> feed.getLastOffset() == 2);
+        assertThat(feed.getTransport()).isEqualTo(ChangeFeed.Transport.SSE);
+        assertThat(feed.isConnected()).isTrue();
+        assertThat(rooms.get(103)).isNotNull();
+        assertThat(rooms.get(101)).isNull();
+        assertThat(rooms.get(102)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("목록을 받기 전에 온 이벤트는 모아 두었다가 목록을 받은 뒤 적용한다")
+    void buffersEventsUntilStoreLoads() throws Exception {
+        EntityStore<String, Customer> customers = EntityStores.getInstance().customers();
+        assertThat(customers.isLoaded()).isFalse();
+
+        feed.start();
+        events.add("{\"offset\":1,\"entity\":\"customer\",\"op\":\"upsert\",\"id\":\"C-2\","
+            + "\"data\":{\"id\":\"C-2\",\"name\":\"새 고객\"}}");
+        waitUntil(() -> feed.getLastOffset() == 1);
+        assertThat(customers.get("C-2")).isNull();
+
+        customers.replaceAll(List.of(new Customer("C-1", "기존 고객", null, null, null, null)));
+
+        waitUntil(() -> customers.get("C-2") != null);
+        assertThat(customers.get("C-2").getName()).isEqualTo("새 고객");
+        assertThat(customers.get("C-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("WebSocket과 SSE가 모두 404이면 짧은 간격으로 재연결하지 않는다")
+    void backsOffWhenServerHasNoFeed() throws Exception {
+        sseAvailable = false;
+
+        feed.start();
+        waitUntil(() -> sseRequests.get() == 1);
+        // 일반 재연결이라면 1초 백오프 뒤에 다시 WebSocket부터 시도한다
+        Thread.sleep(2_500);
+
+        assertThat(webSocketRequests.get()).isEqualTo(1);
+        assertThat(sseRequests.get()).isEqualTo(1);
+        assertThat(feed.isRunning()).isTrue();
+        assertThat(feed.isConnected()).isFalse();
+    }
+
+    private static Room room(int roomId) {
+        return JsonUtil.getGson().fromJson("{\"roomId\":" + roomId + "}", Room.class);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("조건 대기 시간 초과").isNegative();
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.team3.ui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableRowSorter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 테이블 행 갱신(id 기준 diff) 테스트
+ *
+ * @author bang9634
+ * @since 2025-12-06
+ */
+class TableUtilTest {
+
+    private DefaultTableModel model;
+    private JTable table;
+    private final List<TableModelEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        model = new DefaultTableModel(new Object[] {"id", "name"}, 0);
+        table = new JTable(model);
+    }
+
+    @Test
+    @DisplayName("빈 테이블에 새 목록을 채운다")
+    void fillsEmptyTable() {
+        TableUtil.updateRows(table, rows("1", "a", "2", "b"), 0);
+
+        assertThat(contents()).containsExactly("1:a", "2:b");
+    }
+
+    @Test
+    @DisplayName("같은 id의 행은 지우지 않고 바뀐 셀만 갱신한다")
+    void updatesChangedCellsOnly() {
+        TableUtil.updateRows(table, rows("1", "a", "2", "b", "3", "c"), 0);
+        model.addTableModelListener(events::add);
+
+        TableUtil.updateRows(table, rows("1", "a", "2", "B", "3", "c"), 0);
+
+        assertThat(contents()).containsExactly("1:a", "2:B", "3:c");
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getType()).isEqualTo(TableModelEvent.UPDATE);
+        assertThat(events.get(0).getFirstRow()).isEqualTo(1);
+        assertThat(events.get(0).getColumn()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사라진 id는 지우고 새 id는 목록의 위치에 끼워 넣는다")
+    void removesAndInserts() {
+        TableUtil.updateRows(table, rows("1", "a", "2", "b", "3", "c"), 0);
+
+        TableUtil.updateRows(table, rows("1", "a", "4", "d", "3", "c"), 0);
+
+        assertThat(contents()).containsExactly("1:a", "4:d", "3:c");
+    }
+
+    @Test
+    @DisplayName("순서가 바뀌면 새 목록의 순서를 따른다")
+    void reorders() {
+        TableUtil.updateRows(table, rows("1", "a", "2", "b", "3", "c"), 0);
+
+        TableUtil.updateRows(table, rows("3", "c", "1", "a", "2", "b"), 0);
+
+        assertThat(contents()).containsExactly("3:c", "1:a", "2:b");
+    }
+
+    @Test
+    @DisplayName("갱신 후에도 같은 id의 행이 선택되어 있다")
+    void keepsSelectionById() {
+        TableUtil.updateRows(table, rows("1", "a", "2", "b", "3", "c"), 0);
+        table.setRowSelectionInterval(2, 2);
+
+        TableUtil.updateRows(table, rows("0", "z", "3", "c", "1", "a"), 0);
+
+        assertThat(table.getSelectedRowCount()).isEqualTo(1);
+        assertThat(model.getValueAt(table.convertRowIndexToModel(table.getSelectedRow()), 0)).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("정렬된 테이블에서도 같은 id의 행이 선택되어 있다")
+    void keepsSelectionWithSorter() {
+        table.setRowSorter(new TableRowSorter<>(model));
+        table.getRowSorter().toggleSortOrder(1);
+        TableUtil.updateRows(table, rows("1", "c", "2", "b", "3", "a"), 0);
+        int viewRow = table.convertRowIndexToView(1);
+        table.setRowSelectionInterval(viewRow, viewRow);
+
+        TableUtil.updateRows(table, rows("4", "d", "2", "b", "3", "a"), 0);
+
+        assertThat(model.getValueAt(table.convertRowIndexToModel(table.getSelectedRow()), 0)).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("새 목록에 같은 id가 여러 번 있으면 전체를 다시 채운다")
+    void duplicateIdsInNewRows() {
+        TableUtil.updateRows(table, rows("A", "x"), 0);
+
+        TableUtil.updateRows(table, rows("A", "x", "A", "y"), 0);
+
+        assertThat(contents()).containsExactly("A:x", "A:y");
+    }
+
+    @Test
+    @DisplayName("기존 행에 같은 id가 여러 번 있어도 새 목록과 같아진다")
+    void duplicateIdsInModel() {
+        TableUtil.updateRows(table, rows("A", "x", "B", "y", "A", "z"), 0);
+
+        TableUtil.updateRows(table, rows("B", "y", "A", "x"), 0);
+
+        assertThat(contents()).containsExactly("B:y", "A:x");
+    }
+
+    /** (id, name) 쌍을 행 목록으로 만든다 */
+    private static List<Object[]> rows(String... values) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i += 2) {
+            rows.add(new Object[] {values[i], values[i + 1]});
+        }
+        return rows;
+    }
+
+    private List<String> contents() {
+        List<String> contents = new ArrayList<>();
+        for (int r = 0; r < model.getRowCount(); r++) {
+            contents.add(model.getValueAt(r, 0) + ":" + model.getValueAt(r, 1));
+        }
+        return contents;
+    }
+}